@@ -23,5 +23,6 @@ export interface ConfigProperties {
 export interface MainConfigProperties {
   'scout.devMode': boolean;
   'scout.ui.backgroundPollingMaxWaitTime': number;
+  'scout.ui.backgroundPushEnabled': boolean;
   'scout.uinotification.waitTimeout': number;
 }
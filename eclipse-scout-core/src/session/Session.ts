@@ -49,6 +49,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   forceNewClientSession: boolean;
   remoteUrl: string;
   unloadUrl: string;
+  pushUrl: string;
   modelAdapterRegistry: Record<string, ModelAdapterLike>;
   sharedVariableMap: Record<string, any>;
   ajaxCalls: AjaxCall[];
@@ -64,6 +65,11 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   /** ms */
   requestTimeoutPing: number;
   backgroundJobPollingSupport: BackgroundJobPollingSupport;
+  /**
+   * If true, the results of background jobs are received over a push channel (Server-Sent Events) instead of polling requests.
+   * Initialized on startup (see property 'scout.ui.backgroundPushEnabled'), reset to false if the push channel is not supported by the browser or cannot be established.
+   */
+  backgroundJobPushEnabled: boolean;
   reconnector: Reconnector;
   processingEvents: boolean;
   /** This property is enabled by URL parameter &adapterExportEnabled=1. Default is false */
@@ -84,6 +90,11 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   protected _asyncDelay: number;
   protected _sendTimeoutId: number;
   protected _cancellationHandler: EventHandler<Event<BusyIndicator>>;
+  protected _pushChannel: EventSource;
+  /** true if the current connection of the push channel is open */
+  protected _pushChannelOpened: boolean;
+  /** true if the push channel has been opened at least once */
+  protected _pushChannelEstablished: boolean;
 
   constructor() {
     super();
@@ -114,6 +125,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     this.forceNewClientSession = false;
     this.remoteUrl = 'json';
     this.unloadUrl = 'unload';
+    this.pushUrl = 'push';
     this.modelAdapterRegistry = {};
     this.ajaxCalls = [];
     this.asyncEvents = [];
@@ -125,6 +137,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     this.requestTimeoutPoll = 75000;
     this.requestTimeoutPing = 5000;
     this.backgroundJobPollingSupport = new BackgroundJobPollingSupport(true);
+    this.backgroundJobPushEnabled = false;
     this.reconnector = new Reconnector(this);
     this.processingEvents = false;
     this.adapterExportEnabled = false;
@@ -133,6 +146,9 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     this._deferred = null;
     this._fatalMessagesOnScreen = {};
     this._retryRequest = null;
+    this._pushChannel = null;
+    this._pushChannelOpened = false;
+    this._pushChannelEstablished = false;
     this._queuedRequest = null;
     this.requestSequenceNo = 0;
     this.rootAdapter = new ModelAdapter();
@@ -445,6 +461,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
 
     // Init request timeout for poller
     this.requestTimeoutPoll = (scout.nvl(config.get('scout.ui.backgroundPollingMaxWaitTime')?.value, 60) + Session.POLLING_GRACE_PERIOD) * 1000;
+    this.backgroundJobPushEnabled = !!config.get('scout.ui.backgroundPushEnabled')?.value;
 
     // Register UI session
     this.modelAdapterRegistry[this.uiSessionId] = this; // TODO [7.0] cgu: maybe better separate session object from event processing, create ClientSession.js?. If yes, desktop should not have root adapter as parent, see 406
@@ -861,7 +878,11 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   protected _resumeBackgroundJobPolling() {
     if (this.backgroundJobPollingSupport.enabled && this.backgroundJobPollingSupport.status !== BackgroundJobPollingStatus.RUNNING) {
       $.log.isInfoEnabled() && $.log.info('Resume background jobs polling request, status was=' + this.backgroundJobPollingSupport.status);
-      this._pollForBackgroundJobs();
+      if (this.backgroundJobPushEnabled) {
+        this._openPushChannel();
+      } else {
+        this._pollForBackgroundJobs();
+      }
     }
   }
 
@@ -891,55 +912,131 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     // --- Helper methods ---
 
     function onAjaxDone(data: RemoteResponse) {
-      if (data.error) {
-        if (data.error.code === Session.JsonResponseError.SESSION_TIMEOUT) {
-          $.log.info('Session timeout, stopped polling for background jobs');
-          this.backgroundJobPollingSupport.setStopped();
-        } else {
-          $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
-          this.backgroundJobPollingSupport.setFailed();
-        }
-        // Don't schedule a new polling request, when an error occurs
-        // when the next user-initiated request succeeds, we re-enable polling
-        // otherwise the polling would ping the server to death in case of an error
+      if (this._processBackgroundJobsResponse(data)) {
+        setTimeout(this._pollForBackgroundJobs.bind(this));
+      }
+    }
+
+    function onAjaxFail(ajaxError: { jqXHR: JQuery.jqXHR; textStatus: ErrorTextStatus; errorThrown: string }) {
+      this.backgroundJobPollingSupport.setFailed();
+      this._processErrorResponse(ajaxError.jqXHR, ajaxError.textStatus, ajaxError.errorThrown, request);
+    }
+  }
+
+  /**
+   * Processes a response to a polling request or a response received over the push channel.
+   *
+   * @returns true if background job polling should continue, false if it was stopped or interrupted.
+   */
+  protected _processBackgroundJobsResponse(data: RemoteResponse): boolean {
+    if (data.error) {
+      if (data.error.code === Session.JsonResponseError.SESSION_TIMEOUT) {
+        $.log.info('Session timeout, stopped polling for background jobs');
+        this.backgroundJobPollingSupport.setStopped();
+      } else {
+        $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
+        this.backgroundJobPollingSupport.setFailed();
+      }
+      // Don't schedule a new polling request, when an error occurs
+      // when the next user-initiated request succeeds, we re-enable polling
+      // otherwise the polling would ping the server to death in case of an error
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+      }
+    } else if (data.sessionTerminated) {
+      $.log.info('Session terminated, stopped polling for background jobs');
+      this.backgroundJobPollingSupport.setStopped();
+      // If we are not yet logged out, redirect to the logout URL (the session that initiated the
+      // session invalidation will receive a dedicated logout event, redirect is handled there).
+      if (!this.loggedOut && data.redirectUrl) {
+        this.logout(data.redirectUrl);
+      }
+    } else {
+      try {
+        // No need to change backgroundJobPollingSupport state, it should still be RUNNING
         if (this.areRequestsPending()) {
           // Add response to queue, handle later by _performUserAjaxRequest()
           this.responseQueue.add(data);
         } else {
           // No user request pending, handle immediately
           this.responseQueue.process(data);
+          this.layoutValidator.validate();
         }
-      } else if (data.sessionTerminated) {
-        $.log.info('Session terminated, stopped polling for background jobs');
-        this.backgroundJobPollingSupport.setStopped();
-        // If we are not yet logged out, redirect to the logout URL (the session that initiated the
-        // session invalidation will receive a dedicated logout event, redirect is handled there).
-        if (!this.loggedOut && data.redirectUrl) {
-          this.logout(data.redirectUrl);
-        }
-      } else {
-        try {
-          // No need to change backgroundJobPollingSupport state, it should still be RUNNING
-          if (this.areRequestsPending()) {
-            // Add response to queue, handle later by _performUserAjaxRequest()
-            this.responseQueue.add(data);
-          } else {
-            // No user request pending, handle immediately
-            this.responseQueue.process(data);
-            this.layoutValidator.validate();
-          }
-          setTimeout(this._pollForBackgroundJobs.bind(this));
-        } catch (error) {
-          this.backgroundJobPollingSupport.setFailed();
-          throw error;
-        }
+      } catch (error) {
+        this.backgroundJobPollingSupport.setFailed();
+        throw error;
       }
     }
+    return this.backgroundJobPollingSupport.isRunning();
+  }
 
-    function onAjaxFail(ajaxError: { jqXHR: JQuery.jqXHR; textStatus: ErrorTextStatus; errorThrown: string }) {
-      this.backgroundJobPollingSupport.setFailed();
-      this._processErrorResponse(ajaxError.jqXHR, ajaxError.textStatus, ajaxError.errorThrown, request);
+  /**
+   * Opens the push channel which receives the results of jobs running in the background as Server-Sent Events.
+   * The server closes the connection periodically, the browser then reconnects automatically and acknowledges
+   * the last received response (Last-Event-ID header). If the channel cannot be established, polling is used instead.
+   */
+  protected _openPushChannel() {
+    this._closePushChannel();
+    if (typeof EventSource === 'undefined') {
+      $.log.warn('Push channel is not supported by the browser, falling back to polling for background jobs');
+      this._fallBackToPolling();
+      return;
+    }
+    this.backgroundJobPollingSupport.setRunning();
+    let pushChannel = new EventSource(this.pushUrl + '/' + this.uiSessionId);
+    pushChannel.addEventListener('open', this._onPushChannelOpen.bind(this));
+    pushChannel.addEventListener('message', this._onPushChannelMessage.bind(this));
+    pushChannel.addEventListener('error', this._onPushChannelError.bind(this));
+    this._pushChannel = pushChannel;
+  }
+
+  protected _closePushChannel() {
+    if (this._pushChannel) {
+      this._pushChannel.close();
+      this._pushChannel = null;
     }
+    this._pushChannelOpened = false;
+  }
+
+  protected _onPushChannelOpen(event: Event) {
+    this._pushChannelOpened = true;
+    this._pushChannelEstablished = true;
+  }
+
+  protected _onPushChannelMessage(event: MessageEvent<string>) {
+    let continuePushing = false;
+    try {
+      continuePushing = this._processBackgroundJobsResponse(JSON.parse(event.data));
+    } finally {
+      if (!continuePushing) {
+        this._closePushChannel();
+      }
+    }
+  }
+
+  protected _onPushChannelError(event: Event) {
+    if (this._pushChannelOpened && this._pushChannel.readyState === EventSource.CONNECTING) {
+      // Connection was closed (by the server or due to a network problem), the browser reconnects automatically
+      this._pushChannelOpened = false;
+      return;
+    }
+    this._closePushChannel();
+    if (!this._pushChannelEstablished) {
+      $.log.warn('Push channel could not be established, falling back to polling for background jobs');
+      this._fallBackToPolling();
+      return;
+    }
+    $.log.warn('Push channel failed. Interrupt polling until the next user-initiated request succeeds');
+    this.backgroundJobPollingSupport.setFailed();
+  }
+
+  protected _fallBackToPolling() {
+    this.backgroundJobPushEnabled = false;
+    this._pollForBackgroundJobs();
   }
 
   /**
@@ -1547,6 +1644,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   protected _onWindowUnload() {
     $.log.isInfoEnabled() && $.log.info('Session unloading...');
     this.unloaded = true;
+    this._closePushChannel();
 
     // Close popup windows
     if (this.desktop && this.desktop.formController) {
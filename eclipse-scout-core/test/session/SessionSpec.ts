@@ -566,6 +566,123 @@ describe('Session', () => {
     });
   });
 
+  describe('push channel', () => {
+    let originalEventSource: typeof EventSource;
+
+    class SpecEventSource {
+      static CONNECTING = 0;
+      static OPEN = 1;
+      static CLOSED = 2;
+      static instances: SpecEventSource[] = [];
+
+      url: string;
+      readyState = SpecEventSource.CONNECTING;
+      listeners: Record<string, ((event: Event) => void)[]> = {};
+
+      constructor(url: string) {
+        this.url = url;
+        SpecEventSource.instances.push(this);
+      }
+
+      addEventListener(type: string, listener: (event: Event) => void) {
+        (this.listeners[type] = this.listeners[type] || []).push(listener);
+      }
+
+      close() {
+        this.readyState = SpecEventSource.CLOSED;
+      }
+
+      trigger(type: string, event?: Event) {
+        (this.listeners[type] || []).forEach(listener => listener(event || new Event(type)));
+      }
+
+      open() {
+        this.readyState = SpecEventSource.OPEN;
+        this.trigger('open');
+      }
+
+      receive(data: object) {
+        this.trigger('message', new MessageEvent('message', {data: JSON.stringify(data)}));
+      }
+    }
+
+    beforeEach(() => {
+      originalEventSource = window.EventSource;
+      window.EventSource = SpecEventSource as unknown as typeof EventSource;
+      SpecEventSource.instances = [];
+    });
+
+    afterEach(() => {
+      window.EventSource = originalEventSource;
+    });
+
+    function createPushSession(): SandboxSession {
+      let session = createSession();
+      session.uiSessionId = '1.1';
+      session.backgroundJobPollingSupport.enabled = true;
+      session.backgroundJobPushEnabled = true;
+      return session;
+    }
+
+    it('receives the results of background jobs', () => {
+      let session = createPushSession();
+      spyOn(session, '_processSuccessResponse').and.callThrough();
+
+      session._resumeBackgroundJobPolling();
+      jasmine.clock().tick(0);
+      expect(SpecEventSource.instances.length).toBe(1);
+      expect(jasmine.Ajax.requests.count()).toBe(0); // no ?poll request
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+      let pushChannel = SpecEventSource.instances[0];
+      expect(pushChannel.url).toBe('push/1.1');
+
+      pushChannel.open();
+      pushChannel.receive({events: []});
+      jasmine.clock().tick(0);
+      expect(session._processSuccessResponse).toHaveBeenCalled();
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+      expect(pushChannel.readyState).toBe(SpecEventSource.OPEN);
+
+      // Server closes the connection, the browser reconnects automatically
+      pushChannel.readyState = SpecEventSource.CONNECTING;
+      pushChannel.trigger('error');
+      jasmine.clock().tick(0);
+      expect(pushChannel.readyState).toBe(SpecEventSource.CONNECTING);
+      expect(SpecEventSource.instances.length).toBe(1);
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+      expect(session.backgroundJobPushEnabled).toBe(true);
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+    });
+
+    it('falls back to polling if the push channel cannot be established', () => {
+      let session = createPushSession();
+
+      session._resumeBackgroundJobPolling();
+      jasmine.clock().tick(0);
+      let pushChannel = SpecEventSource.instances[0];
+      pushChannel.trigger('error');
+      jasmine.clock().tick(0);
+      expect(pushChannel.readyState).toBe(SpecEventSource.CLOSED);
+      expect(session.backgroundJobPushEnabled).toBe(false);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest().pollForBackgroundJobs).toBe(true);
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+    });
+
+    it('falls back to polling if EventSource is not supported', () => {
+      window.EventSource = undefined;
+      let session = createPushSession();
+
+      session._resumeBackgroundJobPolling();
+      jasmine.clock().tick(0);
+      expect(SpecEventSource.instances.length).toBe(0);
+      expect(session.backgroundJobPushEnabled).toBe(false);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest().pollForBackgroundJobs).toBe(true);
+      expect(session.backgroundJobPollingSupport.status).toBe(BackgroundJobPollingStatus.RUNNING);
+    });
+  });
+
   describe('init', () => {
 
     it('sends startup parameter', () => {
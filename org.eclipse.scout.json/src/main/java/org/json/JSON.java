@@ -24,15 +24,48 @@ package org.json;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Added pooled scratch buffers used by JSONTokener and JSONStringer
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
 
 final class JSON {
 
+  /**
+   * Size of the pooled character buffers.
+   */
+  static final int BUFFER_SIZE = 8192;
+
+  /**
+   * At most one idle buffer per thread. A buffer is removed from the pool while it is in use, nested usages allocate
+   * their own buffer.
+   */
+  private static final ThreadLocal<char[]> BUFFER_POOL = new ThreadLocal<>();
+
   private JSON() {
   }
 
+  /**
+   * @return a buffer of {@link #BUFFER_SIZE} characters which should be returned using {@link #releaseBuffer(char[])}
+   */
+  static char[] acquireBuffer() {
+    char[] buffer = BUFFER_POOL.get();
+    if (buffer == null) {
+      return new char[BUFFER_SIZE];
+    }
+    BUFFER_POOL.set(null);
+    return buffer;
+  }
+
+  /**
+   * Returns the given buffer to the pool of the current thread. The buffer must not be used afterwards.
+   */
+  static void releaseBuffer(char[] buffer) {
+    if (buffer != null && buffer.length == BUFFER_SIZE) {
+      BUFFER_POOL.set(buffer);
+    }
+  }
+
   /**
    * Returns the input if it is a JSON-permissible value; throws otherwise.
    */
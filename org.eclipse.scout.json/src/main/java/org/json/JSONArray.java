@@ -20,6 +20,10 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,6 +38,8 @@ import org.json.JSONStringer.Scope;
  * -----------------------------
  * - Applied Scout code formatting rules
  * - equals() method changed to be symmetric
+ * - Added write(Writer) to encode without building the JSON string in memory
+ * - Added JSONArray(Reader) to parse without reading the JSON string into memory
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -94,14 +100,7 @@ public class JSONArray {
      * Getting the parser to populate this could get tricky. Instead, just
      * parse to temporary JSONArray and then steal the data from that.
      */
-    Object object = readFrom.nextValue();
-    if (object instanceof JSONArray) {
-      JSONArray jsonArray = (JSONArray) object;
-      m_values = jsonArray.m_values;
-    }
-    else {
-      throw JSON.typeMismatch(object, "JSONArray");
-    }
+    m_values = valuesOf(readFrom.nextValue());
   }
 
   /**
@@ -113,7 +112,30 @@ public class JSONArray {
    *           if the parse fails or doesn't yield a {@code JSONArray}.
    */
   public JSONArray(String json) {
-    this(new JSONTokener(json));
+    m_values = valuesOf(JSONTokener.readValue(json));
+  }
+
+  /**
+   * Creates a new {@code JSONArray} with values from the JSON read from the given reader. The JSON is parsed while
+   * reading, without reading the whole input into a string first. Only the characters up to the end of the array are
+   * guaranteed to be consumed. The reader is not closed.
+   *
+   * @param json
+   *          a reader providing a JSON-encoded array.
+   * @throws JSONException
+   *           if the parse fails or doesn't yield a {@code JSONArray}.
+   * @throws IOException
+   *           if reading fails
+   */
+  public JSONArray(Reader json) throws IOException {
+    m_values = valuesOf(JSONTokener.readValue(json));
+  }
+
+  private static List<Object> valuesOf(Object object) {
+    if (object instanceof JSONArray) {
+      return ((JSONArray) object).m_values;
+    }
+    throw JSON.typeMismatch(object, "JSONArray");
   }
 
   /**
@@ -606,6 +628,30 @@ public class JSONArray {
     return stringer.toString();
   }
 
+  /**
+   * Writes this array as compact JSON to the given writer. The output is identical to {@link #toString()} but is not
+   * built as a whole in memory. The writer is neither flushed nor closed.
+   *
+   * @throws JSONException
+   *           if this array contains a value which cannot be encoded (e.g. {@link Double#NaN}), in which case parts of the
+   *           JSON might already be written
+   * @throws IOException
+   *           if writing fails
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    finally {
+      stringer.release();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.array();
     for (Object value : m_values) {
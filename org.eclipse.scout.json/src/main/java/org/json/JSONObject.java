@@ -20,6 +20,10 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -40,6 +44,8 @@ import org.json.JSONStringer.Scope;
  * - Changed getString()/optString() to return null for JSON values "null" instead of the string "null".
  * - Replaced task markers from the original source code with 'TO.DO'.
  * - Suppress sonar warnings where necessary
+ * - Added write(Writer) to encode without building the JSON string in memory
+ * - Added JSONObject(Reader) to parse without reading the JSON string into memory
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -165,14 +171,7 @@ public class JSONObject {
      * Getting the parser to populate this could get tricky. Instead, just
      * parse to temporary JSONObject and then steal the data from that.
      */
-    Object object = readFrom.nextValue();
-    if (object instanceof JSONObject) {
-      JSONObject jsonObject = (JSONObject) object;
-      this.m_nameValuePairs = jsonObject.m_nameValuePairs;
-    }
-    else {
-      throw JSON.typeMismatch(object, "JSONObject");
-    }
+    m_nameValuePairs = nameValuePairsOf(readFrom.nextValue());
   }
 
   /**
@@ -184,7 +183,33 @@ public class JSONObject {
    *           if the parse fails or doesn't yield a {@code JSONObject}.
    */
   public JSONObject(String json) {
-    this(new JSONTokener(json));
+    m_nameValuePairs = nameValuePairsOf(JSONTokener.readValue(json));
+  }
+
+  /**
+   * Creates a new {@code JSONObject} with name/value mappings from the JSON read from the given reader. The JSON is
+   * parsed while reading, without reading the whole input into a string first. Only the characters up to the end of the
+   * object are guaranteed to be consumed. The reader is not closed.
+   * <p>
+   * To parse UTF-8 encoded bytes, use an {@link java.io.InputStreamReader InputStreamReader} on a
+   * {@link java.io.ByteArrayInputStream ByteArrayInputStream}.
+   *
+   * @param json
+   *          a reader providing a JSON-encoded object.
+   * @throws JSONException
+   *           if the parse fails or doesn't yield a {@code JSONObject}.
+   * @throws IOException
+   *           if reading fails
+   */
+  public JSONObject(Reader json) throws IOException {
+    m_nameValuePairs = nameValuePairsOf(JSONTokener.readValue(json));
+  }
+
+  private static LinkedHashMap<String, Object> nameValuePairsOf(Object object) {
+    if (object instanceof JSONObject) {
+      return ((JSONObject) object).m_nameValuePairs;
+    }
+    throw JSON.typeMismatch(object, "JSONObject");
   }
 
   /**
@@ -709,6 +734,30 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Writes this object as compact JSON to the given writer. The output is identical to {@link #toString()} but is not
+   * built as a whole in memory. The writer is neither flushed nor closed.
+   *
+   * @throws JSONException
+   *           if this object contains a value which cannot be encoded (e.g. {@link Double#NaN}), in which case parts of the
+   *           JSON might already be written
+   * @throws IOException
+   *           if writing fails
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    finally {
+      stringer.release();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
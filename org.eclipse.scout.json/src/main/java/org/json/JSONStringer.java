@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +33,8 @@ import java.util.List;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Optional streaming to a Writer (see JSONObject#write(Writer) and JSONArray#write(Writer))
+ * - Strings are escaped using a replacement table and appended in runs
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -67,10 +72,43 @@ import java.util.List;
  */
 public class JSONStringer {
 
+  /**
+   * Number of buffered characters after which the output data is written to {@link #m_writer} (if any).
+   */
+  static final int FLUSH_THRESHOLD = 8192;
+
+  /**
+   * Escape sequences of the ASCII characters which must be escaped. From RFC 4627, "All Unicode characters may be placed
+   * within the quotation marks except for the characters that must be escaped: quotation mark, reverse solidus, and the
+   * control characters (U+0000 through U+001F)."
+   */
+  private static final String[] REPLACEMENTS = new String[128];
+
+  static {
+    for (int c = 0; c <= 0x1F; c++) {
+      REPLACEMENTS[c] = String.format("\\u%04x", c);
+    }
+    REPLACEMENTS['"'] = "\\\"";
+    REPLACEMENTS['\\'] = "\\\\";
+    REPLACEMENTS['/'] = "\\/";
+    REPLACEMENTS['\t'] = "\\t";
+    REPLACEMENTS['\b'] = "\\b";
+    REPLACEMENTS['\n'] = "\\n";
+    REPLACEMENTS['\r'] = "\\r";
+    REPLACEMENTS['\f'] = "\\f";
+  }
+
   /** The output data, containing at most one top-level array or object. */
   @SuppressWarnings("squid:S00116")
   final StringBuilder out = new StringBuilder();
 
+  /**
+   * Optional writer the output data is written to, <code>null</code> if the output is only kept in {@link #out}.
+   */
+  private final Writer m_writer;
+  private char[] m_writeBuffer;
+  private boolean m_written;
+
   /**
    * Lexical scoping elements within this stringer, necessary to insert the appropriate separator characters (ie. commas
    * and colons) and to detect nesting errors.
@@ -121,12 +159,24 @@ public class JSONStringer {
 
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
+  }
+
+  /**
+   * Creates a stringer writing its output to the given writer whenever {@link #FLUSH_THRESHOLD} characters are
+   * buffered. {@link #flush()} must be called after the top-level value is complete. {@link IOException}s of the writer
+   * are thrown as {@link UncheckedIOException}.
+   */
+  JSONStringer(Writer writer) {
+    m_indent = null;
+    m_writer = writer;
   }
 
   /**
@@ -169,7 +219,7 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_written)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
@@ -192,6 +242,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
+    flushIfRequired();
     return this;
   }
 
@@ -251,6 +302,7 @@ public class JSONStringer {
       string(value.toString());
     }
 
+    flushIfRequired();
     return this;
   }
 
@@ -265,6 +317,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
+    flushIfRequired();
     return this;
   }
 
@@ -281,6 +334,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(JSONObject.numberToString(value));
+    flushIfRequired();
     return this;
   }
 
@@ -295,59 +349,23 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
+    flushIfRequired();
     return this;
   }
 
   private void string(String value) {
-    out.append("\"");
+    out.append('"');
+    /* the index of the first character not yet appended, characters which need no escaping are appended in runs */
+    int start = 0;
     for (int i = 0, length = value.length(); i < length; i++) {
       char c = value.charAt(i);
-
-      /*
-       * From RFC 4627, "All Unicode characters may be placed within the
-       * quotation marks except for the characters that must be escaped:
-       * quotation mark, reverse solidus, and the control characters
-       * (U+0000 through U+001F)."
-       */
-      switch (c) {
-        case '"':
-        case '\\':
-        case '/':
-          out.append('\\').append(c);
-          break;
-
-        case '\t':
-          out.append("\\t");
-          break;
-
-        case '\b':
-          out.append("\\b");
-          break;
-
-        case '\n':
-          out.append("\\n");
-          break;
-
-        case '\r':
-          out.append("\\r");
-          break;
-
-        case '\f':
-          out.append("\\f");
-          break;
-
-        default:
-          if (c <= 0x1F) {
-            out.append(String.format("\\u%04x", (int) c));
-          }
-          else {
-            out.append(c);
-          }
-          break;
+      if (c < REPLACEMENTS.length && REPLACEMENTS[c] != null) {
+        out.append(value, start, i).append(REPLACEMENTS[c]);
+        start = i + 1;
       }
-
     }
-    out.append("\"");
+    out.append(value, start, value.length());
+    out.append('"');
   }
 
   private void newline() {
@@ -419,6 +437,44 @@ public class JSONStringer {
     }
   }
 
+  private void flushIfRequired() {
+    if (m_writer != null && out.length() >= FLUSH_THRESHOLD) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes the buffered output data to the writer this stringer was created with (no-op if there is no writer).
+   */
+  void flush() {
+    if (m_writer == null || out.length() == 0) {
+      return;
+    }
+    if (m_writeBuffer == null) {
+      m_writeBuffer = JSON.acquireBuffer();
+    }
+    try {
+      for (int start = 0, length = out.length(); start < length; start += m_writeBuffer.length) {
+        int end = Math.min(length, start + m_writeBuffer.length);
+        out.getChars(start, end, m_writeBuffer, 0);
+        m_writer.write(m_writeBuffer, 0, end - start);
+      }
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    out.setLength(0);
+    m_written = true;
+  }
+
+  /**
+   * Returns the pooled buffer used by {@link #flush()}. The stringer must not be flushed afterwards.
+   */
+  void release() {
+    JSON.releaseBuffer(m_writeBuffer);
+    m_writeBuffer = null;
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
@@ -20,6 +20,11 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
 // Note: this class was written without inspecting the non-free org.json sourcecode.
 
 /*
@@ -27,6 +32,8 @@ package org.json;
  * -----------------------------
  * - Applied Scout code formatting rules
  * - Added lenient mode to allow parsing of certain invalid JSON strings (missing null value)
+ * - Reads from a character buffer which is either the entire input string or a window filled from a Reader
+ * - Numbers and the literals null, true and false are parsed without creating an intermediate string
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -62,35 +69,49 @@ package org.json;
  * <li>Key-value pairs separated by {@code ;}.
  * </ul>
  * <p>
- * Each tokener may be used to parse a single JSON string. Instances of this class are not thread safe. Although this
- * class is nonfinal, it was not designed for inheritance and should not be subclassed. In particular, self-use by
- * overrideable methods is not specified. See <i>Effective Java</i> Item 17, "Design and Document or inheritance or else
- * prohibit it" for further information.
+ * Each tokener may be used to parse a single JSON string. To parse JSON from a {@link Reader} without reading it into a
+ * string first, use {@link JSONObject#JSONObject(Reader)} or {@link JSONArray#JSONArray(Reader)}. Instances of this
+ * class are not thread safe. Although this class is nonfinal, it was not designed for inheritance and should not be
+ * subclassed. In particular, self-use by overrideable methods is not specified. See <i>Effective Java</i> Item 17,
+ * "Design and Document or inheritance or else prohibit it" for further information.
  */
 public class JSONTokener {
 
-  /** The input JSON. */
+  /** The input JSON, {@code null} if reading from {@link #m_reader}. */
   private final String m_in;
+  private final Reader m_reader;
   private final boolean m_lenient;
 
   /**
-   * The index of the next character to be returned by {@link #next}. When the input is exhausted, this equals the
-   * input's length.
+   * The input characters: either all characters of {@link #m_in} or a window of the characters read from
+   * {@link #m_reader}. Consumed characters of a window are discarded when more input is read, except the most recent
+   * one (see {@link #back()}).
+   */
+  private char[] m_buf;
+
+  /** The number of valid characters in {@link #m_buf}. */
+  private int m_limit;
+
+  /** The position of the first character of {@link #m_buf} within the input. Always 0 for string input. */
+  private int m_offset;
+
+  /**
+   * The index (within {@link #m_buf}) of the next character to be returned by {@link #next}. When the input is
+   * exhausted, this equals {@link #m_limit}.
    */
   private int m_pos;
 
+  private boolean m_pooled;
+  private boolean m_started;
+  private StringBuilder m_scratch;
+
   /**
    * @param in
    *          JSON encoded string. Null is not permitted and will yield a tokener that throws
    *          {@code NullPointerExceptions} when methods are called.
    */
   public JSONTokener(String in) {
-    // consume an optional byte order mark (BOM) if it exists
-    if (in != null && in.startsWith("\ufeff")) {
-      in = in.substring(1);
-    }
-    m_in = in;
-    m_lenient = false;
+    this(in, false);
   }
 
   /**
@@ -101,12 +122,93 @@ public class JSONTokener {
    *          allow parsing of invalid JSON strings with missing null values
    */
   public JSONTokener(String in, boolean lenient) {
+    this(in, lenient, false);
+  }
+
+  /**
+   * @param pooled
+   *          {@code true} to use a pooled buffer for short input strings, {@link #release()} must be called when the
+   *          tokener is no longer used
+   */
+  JSONTokener(String in, boolean lenient, boolean pooled) {
     // consume an optional byte order mark (BOM) if it exists
     if (in != null && in.startsWith("\ufeff")) {
       in = in.substring(1);
     }
-    this.m_in = in;
-    this.m_lenient = lenient;
+    m_in = in;
+    m_reader = null;
+    m_lenient = lenient;
+    if (in != null) {
+      m_limit = in.length();
+      if (pooled && m_limit <= JSON.BUFFER_SIZE) {
+        m_buf = JSON.acquireBuffer();
+        m_pooled = true;
+        in.getChars(0, m_limit, m_buf, 0);
+      }
+      else {
+        m_buf = in.toCharArray();
+      }
+    }
+  }
+
+  /**
+   * Creates a tokener reading from the given reader using a pooled buffer. {@link #release()} must be called when the
+   * tokener is no longer used. {@link IOException}s of the reader are thrown as {@link UncheckedIOException}.
+   * <p>
+   * Only the most recent character can be unread by {@link #back()}.
+   */
+  JSONTokener(Reader in, boolean lenient) {
+    m_in = null;
+    m_reader = in;
+    m_lenient = lenient;
+    m_buf = JSON.acquireBuffer();
+    m_pooled = true;
+  }
+
+  /**
+   * Parses the first value of the given string using a pooled buffer.
+   *
+   * @see #nextValue()
+   */
+  static Object readValue(String in) {
+    JSONTokener tokener = new JSONTokener(in, false, true);
+    try {
+      return tokener.nextValue();
+    }
+    finally {
+      tokener.release();
+    }
+  }
+
+  /**
+   * Parses the first value read from the given reader using a pooled buffer. The reader is not closed.
+   *
+   * @see #nextValue()
+   */
+  static Object readValue(Reader in) throws IOException {
+    JSONTokener tokener = new JSONTokener(in, false);
+    try {
+      return tokener.nextValue();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    finally {
+      tokener.release();
+    }
+  }
+
+  /**
+   * Returns the pooled buffer of this tokener (if any). The tokener must not be used afterwards.
+   */
+  void release() {
+    if (m_pooled) {
+      JSON.releaseBuffer(m_buf);
+      m_pooled = false;
+    }
+    m_buf = null;
+    m_limit = 0;
+    m_pos = 0;
   }
 
   /**
@@ -138,10 +240,100 @@ public class JSONTokener {
     }
   }
 
+  /**
+   * Ensures that at least {@code count} characters are available at {@link #m_pos}.
+   *
+   * @return {@code false} if the input ends before
+   */
+  private boolean require(int count) {
+    return m_limit - m_pos >= count || fill(count);
+  }
+
+  /**
+   * Reads more input until at least {@code count} characters are available at {@link #m_pos}. Buffer indexes before
+   * {@code m_pos - 1} become invalid, indexes relative to {@code m_pos} stay valid.
+   *
+   * @return {@code false} if the input ends before
+   */
+  private boolean fill(int count) {
+    if (m_reader == null) {
+      if (m_buf == null) {
+        throw new NullPointerException("in == null");
+      }
+      return false; // the buffer contains the entire input string
+    }
+    // discard consumed characters except the most recent one
+    int discard = m_pos - 1;
+    if (discard > 0) {
+      System.arraycopy(m_buf, discard, m_buf, 0, m_limit - discard);
+      m_offset += discard;
+      m_pos -= discard;
+      m_limit -= discard;
+    }
+    while (m_limit - m_pos < count) {
+      if (m_limit == m_buf.length) {
+        m_buf = Arrays.copyOf(m_buf, m_buf.length * 2);
+      }
+      int n;
+      try {
+        n = m_reader.read(m_buf, m_limit, m_buf.length - m_limit);
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      if (n < 0) {
+        return false;
+      }
+      m_limit += n;
+      if (!m_started && m_limit > 0) {
+        m_started = true;
+        // consume an optional byte order mark (BOM) if it exists
+        if (m_buf[0] == '\ufeff') {
+          System.arraycopy(m_buf, 1, m_buf, 0, --m_limit);
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return distance of the next occurrence of {@code target} from the current position or -1 if the remaining input
+   *         doesn't contain {@code target}
+   */
+  private int find(String target) {
+    int length = target.length();
+    for (int i = 0; require(i + length); i++) {
+      if (regionMatches(m_pos + i, target, false)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private boolean regionMatches(int index, String s, boolean ignoreCase) {
+    for (int i = 0, length = s.length(); i < length; i++) {
+      char c = m_buf[index + i];
+      char expected = s.charAt(i);
+      if (c != expected && !(ignoreCase && equalsIgnoreCase(c, expected))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Same comparison as {@link String#equalsIgnoreCase(String)}.
+   */
+  private static boolean equalsIgnoreCase(char c1, char c2) {
+    char u1 = Character.toUpperCase(c1);
+    char u2 = Character.toUpperCase(c2);
+    return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+  }
+
   @SuppressWarnings("squid:S128")
   private int nextCleanInternal() {
-    while (m_pos < m_in.length()) {
-      int c = m_in.charAt(m_pos++);
+    while (m_pos < m_limit || fill(1)) {
+      int c = m_buf[m_pos++];
       switch (c) {
         case '\t':
         case ' ':
@@ -150,20 +342,20 @@ public class JSONTokener {
           continue;
 
         case '/':
-          if (m_pos == m_in.length()) {
+          if (!require(1)) {
             return c;
           }
 
-          char peek = m_in.charAt(m_pos);
+          char peek = m_buf[m_pos];
           switch (peek) {
             case '*':
               // skip a /* c-style comment */
               m_pos++;
-              int commentEnd = m_in.indexOf("*/", m_pos);
+              int commentEnd = find("*/");
               if (commentEnd == -1) {
                 throw syntaxError("Unterminated comment");
               }
-              m_pos = commentEnd + 2;
+              m_pos += commentEnd + 2;
               continue;
 
             case '/':
@@ -198,10 +390,9 @@ public class JSONTokener {
    * consumed as whitespace by the caller.
    */
   private void skipToEndOfLine() {
-    for (; m_pos < m_in.length(); m_pos++) {
-      char c = m_in.charAt(m_pos);
+    while (m_pos < m_limit || fill(1)) {
+      char c = m_buf[m_pos++];
       if (c == '\r' || c == '\n') {
-        m_pos++;
         break;
       }
     }
@@ -217,37 +408,45 @@ public class JSONTokener {
    */
   public String nextString(char quote) {
     /*
-     * For strings that are free of escape sequences, we can just extract
-     * the result as a substring of the input. But if we encounter an escape
-     * sequence, we need to use a StringBuilder to compose the result.
+     * For strings that are free of escape sequences and not split across
+     * buffer windows, we can just create the result from the buffer. Otherwise
+     * we need to use a StringBuilder to compose the result.
      */
     StringBuilder builder = null;
 
     /* the index of the first character not yet appended to the builder. */
     int start = m_pos;
 
-    while (m_pos < m_in.length()) {
-      int c = m_in.charAt(m_pos++);
+    while (true) {
+      if (m_pos == m_limit) {
+        if (m_reader != null && start < m_pos) {
+          // the window is refilled, keep the characters read so far
+          builder = builder == null ? scratch() : builder;
+          builder.append(m_buf, start, m_pos - start);
+        }
+        if (!fill(1)) {
+          break;
+        }
+        start = m_pos;
+      }
+
+      char c = m_buf[m_pos++];
       if (c == quote) {
         if (builder == null) {
-          // a new string avoids leaking memory
-          //noinspection StringOperationCanBeSimplified
-          return new String(m_in.substring(start, m_pos - 1)); // NOSONAR
+          return new String(m_buf, start, m_pos - 1 - start);
         }
         else {
-          builder.append(m_in, start, m_pos - 1);
+          builder.append(m_buf, start, m_pos - 1 - start);
           return builder.toString();
         }
       }
 
       if (c == '\\') {
-        if (m_pos == m_in.length()) {
+        builder = builder == null ? scratch() : builder;
+        builder.append(m_buf, start, m_pos - 1 - start);
+        if (!require(1)) {
           throw syntaxError("Unterminated escape sequence");
         }
-        if (builder == null) {
-          builder = new StringBuilder();
-        }
-        builder.append(m_in, start, m_pos - 1);
         builder.append(readEscapeCharacter());
         start = m_pos;
       }
@@ -256,19 +455,41 @@ public class JSONTokener {
     throw syntaxError("Unterminated string");
   }
 
+  /**
+   * @return an empty builder which is reused by this tokener
+   */
+  private StringBuilder scratch() {
+    if (m_scratch == null) {
+      m_scratch = new StringBuilder();
+    }
+    else {
+      m_scratch.setLength(0);
+    }
+    return m_scratch;
+  }
+
   /**
    * Unescapes the character identified by the character or characters that immediately follow a backslash. The
    * backslash '\' should have already been read. This supports both unicode escapes "u000A" and two-character escapes
    * "\n".
    */
   private char readEscapeCharacter() {
-    char escaped = m_in.charAt(m_pos++);
+    char escaped = m_buf[m_pos++];
     switch (escaped) {
       case 'u':
-        if (m_pos + 4 > m_in.length()) {
+        if (!require(4)) {
           throw syntaxError("Unterminated escape sequence");
         }
-        String hex = m_in.substring(m_pos, m_pos + 4);
+        int value = 0;
+        for (int i = 0; i < 4 && value >= 0; i++) {
+          int digit = dehexchar(m_buf[m_pos + i]);
+          value = digit < 0 ? -1 : (value << 4) | digit;
+        }
+        if (value >= 0) {
+          m_pos += 4;
+          return (char) value;
+        }
+        String hex = new String(m_buf, m_pos, 4);
         m_pos += 4;
         try {
           return (char) Integer.parseInt(hex, 16);
@@ -305,24 +526,49 @@ public class JSONTokener {
    * Long, or Double, in that order of preference.
    */
   private Object readLiteral() {
-    String literal = nextToInternal("{}[]/\\:,=;# \t\f");
+    int length = 0;
+    while (require(length + 1) && !isLiteralEnd(m_buf[m_pos + length])) {
+      length++;
+    }
+    int start = m_pos;
+    m_pos += length;
 
-    if (literal.isEmpty()) {
+    if (length == 0) {
       if (m_lenient) {
         return JSONObject.NULL;
       }
       throw syntaxError("Expected literal value");
     }
-    else if ("null".equalsIgnoreCase(literal)) {
+    else if (length == 4 && regionMatches(start, "null", true)) {
       return JSONObject.NULL;
     }
-    else if ("true".equalsIgnoreCase(literal)) {
+    else if (length == 4 && regionMatches(start, "true", true)) {
       return Boolean.TRUE;
     }
-    else if ("false".equalsIgnoreCase(literal)) {
+    else if (length == 5 && regionMatches(start, "false", true)) {
       return Boolean.FALSE;
     }
 
+    /* fast path for decimal integers which certainly fit into a long */
+    int digitsStart = m_buf[start] == '-' ? start + 1 : start;
+    int digits = start + length - digitsStart;
+    if (digits > 0 && digits <= 18 && (digits == 1 || m_buf[digitsStart] != '0')) {
+      long longValue = 0;
+      int i = digitsStart;
+      for (; i < start + length; i++) {
+        char c = m_buf[i];
+        if (c < '0' || c > '9') {
+          break;
+        }
+        longValue = longValue * 10 + (c - '0');
+      }
+      if (i == start + length) {
+        return toIntegral(digitsStart == start ? longValue : -longValue);
+      }
+    }
+
+    String literal = new String(m_buf, start, length);
+
     /* try to parse as an integral type... */
     if (literal.indexOf('.') == -1) {
       int base = 10;
@@ -336,13 +582,7 @@ public class JSONTokener {
         base = 8;
       }
       try {
-        long longValue = Long.parseLong(number, base);
-        if (longValue <= Integer.MAX_VALUE && longValue >= Integer.MIN_VALUE) {
-          return (int) longValue;
-        }
-        else {
-          return longValue;
-        }
+        return toIntegral(Long.parseLong(number, base));
       }
       catch (NumberFormatException e) {
         /*
@@ -362,8 +602,43 @@ public class JSONTokener {
     }
 
     /* ... finally give up. We have an unquoted string */
-    //noinspection StringOperationCanBeSimplified
-    return new String(literal); // a new string avoids leaking memory (NOSONAR)
+    return literal;
+  }
+
+  private static Object toIntegral(long longValue) {
+    if (longValue <= Integer.MAX_VALUE && longValue >= Integer.MIN_VALUE) {
+      return (int) longValue;
+    }
+    else {
+      return longValue;
+    }
+  }
+
+  /**
+   * @return {@code true} if the given character terminates a literal (see {@link #readLiteral()})
+   */
+  private static boolean isLiteralEnd(char c) {
+    switch (c) {
+      case '{':
+      case '}':
+      case '[':
+      case ']':
+      case '/':
+      case '\\':
+      case ':':
+      case ',':
+      case '=':
+      case ';':
+      case '#':
+      case ' ':
+      case '\t':
+      case '\f':
+      case '\r':
+      case '\n':
+        return true;
+      default:
+        return false;
+    }
   }
 
   /**
@@ -371,14 +646,17 @@ public class JSONTokener {
    * consume the excluded character.
    */
   private String nextToInternal(String excluded) {
-    int start = m_pos;
-    for (; m_pos < m_in.length(); m_pos++) {
-      char c = m_in.charAt(m_pos);
+    int length = 0;
+    while (require(length + 1)) {
+      char c = m_buf[m_pos + length];
       if (c == '\r' || c == '\n' || excluded.indexOf(c) != -1) {
-        return m_in.substring(start, m_pos);
+        break;
       }
+      length++;
     }
-    return m_in.substring(start);
+    String result = new String(m_buf, m_pos, length);
+    m_pos += length;
+    return result;
   }
 
   /**
@@ -418,7 +696,7 @@ public class JSONTokener {
       if (separator != ':' && separator != '=') {
         throw syntaxError("Expected ':' after " + name);
       }
-      if (m_pos < m_in.length() && m_in.charAt(m_pos) == '>') {
+      if (require(1) && m_buf[m_pos] == '>') {
         m_pos++;
       }
 
@@ -489,11 +767,14 @@ public class JSONTokener {
   }
 
   /**
-   * Returns the current position and the entire input string.
+   * Returns the current position and the entire input string (only the position if reading from a {@link Reader}).
    */
   @Override
   public String toString() {
     // consistent with the original implementation
+    if (m_reader != null) {
+      return " at character " + (m_offset + m_pos);
+    }
     return " at character " + m_pos + " of " + m_in;
   }
 
@@ -509,7 +790,7 @@ public class JSONTokener {
    * Returns true until the input has been exhausted.
    */
   public boolean more() {
-    return m_pos < m_in.length();
+    return m_pos < m_limit || fill(1);
   }
 
   /**
@@ -517,7 +798,7 @@ public class JSONTokener {
    * of this method is ambiguous for JSON strings that contain the character '\0'.
    */
   public char next() {
-    return m_pos < m_in.length() ? m_in.charAt(m_pos++) : '\0';
+    return m_pos < m_limit || fill(1) ? m_buf[m_pos++] : '\0';
   }
 
   /**
@@ -552,10 +833,10 @@ public class JSONTokener {
    *           if the remaining input is not long enough to satisfy this request.
    */
   public String next(int length) {
-    if (m_pos + length > m_in.length()) {
+    if (!require(length)) {
       throw syntaxError(length + " is out of bounds");
     }
-    String result = m_in.substring(m_pos, m_pos + length);
+    String result = new String(m_buf, m_pos, length);
     m_pos += length;
     return result;
   }
@@ -594,8 +875,8 @@ public class JSONTokener {
    * contain {@code thru}, the input is exhausted.
    */
   public void skipPast(String thru) {
-    int thruStart = m_in.indexOf(thru, m_pos);
-    m_pos = thruStart == -1 ? m_in.length() : (thruStart + thru.length());
+    int thruStart = find(thru);
+    m_pos = thruStart == -1 ? m_limit : (m_pos + thruStart + thru.length());
   }
 
   /**
@@ -603,9 +884,9 @@ public class JSONTokener {
    * contain {@code to}, the input is unchanged.
    */
   public char skipTo(char to) {
-    int index = m_in.indexOf(to, m_pos);
+    int index = find(String.valueOf(to));
     if (index != -1) {
-      m_pos = index;
+      m_pos += index;
       return to;
     }
     else {
@@ -614,7 +895,8 @@ public class JSONTokener {
   }
 
   /**
-   * Unreads the most recent character of input. If no input characters have been read, the input is unchanged.
+   * Unreads the most recent character of input. If no input characters have been read, the input is unchanged. When
+   * reading from a {@link Reader}, only the most recent character is guaranteed to be available.
    */
   public void back() {
     if (--m_pos == -1) {
@@ -20,6 +20,7 @@
  */
 package org.json;
 
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -601,4 +602,14 @@ public class JSONArrayTest extends TestCase {
     JSONArray a2 = new JSONArray(MyEnum.values());
     assertEquals("[null,null,null]", a2.toString());
   }
+
+  public void testWrite() throws Exception {
+    JSONArray array = new JSONArray();
+    array.put("foo");
+    array.put(new JSONObject().put("bar", 1));
+    array.put(JSONObject.NULL);
+    StringWriter writer = new StringWriter();
+    array.write(writer);
+    assertEquals(array.toString(), writer.toString());
+  }
 }
@@ -20,6 +20,7 @@
  */
 package org.json;
 
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -1133,4 +1134,44 @@ public class JSONObjectTest extends TestCase {
     catch (JSONException expected) {
     }
   }
+
+  public void testWrite() throws Exception {
+    JSONObject object = new JSONObject();
+    object.put("foo", "bar \"quoted\" / \n \u0001 \u00e4");
+    object.put("number", 5.5d);
+    object.put("null", JSONObject.NULL);
+    object.put("empty", new JSONObject());
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+  }
+
+  public void testWriteLarge() throws Exception {
+    // exceeds the flush threshold of the stringer several times
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 2000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", "row-" + i);
+      row.put("cells", new JSONArray(Arrays.asList("text " + i, i, i % 2 == 0, JSONObject.NULL)));
+      rows.put(row);
+    }
+    JSONObject object = new JSONObject();
+    object.put("rows", rows);
+    object.put("text", String.join("", Collections.nCopies(20000, "\"")));
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+  }
+
+  public void testWriteInvalid() throws Exception {
+    JSONObject object = new JSONObject();
+    object.put("valid", 1);
+    object.put("invalid", new JSONArray(Arrays.asList(Double.NaN)));
+    try {
+      object.write(new StringWriter());
+      fail();
+    }
+    catch (JSONException expected) {
+    }
+  }
 }
@@ -20,6 +20,10 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
 import junit.framework.AssertionFailedError;
 import junit.framework.TestCase;
 
@@ -658,4 +662,92 @@ public class JSONTokenerTest extends TestCase {
       assertEquals("dehexchar " + c, -1, JSONTokener.dehexchar((char) c));
     }
   }
+
+  public void testReader() throws Exception {
+    String[] inputs = {
+        "{}",
+        "[]",
+        "\ufeff{\"a\":1}",
+        "{\"a\" : \"b\\u00e4\\\"\\n\", \"c\" : [1, -2, 3.5, 1e3, 0x1F, 012, -012, 9223372036854775807, 9223372036854775808]}",
+        "{a=>true; b=FALSE, 'c':NULL, d:unquoted} trailing",
+        "[1,,2,]",
+        "[ /* comment */ 1, // comment\n 2, # comment\r\n 3]",
+        "{\"long\":-1234567890123456789,\"int\":-2147483648,\"max\":2147483647,\"zero\":-0}",
+    };
+    for (String input : inputs) {
+      Object expected = new JSONTokener(input).nextValue();
+      assertEquals(input, expected.toString(), readValue(input).toString());
+    }
+  }
+
+  public void testReaderLarge() throws Exception {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      text.append("line ").append(i).append(" \"quoted\" \\ / \u00e4\n");
+    }
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 3000; i++) {
+      rows.put(new JSONObject().put("id", "row" + i).put("value", i * 1.5).put("flag", i % 2 == 0));
+    }
+    JSONObject object = new JSONObject()
+        .put("text", text.toString())
+        .put("rows", rows);
+    String json = object.toString(2);
+    assertEquals(object.toString(), readValue(json).toString());
+    assertEquals(object.toString(), new JSONObject(new StringReader(json)).toString());
+    assertEquals(rows.toString(), new JSONArray(new StringReader(rows.toString())).toString());
+
+    String literal = text.toString().replaceAll("[^a-z]", "");
+    assertEquals(literal, new JSONArray(new StringReader("[" + literal + "]")).get(0));
+  }
+
+  public void testReaderSyntaxError() throws Exception {
+    try {
+      readValue("{\"a\":[1,2}");
+      fail();
+    }
+    catch (JSONException e) {
+      assertEquals("Unterminated array at character 10", e.getMessage());
+    }
+    try {
+      new JSONObject(new StringReader("[1]"));
+      fail();
+    }
+    catch (JSONException e) {
+    }
+  }
+
+  public void testReaderIOException() {
+    Reader reader = new Reader() {
+      @Override
+      public int read(char[] cbuf, int off, int len) throws IOException {
+        throw new IOException("expected");
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    try {
+      new JSONObject(reader);
+      fail();
+    }
+    catch (IOException e) {
+      assertEquals("expected", e.getMessage());
+    }
+  }
+
+  /**
+   * Parses the given input from a reader returning at most 3 characters per read, so that tokens are split across
+   * buffer windows.
+   */
+  private static Object readValue(String input) throws IOException {
+    Reader reader = new StringReader(input) {
+      @Override
+      public int read(char[] cbuf, int off, int len) throws IOException {
+        return super.read(cbuf, off, Math.min(len, 3));
+      }
+    };
+    return JSONTokener.readValue(reader);
+  }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.eclipse.scout.rt.dataobject.fixture.EntityFixtureDo;
+import org.eclipse.scout.rt.dataobject.fixture.OtherEntityFixtureDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link CompactDoEntityAttributes} and {@link DoEntityAttributeLayouts}. The compact storage must behave
+ * exactly like the {@link LinkedHashMap} used by default.
+ */
+public class CompactDoEntityAttributesTest {
+
+  private static final DoEntityAttributeLayout LAYOUT = DoEntityAttributeLayout.of(Arrays.asList("id", "name", "value", "items", "date"));
+
+  @Test
+  public void testLayout() {
+    assertEquals(5, LAYOUT.size());
+    for (int slot = 0; slot < LAYOUT.size(); slot++) {
+      assertEquals(slot, LAYOUT.indexOf(LAYOUT.nameAt(slot)));
+      assertEquals(slot, LAYOUT.indexOf(new String(LAYOUT.nameAt(slot)))); // no identity match
+    }
+    assertEquals(-1, LAYOUT.indexOf("unknown"));
+    assertEquals(-1, LAYOUT.indexOf(""));
+    assertEquals(0, DoEntityAttributeLayout.of(Arrays.asList()).size());
+    assertEquals(-1, DoEntityAttributeLayout.EMPTY.indexOf("id"));
+    assertEquals(2, DoEntityAttributeLayout.of(Arrays.asList("b", "a", "b")).size());
+  }
+
+  @Test
+  public void testInsertionOrder() {
+    CompactDoEntityAttributes attributes = new CompactDoEntityAttributes(LAYOUT);
+    attributes.put("value", DoValue.of(1));
+    attributes.put("dynamic", DoValue.of(2));
+    attributes.put("id", DoValue.of(3));
+    attributes.put("value", DoValue.of(4)); // replacing keeps the position
+    assertEquals(Arrays.asList("value", "dynamic", "id"), new ArrayList<>(attributes.keySet()));
+    assertEquals(4, attributes.get("value").get());
+
+    attributes.remove("value");
+    attributes.put("value", DoValue.of(5)); // re-adding appends
+    assertEquals(Arrays.asList("dynamic", "id", "value"), new ArrayList<>(attributes.keySet()));
+  }
+
+  @Test
+  public void testGetAndRemoveMissing() {
+    CompactDoEntityAttributes attributes = new CompactDoEntityAttributes(LAYOUT);
+    assertNull(attributes.get(null));
+    assertNull(attributes.get(42));
+    assertNull(attributes.get("id"));
+    assertNull(attributes.get("dynamic"));
+    assertFalse(attributes.containsKey("id"));
+    assertNull(attributes.remove("id"));
+    assertNull(attributes.remove("dynamic"));
+    assertNull(attributes.remove(null));
+    assertTrue(attributes.isEmpty());
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testPutNullValue() {
+    new CompactDoEntityAttributes(LAYOUT).put("id", null);
+  }
+
+  @Test
+  public void testEqualsAndHashCode() {
+    Map<String, DoNode<?>> expected = new LinkedHashMap<>();
+    CompactDoEntityAttributes actual = new CompactDoEntityAttributes(LAYOUT);
+    for (String name : Arrays.asList("name", "x", "id", "y")) {
+      expected.put(name, DoValue.of(name));
+      actual.put(name, DoValue.of(name));
+    }
+    assertEquals(expected, actual);
+    assertEquals(actual, expected);
+    assertEquals(expected.hashCode(), actual.hashCode());
+    assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+
+    actual.put("x", DoValue.of("other"));
+    assertNotEquals(expected, actual);
+    assertNotEquals(actual, expected);
+  }
+
+  @Test
+  public void testRemoveIf() {
+    CompactDoEntityAttributes attributes = new CompactDoEntityAttributes(LAYOUT);
+    for (int i = 0; i < 10; i++) {
+      attributes.put(i % 2 == 0 ? "dyn" + i : LAYOUT.nameAt(i / 2), DoValue.of(i));
+    }
+    assertTrue(attributes.values().removeIf(node -> ((Integer) node.get()) % 3 == 0));
+    assertEquals(Arrays.asList("date", "dyn2", "dyn4", "items", "name", "dyn8"), new ArrayList<>(attributes.keySet()));
+    assertFalse(attributes.values().removeIf(node -> false));
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void testConcurrentModification() {
+    CompactDoEntityAttributes attributes = new CompactDoEntityAttributes(LAYOUT);
+    attributes.put("id", DoValue.of(1));
+    attributes.put("name", DoValue.of(2));
+    Iterator<Entry<String, DoNode<?>>> it = attributes.entrySet().iterator();
+    it.next();
+    attributes.put("dynamic", DoValue.of(3));
+    it.next();
+  }
+
+  /**
+   * Applies the same random sequence of operations to a {@link LinkedHashMap} and a {@link CompactDoEntityAttributes}
+   * using a mix of declared and dynamic attributes (exercising growth and backward shift deletion of the overflow
+   * table).
+   */
+  @Test
+  public void testRandomOperationsEquivalentToLinkedHashMap() {
+    Random random = new Random(4711);
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < LAYOUT.size(); i++) {
+      names.add(LAYOUT.nameAt(i));
+    }
+    for (int i = 0; i < 40; i++) {
+      names.add("dynamic" + i);
+    }
+
+    Map<String, DoNode<?>> expected = new LinkedHashMap<>();
+    CompactDoEntityAttributes actual = new CompactDoEntityAttributes(LAYOUT);
+    for (int i = 0; i < 20000; i++) {
+      String name = names.get(random.nextInt(names.size()));
+      int op = random.nextInt(10);
+      if (op < 6) {
+        DoValue<Integer> node = DoValue.of(i);
+        assertSame(expected.put(name, node), actual.put(name, node));
+      }
+      else if (op < 9) {
+        assertSame(expected.remove(name), actual.remove(name));
+      }
+      else {
+        int threshold = random.nextInt(i + 1);
+        assertEquals(expected.values().removeIf(n -> ((Integer) n.get()) < threshold), actual.values().removeIf(n -> ((Integer) n.get()) < threshold));
+      }
+      assertEquals(expected.size(), actual.size());
+      for (String n : names) {
+        assertSame(expected.get(n), actual.get(n));
+      }
+      assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+    }
+    assertEquals(expected, actual);
+    assertEquals(expected.hashCode(), actual.hashCode());
+  }
+
+  @Test
+  public void testEntityStorage() {
+    boolean enabled = DoEntityAttributeLayouts.isCompactStorageEnabled();
+    try {
+      DoEntityAttributeLayouts.setCompactStorageEnabled(false);
+      EntityFixtureDo defaultEntity = createEntity();
+      assertTrue(DoEntityAttributeLayouts.createAttributes(EntityFixtureDo.class) instanceof LinkedHashMap);
+
+      DoEntityAttributeLayouts.setCompactStorageEnabled(true);
+      assertTrue(DoEntityAttributeLayouts.createAttributes(EntityFixtureDo.class) instanceof CompactDoEntityAttributes);
+      assertTrue(DoEntityAttributeLayouts.createAttributes(DoEntity.class) instanceof LinkedHashMap);
+      assertEquals(BEANS.get(DataObjectInventory.class).getAttributesDescription(EntityFixtureDo.class).size(), DoEntityAttributeLayouts.getLayout(EntityFixtureDo.class).size());
+
+      EntityFixtureDo compactEntity = createEntity();
+      assertEquals(defaultEntity, compactEntity);
+      assertEquals(compactEntity, defaultEntity);
+      assertEquals(defaultEntity.hashCode(), compactEntity.hashCode());
+      assertEquals(new ArrayList<>(defaultEntity.allNodes().keySet()), new ArrayList<>(compactEntity.allNodes().keySet()));
+      assertEquals("bar", compactEntity.getString("foo"));
+
+      assertTrue(compactEntity.remove("foo"));
+      assertTrue(compactEntity.removeIf(node -> "1".equals(node.get())));
+      assertEquals(Arrays.asList("otherEntity"), new ArrayList<>(compactEntity.allNodes().keySet()));
+      assertNotEquals(defaultEntity, compactEntity);
+    }
+    finally {
+      DoEntityAttributeLayouts.setCompactStorageEnabled(enabled);
+    }
+  }
+
+  protected EntityFixtureDo createEntity() {
+    EntityFixtureDo entity = BEANS.get(EntityFixtureDo.class)
+        .withOtherEntity(BEANS.get(OtherEntityFixtureDo.class))
+        .withId("1");
+    entity.put("foo", "bar");
+    return entity;
+  }
+}
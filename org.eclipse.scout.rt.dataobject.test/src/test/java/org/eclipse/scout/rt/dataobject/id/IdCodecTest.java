@@ -9,7 +9,15 @@
  */
 package org.eclipse.scout.rt.dataobject.id;
 
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.dataobject.fixture.FixtureCompositeId;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureLongId;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureStringId;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureUuId;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.TinyLfuCacheMap;
+import org.junit.Test;
 
 /**
  * Test cases for default {@link IdCodec} implementation.
@@ -20,4 +28,50 @@ public class IdCodecTest extends AbstractIdCodecTest {
   protected IdCodec getCodec() {
     return BEANS.get(IdCodec.class);
   }
+
+  @Test
+  public void testInternedIdsDisabled() {
+    String qualifiedId = "scout.FixtureUuId:" + TEST_UUID;
+    assertNull(getCodec().m_internedIds); // disabled by default
+    assertNotSame(getCodec().fromQualified(qualifiedId), getCodec().fromQualified(qualifiedId));
+  }
+
+  @Test
+  public void testInternedIds() {
+    IdCodec codec = getCodec();
+    codec.m_internedIds = new TinyLfuCacheMap<>(10);
+
+    IId uuId = codec.fromQualified("scout.FixtureUuId:" + TEST_UUID);
+    assertEquals(FixtureUuId.of(TEST_UUID), uuId);
+    assertSame(uuId, codec.fromQualified("scout.FixtureUuId:" + TEST_UUID));
+    assertSame(uuId, codec.fromUnqualified(FixtureUuId.class, TEST_UUID.toString()));
+
+    FixtureLongId longId = codec.fromUnqualified(FixtureLongId.class, "42");
+    assertEquals(FixtureLongId.of(42L), longId);
+    assertSame(longId, codec.fromUnqualified(FixtureLongId.class, "42"));
+    assertNotSame(longId, codec.fromUnqualified(FixtureLongId.class, "43"));
+
+    IId compositeId = codec.fromQualified("scout.FixtureCompositeId:foobar;" + TEST_UUID);
+    assertEquals(FixtureCompositeId.of(TEST_STRING, TEST_UUID), compositeId);
+    assertSame(compositeId, codec.fromQualified("scout.FixtureCompositeId:foobar;" + TEST_UUID));
+
+    // ids with the same unqualified value but different id classes are not mixed up
+    assertEquals(FixtureStringId.of("42"), codec.fromUnqualified(FixtureStringId.class, "42"));
+    assertEquals(5, codec.m_internedIds.size());
+
+    // null ids are not interned
+    assertNull(codec.fromQualified("scout.FixtureCompositeId:;"));
+    assertEquals(5, codec.m_internedIds.size());
+
+    // changing raw type mappers invalidates interned ids
+    codec.unregisterRawTypeMapper(FixtureIntegerRawType.class);
+    assertTrue(codec.m_internedIds.isEmpty());
+    assertNotSame(uuId, codec.fromQualified("scout.FixtureUuId:" + TEST_UUID));
+  }
+
+  /**
+   * Unregistered raw type used to trigger a mapper change.
+   */
+  private static final class FixtureIntegerRawType {
+  }
 }
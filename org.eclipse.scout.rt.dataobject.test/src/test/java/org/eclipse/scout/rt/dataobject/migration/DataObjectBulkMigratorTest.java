@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject.migration;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.migration.DataObjectMigrator.DataObjectMigratorResult;
+import org.eclipse.scout.rt.dataobject.migration.fixture.house.PostalAddressFixtureDo;
+import org.eclipse.scout.rt.dataobject.migration.fixture.house.PostalAddressFixtureUpdateVersionOnlyMigrationHandler_2;
+import org.eclipse.scout.rt.dataobject.migration.fixture.version.CharlieFixtureTypeVersions.CharlieFixture_2;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for {@link DataObjectBulkMigrator}.
+ */
+public class DataObjectBulkMigratorTest {
+
+  private static final List<IBean<?>> TEST_BEANS = new ArrayList<>();
+
+  @BeforeClass
+  public static void beforeClass() {
+    DataObjectMigrationTestHelper testHelper = BEANS.get(DataObjectMigrationTestHelper.class);
+    TestDataObjectMigrationInventory inventory = new TestDataObjectMigrationInventory(
+        testHelper.getFixtureNamespaces(),
+        testHelper.getFixtureTypeVersions(),
+        Collections.emptyList(),
+        Arrays.asList(new PostalAddressFixtureUpdateVersionOnlyMigrationHandler_2()),
+        Collections.emptyList());
+
+    TEST_BEANS.add(BEANS.get(BeanTestingHelper.class).registerBean(new BeanMetaData(TestDataObjectMigrationInventory.class, inventory).withReplace(true)));
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    BEANS.get(BeanTestingHelper.class).unregisterBeans(TEST_BEANS);
+  }
+
+  @Test
+  public void testMigrateDataObjects() {
+    DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class);
+    Map<String, DataObjectMigratorResult<PostalAddressFixtureDo>> results = new ConcurrentHashMap<>();
+    BEANS.get(DataObjectBulkMigrator.class)
+        .withParallelism(4)
+        .withProgressInterval(10)
+        .migrateDataObjects(ctx, createDocuments(100), PostalAddressFixtureDo.class, results::put);
+
+    // documents with a current type version are skipped
+    assertEquals(50, results.size());
+    for (DataObjectMigratorResult<PostalAddressFixtureDo> result : results.values()) {
+      assertTrue(result.isChanged());
+      assertTrue(result.getDataObject().getStreet().startsWith("outdated"));
+    }
+    assertEquals(50, ctx.getStats().getDataObjectsProcessedCount());
+    assertEquals(50, ctx.getStats().getDataObjectsChangedCount());
+    assertEquals(50, ctx.getStats().getDataObjectsSkippedCount());
+  }
+
+  @Test
+  public void testMigrateDataObjectsWithoutSkip() {
+    DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class);
+    Map<String, DataObjectMigratorResult<PostalAddressFixtureDo>> results = new ConcurrentHashMap<>();
+    BEANS.get(DataObjectBulkMigrator.class)
+        .withParallelism(3)
+        .withSkipUpToDate(false)
+        .migrateDataObjects(ctx, createDocuments(100), PostalAddressFixtureDo.class, results::put);
+
+    assertEquals(100, results.size());
+    assertEquals(50, results.values().stream().filter(DataObjectMigratorResult::isChanged).count());
+    assertEquals(100, ctx.getStats().getDataObjectsProcessedCount());
+    assertEquals(0, ctx.getStats().getDataObjectsSkippedCount());
+  }
+
+  /**
+   * An intermediate migration might change up-to-date documents too, thus no documents are skipped.
+   */
+  @Test
+  public void testMigrateDataObjectsWithIntermediateMigration() {
+    DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class);
+    ctx.getIntermediateMigrations().add((IDataObjectIntermediateMigration<PostalAddressFixtureDo>) (c, dataObject) -> DataObjectMigratorResult.of(dataObject.withCity("Zurich"), true));
+    Map<String, DataObjectMigratorResult<PostalAddressFixtureDo>> results = new ConcurrentHashMap<>();
+    BEANS.get(DataObjectBulkMigrator.class)
+        .withParallelism(2)
+        .migrateDataObjects(ctx, createDocuments(10), PostalAddressFixtureDo.class, results::put);
+
+    assertEquals(10, results.size());
+    assertTrue(results.values().stream().allMatch(result -> result.isChanged() && "Zurich".equals(result.getDataObject().getCity())));
+    assertEquals(0, ctx.getStats().getDataObjectsSkippedCount());
+  }
+
+  @Test
+  public void testMigrateDataObjectsInCallingThread() {
+    DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class);
+    Thread thread = Thread.currentThread();
+    List<PostalAddressFixtureDo> dataObjects = new ArrayList<>();
+    BEANS.get(DataObjectBulkMigrator.class)
+        .withParallelism(1)
+        .migrateDataObjects(ctx, createDocuments(10), PostalAddressFixtureDo.class, (json, result) -> {
+          assertSame(thread, Thread.currentThread());
+          dataObjects.add(result.getDataObject());
+        });
+
+    // sequential migration keeps the order of the documents
+    assertEquals(Arrays.asList("outdated 0", "outdated 2", "outdated 4", "outdated 6", "outdated 8"),
+        dataObjects.stream().map(PostalAddressFixtureDo::getStreet).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testMigrateDataObjectsFailure() {
+    DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class);
+    Stream<String> documents = Stream.concat(createDocuments(10), Stream.of("{invalid json"));
+    assertThrows(PlatformException.class, () -> BEANS.get(DataObjectBulkMigrator.class)
+        .withParallelism(2)
+        .migrateDataObjects(ctx, documents, PostalAddressFixtureDo.class, (json, result) -> {
+        }));
+  }
+
+  /**
+   * A worker fails while another worker is still consuming documents: the failure is thrown only after the other worker
+   * is done and the stream is not closed before.
+   */
+  @Test
+  public void testMigrateDataObjectsFailureWhileOtherWorkerRunning() {
+    DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class);
+    AtomicBoolean streamClosed = new AtomicBoolean();
+    AtomicBoolean consumerDone = new AtomicBoolean();
+    AtomicBoolean consumerCalledAfterClose = new AtomicBoolean();
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch failed = new CountDownLatch(1);
+    IllegalStateException failure = new IllegalStateException("expected failure");
+    Stream<String> documents = createDocuments(100).onClose(() -> streamClosed.set(true));
+
+    IllegalStateException e = assertThrows(IllegalStateException.class, () -> BEANS.get(DataObjectBulkMigrator.class)
+        .withParallelism(2)
+        .withSkipUpToDate(false)
+        .migrateDataObjects(ctx, documents, PostalAddressFixtureDo.class, (json, result) -> {
+          if (streamClosed.get()) {
+            consumerCalledAfterClose.set(true);
+          }
+          int call = calls.incrementAndGet();
+          if (call == 1) {
+            // slow consumer, still running when the other worker fails
+            try {
+              assertTrue(failed.await(10, TimeUnit.SECONDS));
+              Thread.sleep(200);
+            }
+            catch (InterruptedException ex) {
+              Thread.currentThread().interrupt();
+            }
+            consumerDone.set(!streamClosed.get());
+          }
+          else if (call == 2) {
+            failed.countDown();
+            throw failure;
+          }
+        }));
+
+    assertSame(failure, e);
+    assertTrue(consumerDone.get());
+    assertFalse(consumerCalledAfterClose.get());
+    assertTrue(streamClosed.get());
+  }
+
+  /**
+   * Every second document is outdated (no type version), the others are up-to-date.
+   */
+  protected Stream<String> createDocuments(int count) {
+    IDataObjectMapper mapper = BEANS.get(IDataObjectMapper.class);
+    return IntStream.range(0, count).mapToObj(i -> {
+      DoEntityBuilder builder = BEANS.get(DoEntityBuilder.class).put("_type", "charlieFixture.PostalAddressFixture");
+      if (i % 2 == 0) {
+        builder.put("street", "outdated " + i);
+      }
+      else {
+        builder.put("_typeVersion", CharlieFixture_2.VERSION.unwrap()).put("street", "current " + i);
+      }
+      IDoEntity entity = builder.build();
+      return mapper.writeValue(entity);
+    });
+  }
+}
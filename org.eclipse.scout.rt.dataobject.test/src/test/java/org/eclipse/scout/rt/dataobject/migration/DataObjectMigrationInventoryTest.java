@@ -12,6 +12,9 @@ package org.eclipse.scout.rt.dataobject.migration;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -20,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
 import org.eclipse.scout.rt.dataobject.migration.DataObjectMigrationInventory.FindNextMigrationHandlerVersionStatus;
@@ -318,6 +322,39 @@ public class DataObjectMigrationInventoryTest {
             CharlieFixture_2.VERSION));
   }
 
+  @Test
+  public void testGetStructureMigrationPlan() {
+    // charlieFixture.RoomFixture: migration handlers for charlieFixture-2 up to charlieFixture-5
+    DoStructureMigrationPlan plan = s_inventory.getStructureMigrationPlan("charlieFixture.RoomFixture", CharlieFixture_2.VERSION);
+    assertEquals("charlieFixture.RoomFixture", plan.getTypeName());
+    assertEquals(CharlieFixture_2.VERSION, plan.getTypeVersion());
+    assertEquals(CharlieFixture_3.VERSION, plan.getNextVersion());
+    assertEquals(Arrays.asList(CharlieFixture_3.VERSION, CharlieFixture_4.VERSION, CharlieFixture_5.VERSION), plan.getVersions());
+    assertEquals(Arrays.asList(RoomFixtureDoStructureMigrationHandler_3.class, RoomFixtureDoStructureMigrationHandler_4.class, RoomFixtureDoStructureMigrationHandler_5.class),
+        plan.getMigrationHandlers().stream().map(Object::getClass).collect(Collectors.toList()));
+    assertSame(plan, s_inventory.getStructureMigrationPlan("charlieFixture.RoomFixture", CharlieFixture_2.VERSION)); // cached
+    assertTrue(s_inventory.getCachedStructureMigrationPlans().contains(plan));
+
+    // versions contain versions with migration handlers for other type names too
+    plan = s_inventory.getStructureMigrationPlan("charlieFixture.RoomFixture", null);
+    assertEquals(Arrays.asList(CharlieFixture_2.VERSION, BravoFixture_3.VERSION, CharlieFixture_3.VERSION, CharlieFixture_4.VERSION, CharlieFixture_5.VERSION), plan.getVersions());
+    assertEquals(4, plan.getMigrationHandlers().size());
+
+    // current type version
+    plan = s_inventory.getStructureMigrationPlan("charlieFixture.RoomFixture", CharlieFixture_5.VERSION);
+    assertNull(plan.getNextVersion());
+    assertTrue(plan.getVersions().isEmpty());
+    assertTrue(plan.getMigrationHandlers().isEmpty());
+
+    // unknown type name and unknown type version are not cached
+    plan = s_inventory.getStructureMigrationPlan("lorem.Ipsum", CharlieFixture_1.VERSION);
+    assertNull(plan.getNextVersion());
+    assertNotSame(plan, s_inventory.getStructureMigrationPlan("lorem.Ipsum", CharlieFixture_1.VERSION));
+    plan = s_inventory.getStructureMigrationPlan("charlieFixture.RoomFixture", AlfaFixture_7.VERSION);
+    assertNull(plan.getNextVersion());
+    assertFalse(s_inventory.getCachedStructureMigrationPlans().contains(plan));
+  }
+
   @Test
   public void testGetStructureMigrationHandlers() {
     assertThrows(AssertionException.class, () -> s_inventory.getStructureMigrationHandlers(null));
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Attribute storage of a {@link DoEntity} with a fixed {@link DoEntityAttributeLayout}.
+ * <p>
+ * Nodes of declared attributes are stored in a slot array indexed by the layout, dynamic attributes (not declared by an
+ * accessor method of the entity class) are stored in a lazily created open addressing overflow table. The insertion
+ * order of all attributes is tracked separately, thus iteration order, {@link #equals(Object)} and
+ * {@link #hashCode()} behave exactly like the {@link java.util.LinkedHashMap} used by default.
+ * <p>
+ * This map does not permit {@code null} keys or values and is not thread-safe.
+ *
+ * @since 24.2
+ */
+final class CompactDoEntityAttributes extends AbstractMap<String, DoNode<?>> {
+
+  private static final String[] NO_NAMES = new String[0];
+  private static final int INITIAL_OVERFLOW_CAPACITY = 4;
+
+  private final DoEntityAttributeLayout m_layout;
+  private final DoNode<?>[] m_slots;
+
+  private String[] m_order = NO_NAMES; // attribute names in insertion order
+  private int m_size;
+  private int m_modCount;
+
+  private String[] m_overflowNames; // lazy init, dynamic attributes are used rarely
+  private DoNode<?>[] m_overflowNodes;
+  private int m_overflowSize;
+
+  private Set<Entry<String, DoNode<?>>> m_entrySet;
+
+  CompactDoEntityAttributes(DoEntityAttributeLayout layout) {
+    m_layout = layout;
+    m_slots = new DoNode<?>[layout.size()];
+  }
+
+  DoEntityAttributeLayout getLayout() {
+    return m_layout;
+  }
+
+  @Override
+  public int size() {
+    return m_size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public DoNode<?> get(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    String name = (String) key;
+    int slot = m_layout.indexOf(name);
+    if (slot >= 0) {
+      return m_slots[slot];
+    }
+    int i = overflowIndexOf(name);
+    return i < 0 ? null : m_overflowNodes[i];
+  }
+
+  @Override
+  public DoNode<?> put(String key, DoNode<?> value) {
+    assertNotNull(key);
+    assertNotNull(value);
+    DoNode<?> previous;
+    int slot = m_layout.indexOf(key);
+    if (slot >= 0) {
+      previous = m_slots[slot];
+      m_slots[slot] = value;
+    }
+    else {
+      previous = overflowPut(key, value);
+    }
+    if (previous == null) {
+      appendName(slot >= 0 ? m_layout.nameAt(slot) : key);
+    }
+    return previous;
+  }
+
+  @Override
+  public DoNode<?> remove(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    String name = (String) key;
+    DoNode<?> previous;
+    int slot = m_layout.indexOf(name);
+    if (slot >= 0) {
+      previous = m_slots[slot];
+      m_slots[slot] = null;
+    }
+    else {
+      int i = overflowIndexOf(name);
+      previous = i < 0 ? null : overflowRemoveAt(i);
+    }
+    if (previous != null) {
+      removeName(name);
+    }
+    return previous;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(m_slots, null);
+    Arrays.fill(m_order, 0, m_size, null);
+    m_size = 0;
+    m_overflowNames = null;
+    m_overflowNodes = null;
+    m_overflowSize = 0;
+    m_modCount++;
+  }
+
+  @Override
+  public Set<Entry<String, DoNode<?>>> entrySet() {
+    if (m_entrySet == null) {
+      m_entrySet = new P_EntrySet();
+    }
+    return m_entrySet;
+  }
+
+  // ------- insertion order ------- //
+
+  private void appendName(String name) {
+    if (m_size == m_order.length) {
+      m_order = Arrays.copyOf(m_order, Math.max(m_size * 2, Math.max(m_slots.length, 2)));
+    }
+    m_order[m_size++] = name;
+    m_modCount++;
+  }
+
+  private void removeName(String name) {
+    for (int i = 0; i < m_size; i++) {
+      if (m_order[i].equals(name)) {
+        System.arraycopy(m_order, i + 1, m_order, i, m_size - i - 1);
+        m_order[--m_size] = null;
+        m_modCount++;
+        return;
+      }
+    }
+  }
+
+  // ------- overflow table for dynamic attributes ------- //
+
+  private int overflowIndexOf(String name) {
+    if (m_overflowNames == null) {
+      return -1;
+    }
+    int mask = m_overflowNames.length - 1;
+    int i = DoEntityAttributeLayout.spread(name.hashCode()) & mask;
+    for (String candidate = m_overflowNames[i]; candidate != null; candidate = m_overflowNames[i]) {
+      if (candidate.equals(name)) {
+        return i;
+      }
+      i = (i + 1) & mask;
+    }
+    return -1;
+  }
+
+  private DoNode<?> overflowPut(String name, DoNode<?> node) {
+    int i = overflowIndexOf(name);
+    if (i >= 0) {
+      DoNode<?> previous = m_overflowNodes[i];
+      m_overflowNodes[i] = node;
+      return previous;
+    }
+    if (m_overflowNames == null) {
+      m_overflowNames = new String[INITIAL_OVERFLOW_CAPACITY];
+      m_overflowNodes = new DoNode<?>[INITIAL_OVERFLOW_CAPACITY];
+    }
+    else if ((m_overflowSize + 1) * 2 > m_overflowNames.length) {
+      overflowResize(m_overflowNames.length * 2);
+    }
+    overflowInsert(name, node);
+    m_overflowSize++;
+    return null;
+  }
+
+  private void overflowInsert(String name, DoNode<?> node) {
+    int mask = m_overflowNames.length - 1;
+    int i = DoEntityAttributeLayout.spread(name.hashCode()) & mask;
+    while (m_overflowNames[i] != null) {
+      i = (i + 1) & mask;
+    }
+    m_overflowNames[i] = name;
+    m_overflowNodes[i] = node;
+  }
+
+  private void overflowResize(int capacity) {
+    String[] names = m_overflowNames;
+    DoNode<?>[] nodes = m_overflowNodes;
+    m_overflowNames = new String[capacity];
+    m_overflowNodes = new DoNode<?>[capacity];
+    for (int i = 0; i < names.length; i++) {
+      if (names[i] != null) {
+        overflowInsert(names[i], nodes[i]);
+      }
+    }
+  }
+
+  /**
+   * Removes the entry at bucket {@code i} and shifts back subsequent entries of the same probe sequence, so that no
+   * tombstones are required.
+   */
+  private DoNode<?> overflowRemoveAt(int i) {
+    DoNode<?> previous = m_overflowNodes[i];
+    int mask = m_overflowNames.length - 1;
+    int free = i;
+    for (int j = (i + 1) & mask; m_overflowNames[j] != null; j = (j + 1) & mask) {
+      int home = DoEntityAttributeLayout.spread(m_overflowNames[j].hashCode()) & mask;
+      // move entry j into the free bucket unless its home bucket lies cyclically within (free, j]
+      boolean reachable = free <= j ? (free < home && home <= j) : (free < home || home <= j);
+      if (!reachable) {
+        m_overflowNames[free] = m_overflowNames[j];
+        m_overflowNodes[free] = m_overflowNodes[j];
+        free = j;
+      }
+    }
+    m_overflowNames[free] = null;
+    m_overflowNodes[free] = null;
+    m_overflowSize--;
+    return previous;
+  }
+
+  // ------- views ------- //
+
+  private final class P_EntrySet extends AbstractSet<Entry<String, DoNode<?>>> {
+
+    @Override
+    public Iterator<Entry<String, DoNode<?>>> iterator() {
+      return new P_EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return m_size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Entry<?, ?> entry = (Entry<?, ?>) o;
+      DoNode<?> node = get(entry.getKey());
+      return node != null && node.equals(entry.getValue());
+    }
+
+    @Override
+    public void clear() {
+      CompactDoEntityAttributes.this.clear();
+    }
+  }
+
+  private final class P_EntryIterator implements Iterator<Entry<String, DoNode<?>>> {
+
+    private int m_next;
+    private String m_lastReturned;
+    private int m_expectedModCount = m_modCount;
+
+    @Override
+    public boolean hasNext() {
+      return m_next < m_size;
+    }
+
+    @Override
+    public Entry<String, DoNode<?>> next() {
+      if (m_expectedModCount != m_modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (m_next >= m_size) {
+        throw new NoSuchElementException();
+      }
+      String name = m_order[m_next++];
+      m_lastReturned = name;
+      return new SimpleImmutableEntry<>(name, get(name));
+    }
+
+    @Override
+    public void remove() {
+      if (m_lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      if (m_expectedModCount != m_modCount) {
+        throw new ConcurrentModificationException();
+      }
+      CompactDoEntityAttributes.this.remove(m_lastReturned);
+      m_lastReturned = null;
+      m_next--;
+      m_expectedModCount = m_modCount;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable mapping of the declared attribute names of a {@link DoEntity} class to fixed slot indices. A layout is
+ * derived once per entity class and shared by all {@link CompactDoEntityAttributes} instances of that class.
+ *
+ * @since 24.2
+ */
+final class DoEntityAttributeLayout {
+
+  static final DoEntityAttributeLayout EMPTY = new DoEntityAttributeLayout(new String[0]);
+
+  private final String[] m_names;
+  private final int[] m_table; // open addressing table with slot index + 1, 0 marks a free bucket
+  private final int m_mask;
+
+  private DoEntityAttributeLayout(String[] names) {
+    m_names = names;
+    int capacity = tableSizeFor(names.length);
+    m_table = new int[capacity];
+    m_mask = capacity - 1;
+    for (int slot = 0; slot < names.length; slot++) {
+      int i = spread(names[slot].hashCode()) & m_mask;
+      while (m_table[i] != 0) {
+        i = (i + 1) & m_mask;
+      }
+      m_table[i] = slot + 1;
+    }
+  }
+
+  /**
+   * Creates a layout for the given attribute names. Slots are assigned in lexicographic order of the names, thus the
+   * layout does not depend on the iteration order of {@code attributeNames}.
+   */
+  static DoEntityAttributeLayout of(Collection<String> attributeNames) {
+    if (attributeNames.isEmpty()) {
+      return EMPTY;
+    }
+    String[] names = attributeNames.stream()
+        .distinct()
+        .sorted()
+        .map(String::intern) // attribute names in accessor methods are literals, allows identity check in indexOf
+        .toArray(String[]::new);
+    return new DoEntityAttributeLayout(names);
+  }
+
+  /**
+   * @return number of slots
+   */
+  int size() {
+    return m_names.length;
+  }
+
+  /**
+   * @return attribute name of the given slot
+   */
+  String nameAt(int slot) {
+    return m_names[slot];
+  }
+
+  /**
+   * @return slot index of the given attribute name or {@code -1} if the attribute is not part of this layout.
+   */
+  int indexOf(String name) {
+    if (m_names.length == 0) {
+      return -1;
+    }
+    int i = spread(name.hashCode()) & m_mask;
+    for (int entry = m_table[i]; entry != 0; entry = m_table[i]) {
+      String candidate = m_names[entry - 1];
+      if (candidate == name || candidate.equals(name)) {
+        return entry - 1;
+      }
+      i = (i + 1) & m_mask;
+    }
+    return -1;
+  }
+
+  static int spread(int h) {
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * @return power of two table size keeping the load factor at or below 0.5
+   */
+  static int tableSizeFor(int size) {
+    int capacity = 2;
+    while (capacity < size * 2) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + Arrays.toString(m_names);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+
+/**
+ * Creates the attribute storage of {@link DoEntity} instances.
+ * <p>
+ * By default, a {@link LinkedHashMap} is used. If {@link CompactDoEntityStorageProperty} is enabled, entity classes
+ * declaring attribute accessor methods use a {@link CompactDoEntityAttributes} storage instead, based on a
+ * {@link DoEntityAttributeLayout} derived once per class from the {@link DataObjectInventory}. The compact storage is
+ * only used while the platform is running, entities created before use the default storage. Both storages are
+ * interchangeable regarding {@link DoEntity#equals(Object)}, {@link DoEntity#hashCode()} and iteration order.
+ *
+ * @since 24.2
+ */
+public final class DoEntityAttributeLayouts {
+
+  private static final Map<Class<?>, DoEntityAttributeLayout> LAYOUTS = new ConcurrentHashMap<>();
+  private static volatile boolean s_compactStorageEnabled;
+
+  private DoEntityAttributeLayouts() {
+  }
+
+  /**
+   * @return new attribute storage for an entity of the given class
+   */
+  static Map<String, DoNode<?>> createAttributes(Class<? extends DoEntity> entityClass) {
+    if (!s_compactStorageEnabled || entityClass == DoEntity.class) {
+      return new LinkedHashMap<>();
+    }
+    DoEntityAttributeLayout layout = getLayout(entityClass);
+    if (layout.size() == 0) {
+      return new LinkedHashMap<>();
+    }
+    return new CompactDoEntityAttributes(layout);
+  }
+
+  static DoEntityAttributeLayout getLayout(Class<? extends DoEntity> entityClass) {
+    DoEntityAttributeLayout layout = LAYOUTS.get(entityClass);
+    if (layout != null) {
+      return layout;
+    }
+    return LAYOUTS.computeIfAbsent(entityClass, c -> DoEntityAttributeLayout.of(BEANS.get(DataObjectInventory.class).getAttributesDescription(entityClass).keySet()));
+  }
+
+  static boolean isCompactStorageEnabled() {
+    return s_compactStorageEnabled;
+  }
+
+  static void setCompactStorageEnabled(boolean enabled) {
+    s_compactStorageEnabled = enabled;
+    if (!enabled) {
+      LAYOUTS.clear();
+    }
+  }
+
+  /**
+   * Enables the compact storage according to {@link CompactDoEntityStorageProperty} once the bean manager is valid and
+   * releases all cached layouts when the platform is stopping.
+   */
+  public static class PlatformListener implements IPlatformListener {
+
+    @Override
+    public void stateChanged(PlatformEvent event) {
+      if (event.getState() == State.BeanManagerValid) {
+        setCompactStorageEnabled(CONFIG.getPropertyValue(CompactDoEntityStorageProperty.class));
+      }
+      else if (event.getState() == State.PlatformStopping) {
+        setCompactStorageEnabled(false);
+      }
+    }
+  }
+
+  public static class CompactDoEntityStorageProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.dataobject.compactEntityStorage";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether data objects declaring attribute accessor methods store their attributes in a compact slot based structure instead of a linked hash map. "
+          + "Reduces the heap footprint and the allocations of data objects. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+}
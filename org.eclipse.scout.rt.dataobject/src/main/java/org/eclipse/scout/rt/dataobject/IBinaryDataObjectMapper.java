@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+/**
+ * Interface to a data mapper that uses a binary format instead of JSON text for read and write methods.
+ * <p>
+ * The string based methods {@link #readValue(String, Class)}, {@link #readValueRaw(String)} and
+ * {@link #writeValue(Object)} use the Base64 representation of the binary content.
+ *
+ * @see IDataObjectMapper
+ * @since 24.2
+ */
+public interface IBinaryDataObjectMapper extends IDataObjectMapper {
+
+  /**
+   * @return media type of the binary format (e.g. to be used for content negotiation)
+   */
+  String getMediaType();
+
+  /**
+   * Deserialize binary content into a data object.
+   */
+  <T> T readValue(byte[] value, Class<T> valueType);
+
+  /**
+   * Deserialize binary content into a generic {@link IDataObject} object tree ignoring any available type attributes.
+   */
+  IDataObject readValueRaw(byte[] value);
+
+  /**
+   * Serializes a data object into its binary representation.
+   */
+  byte[] writeValueAsBytes(Object value);
+}
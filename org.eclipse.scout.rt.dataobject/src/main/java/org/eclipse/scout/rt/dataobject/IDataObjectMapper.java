@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.dataobject;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.function.Consumer;
 
 import org.eclipse.scout.rt.platform.Bean;
 
@@ -46,6 +47,36 @@ public interface IDataObjectMapper {
    */
   IDataObject readValueRaw(String value);
 
+  /**
+   * Deserializes the elements of a top-level JSON array one at a time and passes each element to the given consumer.
+   * In contrast to {@link #readValue(InputStream, Class)} with a {@link DoList}, the complete list is never held in
+   * memory. Each element is deserialized with the same type resolution as {@link #readValue(InputStream, Class)} (e.g.
+   * using the type attribute of a data object).
+   * <p>
+   * The input stream is closed when this method returns.
+   *
+   * @return number of elements passed to the consumer
+   * @since 24.2
+   */
+  default <T> long readElements(InputStream inputStream, Class<T> elementType, Consumer<? super T> consumer) {
+    return readElements(inputStream, null, elementType, consumer);
+  }
+
+  /**
+   * Deserializes the elements of the array-valued attribute {@code attributeName} of a top-level JSON object (e.g. a
+   * {@link DoList} attribute of a {@link DoEntity}) one at a time and passes each element to the given consumer. All
+   * other attributes of the top-level object are skipped. If {@code attributeName} is {@code null}, the top-level
+   * value must be an array (see {@link #readElements(InputStream, Class, Consumer)}).
+   * <p>
+   * The input stream is closed when this method returns.
+   *
+   * @return number of elements passed to the consumer, {@code 0} if the attribute is missing or {@code null}
+   * @since 24.2
+   */
+  default <T> long readElements(InputStream inputStream, String attributeName, Class<T> elementType, Consumer<? super T> consumer) {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Serializes a data object into the given output stream.
    */
@@ -27,17 +27,21 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.TinyLfuCacheMap;
+import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.ImmutablePair;
 import org.eclipse.scout.rt.platform.util.LazyValue;
+import org.eclipse.scout.rt.platform.util.Pair;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 
 /**
@@ -48,6 +52,8 @@ public class IdCodec {
 
   protected static final String ID_TYPENAME_DELIMITER = ":";
   protected static final String SIGNATURE_DELIMITER = "###";
+  protected static final Pattern SIGNATURE_DELIMITER_PATTERN = Pattern.compile(Pattern.quote(SIGNATURE_DELIMITER));
+  protected static final char COMPONENT_DELIMITER = ';';
 
   protected final LazyValue<IdFactory> m_idFactory = new LazyValue<>(IdFactory.class);
   protected final LazyValue<IdInventory> m_idInventory = new LazyValue<>(IdInventory.class);
@@ -55,6 +61,12 @@ public class IdCodec {
   protected final Map<Class<?>, Function<String, Object>> m_rawTypeFromStringMapper = new HashMap<>();
   protected final Map<Class<?>, Function<Object, String>> m_rawTypeToStringMapper = new HashMap<>();
 
+  /**
+   * Bounded cache of parsed ids by id class and unsigned unqualified id or <code>null</code> if disabled (see
+   * {@link IdCodecInternCacheSizeProperty}).
+   */
+  protected Map<Pair<Class<? extends IId>, String>, IId> m_internedIds;
+
   /**
    * Interface for flags used to parametrize conversion between {@link IId} instances and their qualified/unqualified
    * representation as {@link String}. This interface is used for all method declarations and allows extension of the
@@ -86,6 +98,9 @@ public class IdCodec {
     registerRawTypeMapper(Integer.class, Integer::parseInt, Object::toString);
     registerRawTypeMapper(Date.class, d -> new Date(Long.parseLong(d)), d -> String.valueOf(d.getTime()));
     registerRawTypeMapper(Locale.class, Locale::forLanguageTag, Locale::toLanguageTag);
+
+    int internCacheSize = CONFIG.getPropertyValue(IdCodecInternCacheSizeProperty.class);
+    m_internedIds = internCacheSize > 0 ? new TinyLfuCacheMap<>(internCacheSize) : null;
   }
 
   protected IdFactory idFactory() {
@@ -161,13 +176,23 @@ public class IdCodec {
     else if (id instanceof ICompositeId) {
       List<? extends IId> components = ((ICompositeId) id).unwrap();
       // remove signature flag as composites are signed as one and not part by part
-      Set<IIdCodecFlag> flagsWithoutSignature = flags.stream()
-          .filter(Predicate.not(IdCodecFlag.SIGNATURE::equals))
-          .collect(Collectors.toSet());
-      return addSignature(id.getClass(), components.stream()
-          .map(comp -> toUnqualified(comp, flagsWithoutSignature))
-          .map(s -> s == null ? "" : s) // empty string if component is null just in case of composite id
-          .collect(Collectors.joining(";")), flags);
+      Set<IIdCodecFlag> flagsWithoutSignature = flags;
+      if (isOneOf(IdCodecFlag.SIGNATURE, flags)) {
+        flagsWithoutSignature = flags.stream()
+            .filter(flag -> flag != IdCodecFlag.SIGNATURE)
+            .collect(Collectors.toSet());
+      }
+      StringBuilder sb = new StringBuilder();
+      for (int i = 0; i < components.size(); i++) {
+        if (i > 0) {
+          sb.append(COMPONENT_DELIMITER);
+        }
+        String unqualifiedComponent = toUnqualified(components.get(i), flagsWithoutSignature);
+        if (unqualifiedComponent != null) { // empty string if component is null just in case of composite id
+          sb.append(unqualifiedComponent);
+        }
+      }
+      return addSignature(id.getClass(), sb.toString(), flags);
     }
     else if (id instanceof UnknownId) {
       return addSignature(UnknownId.class, ((UnknownId) id).getId(), flags);
@@ -274,6 +299,7 @@ public class IdCodec {
     //noinspection unchecked
     m_rawTypeToStringMapper.put(rawType, (Function<Object, String>) toStringMapper);
     m_rawTypeFromStringMapper.put(rawType, fromStringMapper);
+    clearInternedIds();
   }
 
   /**
@@ -286,6 +312,17 @@ public class IdCodec {
   public void unregisterRawTypeMapper(Class<?> rawType) {
     m_rawTypeToStringMapper.remove(rawType);
     m_rawTypeFromStringMapper.remove(rawType);
+    clearInternedIds();
+  }
+
+  /**
+   * Removes all ids from the intern cache (see {@link IdCodecInternCacheSizeProperty}).
+   */
+  public void clearInternedIds() {
+    Map<Pair<Class<? extends IId>, String>, IId> internedIds = m_internedIds;
+    if (internedIds != null) {
+      internedIds.clear();
+    }
   }
 
   // ---------------- helper methods ----------------
@@ -310,8 +347,8 @@ public class IdCodec {
       return null;
     }
     boolean lenient = isOneOf(IdCodecFlag.LENIENT, flags);
-    String[] tmp = qualifiedId.split(ID_TYPENAME_DELIMITER, 2); // split into at most two parts
-    if (tmp.length < 2) { // no ":" found
+    int delimiterIndex = qualifiedId.indexOf(ID_TYPENAME_DELIMITER); // split into at most two parts
+    if (delimiterIndex < 0) { // no ":" found
       if (lenient) {
         //noinspection deprecation
         return UnknownId.of(null, qualifiedId);
@@ -320,12 +357,13 @@ public class IdCodec {
         throw new IdCodecException("Qualified id '{}' format is invalid", qualifiedId);
       }
     }
-    String typeName = tmp[0];
+    String typeName = qualifiedId.substring(0, delimiterIndex);
+    String unqualifiedId = qualifiedId.substring(delimiterIndex + ID_TYPENAME_DELIMITER.length());
     Class<? extends IId> idClass = idInventory().getIdClass(typeName);
     if (idClass == null) {
       if (lenient) {
         //noinspection deprecation
-        return UnknownId.of(typeName, tmp[1]);
+        return UnknownId.of(typeName, unqualifiedId);
       }
       else {
         throw new IdCodecException("No class found for type name '{}'", typeName);
@@ -333,13 +371,13 @@ public class IdCodec {
     }
 
     try {
-      return fromUnqualified(idClass, tmp[1], flags);
+      return fromUnqualified(idClass, unqualifiedId, flags);
     }
     catch (Exception e) {
       // handle any deserialization issues in lenient mode by retaining the raw id as UnknownId instance
       if (lenient) {
         //noinspection deprecation
-        return UnknownId.of(typeName, tmp[1]);
+        return UnknownId.of(typeName, unqualifiedId);
       }
       throw e;
     }
@@ -355,11 +393,41 @@ public class IdCodec {
    */
   protected <ID extends IId> ID fromUnqualifiedUnchecked(Class<ID> idClass, String unqualifiedId, Set<IIdCodecFlag> flags) {
     unqualifiedId = removeSignature(idClass, unqualifiedId, flags);
-    String[] rawComponents = unqualifiedId.split(";", -1 /* force empty strings for empty components */);
+    Map<Pair<Class<? extends IId>, String>, IId> internedIds = m_internedIds;
+    if (internedIds == null) {
+      return parseUnsigned(idClass, unqualifiedId, flags);
+    }
+
+    Pair<Class<? extends IId>, String> key = ImmutablePair.of(idClass, unqualifiedId);
+    IId id = internedIds.get(key);
+    if (id == null) {
+      id = parseUnsigned(idClass, unqualifiedId, flags);
+      if (id != null) {
+        internedIds.put(key, id);
+      }
+    }
+    return idClass.cast(id);
+  }
+
+  /**
+   * Parses a string in the format {@code [raw-id;raw-id;...]} without a signature.
+   */
+  protected <ID extends IId> ID parseUnsigned(Class<ID> idClass, String unqualifiedId, Set<IIdCodecFlag> flags) {
+    String[] rawComponents = splitToComponents(unqualifiedId);
     Object[] components = parseComponents(idClass, rawComponents, flags);
     return idFactory().createInternal(idClass, components);
   }
 
+  /**
+   * Split the given unqualifiedId into its raw components using ';' (empty strings are retained for empty components).
+   */
+  protected String[] splitToComponents(String unqualifiedId) {
+    if (unqualifiedId.indexOf(COMPONENT_DELIMITER) < 0) {
+      return new String[]{unqualifiedId};
+    }
+    return unqualifiedId.split(";", -1 /* force empty strings for empty components */);
+  }
+
   /**
    * Removes the signature of the given unqualifiedId iff
    * <ul>
@@ -406,7 +474,10 @@ public class IdCodec {
    * Split the given unqualifiedId into id and signature using the {@link #SIGNATURE_DELIMITER}.
    */
   protected String[] splitToSignatureParts(String unqualifiedId) {
-    return unqualifiedId.split(SIGNATURE_DELIMITER);
+    if (!unqualifiedId.contains(SIGNATURE_DELIMITER)) {
+      return new String[]{unqualifiedId};
+    }
+    return SIGNATURE_DELIMITER_PATTERN.split(unqualifiedId);
   }
 
   /**
@@ -453,4 +524,23 @@ public class IdCodec {
       return "Password to create signatures for ids that are serialized or deserialized. The value of this password must be equal for all parts of an application.";
     }
   }
+
+  public static class IdCodecInternCacheSizeProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.idCodec.internCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of ids parsed by the IdCodec which are kept in a cache and returned as the same instance when parsed again. "
+          + "Reduces the parsing costs and allocations for frequently used ids. The default value is 0 (no cache).";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 0;
+    }
+  }
 }
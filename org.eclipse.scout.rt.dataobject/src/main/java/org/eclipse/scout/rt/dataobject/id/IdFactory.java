@@ -11,6 +11,9 @@ package org.eclipse.scout.rt.dataobject.id;
 
 import static org.eclipse.scout.rt.platform.util.Assertions.assertTrue;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
@@ -32,6 +35,7 @@ public class IdFactory {
 
   protected final ConcurrentMap<Class<? extends IId>, Method> m_ofMethodsByIdType = new ConcurrentHashMap<>();
   protected final ConcurrentMap<Class<? extends IId>, List<Class<?>>> m_rawTypesByIdType = new ConcurrentHashMap<>();
+  protected final ConcurrentMap<Class<? extends IId>, MethodHandle> m_createHandlesByIdType = new ConcurrentHashMap<>();
 
   /**
    * Creates a new wrapped {@link IId} by calling the <code>of(values)</code> method of the given id class.
@@ -45,10 +49,10 @@ public class IdFactory {
    */
   public <ID extends IId> ID createInternal(Class<ID> idClass, Object... values) {
     try {
-      Method createMethod = lookupCreateMethod(idClass);
-      return idClass.cast(createMethod.invoke(null, values));
+      MethodHandle createHandle = lookupCreateHandle(idClass);
+      return idClass.cast((Object) createHandle.invokeExact(values));
     }
-    catch (Exception e) {
+    catch (Throwable e) { // NOSONAR invokeExact declares Throwable, errors are rethrown by the translator
       throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
           .withContextInfo("idClass", idClass.getName())
           .withContextInfo("values", Arrays.toString(values));
@@ -72,6 +76,30 @@ public class IdFactory {
     return m_ofMethodsByIdType.computeIfAbsent(idClass, this::findOfByTypesMethod);
   }
 
+  /**
+   * @return compiled handle of the <code>of(values)</code> method of the given id class with type
+   *         <code>(Object[])Object</code>, the values array is spread to the parameters of the method
+   */
+  protected MethodHandle lookupCreateHandle(Class<? extends IId> idClass) {
+    MethodHandle createHandle = m_createHandlesByIdType.get(idClass);
+    if (createHandle != null) {
+      return createHandle;
+    }
+    return m_createHandlesByIdType.computeIfAbsent(idClass, this::createCreateHandle);
+  }
+
+  protected MethodHandle createCreateHandle(Class<? extends IId> idClass) {
+    Method createMethod = lookupCreateMethod(idClass);
+    try {
+      return MethodHandles.publicLookup().unreflect(createMethod)
+          .asSpreader(Object[].class, createMethod.getParameterCount())
+          .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+    catch (IllegalAccessException e) {
+      throw new PlatformException("Cannot access method {} on id class {}.", createMethod, idClass.getName(), e);
+    }
+  }
+
   protected Method findOfByTypesMethod(Class<? extends IId> idClass) {
     // (1) look for method annotated by @RawTypes
     for (Method m : idClass.getMethods()) {
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject.migration;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.migration.DataObjectMigrator.DataObjectMigratorResult;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.namespace.NamespaceVersion;
+
+/**
+ * Migrates a stream of persisted raw data objects in parallel using {@link DataObjectMigrator}.
+ * <p>
+ * The documents are distributed to {@link #withParallelism(int)} workers, each running in its own job and using its
+ * own copy of the {@link DataObjectMigrationContext} (global context data such as
+ * {@link DataObjectMigrationStatsContextData} is shared, thus the stats of all workers are merged). Documents whose
+ * type versions are already up-to-date are skipped without any further processing if no value migrations and
+ * intermediate migrations are pending (see {@link #withSkipUpToDate(boolean)}). Every
+ * {@link #withProgressInterval(long)} documents the progress and throughput is logged using
+ * {@link DataObjectMigrationContext#getLogger()}.
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * DataObjectMigrationContext ctx = BEANS.get(DataObjectMigrationContext.class);
+ * BEANS.get(DataObjectBulkMigrator.class)
+ *     .withParallelism(8)
+ *     .migrateDataObjects(ctx, rows, Row::getJson, ExampleDo.class, (row, result) -&gt; {
+ *       if (result.isChanged()) {
+ *         update(row, result.getDataObject());
+ *       }
+ *     });
+ * ctx.getStats().printStats("example", null);
+ * </pre>
+ *
+ * @since 24.2
+ */
+@Bean
+public class DataObjectBulkMigrator {
+
+  public static final long DEFAULT_PROGRESS_INTERVAL = 10_000;
+
+  private int m_parallelism = Runtime.getRuntime().availableProcessors();
+  private long m_progressInterval = DEFAULT_PROGRESS_INTERVAL;
+  private boolean m_skipUpToDate = true;
+  private NamespaceVersion m_toVersion;
+
+  /**
+   * @param parallelism
+   *          Number of workers migrating documents concurrently. With a value of {@code 1}, documents are migrated in
+   *          the calling thread. Default is the number of available processors.
+   */
+  public DataObjectBulkMigrator withParallelism(int parallelism) {
+    assertTrue(parallelism > 0, "parallelism must be > 0");
+    m_parallelism = parallelism;
+    return this;
+  }
+
+  public int getParallelism() {
+    return m_parallelism;
+  }
+
+  /**
+   * @param progressInterval
+   *          Number of documents after which the progress is logged, {@code 0} to disable progress logging. Default is
+   *          {@value #DEFAULT_PROGRESS_INTERVAL}.
+   */
+  public DataObjectBulkMigrator withProgressInterval(long progressInterval) {
+    assertTrue(progressInterval >= 0, "progressInterval must be >= 0");
+    m_progressInterval = progressInterval;
+    return this;
+  }
+
+  public long getProgressInterval() {
+    return m_progressInterval;
+  }
+
+  /**
+   * @param skipUpToDate
+   *          {@code true} to skip documents whose type versions are already up-to-date (default). Skipped documents are
+   *          not passed to the result consumer and are counted in
+   *          {@link DataObjectMigrationStatsContextData#getDataObjectsSkippedCount()}.
+   */
+  public DataObjectBulkMigrator withSkipUpToDate(boolean skipUpToDate) {
+    m_skipUpToDate = skipUpToDate;
+    return this;
+  }
+
+  public boolean isSkipUpToDate() {
+    return m_skipUpToDate;
+  }
+
+  /**
+   * <b>ATTENTION:</b> Only use this for tests and very special cases (see
+   * {@link DataObjectMigrator#migrateDataObject(DataObjectMigrationContext, IDataObject, Class, NamespaceVersion, List, List)}).
+   *
+   * @param toVersion
+   *          Version to migrate to, {@code null} to migrate to the latest version (default).
+   */
+  public DataObjectBulkMigrator withToVersion(NamespaceVersion toVersion) {
+    m_toVersion = toVersion;
+    return this;
+  }
+
+  public NamespaceVersion getToVersion() {
+    return m_toVersion;
+  }
+
+  /**
+   * Migrates the given documents provided as JSON.
+   *
+   * @see #migrateDataObjects(DataObjectMigrationContext, Stream, Function, Class, BiConsumer)
+   */
+  public <T extends IDataObject> void migrateDataObjects(DataObjectMigrationContext ctx, Stream<String> documents, Class<T> valueType, BiConsumer<String, DataObjectMigratorResult<T>> resultConsumer) {
+    migrateDataObjects(ctx, documents, Function.identity(), valueType, resultConsumer);
+  }
+
+  /**
+   * Migrates the given documents and passes each result to the given consumer.
+   * <p>
+   * The documents are consumed one by one (sequentially) from the stream, thus the stream is not required to be
+   * thread-safe. The JSON function and the result consumer are called by the worker threads and must therefore be
+   * thread-safe. Workers run in a copy of the current {@link RunContext}. If the migration of a document fails, no
+   * further documents are migrated and the first exception is thrown once all workers are done.
+   *
+   * @param documents
+   *          Stream of documents to migrate, closed when this method returns.
+   * @param jsonFunction
+   *          Function to get the JSON of a document.
+   * @param valueType
+   *          The migrated object is converted to {@code valueType}, see
+   *          {@link DataObjectMigrator#migrateDataObject(DataObjectMigrationContext, IDataObject, Class)}.
+   * @param resultConsumer
+   *          Consumer called for each migrated (i.e. not skipped) document.
+   */
+  public <E, T extends IDataObject> void migrateDataObjects(DataObjectMigrationContext ctx, Stream<E> documents, Function<? super E, String> jsonFunction, Class<T> valueType,
+      BiConsumer<? super E, DataObjectMigratorResult<T>> resultConsumer) {
+    assertNotNull(ctx, "ctx is required");
+    assertNotNull(documents, "documents is required");
+    assertNotNull(jsonFunction, "jsonFunction is required");
+    assertNotNull(valueType, "valueType is required");
+    assertNotNull(resultConsumer, "resultConsumer is required");
+
+    ctx.getStats().start();
+    BulkMigration<E, T> migration = new BulkMigration<>(ctx, documents.iterator(), jsonFunction, valueType, resultConsumer, m_skipUpToDate && isSkipApplicable(ctx));
+    try (documents) {
+      if (m_parallelism == 1) {
+        runWorker(migration);
+      }
+      else {
+        runWorkers(migration);
+      }
+    }
+    ctx.getLogger().info("Bulk data object migration finished: {}", migration.formatProgress());
+  }
+
+  protected <E, T extends IDataObject> void runWorkers(BulkMigration<E, T> migration) {
+    List<IFuture<Void>> futures = new ArrayList<>(m_parallelism);
+    try {
+      for (int i = 0; i < m_parallelism; i++) {
+        futures.add(Jobs.schedule(() -> runWorker(migration), Jobs.newInput()
+            .withName("Bulk data object migration [worker {}]", i)
+            .withRunContext(RunContexts.copyCurrent(true))
+            .withExceptionHandling(null, false))); // exceptions are propagated to the caller
+      }
+      // wait for all workers, even if one of them failed, because the document stream is closed afterwards
+      for (IFuture<Void> future : futures) {
+        future.awaitDone();
+      }
+    }
+    finally {
+      migration.m_cancelled.set(true); // stops remaining workers in case of an exception
+    }
+
+    Throwable failure = migration.m_failure.get();
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(); // propagates failures not caused by a worker itself (e.g. cancellation)
+    }
+  }
+
+  protected <E, T extends IDataObject> void runWorker(BulkMigration<E, T> migration) {
+    DataObjectMigrationContext workerCtx = migration.m_ctx.copy();
+    IDataObjectMapper dataObjectMapper = BEANS.get(IDataObjectMapper.class);
+    try {
+      E document;
+      while ((document = migration.next()) != null) {
+        IDataObject dataObject = dataObjectMapper.readValueRaw(migration.m_jsonFunction.apply(document));
+        if (migration.m_skipUpToDate && !isMigrationRequired(dataObject)) {
+          workerCtx.getStats().incrementDataObjectsSkipped();
+        }
+        else {
+          DataObjectMigratorResult<T> result = BEANS.get(DataObjectMigrator.class)
+              .migrateDataObject(workerCtx, dataObject, migration.m_valueType, m_toVersion, Collections.emptyList(), Collections.emptyList());
+          migration.m_resultConsumer.accept(document, result);
+        }
+        migration.documentDone();
+      }
+    }
+    catch (RuntimeException | Error e) {
+      migration.m_failure.compareAndSet(null, e); // remember the first failure of all workers
+      migration.m_cancelled.set(true);
+      throw e;
+    }
+  }
+
+  /**
+   * Skipping up-to-date documents is only applicable if the migration of these documents would not apply any changes,
+   * i.e. there are neither pending value migrations nor intermediate migrations.
+   */
+  protected boolean isSkipApplicable(DataObjectMigrationContext ctx) {
+    if (!ctx.getIntermediateMigrations().all(IDataObject.class).isEmpty()) {
+      return false;
+    }
+    Set<DoValueMigrationId> appliedValueMigrationIds = ctx.getGlobal(DoValueMigrationIdsContextData.class).getAppliedValueMigrationIds();
+    if (appliedValueMigrationIds == null) {
+      return true; // value migrations are not applied at all
+    }
+    return BEANS.get(DataObjectMigrationInventory.class).getValueMigrationHandlers().stream()
+        .allMatch(handler -> appliedValueMigrationIds.contains(handler.id()));
+  }
+
+  /**
+   * @return {@code true} if a structure migration is applicable for at least one type version of the raw data object
+   */
+  protected boolean isMigrationRequired(IDataObject dataObject) {
+    Map<String, NamespaceVersion> typeVersions = BEANS.get(DoStructureMigrationHelper.class).collectRawDataObjectTypeVersions(dataObject);
+    return !typeVersions.isEmpty() && !BEANS.get(DataObjectMigrationInventory.class).getVersions(typeVersions, m_toVersion).isEmpty();
+  }
+
+  /**
+   * State of a single {@link DataObjectBulkMigrator#migrateDataObjects} call shared by all workers.
+   */
+  protected class BulkMigration<E, T extends IDataObject> {
+
+    protected final DataObjectMigrationContext m_ctx;
+    protected final Iterator<E> m_documents;
+    protected final Function<? super E, String> m_jsonFunction;
+    protected final Class<T> m_valueType;
+    protected final BiConsumer<? super E, DataObjectMigratorResult<T>> m_resultConsumer;
+    protected final boolean m_skipUpToDate;
+    protected final AtomicBoolean m_cancelled = new AtomicBoolean();
+    protected final AtomicReference<Throwable> m_failure = new AtomicReference<>();
+    protected final AtomicLong m_documentsDone = new AtomicLong();
+    protected final long m_startNanos = System.nanoTime();
+
+    protected BulkMigration(DataObjectMigrationContext ctx, Iterator<E> documents, Function<? super E, String> jsonFunction, Class<T> valueType,
+        BiConsumer<? super E, DataObjectMigratorResult<T>> resultConsumer, boolean skipUpToDate) {
+      m_ctx = ctx;
+      m_documents = documents;
+      m_jsonFunction = jsonFunction;
+      m_valueType = valueType;
+      m_resultConsumer = resultConsumer;
+      m_skipUpToDate = skipUpToDate;
+    }
+
+    /**
+     * @return next document or {@code null} if there are no more documents or the migration was cancelled
+     */
+    protected E next() {
+      synchronized (m_documents) {
+        while (!m_cancelled.get() && m_documents.hasNext()) {
+          E document = m_documents.next();
+          if (document != null) {
+            return document;
+          }
+        }
+        return null;
+      }
+    }
+
+    protected void documentDone() {
+      long done = m_documentsDone.incrementAndGet();
+      if (m_progressInterval > 0 && done % m_progressInterval == 0) {
+        m_ctx.getLogger().info("Bulk data object migration in progress: {}", formatProgress());
+      }
+    }
+
+    protected String formatProgress() {
+      DataObjectMigrationStatsContextData stats = m_ctx.getStats();
+      long done = m_documentsDone.get();
+      long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - m_startNanos));
+      return String.format("%d documents in %d ms (%d documents/s), %d changed, %d skipped",
+          done, elapsedMillis, done * 1000 / elapsedMillis, stats.getDataObjectsChangedCount(), stats.getDataObjectsSkippedCount());
+    }
+  }
+}
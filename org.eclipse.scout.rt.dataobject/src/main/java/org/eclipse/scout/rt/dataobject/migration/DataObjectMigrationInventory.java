@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
@@ -82,6 +83,16 @@ public class DataObjectMigrationInventory {
    */
   protected final LinkedHashMap<DoValueMigrationId, IDoValueMigrationHandler<?>> m_valueMigrationHandlers = new LinkedHashMap<>();
 
+  /**
+   * Unmodifiable ordered list of all value migration handlers (values of {@link #m_valueMigrationHandlers}).
+   */
+  protected List<IDoValueMigrationHandler<?>> m_orderedValueMigrationHandlers = Collections.emptyList();
+
+  /**
+   * Lazily created structure migration plans for type names with migration handlers and known type versions.
+   */
+  protected final Map<Pair<String, NamespaceVersion>, DoStructureMigrationPlan> m_structureMigrationPlans = new ConcurrentHashMap<>();
+
   /**
    * @return All namespaces (sorted).
    */
@@ -224,6 +235,9 @@ public class DataObjectMigrationInventory {
             .comparingDouble((IDoValueMigrationHandler<?> handler) -> handler.primarySortOrder())
             .thenComparing(IDoValueMigrationHandler::typeVersion, m_comparator))
         .forEach(handler -> m_valueMigrationHandlers.put(handler.id(), handler));
+    m_orderedValueMigrationHandlers = List.copyOf(m_valueMigrationHandlers.values());
+
+    m_structureMigrationPlans.clear();
   }
 
   protected void validateStructureMigrationHandlerUniqueness(Map<NamespaceVersion, Map<String, List<IDoStructureMigrationHandler>>> migrationHandlersPerVersionAndTypeName) {
@@ -358,8 +372,7 @@ public class DataObjectMigrationInventory {
    *         annotation and fully qualified class name).
    */
   public List<IDoValueMigrationHandler<?>> getValueMigrationHandlers() {
-    return m_valueMigrationHandlers.values().stream()
-        .collect(Collectors.toUnmodifiableList());
+    return m_orderedValueMigrationHandlers;
   }
 
   /**
@@ -377,8 +390,9 @@ public class DataObjectMigrationInventory {
   }
 
   /**
-   * For each type name {@link #findNextMigrationHandlerVersion(String, NamespaceVersion)} is called. The lowest version
-   * of all type names defines the starting point.
+   * For each type name the {@link DoStructureMigrationPlan} is looked up (see
+   * {@link #getStructureMigrationPlan(String, NamespaceVersion)}). The lowest next version of all type names defines the
+   * starting point.
    *
    * @param typeNames
    *          Map from type name to version.
@@ -390,44 +404,94 @@ public class DataObjectMigrationInventory {
   public List<NamespaceVersion> getVersions(Map<String, NamespaceVersion> typeNames, NamespaceVersion toVersion) {
     assertTrue(toVersion == null || m_orderedVersions.contains(toVersion), "toVersion '{}' is unknown", toVersion);
 
-    NamespaceVersion lowestNextVersion = null;
+    DoStructureMigrationPlan lowestPlan = null;
     for (Entry<String, NamespaceVersion> entry : typeNames.entrySet()) {
-      Pair<FindNextMigrationHandlerVersionStatus, NamespaceVersion> nextVersionPair = findNextMigrationHandlerVersion(entry.getKey(), entry.getValue());
-      NamespaceVersion nextVersion = nextVersionPair.getRight();
+      DoStructureMigrationPlan plan = getStructureMigrationPlan(entry.getKey(), entry.getValue());
+      NamespaceVersion nextVersion = plan.getNextVersion();
       // only version is relevant, status can be ignored here
       if (nextVersion == null) {
         continue; // type name must not be considered (e.g. already current version)
       }
 
-      if (lowestNextVersion == null || m_comparator.compare(lowestNextVersion, nextVersion) > 0) {
-        lowestNextVersion = nextVersion; // found a new lowest version
+      if (lowestPlan == null || m_comparator.compare(lowestPlan.getNextVersion(), nextVersion) > 0) {
+        lowestPlan = plan; // found a new lowest version
       }
     }
 
-    if (lowestNextVersion == null) {
-      // lowestNextVersion is null if there are no migration handlers available for the given type name/versions.
+    if (lowestPlan == null) {
+      // lowestPlan is null if there are no migration handlers available for the given type name/versions.
       return Collections.emptyList();
     }
 
-    List<NamespaceVersion> versions = new ArrayList<>(m_orderedVersions);
-    int lowerIndex = versions.indexOf(lowestNextVersion);
-    versions = versions.subList(lowerIndex, versions.size());
+    // plan versions only contain versions with migration handlers
+    List<NamespaceVersion> versions = lowestPlan.getVersions();
+    if (toVersion == null) {
+      return new ArrayList<>(versions);
+    }
 
-    if (toVersion != null) {
-      // limit upper version if required
-      int upperIndex = versions.indexOf(toVersion);
-      if (upperIndex < 0) {
-        // toVersion is not part of version if and only if lower bound was already higher than toVersion -> no versions
-        return Collections.emptyList();
+    // limit upper version if required (inclusive)
+    List<NamespaceVersion> limitedVersions = new ArrayList<>();
+    for (NamespaceVersion version : versions) {
+      if (m_comparator.compare(version, toVersion) > 0) {
+        break;
       }
+      limitedVersions.add(version);
+    }
+    return limitedVersions;
+  }
+
+  /**
+   * Returns the structure migration plan for the given type name/type version. Plans for type names with migration
+   * handlers and known (or missing) type versions are created once and cached, all other plans (e.g. up-to-date or
+   * unknown type names) are cheap to create and are not cached in order to not grow the cache with foreign data.
+   *
+   * @param typeName
+   *          Type name
+   * @param version
+   *          Type version of given type name (might be <code>null</code> if persisted without a type version yet)
+   * @return Non-<code>null</code> structure migration plan.
+   */
+  public DoStructureMigrationPlan getStructureMigrationPlan(String typeName, NamespaceVersion version) {
+    if (!m_typeNameVersions.containsKey(typeName) || (version != null && !m_orderedVersions.contains(version))) {
+      return createStructureMigrationPlan(typeName, version);
+    }
 
-      versions = versions.subList(0, upperIndex + 1); // inclusive
+    Pair<String, NamespaceVersion> key = ImmutablePair.of(typeName, version);
+    DoStructureMigrationPlan plan = m_structureMigrationPlans.get(key);
+    if (plan != null) {
+      return plan;
     }
+    return m_structureMigrationPlans.computeIfAbsent(key, k -> createStructureMigrationPlan(typeName, version));
+  }
 
-    // remove all versions that don't have migration handlers
-    versions.removeIf(version -> !m_structureMigrationHandlers.containsKey(version));
+  /**
+   * @return Unmodifiable list of all structure migration plans cached so far (e.g. for diagnostics).
+   */
+  public List<DoStructureMigrationPlan> getCachedStructureMigrationPlans() {
+    return List.copyOf(m_structureMigrationPlans.values());
+  }
 
-    return new ArrayList<>(versions);
+  protected DoStructureMigrationPlan createStructureMigrationPlan(String typeName, NamespaceVersion version) {
+    Pair<FindNextMigrationHandlerVersionStatus, NamespaceVersion> nextVersionPair = computeNextMigrationHandlerVersion(typeName, version);
+    List<NamespaceVersion> versions = new ArrayList<>();
+    List<IDoStructureMigrationHandler> migrationHandlers = new ArrayList<>();
+    NamespaceVersion nextVersion = nextVersionPair.getRight();
+    if (nextVersion != null) {
+      boolean started = false;
+      for (NamespaceVersion orderedVersion : m_orderedVersions) {
+        started |= orderedVersion.equals(nextVersion);
+        Map<String, IDoStructureMigrationHandler> migrationHandlerPerTypeName = m_structureMigrationHandlers.get(orderedVersion);
+        if (!started || migrationHandlerPerTypeName == null) {
+          continue; // version before next version or without migration handlers
+        }
+        versions.add(orderedVersion);
+        IDoStructureMigrationHandler migrationHandler = migrationHandlerPerTypeName.get(typeName);
+        if (migrationHandler != null) {
+          migrationHandlers.add(migrationHandler);
+        }
+      }
+    }
+    return new DoStructureMigrationPlan(typeName, version, nextVersionPair, versions, migrationHandlers);
   }
 
   /**
@@ -443,8 +507,7 @@ public class DataObjectMigrationInventory {
    *         type name.
    */
   public boolean isUpToDateOrMigrationAvailable(String typeName, NamespaceVersion version) {
-    Pair<FindNextMigrationHandlerVersionStatus, NamespaceVersion> result = findNextMigrationHandlerVersion(typeName, version);
-    return ObjectUtility.isOneOf(result.getLeft(),
+    return ObjectUtility.isOneOf(getStructureMigrationPlan(typeName, version).getStatus(),
         FindNextMigrationHandlerVersionStatus.UP_TO_DATE,
         FindNextMigrationHandlerVersionStatus.NO_TYPE_VERSION_YET,
         FindNextMigrationHandlerVersionStatus.MIGRATION_HANDLER_FOUND);
@@ -515,8 +578,17 @@ public class DataObjectMigrationInventory {
    * @return Non-<code>null</code> pair of status and lowest possible version or <code>null</code> namespace version if
    *         there will be no migration handler that migrates this data object (already the newest version or due to
    *         other reasons).
+   * @see #getStructureMigrationPlan(String, NamespaceVersion)
    */
   protected Pair<FindNextMigrationHandlerVersionStatus, NamespaceVersion> findNextMigrationHandlerVersion(String typeName, NamespaceVersion version) {
+    return getStructureMigrationPlan(typeName, version).getNextVersionPair();
+  }
+
+  /**
+   * Computes the result of {@link #findNextMigrationHandlerVersion(String, NamespaceVersion)} without using cached
+   * structure migration plans.
+   */
+  protected Pair<FindNextMigrationHandlerVersionStatus, NamespaceVersion> computeNextMigrationHandlerVersion(String typeName, NamespaceVersion version) {
     // Example used within comments:
     //
     // - Type name "lorem.Migrationless" with current type version "lorem-2" (@TypeVersion)
@@ -630,7 +702,8 @@ public class DataObjectMigrationInventory {
   public Map<String, IDoStructureMigrationHandler> getStructureMigrationHandlers(NamespaceVersion version) {
     assertNotNull(version, "version is required");
     assertTrue(m_orderedVersions.contains(version), "version is unknown");
-    return m_structureMigrationHandlers.computeIfAbsent(version, k -> Collections.emptyMap());
+    // no computeIfAbsent because this method is called concurrently (e.g. by DataObjectBulkMigrator)
+    return m_structureMigrationHandlers.getOrDefault(version, Collections.emptyMap());
   }
 
   public Set<Class<? extends IDoStructureMigrationTargetContextData>> getStructureMigrationTargetContextDataClasses(IDoEntity doEntity) {
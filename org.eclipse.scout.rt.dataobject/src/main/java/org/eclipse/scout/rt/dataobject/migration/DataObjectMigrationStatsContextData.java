@@ -29,6 +29,7 @@ public class DataObjectMigrationStatsContextData implements IDataObjectMigration
   protected final AtomicLong m_startNanos = new AtomicLong();
   protected final LongAdder m_dataObjectsProcessed = new LongAdder();
   protected final LongAdder m_dataObjectsChanged = new LongAdder();
+  protected final LongAdder m_dataObjectsSkipped = new LongAdder();
   protected final LongAdder m_accumulatedMigrationDurationNano = new LongAdder(); // nanoseconds
 
   /**
@@ -76,6 +77,21 @@ public class DataObjectMigrationStatsContextData implements IDataObjectMigration
     return m_dataObjectsChanged.sum();
   }
 
+  /**
+   * Increment the number of skipped data objects. To be called for each data object which was not processed because it
+   * is already up-to-date (see {@link DataObjectBulkMigrator}).
+   */
+  protected void incrementDataObjectsSkipped() {
+    m_dataObjectsSkipped.increment();
+  }
+
+  /**
+   * @return The number of skipped data objects.
+   */
+  public long getDataObjectsSkippedCount() {
+    return m_dataObjectsSkipped.sum();
+  }
+
   /**
    * Accumulation of raw data object migration duration. To be called after migration of a single data object.
    *
@@ -101,12 +117,13 @@ public class DataObjectMigrationStatsContextData implements IDataObjectMigration
    *          {@link DataObjectMigrator#migrateDataObject(DataObjectMigrationContext, IDataObject, Class)}.
    */
   public void printStats(String name, Integer entityCount) {
-    LOG.info("Data object migration of {}{} entities finished in {} ms (accumulated raw data object migration took {} ms). Changed {} of {} processed data objects.",
+    LOG.info("Data object migration of {}{} entities finished in {} ms (accumulated raw data object migration took {} ms). Changed {} of {} processed data objects, skipped {} up-to-date data objects.",
         entityCount == null ? "" : entityCount + " ",
         name,
         m_startNanos.get() == 0 ? "?" : StringUtility.formatNanos(getOverallMigrationDurationNano()),
         StringUtility.formatNanos(getAccumulatedMigrationDurationNano()),
         getDataObjectsChangedCount(),
-        getDataObjectsProcessedCount());
+        getDataObjectsProcessedCount(),
+        getDataObjectsSkippedCount());
   }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject.migration;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.dataobject.migration.DataObjectMigrationInventory.FindNextMigrationHandlerVersionStatus;
+import org.eclipse.scout.rt.platform.namespace.NamespaceVersion;
+import org.eclipse.scout.rt.platform.util.Pair;
+
+/**
+ * Precomputed structure migration plan for a type name/type version pair, created and cached by
+ * {@link DataObjectMigrationInventory#getStructureMigrationPlan(String, NamespaceVersion)}.
+ * <p>
+ * The versions of a plan are all versions (starting with the next version relevant for the type name) providing
+ * structure migration handlers, i.e. the versions a data object containing this type name/type version must run
+ * through. The migration handlers of a plan are the ones registered for the type name of the plan within these
+ * versions. Migration handlers registered for a renamed type name are not part of the plan, they are resolved by
+ * {@link DoStructureMigrationDataObjectVisitor} for each version.
+ *
+ * @since 24.2
+ */
+public class DoStructureMigrationPlan {
+
+  private final String m_typeName;
+  private final NamespaceVersion m_typeVersion;
+  private final Pair<FindNextMigrationHandlerVersionStatus, NamespaceVersion> m_nextVersion;
+  private final List<NamespaceVersion> m_versions;
+  private final List<IDoStructureMigrationHandler> m_migrationHandlers;
+
+  protected DoStructureMigrationPlan(String typeName, NamespaceVersion typeVersion, Pair<FindNextMigrationHandlerVersionStatus, NamespaceVersion> nextVersion,
+      List<NamespaceVersion> versions, List<IDoStructureMigrationHandler> migrationHandlers) {
+    m_typeName = typeName;
+    m_typeVersion = typeVersion;
+    m_nextVersion = nextVersion;
+    m_versions = Collections.unmodifiableList(versions);
+    m_migrationHandlers = Collections.unmodifiableList(migrationHandlers);
+  }
+
+  public String getTypeName() {
+    return m_typeName;
+  }
+
+  /**
+   * @return Type version the plan was created for (might be <code>null</code> for data objects persisted without a type
+   *         version).
+   */
+  public NamespaceVersion getTypeVersion() {
+    return m_typeVersion;
+  }
+
+  protected Pair<FindNextMigrationHandlerVersionStatus, NamespaceVersion> getNextVersionPair() {
+    return m_nextVersion;
+  }
+
+  /**
+   * @return Status and next version as determined by
+   *         {@link DataObjectMigrationInventory#findNextMigrationHandlerVersion(String, NamespaceVersion)}.
+   */
+  protected FindNextMigrationHandlerVersionStatus getStatus() {
+    return m_nextVersion.getLeft();
+  }
+
+  /**
+   * @return Lowest version for which a migration handler could be triggered or <code>null</code> if no migration
+   *         handler will migrate this type name/type version.
+   */
+  public NamespaceVersion getNextVersion() {
+    return m_nextVersion.getRight();
+  }
+
+  /**
+   * @return Unmodifiable ordered list of versions with structure migration handlers, starting with
+   *         {@link #getNextVersion()} (empty list if there is no next version).
+   */
+  public List<NamespaceVersion> getVersions() {
+    return m_versions;
+  }
+
+  /**
+   * @return Unmodifiable ordered list of structure migration handlers registered for the type name of this plan within
+   *         {@link #getVersions()}.
+   */
+  public List<IDoStructureMigrationHandler> getMigrationHandlers() {
+    return m_migrationHandlers;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[typeName=" + m_typeName
+        + ", typeVersion=" + (m_typeVersion == null ? null : m_typeVersion.unwrap())
+        + ", status=" + getStatus()
+        + ", versions=" + m_versions.stream().map(NamespaceVersion::unwrap).collect(Collectors.joining(", ", "[", "]"))
+        + ", migrationHandlers=" + m_migrationHandlers.stream().map(handler -> handler.getClass().getSimpleName()).collect(Collectors.joining(", ", "[", "]"))
+        + "]";
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.jackson.dataobject.DoEntitySerializationPlan.PlannedAttribute;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithDoValueOfObjectDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestVersionedDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Test cases for {@link DoEntitySerializationPlan}.
+ */
+public class DoEntitySerializationPlanTest {
+
+  @Test
+  public void testGetSerializationPlan() {
+    ScoutDataObjectModuleContext context = createContext();
+    assertNull(context.getSerializationPlan(TestItemDo.class));
+
+    context.withSerializationPlans(true);
+    DoEntitySerializationPlan plan = context.getSerializationPlan(TestItemDo.class);
+    assertNotNull(plan);
+    assertSame(plan, context.getSerializationPlan(TestItemDo.class));
+    assertSame(TestItemDo.class, plan.getEntityClass());
+    assertNull(plan.getTypeVersion());
+    assertNull(context.getSerializationPlan(DoEntity.class));
+    assertNull(context.getSerializationPlan(IDoEntity.class));
+  }
+
+  @Test
+  public void testPlannedAttributes() {
+    ScoutDataObjectModuleContext context = createContext().withSerializationPlans(true);
+    DoEntitySerializationPlan plan = context.getSerializationPlan(TestItemDo.class);
+    assertEquals(Arrays.asList("id", "stringAttribute"), Arrays.stream(plan.getAttributes()).map(PlannedAttribute::getName).collect(Collectors.toList()));
+    for (int i = 0; i < plan.getAttributes().length; i++) {
+      PlannedAttribute attribute = plan.getAttributes()[i];
+      assertEquals(i, attribute.getIndex());
+      assertSame(attribute, plan.getAttribute(attribute.getName()));
+      assertEquals(attribute.getName(), attribute.getSerializedName().getValue());
+      assertSame(String.class, attribute.getAttributeType().getJavaType().getRawClass());
+    }
+    assertNull(plan.getAttribute("unknown"));
+
+    assertEquals("jacksonFixture-1.0.0", context.getSerializationPlan(TestVersionedDo.class).getTypeVersion());
+  }
+
+  @Test
+  public void testPlannedAttributeOfObject() {
+    DoEntitySerializationPlan plan = createContext().withSerializationPlans(true).getSerializationPlan(TestEntityWithDoValueOfObjectDo.class);
+    PlannedAttribute attribute = plan.getAttribute("object");
+    assertNull(attribute.getAttributeType()); // unknown type, resolved by value
+    assertNull(attribute.getAttributeType(JsonToken.START_OBJECT));
+    assertTrue(attribute.getAttributeType(JsonToken.START_ARRAY).isDoValue()); // special case: DoValue<Object> with list-typed value
+  }
+
+  @Test
+  public void testSerializeDynamicAttributes() throws Exception {
+    ObjectMapper defaultMapper = createObjectMapper(false);
+    ObjectMapper planMapper = createObjectMapper(true);
+
+    TestVersionedDo versioned = BEANS.get(TestVersionedDo.class).withName("lorem");
+    assertEquals(defaultMapper.writeValueAsString(versioned), planMapper.writeValueAsString(versioned));
+
+    // attributes not declared by the class are serialized using the regular (sorted) path
+    versioned.put("aDynamicAttribute", 42);
+    versioned.put("zDynamicAttribute", "ipsum");
+    String json = planMapper.writeValueAsString(versioned);
+    assertEquals(defaultMapper.writeValueAsString(versioned), json);
+    assertEquals(versioned, planMapper.readValue(json, TestVersionedDo.class));
+    assertEquals(defaultMapper.readValue(json, TestVersionedDo.class), planMapper.readValue(json, TestVersionedDo.class));
+  }
+
+  protected ScoutDataObjectModuleContext createContext() {
+    return BEANS.get(ScoutDataObjectModuleContext.class)
+        .withTypeAttributeName("_type")
+        .withTypeVersionAttributeName("_typeVersion")
+        .withContributionsAttributeName("_contributions");
+  }
+
+  @SuppressWarnings("deprecation")
+  protected ObjectMapper createObjectMapper(boolean serializationPlans) {
+    return new JacksonDataObjectMapper() {
+      @Override
+      protected void prepareScoutDataModuleContext(ScoutDataObjectModuleContext moduleContext) {
+        super.prepareScoutDataModuleContext(moduleContext);
+        moduleContext.withSerializationPlans(serializationPlans);
+      }
+    }.getObjectMapper();
+  }
+}
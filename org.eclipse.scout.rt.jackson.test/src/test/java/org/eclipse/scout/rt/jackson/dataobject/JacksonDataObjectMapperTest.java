@@ -18,6 +18,8 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -41,6 +43,7 @@ import org.eclipse.scout.rt.jackson.dataobject.fixture.ITestBaseEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCustomImplementedEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithInterface1Do;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
 import org.eclipse.scout.rt.jackson.testing.DataObjectSerializationTestHelper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
@@ -139,6 +142,62 @@ public class JacksonDataObjectMapperTest {
     m_mapper.readValue("{\"foo\" : 1}", BigDecimal.class);
   }
 
+  @Test
+  public void testReadElements() {
+    List<TestItemDo> items = IntStream.range(0, 10)
+        .mapToObj(i -> BEANS.get(TestItemDo.class).withId("id-" + i).withStringAttribute("value-" + i))
+        .collect(Collectors.toList());
+    String json = m_mapper.writeValue(items);
+
+    List<IDoEntity> actual = new ArrayList<>();
+    assertEquals(10, m_mapper.readElements(toInputStream(json), IDoEntity.class, actual::add));
+    assertEquals(items, actual); // typed entities resolved by type attribute
+
+    assertEquals(0, m_mapper.readElements(toInputStream("[]"), IDoEntity.class, actual::add));
+  }
+
+  @Test
+  public void testReadElementsOfAttribute() {
+    DoEntity entity = BEANS.get(DoEntity.class);
+    entity.put("header", BEANS.get(TestItemDo.class).withId("header"));
+    entity.putList("items", Arrays.asList(
+        BEANS.get(TestItemDo.class).withId("1"),
+        BEANS.get(TestItemDo.class).withId("2")));
+    entity.putList("other", Arrays.asList(1, 2, 3));
+    entity.put("trailer", "end");
+    String json = m_mapper.writeValue(entity);
+
+    List<TestItemDo> actual = new ArrayList<>();
+    assertEquals(2, m_mapper.readElements(toInputStream(json), "items", TestItemDo.class, actual::add));
+    assertEquals(entity.getList("items"), actual);
+
+    List<Integer> other = new ArrayList<>();
+    assertEquals(3, m_mapper.readElements(toInputStream(json), "other", Integer.class, other::add));
+    assertEquals(Arrays.asList(1, 2, 3), other);
+
+    assertEquals(0, m_mapper.readElements(toInputStream(json), "missing", Object.class, e -> fail()));
+    assertEquals(0, m_mapper.readElements(toInputStream("{\"items\" : null}"), "items", Object.class, e -> fail()));
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testReadElementsOfNonArrayAttribute() {
+    m_mapper.readElements(toInputStream("{\"items\" : {\"foo\" : 1}}"), "items", Object.class, e -> fail());
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testReadElementsOfNonArray() {
+    m_mapper.readElements(toInputStream("{\"foo\" : 1}"), Object.class, e -> fail());
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testReadElementsWithNullConsumer() {
+    m_mapper.readElements(toInputStream("[]"), Object.class, null);
+  }
+
+  protected InputStream toInputStream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+
   @Test
   public void testToString() {
     // register DataObjectMapper using default (non-testing) JacksonDataObjectMapper implementation of IDataObjectMapper
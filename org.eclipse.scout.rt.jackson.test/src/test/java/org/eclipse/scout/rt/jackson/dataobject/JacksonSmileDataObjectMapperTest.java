@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureEnum;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureStringId;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureUuId;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestBinaryResourceDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithEnumDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithVariousIdsDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.Base64Utility;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link JacksonSmileDataObjectMapper}. Each data object must be deserialized to the same data object
+ * as with {@link JacksonDataObjectMapper}.
+ */
+public class JacksonSmileDataObjectMapperTest {
+
+  protected IBinaryDataObjectMapper m_mapper;
+  protected IDataObjectMapper m_jsonMapper;
+
+  @Before
+  public void before() {
+    m_mapper = BEANS.get(IBinaryDataObjectMapper.class);
+    m_jsonMapper = BEANS.get(IDataObjectMapper.class);
+  }
+
+  @Test
+  public void testBeanLookup() {
+    assertEquals(JacksonSmileDataObjectMapper.class, m_mapper.getClass());
+    assertEquals(JacksonSmileDataObjectMapper.MEDIA_TYPE, m_mapper.getMediaType());
+    assertEquals(JacksonDataObjectMapper.class, m_jsonMapper.getClass()); // JSON stays the default format
+  }
+
+  @Test
+  public void testNull() {
+    assertNull(m_mapper.writeValueAsBytes(null));
+    assertNull(m_mapper.writeValue(null));
+    assertNull(m_mapper.readValue((byte[]) null, IDataObject.class));
+    assertNull(m_mapper.readValue((String) null, IDataObject.class));
+    assertNull(m_mapper.readValueRaw((byte[]) null));
+    assertNull(m_mapper.readValueRaw((String) null));
+  }
+
+  @Test
+  public void testComplexEntity() {
+    TestComplexEntityDo entity = createComplexEntity(3);
+    byte[] bytes = m_mapper.writeValueAsBytes(entity);
+    assertEquals(entity, m_mapper.readValue(bytes, TestComplexEntityDo.class));
+    assertEquals(entity, m_mapper.readValue(bytes, IDataObject.class)); // type resolved using the type attribute
+    assertEquals(entity, m_mapper.readValue(new ByteArrayInputStream(bytes), TestComplexEntityDo.class));
+  }
+
+  @Test
+  public void testStringRepresentation() {
+    TestComplexEntityDo entity = createComplexEntity(1);
+    String value = m_mapper.writeValue(entity);
+    assertArrayEquals(m_mapper.writeValueAsBytes(entity), Base64Utility.decode(value));
+    assertEquals(entity, m_mapper.readValue(value, TestComplexEntityDo.class));
+  }
+
+  @Test
+  public void testTypedIds() {
+    TestEntityWithVariousIdsDo entity = BEANS.get(TestEntityWithVariousIdsDo.class)
+        .withStringId(FixtureStringId.of("string-id"))
+        .withIId(FixtureUuId.of(UUID.fromString("ab8b13a4-b2a0-47a0-9d79-80039417b843")))
+        .withStringIds(FixtureStringId.of("string-id-1"), FixtureStringId.of("string-id-2"));
+    assertEquals(entity, m_mapper.readValue(m_mapper.writeValueAsBytes(entity), TestEntityWithVariousIdsDo.class));
+  }
+
+  @Test
+  public void testEnum() {
+    TestEntityWithEnumDo entity = BEANS.get(TestEntityWithEnumDo.class).withValue(FixtureEnum.ONE);
+    assertEquals(entity, m_mapper.readValue(m_mapper.writeValueAsBytes(entity), TestEntityWithEnumDo.class));
+  }
+
+  @Test
+  public void testBinaryResource() {
+    byte[] content = new byte[1024];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    BinaryResource resource = BinaryResources.create()
+        .withContent(content)
+        .withContentType("image/jpeg")
+        .withFilename("unicorn.jpg")
+        .build();
+    TestBinaryResourceDo entity = BEANS.get(TestBinaryResourceDo.class).withBrDefault(resource);
+    byte[] bytes = m_mapper.writeValueAsBytes(entity);
+    assertEquals(entity, m_mapper.readValue(bytes, TestBinaryResourceDo.class));
+    // content is written as raw bytes instead of Base64 text
+    assertTrue(bytes.length < content.length + 200);
+  }
+
+  @Test
+  public void testReadValueRaw() {
+    IDoEntity entity = BEANS.get(DoEntityBuilder.class)
+        .put("_type", "TestItem")
+        .put("id", "1")
+        .put("stringAttribute", "foo")
+        .putList("items", "a", "b")
+        .build();
+    String json = m_jsonMapper.writeValue(entity);
+    assertEquals(m_jsonMapper.readValueRaw(json), m_mapper.readValueRaw(m_mapper.writeValueAsBytes(entity)));
+    assertEquals(DoEntity.class, m_mapper.readValueRaw(m_mapper.writeValueAsBytes(entity)).getClass());
+  }
+
+  @Test
+  public void testReadElements() {
+    TestComplexEntityDo entity = createComplexEntity(5);
+    List<TestItemDo> items = new ArrayList<>();
+    assertEquals(5, m_mapper.readElements(new ByteArrayInputStream(m_mapper.writeValueAsBytes(entity)), "itemsAttribute", TestItemDo.class, items::add));
+    assertEquals(entity.getItemsAttribute(), items);
+  }
+
+  /**
+   * Type names and attribute names are written once per document and then referenced, thus each additional item is
+   * considerably smaller than in JSON.
+   */
+  @Test
+  public void testSharedNames() {
+    int jsonSize1 = m_jsonMapper.writeValue(createComplexEntity(1)).getBytes(StandardCharsets.UTF_8).length;
+    int jsonSize101 = m_jsonMapper.writeValue(createComplexEntity(101)).getBytes(StandardCharsets.UTF_8).length;
+    int smileSize1 = m_mapper.writeValueAsBytes(createComplexEntity(1)).length;
+    int smileSize101 = m_mapper.writeValueAsBytes(createComplexEntity(101)).length;
+    assertTrue(smileSize1 < jsonSize1);
+    assertTrue((smileSize101 - smileSize1) * 2 < jsonSize101 - jsonSize1);
+  }
+
+  protected TestComplexEntityDo createComplexEntity(int itemCount) {
+    List<TestItemDo> items = new ArrayList<>();
+    for (int i = 0; i < itemCount; i++) {
+      items.add(BEANS.get(TestItemDo.class).withId(String.valueOf(i)).withStringAttribute("item-" + i));
+    }
+    return BEANS.get(TestComplexEntityDo.class)
+        .withId("complex-entity")
+        .withStringAttribute("foo")
+        .withIntegerAttribute(42)
+        .withBigDecimalAttribute(new BigDecimal("19.95"))
+        .withDateAttribute(new Date(1700000000123L))
+        .withUuidAttribute(UUID.fromString("87069a20-6fc5-4b6a-9bc2-2e6cb75d7571"))
+        .withLocaleAttribute(Locale.forLanguageTag("de-CH"))
+        .withStringListAttribute(Arrays.asList("a", "b", "c"))
+        .withItemsAttribute(items);
+  }
+}
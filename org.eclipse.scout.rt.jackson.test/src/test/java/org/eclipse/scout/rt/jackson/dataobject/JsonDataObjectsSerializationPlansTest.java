@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import org.junit.BeforeClass;
+
+/**
+ * Runs all test cases of {@link JsonDataObjectsSerializationTest} with {@link DoEntitySerializationPlan}s enabled.
+ */
+public class JsonDataObjectsSerializationPlansTest extends JsonDataObjectsSerializationTest {
+
+  @SuppressWarnings("deprecation")
+  @BeforeClass
+  public static void beforeClass() {
+    JsonDataObjectsSerializationTest.beforeClass();
+    s_dataObjectMapper = new JacksonPrettyPrintDataObjectMapper() {
+      @Override
+      protected void prepareScoutDataModuleContext(ScoutDataObjectModuleContext moduleContext) {
+        super.prepareScoutDataModuleContext(moduleContext);
+        moduleContext.withSerializationPlans(true);
+      }
+    }.getObjectMapper();
+    s_lenientDataObjectMapper = new JacksonLenientDataObjectMapper() {
+      @Override
+      protected void prepareScoutDataModuleContext(ScoutDataObjectModuleContext moduleContext) {
+        super.prepareScoutDataModuleContext(moduleContext);
+        moduleContext.withSerializationPlans(true);
+      }
+    }.getObjectMapper();
+  }
+}
@@ -21,6 +21,7 @@ import org.eclipse.scout.rt.dataobject.DoNode;
 import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDoCollection;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.jackson.dataobject.DoEntitySerializationPlan.PlannedAttribute;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.slf4j.Logger;
@@ -140,6 +141,7 @@ public class DoEntityDeserializer extends StdDeserializer<IDoEntity> {
   }
 
   protected IDoEntity deserializeDoEntityAttributes(JsonParser p, DeserializationContext ctxt, IDoEntity entity) throws IOException {
+    DoEntitySerializationPlan plan = getSerializationPlan(entity);
     // read and deserialize all fields of entity
     for (JsonToken t = p.currentToken(); t == JsonToken.FIELD_NAME; t = p.nextToken()) {
       String attributeName = p.getCurrentName();
@@ -153,7 +155,7 @@ public class DoEntityDeserializer extends StdDeserializer<IDoEntity> {
       }
       else {
         // normal attribute
-        AttributeType attributeType = findResolvedAttributeType(entity, attributeName, p.currentToken());
+        AttributeType attributeType = findResolvedAttributeType(plan, entity, attributeName, p.currentToken());
         if (attributeType.isDoCollection()) {
           DoNode<?> nodeValue = readAttributeValue(p, attributeType, attributeName);
 
@@ -246,6 +248,30 @@ public class DoEntityDeserializer extends StdDeserializer<IDoEntity> {
     return newObject(ctxt, m_handledClass);
   }
 
+  /**
+   * @return {@link DoEntitySerializationPlan} to resolve the attribute types of given {@code entity} or {@code null} if
+   *         the attribute types are resolved using the {@link IDoEntityDeserializerTypeStrategy}.
+   */
+  protected DoEntitySerializationPlan getSerializationPlan(IDoEntity entity) {
+    // a replaced or subclassed type strategy might resolve attribute types differently, plans are only used together with the default strategy
+    if (m_doEntityDeserializerTypeStrategy.getClass() != DefaultDoEntityDeserializerTypeStrategy.class) {
+      return null;
+    }
+    return m_moduleContext.getSerializationPlan(entity.getClass());
+  }
+
+  protected AttributeType findResolvedAttributeType(DoEntitySerializationPlan plan, IDoEntity entityInstance, String attributeName, JsonToken currentToken) {
+    if (plan != null) {
+      PlannedAttribute attribute = plan.getAttribute(attributeName);
+      AttributeType attributeType = attribute == null ? null : attribute.getAttributeType(currentToken);
+      if (attributeType != null) {
+        return attributeType;
+      }
+      return findResolvedFallbackAttributeType(entityInstance, attributeName, currentToken);
+    }
+    return findResolvedAttributeType(entityInstance, attributeName, currentToken);
+  }
+
   protected AttributeType findResolvedAttributeType(IDoEntity entityInstance, String attributeName, JsonToken currentToken) {
     return m_doEntityDeserializerTypeStrategy.resolveAttributeType(entityInstance.getClass(), attributeName, currentToken)
         .orElseGet(() -> findResolvedFallbackAttributeType(entityInstance, attributeName, currentToken));
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.scout.rt.dataobject.DataObjectAttributeDescriptor;
+import org.eclipse.scout.rt.dataobject.DataObjectInventory;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.namespace.NamespaceVersion;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Serialization plan of a typed {@link IDoEntity} class, resolved once per class and {@link ScoutDataObjectModuleContext}
+ * (see {@link ScoutDataObjectModuleContext#getSerializationPlan(Class)}).
+ * <p>
+ * The plan holds the pre-resolved {@link AttributeType}s of all declared attributes, their pre-encoded names and the
+ * attribute order used for serialization, so that {@link DoEntitySerializer} and {@link DoEntityDeserializer} neither
+ * have to consult the {@link DataObjectInventory} nor construct Jackson types for each attribute of each entity.
+ *
+ * @since 24.2
+ */
+public class DoEntitySerializationPlan {
+
+  private final Class<? extends IDoEntity> m_entityClass;
+  private final String m_typeVersion;
+  private final SerializableString m_typeVersionAttributeName;
+  private final PlannedAttribute[] m_attributes;
+  private final Map<String, PlannedAttribute> m_attributesByName;
+
+  public DoEntitySerializationPlan(Class<? extends IDoEntity> entityClass, ScoutDataObjectModuleContext context) {
+    DataObjectInventory inventory = BEANS.get(DataObjectInventory.class);
+    m_entityClass = entityClass;
+    NamespaceVersion typeVersion = inventory.getTypeVersion(entityClass);
+    m_typeVersion = typeVersion == null ? null : typeVersion.unwrap();
+    m_typeVersionAttributeName = new SerializedString(context.getTypeVersionAttributeName());
+
+    Collection<DataObjectAttributeDescriptor> descriptors = inventory.getAttributesDescription(entityClass).values();
+    m_attributes = descriptors.stream()
+        .map(PlannedAttribute::new)
+        .sorted((a1, a2) -> context.getComparator().compare(a1.getName(), a2.getName()))
+        .toArray(PlannedAttribute[]::new);
+    m_attributesByName = new HashMap<>();
+    for (int i = 0; i < m_attributes.length; i++) {
+      m_attributes[i].m_index = i;
+      m_attributesByName.put(m_attributes[i].getName(), m_attributes[i]);
+    }
+  }
+
+  public Class<? extends IDoEntity> getEntityClass() {
+    return m_entityClass;
+  }
+
+  /**
+   * @return type version of the entity class or {@code null} if the class has no type version
+   */
+  public String getTypeVersion() {
+    return m_typeVersion;
+  }
+
+  public SerializableString getTypeVersionAttributeName() {
+    return m_typeVersionAttributeName;
+  }
+
+  /**
+   * @return declared attributes in serialization order, the array must not be modified
+   */
+  public PlannedAttribute[] getAttributes() {
+    return m_attributes;
+  }
+
+  /**
+   * @return declared attribute or {@code null} if the entity class does not declare an attribute with the given name
+   */
+  public PlannedAttribute getAttribute(String attributeName) {
+    return m_attributesByName.get(attributeName);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + m_entityClass.getName() + "]";
+  }
+
+  /**
+   * Pre-resolved declared attribute of a {@link DoEntitySerializationPlan}.
+   */
+  public static final class PlannedAttribute {
+
+    private final String m_name;
+    private final SerializableString m_serializedName;
+    private final AttributeType m_attributeType;
+    private final AttributeType m_arrayAttributeType;
+    private int m_index;
+
+    PlannedAttribute(DataObjectAttributeDescriptor descriptor) {
+      m_name = descriptor.getName();
+      m_serializedName = new SerializedString(m_name);
+      m_attributeType = known(TypeFactoryUtility.toAttributeType(descriptor.getType()));
+      m_arrayAttributeType = known(TypeFactoryUtility.toAttributeType(descriptor.getType(), JsonToken.START_ARRAY));
+    }
+
+    private static AttributeType known(AttributeType attributeType) {
+      return attributeType.isKnown() ? attributeType : null;
+    }
+
+    public String getName() {
+      return m_name;
+    }
+
+    public SerializableString getSerializedName() {
+      return m_serializedName;
+    }
+
+    /**
+     * @return position of this attribute within {@link DoEntitySerializationPlan#getAttributes()}
+     */
+    public int getIndex() {
+      return m_index;
+    }
+
+    /**
+     * @return declared attribute type or {@code null} if the type is unknown (e.g. {@code DoValue<Object>})
+     */
+    public AttributeType getAttributeType() {
+      return m_attributeType;
+    }
+
+    /**
+     * @return declared attribute type to use for deserializing a value starting with the given token, or {@code null} if
+     *         the type is unknown
+     * @see TypeFactoryUtility#toAttributeType(java.lang.reflect.ParameterizedType, JsonToken)
+     */
+    public AttributeType getAttributeType(JsonToken currentToken) {
+      return currentToken == JsonToken.START_ARRAY ? m_arrayAttributeType : m_attributeType;
+    }
+  }
+}
@@ -27,11 +27,13 @@ import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDoCollection;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.IDoEntityContribution;
+import org.eclipse.scout.rt.jackson.dataobject.DoEntitySerializationPlan.PlannedAttribute;
 import org.eclipse.scout.rt.platform.namespace.NamespaceVersion;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.type.WritableTypeId;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -50,9 +52,12 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
   protected final ScoutDataObjectModuleContext m_context;
 
+  protected final LazyValue<DoEntitySerializationPlan> m_serializationPlan;
+
   public DoEntitySerializer(ScoutDataObjectModuleContext context, JavaType type) {
     super(type);
     m_context = context;
+    m_serializationPlan = new LazyValue<>(() -> context.getSerializationPlan(handledType().asSubclass(IDoEntity.class)));
   }
 
   @Override
@@ -73,6 +78,14 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
    * Serialize all fields of specified {@link IDoEntity} sorted alphabetically.
    */
   protected void serializeAttributes(IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    DoEntitySerializationPlan plan = m_serializationPlan.get();
+    if (plan != null && plan.getEntityClass() == entity.getClass()) {
+      DoNode<?>[] nodes = collectPlannedNodes(plan, entity);
+      if (nodes != null) {
+        serializePlannedAttributes(plan, nodes, entity, gen, provider);
+        return;
+      }
+    }
     serializeTypeVersion(gen, entity);
     TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(m_context.getComparator());
     sortedMap.putAll(entity.allNodes());
@@ -83,6 +96,76 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
     serializeContributions(gen, entity, provider);
   }
 
+  /**
+   * @return nodes of given {@code entity} indexed by {@link PlannedAttribute#getIndex()} or {@code null} if the entity
+   *         contains attributes not declared by its class (e.g. added using {@link IDoEntity#put(String, Object)}).
+   */
+  protected DoNode<?>[] collectPlannedNodes(DoEntitySerializationPlan plan, IDoEntity entity) {
+    DoNode<?>[] nodes = new DoNode<?>[plan.getAttributes().length];
+    for (Map.Entry<String, DoNode<?>> e : entity.allNodes().entrySet()) {
+      PlannedAttribute attribute = plan.getAttribute(e.getKey());
+      if (attribute == null) {
+        return null;
+      }
+      nodes[attribute.getIndex()] = e.getValue();
+    }
+    return nodes;
+  }
+
+  /**
+   * Serialize all fields of specified {@link IDoEntity} in the order of the {@link DoEntitySerializationPlan} (same
+   * order as {@link #serializeAttributes(IDoEntity, JsonGenerator, SerializerProvider)}).
+   */
+  protected void serializePlannedAttributes(DoEntitySerializationPlan plan, DoNode<?>[] nodes, IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    if (plan.getTypeVersion() != null) {
+      gen.writeFieldName(plan.getTypeVersionAttributeName());
+      gen.writeString(plan.getTypeVersion());
+    }
+    PlannedAttribute[] attributes = plan.getAttributes();
+    for (int i = 0; i < attributes.length; i++) {
+      if (nodes[i] != null) {
+        gen.setCurrentValue(entity);
+        serializePlannedAttribute(attributes[i], nodes[i], gen, provider);
+      }
+    }
+    serializeContributions(gen, entity, provider);
+  }
+
+  /**
+   * Same as {@link #serializeAttribute(String, Object, JsonGenerator, SerializerProvider)} using the pre-resolved
+   * attribute type and name of the given {@link PlannedAttribute}.
+   */
+  protected void serializePlannedAttribute(PlannedAttribute attribute, Object obj, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    if (obj instanceof DoValue) {
+      // serialize DoValue value as unwrapped object
+      obj = ((DoValue<?>) obj).get();
+    }
+
+    SerializableString attributeName = attribute.getSerializedName();
+    AttributeType declaredAttributeType = attribute.getAttributeType();
+    if (obj == null) {
+      gen.writeFieldName(attributeName);
+      gen.writeNull();
+    }
+    else if (obj instanceof Collection || obj instanceof IDoCollection || obj.getClass() == DoEntity.class) {
+      gen.writeFieldName(attributeName);
+      gen.writeObject(obj);
+    }
+    else if (obj instanceof Map) {
+      gen.writeFieldName(attributeName);
+      serializeMapValue((Map<?, ?>) obj, Optional.ofNullable(declaredAttributeType), gen, provider);
+    }
+    else if (declaredAttributeType != null && isSerializeByDeclaredType(declaredAttributeType.getJavaType(), obj.getClass())) {
+      JsonSerializer<Object> ser = provider.findTypedValueSerializer(declaredAttributeType.getJavaType(), true, null);
+      gen.writeFieldName(attributeName);
+      ser.serialize(obj, gen, provider);
+    }
+    else {
+      gen.writeFieldName(attributeName);
+      gen.writeObject(obj);
+    }
+  }
+
   protected void serializeTypeVersion(JsonGenerator gen, IDoEntity entity) throws IOException {
     NamespaceVersion typeVersion = m_dataObjectInventory.get().getTypeVersion(entity.getClass());
     if (typeVersion != null) {
@@ -136,7 +219,14 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
    * Serializes a map attribute within {@link IDoEntity}
    */
   protected void serializeMap(String attributeName, Map<?, ?> map, JsonGenerator gen, SerializerProvider provider) throws IOException {
-    Optional<AttributeType> typeOpt = getAttributeType(attributeName);
+    gen.writeFieldName(attributeName);
+    serializeMapValue(map, getAttributeType(attributeName), gen, provider);
+  }
+
+  /**
+   * Serializes the value of a map attribute within {@link IDoEntity}, the field name must already be written.
+   */
+  protected void serializeMapValue(Map<?, ?> map, Optional<AttributeType> typeOpt, JsonGenerator gen, SerializerProvider provider) throws IOException {
     JavaType keyType = null;
     JsonSerializer<Object> keySerializer = null;
     JavaType valueType = null;
@@ -159,7 +249,6 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
     // This "raw" map serialization forces Jackson to include type information by using the appropriate serializer if a type is available
     // or use the default serialization via key serializer/JsonGenerator#writeObject otherwise.
-    gen.writeFieldName(attributeName);
     gen.writeStartObject();
     gen.setCurrentValue(map);
     for (Entry<?, ?> entry : map.entrySet()) {
@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
@@ -25,6 +26,7 @@ import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.IValueFormatConstants;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
@@ -36,9 +38,12 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.StreamWriteConstraints;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -99,6 +104,65 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  @Override
+  public <T> long readElements(InputStream inputStream, String attributeName, Class<T> elementType, Consumer<? super T> consumer) {
+    Assertions.assertNotNull(inputStream, "Input stream must not be null");
+    Assertions.assertNotNull(elementType, "Element type must not be null");
+    Assertions.assertNotNull(consumer, "Consumer must not be null");
+    ObjectMapper om = m_objectMapper.get();
+    try (JsonParser p = om.createParser(inputStream)) {
+      if (!moveToElements(p, attributeName)) {
+        return 0;
+      }
+      long count = 0;
+      while (p.nextToken() != JsonToken.END_ARRAY) {
+        // parser points to the first token of the element, only this element is read
+        consumer.accept(om.readValue(p, elementType));
+        count++;
+      }
+      return count;
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  /**
+   * Moves the parser to the start of the array to stream, either the top-level array (if {@code attributeName} is
+   * {@code null}) or the value of the given attribute of the top-level object.
+   *
+   * @return {@code true} if the parser points to the start of the array, {@code false} if the attribute is missing or
+   *         {@code null}.
+   */
+  protected boolean moveToElements(JsonParser p, String attributeName) throws IOException {
+    JsonToken token = p.nextToken();
+    if (attributeName == null) {
+      if (token != JsonToken.START_ARRAY) {
+        throw JsonMappingException.from(p, "Expected a JSON array but found " + token);
+      }
+      return true;
+    }
+
+    if (token != JsonToken.START_OBJECT) {
+      throw JsonMappingException.from(p, "Expected a JSON object but found " + token);
+    }
+    for (token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+      String name = p.currentName();
+      token = p.nextToken(); // let current token point to the value
+      if (attributeName.equals(name)) {
+        if (token == JsonToken.VALUE_NULL) {
+          return false;
+        }
+        if (token != JsonToken.START_ARRAY) {
+          throw JsonMappingException.from(p, "Expected a JSON array as value of attribute '" + attributeName + "' but found " + token);
+        }
+        return true;
+      }
+      p.skipChildren(); // skip other attributes without materializing them
+    }
+    return false;
+  }
+
   @Override
   public void writeValue(OutputStream outputStream, Object value) {
     Assertions.assertNotNull(outputStream, "Output stream must not be null");
@@ -143,13 +207,10 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
    * Creates new {@link ObjectMapper} instance configured to be used with {@link IDoEntity}.
    */
   protected ObjectMapper createObjectMapperInstance(boolean ignoreTypeAttribute) {
-    // setup custom-configured JsonFactory used for ObjectMapper
-    JsonFactory jsonFactory = JsonFactory.builder()
-        .streamReadConstraints(CONFIG.getPropertyValue(StreamReadConstraintsConfigProperty.class))
-        .streamWriteConstraints(CONFIG.getPropertyValue(StreamWriteConstraintsConfigProperty.class))
-        .build();
-    ObjectMapper om = new ObjectMapper(jsonFactory);
-    ScoutDataObjectModule scoutDataObjectModule = BEANS.get(ScoutDataObjectModule.class).withIgnoreTypeAttribute(ignoreTypeAttribute);
+    ObjectMapper om = new ObjectMapper(createJsonFactory());
+    ScoutDataObjectModule scoutDataObjectModule = BEANS.get(ScoutDataObjectModule.class)
+        .withIgnoreTypeAttribute(ignoreTypeAttribute)
+        .withSerializationPlans(CONFIG.getPropertyValue(SerializationPlansConfigProperty.class));
     prepareScoutDataModuleContext(scoutDataObjectModule.getModuleContext());
     om.registerModule(scoutDataObjectModule);
     om.setDateFormat(new SimpleDateFormat(IValueFormatConstants.DEFAULT_DATE_PATTERN)); // TODO [23.0] pbz: [JSON] check if it can be moved to ScoutDataObjectModule class
@@ -159,6 +220,17 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     return om;
   }
 
+  /**
+   * Creates the custom-configured {@link JsonFactory} used for the {@link ObjectMapper}. Override this method to use
+   * another data format backend (e.g. a binary format).
+   */
+  protected JsonFactory createJsonFactory() {
+    return JsonFactory.builder()
+        .streamReadConstraints(CONFIG.getPropertyValue(StreamReadConstraintsConfigProperty.class))
+        .streamWriteConstraints(CONFIG.getPropertyValue(StreamWriteConstraintsConfigProperty.class))
+        .build();
+  }
+
   /**
    * Override this method to add custom properties to {@code moduleContext}.
    */
@@ -273,4 +345,27 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
           .build();
     }
   }
+
+  /**
+   * @see ScoutDataObjectModule#withSerializationPlans(boolean)
+   * @since 24.2
+   */
+  public static class SerializationPlansConfigProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.dataobject.jackson.serializationPlans";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether typed data objects are serialized and deserialized using a plan resolved once per data object class "
+          + "(pre-resolved attribute types and attribute order) instead of resolving the attribute types for each attribute. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
 }
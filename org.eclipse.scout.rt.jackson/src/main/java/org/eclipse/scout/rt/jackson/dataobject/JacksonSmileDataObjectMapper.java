@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.Base64Utility;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * {@link IDataObjectMapper} implementation based on jackson {@link ObjectMapper} using the binary
+ * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> data format instead of JSON text.
+ * <p>
+ * All serializers and deserializers of {@link ScoutDataObjectModule} are used, thus the data object semantics (type
+ * attributes, typed ids, enums, dates, binary resources, ...) are the same as for {@link JacksonDataObjectMapper}.
+ * Attribute names and short string values (e.g. the type names of data objects) are written only once per document and
+ * referenced by an index afterwards. The content of binary resources is written as raw bytes instead of Base64 text.
+ *
+ * @since 24.2
+ */
+@Order(IBean.DEFAULT_BEAN_ORDER + 100)
+public class JacksonSmileDataObjectMapper extends JacksonDataObjectMapper implements IBinaryDataObjectMapper {
+
+  public static final String MEDIA_TYPE = "application/x-jackson-smile";
+
+  @Override
+  public String getMediaType() {
+    return MEDIA_TYPE;
+  }
+
+  @Override
+  protected JsonFactory createJsonFactory() {
+    return SmileFactory.builder()
+        .streamReadConstraints(CONFIG.getPropertyValue(StreamReadConstraintsConfigProperty.class))
+        .streamWriteConstraints(CONFIG.getPropertyValue(StreamWriteConstraintsConfigProperty.class))
+        .enable(SmileGenerator.Feature.WRITE_HEADER) // header is required to announce shared names and values to the parser
+        .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+        .disable(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT)
+        .build();
+  }
+
+  @Override
+  public <T> T readValue(byte[] value, Class<T> valueType) {
+    if (value == null) {
+      return null;
+    }
+    return readValue(new ByteArrayInputStream(value), valueType);
+  }
+
+  @Override
+  public <T> T readValue(String value, Class<T> valueType) {
+    if (value == null) {
+      return null;
+    }
+    return readValue(Base64Utility.decode(value), valueType);
+  }
+
+  @Override
+  public IDataObject readValueRaw(byte[] value) {
+    if (value == null) {
+      return null;
+    }
+    return readValueRaw(new ByteArrayInputStream(value));
+  }
+
+  @Override
+  public IDataObject readValueRaw(String value) {
+    if (value == null) {
+      return null;
+    }
+    return readValueRaw(Base64Utility.decode(value));
+  }
+
+  @Override
+  public byte[] writeValueAsBytes(Object value) {
+    if (value == null) {
+      return null;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeValue(out, value);
+    return out.toByteArray();
+  }
+
+  @Override
+  public String writeValue(Object value) {
+    if (value == null) {
+      return null;
+    }
+    return Base64Utility.encode(writeValueAsBytes(value));
+  }
+}
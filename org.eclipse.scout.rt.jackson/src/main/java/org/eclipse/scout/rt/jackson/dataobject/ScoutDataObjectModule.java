@@ -114,6 +114,17 @@ public class ScoutDataObjectModule extends Module {
     return this;
   }
 
+  /**
+   * Setup {@link ScoutDataObjectModule} to serialize and deserialize typed data objects using a
+   * {@link DoEntitySerializationPlan} resolved once per data object class.
+   *
+   * @since 24.2
+   */
+  public ScoutDataObjectModule withSerializationPlans(boolean serializationPlans) {
+    m_moduleContext.withSerializationPlans(serializationPlans);
+    return this;
+  }
+
   @Override
   public String getModuleName() {
     return NAME;
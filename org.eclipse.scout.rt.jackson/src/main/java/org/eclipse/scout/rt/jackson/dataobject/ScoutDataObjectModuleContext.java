@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.jackson.dataobject;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.dataobject.DoEntity;
 import org.eclipse.scout.rt.dataobject.DoList;
@@ -43,10 +44,14 @@ public class ScoutDataObjectModuleContext {
 
   protected static final String ID_SIGNATURE_KEY = "idSignatureKey";
 
+  protected static final String SERIALIZATION_PLANS_KEY = "serializationPlansKey";
+
   protected LazyValue<DoEntitySerializerAttributeNameComparator> m_comparator = new LazyValue<>(() -> BEANS.get(DoEntitySerializerAttributeNameComparator.class).init(this));
 
   protected final Map<String, Object> m_contextMap = new HashMap<>();
 
+  protected final Map<Class<? extends IDoEntity>, DoEntitySerializationPlan> m_serializationPlans = new ConcurrentHashMap<>();
+
   public void put(String key, Object value) {
     m_contextMap.put(key, value);
   }
@@ -152,4 +157,39 @@ public class ScoutDataObjectModuleContext {
     put(ID_SIGNATURE_KEY, idSignature);
     return this;
   }
+
+  /**
+   * @see #withSerializationPlans(boolean)
+   */
+  public boolean isSerializationPlans() {
+    return BooleanUtility.nvl(get(SERIALIZATION_PLANS_KEY, Boolean.class));
+  }
+
+  /**
+   * Flag to serialize and deserialize typed {@link IDoEntity} classes using a {@link DoEntitySerializationPlan} resolved
+   * once per class instead of resolving the attribute types for each attribute of each entity.
+   *
+   * @since 24.2
+   */
+  public ScoutDataObjectModuleContext withSerializationPlans(boolean serializationPlans) {
+    put(SERIALIZATION_PLANS_KEY, serializationPlans);
+    m_serializationPlans.clear();
+    return this;
+  }
+
+  /**
+   * @return cached {@link DoEntitySerializationPlan} for given {@code entityClass} or {@code null} if serialization
+   *         plans are disabled or not applicable for the given class (e.g. raw {@link DoEntity}).
+   * @since 24.2
+   */
+  public DoEntitySerializationPlan getSerializationPlan(Class<? extends IDoEntity> entityClass) {
+    if (!isSerializationPlans() || entityClass == null || entityClass == DoEntity.class || entityClass.isInterface()) {
+      return null;
+    }
+    DoEntitySerializationPlan plan = m_serializationPlans.get(entityClass);
+    if (plan != null) {
+      return plan;
+    }
+    return m_serializationPlans.computeIfAbsent(entityClass, c -> new DoEntitySerializationPlan(c, this));
+  }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the default {@link java.util.LinkedHashMap} attribute storage of {@link DoEntity} with the
+ * {@link CompactDoEntityAttributes} storage.
+ * <p>
+ * {@link #createEntities()} creates {@value #BATCH_SIZE} fully populated entities which are all retained until the end
+ * of the operation, thus <tt>gc.alloc.rate.norm</tt> divided by {@value #BATCH_SIZE} approximates the heap footprint
+ * of a single entity (including its attribute nodes and values). The remaining benchmarks measure the access paths
+ * used by the serializers.
+ * <p>
+ * Located in the package of {@link DoEntity} to switch the storage without a config property.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class DoEntityStorageBenchmark {
+
+  public static final int BATCH_SIZE = 100;
+
+  @Param({"false", "true"})
+  public boolean compact;
+
+  private BenchmarkFixtureDo m_entity;
+  private BenchmarkFixtureDo m_otherEntity;
+  private boolean m_compactStorageEnabled;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    m_compactStorageEnabled = DoEntityAttributeLayouts.isCompactStorageEnabled();
+    DoEntityAttributeLayouts.setCompactStorageEnabled(compact);
+    m_entity = createEntity(0);
+    m_otherEntity = createEntity(0);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    DoEntityAttributeLayouts.setCompactStorageEnabled(m_compactStorageEnabled);
+  }
+
+  @Benchmark
+  public BenchmarkFixtureDo[] createEntities() {
+    BenchmarkFixtureDo[] entities = new BenchmarkFixtureDo[BATCH_SIZE];
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      entities[i] = createEntity(i);
+    }
+    return entities;
+  }
+
+  @Benchmark
+  public void getAttributes(Blackhole blackhole) {
+    blackhole.consume(m_entity.getNode("id"));
+    blackhole.consume(m_entity.getNode("name"));
+    blackhole.consume(m_entity.getNode("description"));
+    blackhole.consume(m_entity.getNode("amount"));
+    blackhole.consume(m_entity.getNode("active"));
+    blackhole.consume(m_entity.getNode("tags"));
+    blackhole.consume(m_entity.getNode("category"));
+    blackhole.consume(m_entity.getNode("dynamic"));
+  }
+
+  @Benchmark
+  public void iterateAttributes(Blackhole blackhole) {
+    for (Map.Entry<String, DoNode<?>> entry : m_entity.allNodes().entrySet()) {
+      blackhole.consume(entry.getKey());
+      blackhole.consume(entry.getValue());
+    }
+  }
+
+  @Benchmark
+  public boolean equalsAndHashCode() {
+    return m_entity.equals(m_otherEntity) && m_entity.hashCode() == m_otherEntity.hashCode();
+  }
+
+  protected BenchmarkFixtureDo createEntity(int i) {
+    BenchmarkFixtureDo entity = new BenchmarkFixtureDo();
+    entity.id().set((long) i);
+    entity.name().set("name");
+    entity.description().set("description");
+    entity.amount().set(42);
+    entity.active().set(Boolean.TRUE);
+    entity.tags().set(null);
+    entity.category().set("category");
+    entity.put("dynamic", "value");
+    return entity;
+  }
+
+  public static class BenchmarkFixtureDo extends DoEntity {
+
+    public DoValue<Long> id() {
+      return doValue("id");
+    }
+
+    public DoValue<String> name() {
+      return doValue("name");
+    }
+
+    public DoValue<String> description() {
+      return doValue("description");
+    }
+
+    public DoValue<Integer> amount() {
+      return doValue("amount");
+    }
+
+    public DoValue<Boolean> active() {
+      return doValue("active");
+    }
+
+    public DoList<String> tags() {
+      return doList("tags");
+    }
+
+    public DoValue<String> category() {
+      return doValue("category");
+    }
+
+    public DoValue<String> createdBy() {
+      return doValue("createdBy");
+    }
+  }
+}
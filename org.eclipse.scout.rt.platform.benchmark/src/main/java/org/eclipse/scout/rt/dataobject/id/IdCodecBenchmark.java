@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject.id;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.cache.TinyLfuCacheMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link IdCodec#toQualified(IId, IdCodec.IIdCodecFlag...)} and
+ * {@link IdCodec#fromQualified(String, IdCodec.IIdCodecFlag...)} round trips of {@link AbstractUuId},
+ * {@link AbstractLongId} and {@link AbstractCompositeId} instances with and without interned ids (see
+ * {@link IdCodec.IdCodecInternCacheSizeProperty}).
+ * <p>
+ * Located in the package of {@link IdCodec} to switch the intern cache without a config property.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class IdCodecBenchmark {
+
+  @Param({"uuid", "long", "composite"})
+  public String idType;
+
+  @Param({"false", "true"})
+  public boolean intern;
+
+  private IdCodec m_codec;
+  private IId m_id;
+  private String m_qualifiedId;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    // fixture ids are not part of the class inventory, register them to allow deserialization
+    IdInventory idInventory = BEANS.get(IdInventory.class);
+    registerIdTypeName(idInventory, "benchmark.UuIdFixture", BenchmarkUuId.class);
+    registerIdTypeName(idInventory, "benchmark.LongIdFixture", BenchmarkLongId.class);
+    registerIdTypeName(idInventory, "benchmark.CompositeIdFixture", BenchmarkCompositeId.class);
+
+    m_codec = new IdCodec();
+    m_codec.initialize();
+    m_codec.m_internedIds = intern ? new TinyLfuCacheMap<>(10_000) : null;
+
+    switch (idType) {
+      case "uuid":
+        m_id = BenchmarkUuId.of(UUID.fromString("5833aae1-c813-4d7c-a342-56a53772a3ea"));
+        break;
+      case "long":
+        m_id = BenchmarkLongId.of(4711L);
+        break;
+      default:
+        m_id = BenchmarkCompositeId.of(BenchmarkUuId.of(UUID.fromString("5833aae1-c813-4d7c-a342-56a53772a3ea")), BenchmarkLongId.of(4711L));
+        break;
+    }
+    m_qualifiedId = m_codec.toQualified(m_id);
+  }
+
+  protected void registerIdTypeName(IdInventory idInventory, String typeName, Class<? extends IId> idClass) {
+    if (idInventory.getIdClass(typeName) == null) {
+      idInventory.registerIdTypeName(typeName, idClass);
+    }
+  }
+
+  @Benchmark
+  public String toQualified() {
+    return m_codec.toQualified(m_id);
+  }
+
+  @Benchmark
+  public IId fromQualified() {
+    return m_codec.fromQualified(m_qualifiedId);
+  }
+
+  @Benchmark
+  public IId roundTrip() {
+    return m_codec.fromQualified(m_codec.toQualified(m_id));
+  }
+
+  @IgnoreBean
+  public static final class BenchmarkUuId extends AbstractUuId {
+    private static final long serialVersionUID = 1L;
+
+    private BenchmarkUuId(UUID id) {
+      super(id);
+    }
+
+    public static BenchmarkUuId of(UUID id) {
+      if (id == null) {
+        return null;
+      }
+      return new BenchmarkUuId(id);
+    }
+  }
+
+  @IgnoreBean
+  public static final class BenchmarkLongId extends AbstractLongId {
+    private static final long serialVersionUID = 1L;
+
+    private BenchmarkLongId(Long id) {
+      super(id);
+    }
+
+    public static BenchmarkLongId of(Long id) {
+      if (id == null) {
+        return null;
+      }
+      return new BenchmarkLongId(id);
+    }
+  }
+
+  @IgnoreBean
+  public static final class BenchmarkCompositeId extends AbstractCompositeId {
+    private static final long serialVersionUID = 1L;
+
+    private BenchmarkCompositeId(BenchmarkUuId c1, BenchmarkLongId c2) {
+      super(c1, c2);
+    }
+
+    public static BenchmarkCompositeId of(BenchmarkUuId c1, BenchmarkLongId c2) {
+      if (c1 == null || c2 == null) {
+        return null;
+      }
+      return new BenchmarkCompositeId(c1, c2);
+    }
+
+    @RawTypes
+    public static BenchmarkCompositeId of(UUID c1, Long c2) {
+      return of(BenchmarkUuId.of(c1), BenchmarkLongId.of(c2));
+    }
+  }
+}
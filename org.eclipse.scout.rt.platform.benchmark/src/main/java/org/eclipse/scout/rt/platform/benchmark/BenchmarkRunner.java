@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Accepts the regular JMH command line options and always enables the {@link GCProfiler}, so that every result reports
+ * the allocation rate (<tt>gc.alloc.rate.norm</tt>) next to the score. If the system property
+ * <tt>{@value #THREADS_PROPERTY}</tt> is set to a comma separated list of thread counts (e.g. <tt>1,4,16</tt>), the
+ * selected benchmarks are run once for every thread count. Otherwise, the thread count of the benchmark annotations
+ * or the <tt>-t</tt> option is used.
+ *
+ * <pre>
+ * java -Dbenchmark.threads=1,4,16 -jar target/benchmarks.jar BeanManagerBenchmark
+ * </pre>
+ *
+ * @since 24.2
+ */
+public final class BenchmarkRunner {
+
+  public static final String THREADS_PROPERTY = "benchmark.threads";
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmdOptions;
+    try {
+      cmdOptions = new CommandLineOptions(args);
+    }
+    catch (CommandLineOptionException e) {
+      Main.main(args); // let JMH report the invalid options
+      return;
+    }
+
+    if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListWithParams() || cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+
+    List<Integer> threadCounts = parseThreadCounts(System.getProperty(THREADS_PROPERTY));
+    if (threadCounts.isEmpty()) {
+      run(cmdOptions, null);
+      return;
+    }
+    for (Integer threads : threadCounts) {
+      run(cmdOptions, threads);
+    }
+  }
+
+  private static void run(CommandLineOptions cmdOptions, Integer threads) throws RunnerException {
+    OptionsBuilder builder = new OptionsBuilder();
+    builder
+        .parent(cmdOptions)
+        .addProfiler(GCProfiler.class);
+    if (threads != null) {
+      builder.threads(threads);
+    }
+    new Runner(builder.build()).run();
+  }
+
+  static List<Integer> parseThreadCounts(String value) {
+    List<Integer> threadCounts = new ArrayList<>();
+    if (value == null) {
+      return threadCounts;
+    }
+    for (String token : value.split(",")) {
+      String trimmed = token.trim();
+      if (!trimmed.isEmpty()) {
+        threadCounts.add(Integer.valueOf(trimmed));
+      }
+    }
+    return threadCounts;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.bean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanManager;
+import org.eclipse.scout.rt.platform.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures bean lookups through {@link BEANS} depending on the number of beans registered for the looked up type.
+ * <p>
+ * The fixture beans are registered manually for every trial and are removed again afterwards, so that the lookups do
+ * not depend on the content of the class inventory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class BeanManagerBenchmark {
+
+  @Param({"1", "10", "100"})
+  public int beanCount;
+
+  private final List<IBean<?>> m_registeredBeans = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    IBeanManager beanManager = BEANS.getBeanManager();
+    m_registeredBeans.add(beanManager.registerBean(new BeanMetaData(ApplicationScopedFixtureBean.class).withApplicationScoped(true)));
+    m_registeredBeans.add(beanManager.registerBean(new BeanMetaData(FixtureBean.class)));
+    for (int i = 0; i < beanCount; i++) {
+      m_registeredBeans.add(beanManager.registerBean(new BeanMetaData(IOrderedFixtureBean.class, new OrderedFixtureBean()).withOrder(i)));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    IBeanManager beanManager = BEANS.getBeanManager();
+    for (IBean<?> bean : m_registeredBeans) {
+      beanManager.unregisterBean(bean);
+    }
+    m_registeredBeans.clear();
+  }
+
+  /**
+   * Lookup of an application scoped bean, i.e. the instance is cached by the bean.
+   */
+  @Benchmark
+  public Object getApplicationScoped() {
+    return BEANS.get(ApplicationScopedFixtureBean.class);
+  }
+
+  /**
+   * Lookup of a bean creating a new instance for every call.
+   */
+  @Benchmark
+  public Object getNewInstance() {
+    return BEANS.get(FixtureBean.class);
+  }
+
+  /**
+   * Lookup of the most specific bean out of <tt>beanCount</tt> beans registered for the same interface.
+   */
+  @Benchmark
+  public Object getOrdered() {
+    return BEANS.get(IOrderedFixtureBean.class);
+  }
+
+  @Benchmark
+  public Object all() {
+    return BEANS.all(IOrderedFixtureBean.class);
+  }
+
+  public static class ApplicationScopedFixtureBean {
+  }
+
+  public static class FixtureBean {
+  }
+
+  public interface IOrderedFixtureBean {
+  }
+
+  public static class OrderedFixtureBean implements IOrderedFixtureBean {
+  }
+}
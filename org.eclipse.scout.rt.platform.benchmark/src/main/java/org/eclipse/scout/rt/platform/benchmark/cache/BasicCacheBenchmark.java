@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.cache.BasicCache;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link BasicCache#get(Object)} for cache hits and for a bounded cache with a working set larger than the
+ * cache (misses and evictions).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class BasicCacheBenchmark {
+
+  private static final String HIT_CACHE_ID = BasicCacheBenchmark.class.getName() + ".hit";
+  private static final String BOUNDED_CACHE_ID = BasicCacheBenchmark.class.getName() + ".bounded";
+
+  @Param({"100", "10000"})
+  public int cacheSize;
+
+  private ICache<Integer, String> m_hitCache;
+  private ICache<Integer, String> m_boundedCache;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    m_hitCache = createCache(HIT_CACHE_ID, null);
+    m_boundedCache = createCache(BOUNDED_CACHE_ID, cacheSize / 2);
+    for (int i = 0; i < cacheSize; i++) {
+      m_hitCache.get(i);
+    }
+  }
+
+  @Benchmark
+  public String getHit(KeyCursor cursor) {
+    return m_hitCache.get(cursor.next(cacheSize));
+  }
+
+  /**
+   * Cycles through twice as many keys as the cache can hold.
+   */
+  @Benchmark
+  public String getBounded(KeyCursor cursor) {
+    return m_boundedCache.get(cursor.next(cacheSize));
+  }
+
+  protected ICache<Integer, String> createCache(String cacheId, Integer sizeBound) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> builder = BEANS.get(ICacheBuilder.class);
+    return builder
+        .withCacheId(cacheId)
+        .withReplaceIfExists(true)
+        .withValueResolver(String::valueOf)
+        .withSizeBound(sizeBound)
+        .build();
+  }
+
+  @State(Scope.Thread)
+  public static class KeyCursor {
+    private int m_next;
+
+    Integer next(int bound) {
+      m_next = (m_next + 1) % bound;
+      return m_next;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of running a trivial callable within a {@link RunContext}, including the creation of the
+ * context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class RunContextBenchmark {
+
+  private RunContext m_runContext;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    m_runContext = RunContexts.empty();
+  }
+
+  @Benchmark
+  public Object callEmpty() {
+    return RunContexts.empty().call(() -> Boolean.TRUE);
+  }
+
+  @Benchmark
+  public Object callCopyCurrent() {
+    return RunContexts.copyCurrent().call(() -> Boolean.TRUE);
+  }
+
+  /**
+   * Runs within an existing context, i.e. measures the chain of processors only.
+   */
+  @Benchmark
+  public Object callReused() {
+    return m_runContext.call(() -> Boolean.TRUE);
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.dataobject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.DataObjectInventory;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.TypeName;
+import org.eclipse.scout.rt.jackson.dataobject.JacksonDataObjectMapper;
+import org.eclipse.scout.rt.jackson.dataobject.JacksonSmileDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanManager;
+import org.eclipse.scout.rt.platform.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the JSON format of {@link JacksonDataObjectMapper} with the binary format of
+ * {@link JacksonSmileDataObjectMapper} regarding serialization and deserialization throughput. The size of the
+ * serialized message is logged once per trial.
+ * <p>
+ * The message consists of a typed order with {@link #lineCount} typed order lines. The type names of the fixture data
+ * objects are registered with a {@link BenchmarkDataObjectInventory} for the duration of the trial, thus the messages
+ * contain type attributes like in production.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class DataObjectFormatBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(DataObjectFormatBenchmark.class);
+
+  @Param({"json", "smile"})
+  public String format;
+
+  @Param({"1", "100"})
+  public int lineCount;
+
+  private final List<IBean<?>> m_registeredBeans = new ArrayList<>();
+  private final ByteArrayOutputStream m_out = new ByteArrayOutputStream();
+  private IDataObjectMapper m_mapper;
+  private FormatOrderFixtureDo m_order;
+  private byte[] m_bytes;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    // fixture data objects are not part of the class inventory, register them to allow (de)serialization with type name
+    IBeanManager beanManager = BEANS.getBeanManager();
+    m_registeredBeans.add(beanManager.registerBean(new BeanMetaData(BenchmarkDataObjectInventory.class).withReplace(true)));
+    BenchmarkDataObjectInventory inventory = BEANS.get(BenchmarkDataObjectInventory.class);
+    for (Class<?> fixture : List.of(FormatOrderFixtureDo.class, FormatOrderLineFixtureDo.class)) {
+      m_registeredBeans.add(beanManager.registerBean(new BeanMetaData(fixture)));
+      inventory.registerFixture(fixture);
+    }
+
+    m_mapper = "smile".equals(format) ? BEANS.get(JacksonSmileDataObjectMapper.class) : BEANS.get(JacksonDataObjectMapper.class);
+    m_order = createOrder(lineCount);
+    m_bytes = writeOrder();
+    LOG.info("format={}, lineCount={}: {} bytes", format, lineCount, m_bytes.length);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    // unregistering the inventory removes the fixture type names, the original inventory is used again
+    IBeanManager beanManager = BEANS.getBeanManager();
+    for (IBean<?> bean : m_registeredBeans) {
+      beanManager.unregisterBean(bean);
+    }
+    m_registeredBeans.clear();
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return writeOrder();
+  }
+
+  @Benchmark
+  public IDataObject deserialize() {
+    return m_mapper.readValue(new ByteArrayInputStream(m_bytes), IDataObject.class);
+  }
+
+  protected byte[] writeOrder() {
+    m_out.reset();
+    m_mapper.writeValue(m_out, m_order);
+    return m_out.toByteArray();
+  }
+
+  protected FormatOrderFixtureDo createOrder(int lines) {
+    FormatOrderFixtureDo order = new FormatOrderFixtureDo();
+    order.id().set("order-4711");
+    order.createdOn().set(new Date(1700000000000L));
+    order.customerName().set("Jane Doe");
+    for (int i = 0; i < lines; i++) {
+      FormatOrderLineFixtureDo line = new FormatOrderLineFixtureDo();
+      line.position().set(i + 1);
+      line.articleNumber().set("article-" + i);
+      line.description().set("Article description " + i);
+      line.quantity().set(BigDecimal.valueOf(i % 7 + 1));
+      line.unitPrice().set(new BigDecimal("19.95"));
+      line.tags().set(List.of("tag-a", "tag-b"));
+      order.lines().add(line);
+    }
+    return order;
+  }
+
+  @TypeName("scout.benchmark.FormatOrderFixture")
+  public static class FormatOrderFixtureDo extends DoEntity {
+
+    public DoValue<String> id() {
+      return doValue("id");
+    }
+
+    public DoValue<Date> createdOn() {
+      return doValue("createdOn");
+    }
+
+    public DoValue<String> customerName() {
+      return doValue("customerName");
+    }
+
+    public DoList<FormatOrderLineFixtureDo> lines() {
+      return doList("lines");
+    }
+  }
+
+  @TypeName("scout.benchmark.FormatOrderLineFixture")
+  public static class FormatOrderLineFixtureDo extends DoEntity {
+
+    public DoValue<Integer> position() {
+      return doValue("position");
+    }
+
+    public DoValue<String> articleNumber() {
+      return doValue("articleNumber");
+    }
+
+    public DoValue<String> description() {
+      return doValue("description");
+    }
+
+    public DoValue<BigDecimal> quantity() {
+      return doValue("quantity");
+    }
+
+    public DoValue<BigDecimal> unitPrice() {
+      return doValue("unitPrice");
+    }
+
+    public DoList<String> tags() {
+      return doList("tags");
+    }
+  }
+
+  /**
+   * Replaces the {@link DataObjectInventory} during the trial to register the type names of the fixture data objects.
+   */
+  public static class BenchmarkDataObjectInventory extends DataObjectInventory {
+
+    public void registerFixture(Class<?> fixture) {
+      registerClassByTypeName(fixture);
+    }
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.dataobject;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.jackson.dataobject.DoEntitySerializationPlan;
+import org.eclipse.scout.rt.jackson.dataobject.JacksonDataObjectMapper;
+import org.eclipse.scout.rt.jackson.dataobject.ScoutDataObjectModuleContext;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanManager;
+import org.eclipse.scout.rt.platform.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the throughput of serializing and deserializing nested data objects with and without
+ * {@link DoEntitySerializationPlan}s.
+ * <p>
+ * The message consists of an order with a customer, an address, a map attribute and {@link #lineCount} order lines.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class DoEntitySerializationBenchmark {
+
+  @Param({"false", "true"})
+  public boolean serializationPlans;
+
+  @Param({"1", "50"})
+  public int lineCount;
+
+  private final List<IBean<?>> m_registeredBeans = new ArrayList<>();
+  private ObjectMapper m_objectMapper;
+  private OrderFixtureDo m_order;
+  private String m_json;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("deprecation")
+  public void setup() throws IOException {
+    Platform.get().awaitPlatformStarted();
+    // fixture data objects are not part of the class inventory, register them to allow deserialization
+    IBeanManager beanManager = BEANS.getBeanManager();
+    m_registeredBeans.add(beanManager.registerBean(new BeanMetaData(OrderFixtureDo.class)));
+    m_registeredBeans.add(beanManager.registerBean(new BeanMetaData(OrderLineFixtureDo.class)));
+    m_registeredBeans.add(beanManager.registerBean(new BeanMetaData(CustomerFixtureDo.class)));
+    m_registeredBeans.add(beanManager.registerBean(new BeanMetaData(AddressFixtureDo.class)));
+
+    boolean plans = serializationPlans;
+    m_objectMapper = new JacksonDataObjectMapper() {
+      @Override
+      protected void prepareScoutDataModuleContext(ScoutDataObjectModuleContext moduleContext) {
+        super.prepareScoutDataModuleContext(moduleContext);
+        moduleContext.withSerializationPlans(plans);
+      }
+    }.getObjectMapper();
+    m_order = createOrder(lineCount);
+    m_json = m_objectMapper.writeValueAsString(m_order);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    IBeanManager beanManager = BEANS.getBeanManager();
+    for (IBean<?> bean : m_registeredBeans) {
+      beanManager.unregisterBean(bean);
+    }
+    m_registeredBeans.clear();
+  }
+
+  @Benchmark
+  public String serialize() throws IOException {
+    return m_objectMapper.writeValueAsString(m_order);
+  }
+
+  @Benchmark
+  public OrderFixtureDo deserialize() throws IOException {
+    return m_objectMapper.readValue(m_json, OrderFixtureDo.class);
+  }
+
+  protected OrderFixtureDo createOrder(int lines) {
+    OrderFixtureDo order = new OrderFixtureDo();
+    order.id().set("order-4711");
+    order.createdOn().set(new Date(1700000000000L));
+    order.customer().set(createCustomer());
+    Map<String, String> properties = new HashMap<>();
+    properties.put("channel", "web");
+    properties.put("priority", "high");
+    order.properties().set(properties);
+    for (int i = 0; i < lines; i++) {
+      OrderLineFixtureDo line = new OrderLineFixtureDo();
+      line.position().set(i + 1);
+      line.articleNumber().set("article-" + i);
+      line.description().set("Article description " + i);
+      line.quantity().set(BigDecimal.valueOf(i % 7 + 1));
+      line.unitPrice().set(new BigDecimal("19.95"));
+      line.tags().set(List.of("tag-a", "tag-b"));
+      order.lines().add(line);
+    }
+    return order;
+  }
+
+  protected CustomerFixtureDo createCustomer() {
+    AddressFixtureDo address = new AddressFixtureDo();
+    address.street().set("Main Street 1");
+    address.zipCode().set("8000");
+    address.city().set("Zurich");
+    address.country().set("CH");
+
+    CustomerFixtureDo customer = new CustomerFixtureDo();
+    customer.id().set("customer-42");
+    customer.firstName().set("Jane");
+    customer.lastName().set("Doe");
+    customer.email().set("jane.doe@example.com");
+    customer.address().set(address);
+    return customer;
+  }
+
+  public static class OrderFixtureDo extends DoEntity {
+
+    public DoValue<String> id() {
+      return doValue("id");
+    }
+
+    public DoValue<Date> createdOn() {
+      return doValue("createdOn");
+    }
+
+    public DoValue<CustomerFixtureDo> customer() {
+      return doValue("customer");
+    }
+
+    public DoValue<Map<String, String>> properties() {
+      return doValue("properties");
+    }
+
+    public DoList<OrderLineFixtureDo> lines() {
+      return doList("lines");
+    }
+  }
+
+  public static class OrderLineFixtureDo extends DoEntity {
+
+    public DoValue<Integer> position() {
+      return doValue("position");
+    }
+
+    public DoValue<String> articleNumber() {
+      return doValue("articleNumber");
+    }
+
+    public DoValue<String> description() {
+      return doValue("description");
+    }
+
+    public DoValue<BigDecimal> quantity() {
+      return doValue("quantity");
+    }
+
+    public DoValue<BigDecimal> unitPrice() {
+      return doValue("unitPrice");
+    }
+
+    public DoList<String> tags() {
+      return doList("tags");
+    }
+  }
+
+  public static class CustomerFixtureDo extends DoEntity {
+
+    public DoValue<String> id() {
+      return doValue("id");
+    }
+
+    public DoValue<String> firstName() {
+      return doValue("firstName");
+    }
+
+    public DoValue<String> lastName() {
+      return doValue("lastName");
+    }
+
+    public DoValue<String> email() {
+      return doValue("email");
+    }
+
+    public DoValue<AddressFixtureDo> address() {
+      return doValue("address");
+    }
+  }
+
+  public static class AddressFixtureDo extends DoEntity {
+
+    public DoValue<String> street() {
+      return doValue("street");
+    }
+
+    public DoValue<String> zipCode() {
+      return doValue("zipCode");
+    }
+
+    public DoValue<String> city() {
+      return doValue("city");
+    }
+
+    public DoValue<String> country() {
+      return doValue("country");
+    }
+  }
+}
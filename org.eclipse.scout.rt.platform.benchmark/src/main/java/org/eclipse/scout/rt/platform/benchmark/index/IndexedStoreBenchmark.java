@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.index;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.index.AbstractMultiValueIndex;
+import org.eclipse.scout.rt.platform.index.AbstractSingleValueIndex;
+import org.eclipse.scout.rt.platform.index.IndexedStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures lookups and updates of an {@link IndexedStore} with a single value and a multi value index.
+ * <p>
+ * {@link IndexedStore} is not thread-safe, therefore every benchmark thread works on its own store.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class IndexedStoreBenchmark {
+
+  private static final int GROUP_COUNT = 16;
+
+  @Param({"100", "10000"})
+  public int elementCount;
+
+  private ElementStore m_store;
+  private Element[] m_elements;
+  private int m_next;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    m_store = new ElementStore();
+    m_elements = new Element[elementCount];
+    for (int i = 0; i < elementCount; i++) {
+      m_elements[i] = new Element(i, "group-" + (i % GROUP_COUNT));
+      m_store.add(m_elements[i]);
+    }
+  }
+
+  @Benchmark
+  public Element getById() {
+    return m_store.getById(nextIndex());
+  }
+
+  @Benchmark
+  public List<Element> getByGroup() {
+    return m_store.getByGroup(m_elements[nextIndex()].getGroup());
+  }
+
+  /**
+   * Removes and re-adds an element, i.e. updates all indices twice.
+   */
+  @Benchmark
+  public void removeAndAdd() {
+    Element element = m_elements[nextIndex()];
+    m_store.remove(element);
+    m_store.add(element);
+  }
+
+  protected int nextIndex() {
+    m_next = (m_next + 1) % elementCount;
+    return m_next;
+  }
+
+  public static class Element {
+    private final int m_id;
+    private final String m_group;
+
+    public Element(int id, String group) {
+      m_id = id;
+      m_group = group;
+    }
+
+    public int getId() {
+      return m_id;
+    }
+
+    public String getGroup() {
+      return m_group;
+    }
+  }
+
+  public static class ElementStore extends IndexedStore<Element> {
+    private final ElementIdIndex m_idIndex = registerIndex(new ElementIdIndex());
+    private final ElementGroupIndex m_groupIndex = registerIndex(new ElementGroupIndex());
+
+    public Element getById(int id) {
+      return m_idIndex.get(id);
+    }
+
+    public List<Element> getByGroup(String group) {
+      return m_groupIndex.get(group);
+    }
+
+    private static class ElementIdIndex extends AbstractSingleValueIndex<Integer, Element> {
+
+      @Override
+      protected Integer calculateIndexFor(Element element) {
+        return element.getId();
+      }
+    }
+
+    private static class ElementGroupIndex extends AbstractMultiValueIndex<String, Element> {
+
+      @Override
+      protected String calculateIndexFor(Element element) {
+        return element.getGroup();
+      }
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.inventory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.inventory.ClassInventory;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryCache;
+import org.jboss.jandex.IndexView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building the class inventory, which dominates the platform startup, without cache, with a cold cache (the
+ * cache file is written) and with a warm cache (all indexes are read from the cache file).
+ * <p>
+ * The {@link ClassInventory} itself is built only once per JVM. Therefore, this benchmark uses a new
+ * {@link JandexInventoryBuilder} for every invocation, exactly as {@link ClassInventory} does on startup.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class JandexInventoryBenchmark {
+
+  @Param({"NONE", "COLD", "WARM"})
+  public CacheMode cacheMode;
+
+  private Path m_tempDir;
+  private JandexInventoryCache m_cache;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    m_tempDir = Files.createTempDirectory("jandexInventoryBenchmark");
+    if (cacheMode != CacheMode.NONE) {
+      m_cache = new JandexInventoryCache(m_tempDir.resolve("inventory.idx"));
+    }
+    if (cacheMode == CacheMode.WARM) {
+      new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, m_cache).scanAllModules();
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void setupIteration() {
+    if (cacheMode == CacheMode.COLD) {
+      m_cache.invalidate();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    if (m_cache != null) {
+      m_cache.invalidate();
+    }
+    Files.deleteIfExists(m_tempDir);
+  }
+
+  @Benchmark
+  public IndexView buildInventory() {
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, m_cache);
+    builder.scanAllModules();
+    return builder.finish();
+  }
+
+  public enum CacheMode {
+    NONE,
+    COLD,
+    WARM
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.jdbc;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * JDBC driver creating connections which do nothing, thus only the Scout side of the JDBC access is measured.
+ * <p>
+ * Each execution of a prepared statement (single or batch) waits for {@link #setRoundTripNanos(long)} to simulate the
+ * network round trip to a database.
+ */
+public class BenchmarkJdbcDriver implements Driver {
+  public static final String URL_PREFIX = "jdbc:scoutbenchmark:";
+
+  private static volatile long s_roundTripNanos;
+
+  static {
+    try {
+      DriverManager.registerDriver(new BenchmarkJdbcDriver());
+    }
+    catch (SQLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static void setRoundTripNanos(long roundTripNanos) {
+    s_roundTripNanos = roundTripNanos;
+  }
+
+  @Override
+  public Connection connect(String url, Properties info) {
+    if (!acceptsURL(url)) {
+      return null;
+    }
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{Connection.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "prepareStatement":
+          return createPreparedStatement();
+        case "toString":
+          return "BenchmarkConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+        default:
+          return defaultResult(proxy, method, args);
+      }
+    });
+  }
+
+  protected PreparedStatement createPreparedStatement() {
+    int[] batchCount = new int[1];
+    return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class[]{PreparedStatement.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "addBatch":
+          batchCount[0]++;
+          return null;
+        case "clearBatch":
+          batchCount[0] = 0;
+          return null;
+        case "executeUpdate":
+          roundTrip();
+          return 1;
+        case "executeBatch":
+          roundTrip();
+          int[] result = new int[batchCount[0]];
+          Arrays.fill(result, 1);
+          batchCount[0] = 0;
+          return result;
+        default:
+          return defaultResult(proxy, method, args);
+      }
+    });
+  }
+
+  protected void roundTrip() {
+    long roundTripNanos = s_roundTripNanos;
+    if (roundTripNanos > 0) {
+      LockSupport.parkNanos(roundTripNanos);
+    }
+  }
+
+  protected Object defaultResult(Object proxy, Method method, Object[] args) {
+    switch (method.getName()) {
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "equals":
+        return proxy == args[0];
+      default:
+        break;
+    }
+    Class<?> returnType = method.getReturnType();
+    if (returnType == boolean.class) {
+      return Boolean.FALSE;
+    }
+    if (returnType == int.class) {
+      return 0;
+    }
+    if (returnType == long.class) {
+      return 0L;
+    }
+    return null;
+  }
+
+  @Override
+  public boolean acceptsURL(String url) {
+    return url != null && url.startsWith(URL_PREFIX);
+  }
+
+  @Override
+  public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+    return new DriverPropertyInfo[0];
+  }
+
+  @Override
+  public int getMajorVersion() {
+    return 1;
+  }
+
+  @Override
+  public int getMinorVersion() {
+    return 0;
+  }
+
+  @Override
+  public boolean jdbcCompliant() {
+    return false;
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+}
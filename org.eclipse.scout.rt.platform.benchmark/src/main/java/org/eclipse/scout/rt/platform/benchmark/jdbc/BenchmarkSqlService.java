@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.jdbc;
+
+import java.sql.Connection;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+
+/**
+ * SQL service using the {@link BenchmarkJdbcDriver}.
+ */
+public class BenchmarkSqlService extends AbstractSqlService {
+
+  @Override
+  protected String getConfiguredJdbcDriverName() {
+    return BenchmarkJdbcDriver.class.getName();
+  }
+
+  @Override
+  protected String getConfiguredJdbcMappingName() {
+    return BenchmarkJdbcDriver.URL_PREFIX;
+  }
+
+  @Override
+  protected void execTestConnection(Connection conn) {
+    // benchmark connections are always valid
+  }
+}
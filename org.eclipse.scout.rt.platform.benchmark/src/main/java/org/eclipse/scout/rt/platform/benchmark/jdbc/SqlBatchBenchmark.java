@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.jdbc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.ISqlService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares inserting {@link #rows} rows by {@link ISqlService#insert(String, Object...)} with
+ * {@link ISqlService#insertBatch(String, java.util.stream.Stream, Object...)} within one transaction.
+ * <p>
+ * The {@link BenchmarkJdbcDriver} waits {@link #roundTripMicros} for each executed statement or batch, which is the
+ * cost saved by batching.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class SqlBatchBenchmark {
+
+  private static final String INSERT = "INSERT INTO PERSON (PERSON_NR, NAME, COMPANY_NR) VALUES (:personNr, :name, :companyNr)";
+
+  @Param({"1000"})
+  public int rows;
+
+  @Param({"0", "200"})
+  public long roundTripMicros;
+
+  private AbstractSqlService m_service;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    BenchmarkJdbcDriver.setRoundTripNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+    m_service = new BenchmarkSqlService();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    m_service.destroySqlConnectionPool();
+    BenchmarkJdbcDriver.setRoundTripNanos(0);
+  }
+
+  @Benchmark
+  public int insert() {
+    return RunContexts.empty().withTransactionScope(TransactionScope.REQUIRES_NEW).call(() -> {
+      int count = 0;
+      for (int i = 0; i < rows; i++) {
+        count += m_service.insert(INSERT, new NVPair("personNr", i), new NVPair("name", "name-" + i), new NVPair("companyNr", 42));
+      }
+      return count;
+    });
+  }
+
+  @Benchmark
+  public int insertBatch() {
+    return RunContexts.empty().withTransactionScope(TransactionScope.REQUIRES_NEW).call(() -> m_service.insertBatch(INSERT,
+        IntStream.range(0, rows).mapToObj(i -> new Object[]{new NVPair("personNr", i), new NVPair("name", "name-" + i)}),
+        new NVPair("companyNr", 42)));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ConcurrentSqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link SqlConnectionPool} and {@link ConcurrentSqlConnectionPool} with {@value #THREADS} threads competing
+ * for {@value #POOL_SIZE} connections.
+ * <p>
+ * Each operation leases a connection, holds it for {@link #work} tokens of CPU work and releases it again. Connections
+ * are created by the {@link BenchmarkJdbcDriver}, thus only the pool itself is measured. The <tt>p0.99</tt>
+ * percentile of mode {@link Mode#SampleTime} reflects the fairness of the pool.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(SqlConnectionPoolBenchmark.THREADS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class SqlConnectionPoolBenchmark {
+
+  public static final int THREADS = 200;
+  public static final int POOL_SIZE = 25;
+
+  @Param({"false", "true"})
+  public boolean concurrent;
+
+  @Param({"0", "1000"})
+  public long work;
+
+  private ISqlConnectionPool m_pool;
+  private AbstractSqlService m_service;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    m_service = new BenchmarkSqlService();
+    m_pool = concurrent ? BEANS.get(ConcurrentSqlConnectionPool.class).withSqlService(m_service) : BEANS.get(SqlConnectionPool.class);
+    m_pool.initialize(getClass().getName(), POOL_SIZE, TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(1));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    m_pool.destroy();
+  }
+
+  @Benchmark
+  public void leaseAndRelease() throws ClassNotFoundException, SQLException {
+    Connection conn = m_pool.leaseConnection(m_service);
+    try {
+      Blackhole.consumeCPU(work);
+    }
+    finally {
+      m_pool.releaseConnection(conn);
+    }
+  }
+}
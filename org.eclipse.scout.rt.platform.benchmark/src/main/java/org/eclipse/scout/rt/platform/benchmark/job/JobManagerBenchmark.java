@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.job;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.internal.JobManager;
+import org.eclipse.scout.rt.platform.job.internal.VirtualThreadFactory;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the platform thread and the virtual thread executor of {@link JobManager} for I/O-bound jobs.
+ * <p>
+ * Each operation schedules a burst of concurrent jobs which block for a given time (simulating JDBC or REST calls) and
+ * waits until all of them are done. Sample time mode reports the p99 latency of a burst, the number of operations per
+ * second multiplied by the burst size is the job throughput. The auxiliary counter <tt>peakThreads</tt> reports the
+ * peak number of live platform threads.
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class JobManagerBenchmark {
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  public ExecutorMode executorMode;
+
+  @Param({"100", "1000"})
+  public int concurrentJobs;
+
+  @Param({"10"})
+  public long blockingMillis;
+
+  private JobManager m_jobManager;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    if (executorMode == ExecutorMode.VIRTUAL && !VirtualThreadFactory.isSupported()) {
+      throw new IllegalStateException("Virtual threads are not supported by this Java runtime");
+    }
+    m_jobManager = BenchmarkJobManager.create(executorMode);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    m_jobManager.shutdown();
+  }
+
+  @Benchmark
+  public void scheduleBlockingJobs(ThreadCounters counters) {
+    List<IFuture<Void>> futures = new ArrayList<>(concurrentJobs);
+    for (int i = 0; i < concurrentJobs; i++) {
+      futures.add(m_jobManager.schedule(() -> SleepUtil.sleepSafe(blockingMillis, TimeUnit.MILLISECONDS), Jobs.newInput()
+          .withName("benchmark job")
+          .withRunContext(RunContexts.empty())));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDone();
+    }
+    counters.sample();
+  }
+
+  public enum ExecutorMode {
+    PLATFORM,
+    VIRTUAL
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class ThreadCounters {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    public long peakThreads;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      THREAD_MX_BEAN.resetPeakThreadCount();
+      peakThreads = 0;
+    }
+
+    void sample() {
+      peakThreads = Math.max(peakThreads, THREAD_MX_BEAN.getPeakThreadCount());
+    }
+  }
+
+  /**
+   * {@link JobManager} with a fixed executor mode independent of the configuration.
+   */
+  protected static class BenchmarkJobManager extends JobManager {
+    private static final ThreadLocal<ExecutorMode> MODE = new ThreadLocal<>();
+
+    // the executor is created by the super constructor, therefore the mode is passed using a thread local
+    public static BenchmarkJobManager create(ExecutorMode mode) {
+      MODE.set(mode);
+      try {
+        return new BenchmarkJobManager();
+      }
+      finally {
+        MODE.remove();
+      }
+    }
+
+    @Override
+    protected ExecutorService createExecutor() {
+      return MODE.get() == ExecutorMode.VIRTUAL ? createVirtualThreadExecutor() : createPlatformThreadExecutor();
+    }
+  }
+}
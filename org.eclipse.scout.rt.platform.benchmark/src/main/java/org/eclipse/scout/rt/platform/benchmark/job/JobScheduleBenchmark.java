@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.job;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the round trip of scheduling a trivial job with {@link IJobManager#schedule(java.util.concurrent.Callable,
+ * org.eclipse.scout.rt.platform.job.JobInput)} and waiting for its result.
+ * <p>
+ * Unlike {@link JobManagerBenchmark}, the jobs do not block, so the score is dominated by the job manager itself
+ * (job input, run context, future and executor hand-off).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class JobScheduleBenchmark {
+
+  @Param({"false", "true"})
+  public boolean withRunContext;
+
+  private IJobManager m_jobManager;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Platform.get().awaitPlatformStarted();
+    m_jobManager = Jobs.getJobManager();
+  }
+
+  @Benchmark
+  public Object scheduleAndAwait() {
+    return m_jobManager.schedule(() -> Boolean.TRUE, Jobs.newInput()
+        .withName("benchmark job")
+        .withRunContext(withRunContext ? RunContexts.empty() : null))
+        .awaitDoneAndGet();
+  }
+}
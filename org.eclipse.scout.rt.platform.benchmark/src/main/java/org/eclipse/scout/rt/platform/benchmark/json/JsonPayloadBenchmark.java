@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing and encoding of typical UI payloads with <tt>org.json</tt>:
+ * <ul>
+ * <li><b>request</b>: a UI request with a batch of user interaction events (property changes, row selections, actions)
+ * <li><b>response</b>: a UI response with adapter data of a table page with 500 rows and property change events
+ * </ul>
+ * {@link #parseString()} corresponds to reading the request body into a string before parsing it, whereas
+ * {@link #parseReader()} parses the UTF-8 encoded body while reading. Use <tt>-prof gc</tt> to compare the
+ * allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class JsonPayloadBenchmark {
+
+  @Param({"request", "response"})
+  public String payload;
+
+  private byte[] m_bytes;
+  private JSONObject m_json;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    m_json = "request".equals(payload) ? createRequest() : createResponse();
+    m_bytes = m_json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public JSONObject parseString() throws IOException {
+    StringWriter buffer = new StringWriter();
+    try (Reader in = createReader()) {
+      in.transferTo(buffer);
+    }
+    return new JSONObject(buffer.toString());
+  }
+
+  @Benchmark
+  public JSONObject parseReader() throws IOException {
+    try (Reader in = createReader()) {
+      return new JSONObject(in);
+    }
+  }
+
+  @Benchmark
+  public String toJsonString() {
+    return m_json.toString();
+  }
+
+  protected Reader createReader() {
+    return new InputStreamReader(new ByteArrayInputStream(m_bytes), StandardCharsets.UTF_8);
+  }
+
+  protected JSONObject createRequest() {
+    JSONArray events = new JSONArray();
+    for (int i = 0; i < 20; i++) {
+      String target = String.valueOf(100 + i);
+      switch (i % 4) {
+        case 0:
+          events.put(new JSONObject()
+              .put("target", target)
+              .put("type", "property")
+              .put("properties", new JSONObject()
+                  .put("displayText", "M\u00fcller & S\u00f6hne " + i)
+                  .put("value", "M\u00fcller & S\u00f6hne " + i)));
+          break;
+        case 1:
+          JSONArray rowIds = new JSONArray();
+          for (int r = 0; r < 10; r++) {
+            rowIds.put(String.valueOf(r * 7 + i));
+          }
+          events.put(new JSONObject()
+              .put("target", target)
+              .put("type", "rowsSelected")
+              .put("rowIds", rowIds));
+          break;
+        case 2:
+          events.put(new JSONObject()
+              .put("target", target)
+              .put("type", "columnResized")
+              .put("columnId", "col" + i)
+              .put("width", 120 + i));
+          break;
+        default:
+          events.put(new JSONObject()
+              .put("target", target)
+              .put("type", "action")
+              .put("showBusyIndicator", true));
+      }
+    }
+    return new JSONObject()
+        .put("uiSessionId", "0:1a2b3c4d5e6f:hf3l8tdd5v3jmpk3gqfu1p0el")
+        .put("#ACK", 41L)
+        .put("#", 42L)
+        .put("events", events);
+  }
+
+  protected JSONObject createResponse() {
+    JSONArray columns = new JSONArray();
+    JSONArray rows = new JSONArray();
+    for (int c = 0; c < 6; c++) {
+      columns.put(new JSONObject()
+          .put("id", "col" + c)
+          .put("objectType", c == 0 ? "NumberColumn" : "Column")
+          .put("text", "Column " + c)
+          .put("width", 100 + c * 20)
+          .put("horizontalAlignment", c == 0 ? 1 : -1));
+    }
+    for (int r = 0; r < 500; r++) {
+      JSONArray cells = new JSONArray()
+          .put(new JSONObject().put("value", r).put("text", String.valueOf(r)))
+          .put("Customer " + r)
+          .put("Street \"" + r + "\"\n8000 Z\u00fcrich")
+          .put("2024-0" + (r % 9 + 1) + "-1" + r % 10)
+          .put(r % 3 == 0 ? "Active" : "Inactive")
+          .put(r * 13.75);
+      rows.put(new JSONObject()
+          .put("id", String.valueOf(r))
+          .put("cells", cells)
+          .put("enabled", true));
+    }
+    JSONObject adapterData = new JSONObject()
+        .put("200", new JSONObject()
+            .put("id", "200")
+            .put("objectType", "Table")
+            .put("parent", "199")
+            .put("columns", columns)
+            .put("rows", rows)
+            .put("multiSelect", true));
+    JSONArray events = new JSONArray()
+        .put(new JSONObject()
+            .put("target", "199")
+            .put("type", "property")
+            .put("properties", new JSONObject().put("detailTable", "200")));
+    return new JSONObject()
+        .put("#", 42L)
+        .put("adapterData", adapterData)
+        .put("events", events);
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.benchmark.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares writing a UI response by building the whole JSON text ({@link JSONObject#toString()} and
+ * {@link String#getBytes(java.nio.charset.Charset)}) with streaming it to the output stream
+ * ({@link JSONObject#write(Writer)}), as done by <code>JsonRequestHelper#writeResponse</code>.
+ * <p>
+ * The response resembles the startup response of a desktop showing a table with {@link #rowCount} rows and
+ * {@value #COLUMN_COUNT} columns. Use <tt>-prof gc</tt> to compare the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class JsonResponseWriteBenchmark {
+
+  public static final int COLUMN_COUNT = 8;
+
+  @Param({"10000"})
+  public int rowCount;
+
+  private JSONObject m_response;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    m_response = createStartupResponse(rowCount);
+  }
+
+  @Benchmark
+  public void writeString(Blackhole blackhole) throws IOException {
+    try (OutputStream out = new DiscardingOutputStream(blackhole)) {
+      out.write(m_response.toString().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Benchmark
+  public void writeStreaming(Blackhole blackhole) throws IOException {
+    try (Writer writer = new OutputStreamWriter(new DiscardingOutputStream(blackhole), StandardCharsets.UTF_8)) {
+      m_response.write(writer);
+    }
+  }
+
+  protected JSONObject createStartupResponse(int rows) {
+    JSONObject adapterData = new JSONObject();
+    adapterData.put("1", new JSONObject()
+        .put("id", "1")
+        .put("objectType", "Desktop")
+        .put("title", "Benchmark")
+        .put("outlines", new JSONArray().put("2")));
+    adapterData.put("2", new JSONObject()
+        .put("id", "2")
+        .put("objectType", "Outline")
+        .put("detailTable", "3"));
+    adapterData.put("3", createTable("3", rows));
+
+    JSONObject startupData = new JSONObject()
+        .put("clientSessionId", "1")
+        .put("clientSession", "1");
+
+    JSONArray events = new JSONArray()
+        .put(new JSONObject()
+            .put("target", "1")
+            .put("type", "property")
+            .put("properties", new JSONObject().put("activeOutline", "2")));
+
+    return new JSONObject()
+        .put("#", 1L)
+        .put("startupData", startupData)
+        .put("adapterData", adapterData)
+        .put("events", events);
+  }
+
+  protected JSONObject createTable(String id, int rows) {
+    JSONArray columns = new JSONArray();
+    for (int c = 0; c < COLUMN_COUNT; c++) {
+      columns.put(new JSONObject()
+          .put("id", "col" + c)
+          .put("objectType", c % 2 == 0 ? "StringColumn" : "NumberColumn")
+          .put("text", "Column " + c)
+          .put("width", 120)
+          .put("sortActive", false));
+    }
+    JSONArray tableRows = new JSONArray();
+    for (int r = 0; r < rows; r++) {
+      JSONArray cells = new JSONArray();
+      for (int c = 0; c < COLUMN_COUNT; c++) {
+        if (c % 2 == 0) {
+          cells.put("Row " + r + " \"cell\" " + c);
+        }
+        else {
+          cells.put(new JSONObject()
+              .put("value", r * 1.5d + c)
+              .put("text", String.valueOf(r * 1.5d + c)));
+        }
+      }
+      tableRows.put(new JSONObject()
+          .put("id", "row" + r)
+          .put("cells", cells)
+          .put("checked", r % 3 == 0));
+    }
+    return new JSONObject()
+        .put("id", id)
+        .put("objectType", "Table")
+        .put("columns", columns)
+        .put("rows", tableRows);
+  }
+
+  protected static class DiscardingOutputStream extends OutputStream {
+
+    private final Blackhole m_blackhole;
+
+    public DiscardingOutputStream(Blackhole blackhole) {
+      m_blackhole = blackhole;
+    }
+
+    @Override
+    public void write(int b) {
+      m_blackhole.consume(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      m_blackhole.consume(b);
+    }
+  }
+}
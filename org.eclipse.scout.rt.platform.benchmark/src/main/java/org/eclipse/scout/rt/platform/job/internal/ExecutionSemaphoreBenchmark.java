@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.QueuePosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the acquire/release throughput of {@link ExecutionSemaphore} and {@link LockFreeExecutionSemaphore} with 1,
+ * 4 and 32 competing jobs.
+ * <p>
+ * This benchmark is located in the package of the semaphore to invoke its protected acquire and release methods
+ * directly, without the overhead of the job manager. Every benchmark thread represents a job holding its own
+ * {@link IFuture}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class ExecutionSemaphoreBenchmark {
+
+  @Param({"DEFAULT", "LOCK_FREE"})
+  public SemaphoreImplementation implementation;
+
+  @Param({"1", "16"})
+  public int permits;
+
+  private ExecutionSemaphore m_semaphore;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    m_semaphore = implementation.create().withPermits(permits);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void acquireRelease1(Job job) {
+    acquireRelease(job);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void acquireRelease4(Job job) {
+    acquireRelease(job);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void acquireRelease32(Job job) {
+    acquireRelease(job);
+  }
+
+  protected void acquireRelease(Job job) {
+    m_semaphore.acquire(job.future, QueuePosition.TAIL);
+    m_semaphore.release(job.future);
+  }
+
+  public enum SemaphoreImplementation {
+    DEFAULT {
+      @Override
+      ExecutionSemaphore create() {
+        return new ExecutionSemaphore();
+      }
+    },
+    LOCK_FREE {
+      @Override
+      ExecutionSemaphore create() {
+        return new LockFreeExecutionSemaphore();
+      }
+    };
+
+    abstract ExecutionSemaphore create();
+  }
+
+  @State(Scope.Thread)
+  public static class Job {
+
+    IFuture<?> future;
+
+    @Setup(Level.Trial)
+    public void setup(ExecutionSemaphoreBenchmark benchmark) {
+      future = createFuture(new JobInput()
+          .withName("benchmark job")
+          .withExecutionSemaphore(benchmark.m_semaphore));
+    }
+
+    /**
+     * Creates a minimal {@link IFuture} which only provides its {@link JobInput}, as this is all the semaphore requires.
+     */
+    protected static IFuture<?> createFuture(JobInput input) {
+      return (IFuture<?>) Proxy.newProxyInstance(IFuture.class.getClassLoader(), new Class<?>[]{IFuture.class}, (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "getJobInput":
+            return input;
+          case "getExecutionSemaphore":
+            return input.getExecutionSemaphore();
+          case "equals":
+            return proxy == args[0];
+          case "hashCode":
+            return System.identityHashCode(proxy);
+          case "toString":
+            return input.getName();
+          default:
+            throw new UnsupportedOperationException(method.getName());
+        }
+      });
+    }
+  }
+}
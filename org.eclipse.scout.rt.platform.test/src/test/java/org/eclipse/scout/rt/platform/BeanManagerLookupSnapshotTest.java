@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
+import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BeanManagerLookupSnapshotTest {
+
+  private BeanManagerImplementor m_beanManager;
+
+  @Before
+  public void before() {
+    m_beanManager = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    m_beanManager.registerClass(Base.class);
+    m_beanManager.setLookupSnapshotEnabled(true);
+  }
+
+  @Test
+  public void testCachedResult() {
+    assertTrue(m_beanManager.isLookupSnapshotEnabled());
+    List<IBean<Base>> beans = m_beanManager.getBeans(Base.class);
+    assertSame(beans, m_beanManager.getBeans(Base.class));
+    assertSame(m_beanManager.getBean(Base.class), m_beanManager.getBean(Base.class));
+    assertNull(m_beanManager.optBean(Replacement.class));
+  }
+
+  @Test
+  public void testRegisterInvalidates() {
+    assertEquals(Base.class, m_beanManager.getBean(Base.class).getBeanClazz());
+    assertNull(m_beanManager.optBean(Replacement.class));
+
+    IBean<?> replacement = m_beanManager.registerClass(Replacement.class);
+    assertEquals(Replacement.class, m_beanManager.getBean(Base.class).getBeanClazz());
+    assertEquals(Replacement.class, m_beanManager.getBean(Replacement.class).getBeanClazz());
+    assertEquals(1, m_beanManager.getBeans(Base.class).size());
+
+    m_beanManager.unregisterBean(replacement);
+    assertEquals(Base.class, m_beanManager.getBean(Base.class).getBeanClazz());
+    assertNull(m_beanManager.optBean(Replacement.class));
+    assertEquals(1, m_beanManager.getBeans(Base.class).size());
+  }
+
+  @Test
+  public void testDecoratedBeansAreNotCached() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(new DecoratingFactory());
+    beanManager.registerClass(Service.class);
+    beanManager.setLookupSnapshotEnabled(true);
+
+    IBean<IService> bean = beanManager.getBean(IService.class);
+    assertNotSame(bean, beanManager.getBean(IService.class));
+    assertEquals("decorated", bean.getInstance().getName());
+  }
+
+  @Test
+  public void testDisabled() {
+    m_beanManager.setLookupSnapshotEnabled(false);
+    assertFalse(m_beanManager.isLookupSnapshotEnabled());
+    m_beanManager.registerClass(Replacement.class);
+    assertEquals(Replacement.class, m_beanManager.getBean(Base.class).getBeanClazz());
+  }
+
+  public static class Base {
+  }
+
+  @Replace
+  public static class Replacement extends Base {
+  }
+
+  @ApplicationScoped
+  public interface IService {
+    String getName();
+  }
+
+  public static class Service implements IService {
+    @Override
+    public String getName() {
+      return "service";
+    }
+  }
+
+  private static class DecoratingFactory extends SimpleBeanDecorationFactory {
+    @Override
+    public <T> IBeanDecorator<T> decorate(IBean<T> bean, Class<? extends T> queryType) {
+      return context -> "decorated";
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.exception.BeanCreationException;
+import org.eclipse.scout.rt.platform.exception.InitializationException;
+import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @since 24.2
+ */
+public class BeanManagerParallelStartupTest {
+
+  private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+  private ExecutorService m_executor;
+
+  @Before
+  public void before() {
+    INSTANCE_COUNT.set(0);
+    m_executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void after() {
+    m_executor.shutdownNow();
+  }
+
+  @Test
+  public void testRegisterClassesParallel() {
+    List<Class<?>> classes = Arrays.asList(Base.class, Replacement.class, Other.class, FirstCreateImmediately.class, SecondCreateImmediately.class);
+    BeanManagerImplementor sequential = new BeanManagerImplementor();
+    BeanManagerImplementor parallel = new BeanManagerImplementor();
+
+    List<IBean<?>> sequentialBeans = sequential.registerClasses(classes, false);
+    List<IBean<?>> parallelBeans = parallel.registerClasses(classes, true);
+
+    assertEquals(classes.size(), parallelBeans.size());
+    for (int i = 0; i < classes.size(); i++) {
+      assertSame(classes.get(i), sequentialBeans.get(i).getBeanClazz());
+      assertSame(classes.get(i), parallelBeans.get(i).getBeanClazz());
+    }
+    assertSame(Replacement.class, parallel.getBean(Base.class).getBeanClazz());
+    assertEquals(beanClasses(sequential.getBeans(Object.class)), beanClasses(parallel.getBeans(Object.class)));
+  }
+
+  @Test
+  public void testStartCreateImmediatelyBeansConcurrently() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    beanManager.registerClasses(Arrays.asList(Other.class, FirstCreateImmediately.class, SecondCreateImmediately.class), true);
+
+    beanManager.startCreateImmediatelyBeans(m_executor);
+    assertEquals(2, INSTANCE_COUNT.get());
+    assertTrue(beanManager.getBean(FirstCreateImmediately.class).isInstanceAvailable());
+    assertTrue(beanManager.getBean(SecondCreateImmediately.class).isInstanceAvailable());
+    assertFalse(beanManager.getBean(Other.class).isInstanceAvailable());
+  }
+
+  @Test
+  public void testStartCreateImmediatelyBeansConcurrentlyFailure() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    beanManager.registerClasses(Arrays.asList(FirstCreateImmediately.class, FailingCreateImmediately.class), true);
+
+    try {
+      beanManager.startCreateImmediatelyBeans(m_executor);
+      fail("failure expected");
+    }
+    catch (BeanCreationException e) {
+      assertEquals("failing", e.getCause().getMessage());
+    }
+    assertEquals(1, INSTANCE_COUNT.get());
+  }
+
+  @Test(expected = InitializationException.class)
+  public void testStartCreateImmediatelyBeansConcurrentlyNotApplicationScoped() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    beanManager.registerClasses(Arrays.asList(FirstCreateImmediately.class, NotApplicationScopedCreateImmediately.class), false);
+    beanManager.startCreateImmediatelyBeans(m_executor);
+  }
+
+  protected static List<Class<?>> beanClasses(List<? extends IBean<?>> beans) {
+    return beans.stream().<Class<?>> map(IBean::getBeanClazz).collect(Collectors.toList());
+  }
+
+  public static class Base {
+  }
+
+  @Replace
+  public static class Replacement extends Base {
+  }
+
+  @ApplicationScoped
+  public static class Other {
+  }
+
+  @ApplicationScoped
+  @CreateImmediately
+  public static class FirstCreateImmediately {
+    public FirstCreateImmediately() {
+      INSTANCE_COUNT.incrementAndGet();
+    }
+  }
+
+  @ApplicationScoped
+  @CreateImmediately
+  public static class SecondCreateImmediately {
+    public SecondCreateImmediately() {
+      INSTANCE_COUNT.incrementAndGet();
+    }
+  }
+
+  @ApplicationScoped
+  @CreateImmediately
+  public static class FailingCreateImmediately {
+    public FailingCreateImmediately() {
+      throw new IllegalStateException("failing");
+    }
+  }
+
+  @CreateImmediately
+  public static class NotApplicationScopedCreateImmediately {
+  }
+}
@@ -46,6 +46,44 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testMaxWeightAndStatistics() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + "Weight")
+        .withValueResolver(key -> "v" + key)
+        .withMaxWeight(2L)
+        .withReplaceIfExists(true)
+        .build();
+
+    assertEquals("v1", cache.get(1));
+    assertEquals("v1", cache.get(1));
+    assertEquals("v2", cache.get(2));
+    assertEquals("v3", cache.get(3));
+    assertEquals(2, cache.getUnmodifiableMap().size());
+
+    CacheStatistics statistics = BEANS.get(ICacheRegistryService.class).getStatistics(CACHE_ID + "Weight");
+    assertSame(statistics, cache.getAdapter(CacheStatistics.class));
+    assertSame(statistics, BEANS.get(ICacheRegistryService.class).getAllStatistics().get(CACHE_ID + "Weight"));
+    assertEquals(1, statistics.getHitCount());
+    assertEquals(3, statistics.getMissCount());
+    assertEquals(3, statistics.getLoadCount());
+    assertEquals(1, statistics.getEvictionCount());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMaxWeightTransactional() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    cacheBuilder
+        .withCacheId(CACHE_ID + "WeightTransactional")
+        .withValueResolver(key -> "v" + key)
+        .withMaxWeight(2L)
+        .withTransactional(true)
+        .build();
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
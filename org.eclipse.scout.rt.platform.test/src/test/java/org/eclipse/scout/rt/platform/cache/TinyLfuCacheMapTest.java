@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class TinyLfuCacheMapTest {
+
+  @Test
+  public void testMaxSize() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(10);
+    for (int i = 0; i < 100; i++) {
+      map.put(i, "v" + i);
+      assertTrue(map.size() <= 10);
+    }
+    assertEquals(10, map.size());
+    assertEquals(10, map.getWeight());
+  }
+
+  @Test
+  public void testFrequentEntriesSurviveScan() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(100);
+    for (int i = 0; i < 10; i++) {
+      map.put(i, "hot" + i);
+    }
+    for (int n = 0; n < 5; n++) {
+      for (int i = 0; i < 10; i++) {
+        assertEquals("hot" + i, map.get(i));
+      }
+    }
+    for (int i = 1000; i < 1300; i++) {
+      map.put(i, "scan" + i);
+    }
+    assertEquals(100, map.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals("hot" + i, map.get(i));
+    }
+  }
+
+  @Test
+  public void testWeigher() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(100, (key, value) -> value.length());
+    for (int i = 0; i < 10; i++) {
+      map.put(i, "x".repeat(30));
+      assertTrue(map.getWeight() <= 100);
+    }
+    assertEquals(3, map.size());
+
+    map.put(100, "x".repeat(200));
+    assertFalse(map.containsKey(100));
+    assertTrue(map.getWeight() <= 100);
+
+    map.clear();
+    assertEquals(0, map.getWeight());
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testWeigherUpdate() {
+    TinyLfuCacheMap<Integer, String> map = new TinyLfuCacheMap<>(100, (key, value) -> value.length());
+    map.put(1, "x".repeat(10));
+    map.put(2, "x".repeat(10));
+    assertEquals(20, map.getWeight());
+    map.put(1, "x".repeat(40));
+    assertEquals(50, map.getWeight());
+    map.remove(2);
+    assertEquals(40, map.getWeight());
+  }
+
+  @Test
+  public void testConcurrentMapOperations() {
+    TinyLfuCacheMap<String, String> map = new TinyLfuCacheMap<>(10);
+    assertNull(map.putIfAbsent("a", "1"));
+    assertEquals("1", map.putIfAbsent("a", "2"));
+    assertEquals("1", map.get("a"));
+
+    assertFalse(map.replace("a", "2", "3"));
+    assertTrue(map.replace("a", "1", "3"));
+    assertEquals("3", map.replace("a", "4"));
+    assertNull(map.replace("b", "1"));
+    assertFalse(map.containsKey("b"));
+
+    assertFalse(map.remove("a", "3"));
+    assertTrue(map.remove("a", "4"));
+    assertTrue(map.isEmpty());
+
+    map.put("a", "1");
+    map.put("b", "2");
+    map.put("c", "3");
+    map.entrySet().removeIf(e -> "2".equals(e.getValue()));
+    assertEquals(2, map.size());
+    assertFalse(map.containsKey("b"));
+    assertEquals(2, map.getWeight());
+  }
+
+  @Test
+  public void testEntryEvicted() {
+    AtomicInteger evictions = new AtomicInteger();
+    TinyLfuCacheMap<Integer, Integer> map = new TinyLfuCacheMap<>(5) {
+      @Override
+      protected void execEntryEvicted(Integer key, Integer value) {
+        assertEquals(key, value);
+        evictions.incrementAndGet();
+      }
+    };
+    for (int i = 0; i < 20; i++) {
+      map.put(i, i);
+    }
+    assertEquals(15, evictions.get());
+    map.remove(map.keySet().iterator().next());
+    assertEquals(15, evictions.get());
+  }
+
+  @Test
+  public void testFrequencySketch() {
+    FrequencySketch sketch = new FrequencySketch(64);
+    assertEquals(0, sketch.frequency("a"));
+    for (int i = 0; i < 5; i++) {
+      sketch.increment("a");
+    }
+    assertEquals(5, sketch.frequency("a"));
+    for (int i = 0; i < 20; i++) {
+      sketch.increment("a");
+    }
+    assertEquals(15, sketch.frequency("a"));
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConcurrentIndexedStoreTest {
+
+  private PersonStore m_store;
+
+  private Person m_john;
+  private Person m_anna;
+  private Person m_maria;
+  private Person m_tom;
+
+  @Before
+  public void before() {
+    m_store = new PersonStore();
+    m_john = new Person(1, "john", 35);
+    m_anna = new Person(2, "anna", 25);
+    m_maria = new Person(3, "maria", 80);
+    m_tom = new Person(4, "john", 50);
+    m_store.addAll(Arrays.asList(m_john, m_anna, m_maria, m_tom));
+  }
+
+  @Test
+  public void testIndices() {
+    assertSame(m_john, m_store.getById(1));
+    assertSame(m_maria, m_store.getById(3));
+    assertNull(m_store.getById(5));
+    assertEquals(CollectionUtility.arrayList(m_john, m_tom), m_store.getByName("john"));
+    assertEquals(Collections.emptyList(), m_store.getByName("frank"));
+    assertEquals(CollectionUtility.hashSet("john", "anna", "maria"), m_store.m_nameIndex.indexValues());
+    assertEquals(CollectionUtility.arrayList(m_john, m_anna, m_maria, m_tom), m_store.values());
+    assertEquals(4, m_store.size());
+  }
+
+  @Test
+  public void testRange() {
+    assertEquals(CollectionUtility.arrayList(m_anna, m_john, m_tom), m_store.getByAge(25, 50));
+    assertEquals(CollectionUtility.arrayList(m_tom, m_maria), m_store.m_ageIndex.getRange(m_store.snapshot(), 35, false, null, true));
+    assertEquals(CollectionUtility.arrayList(m_anna), m_store.m_ageIndex.getRange(m_store.snapshot(), null, true, 35, false));
+    assertEquals(Collections.emptyList(), m_store.getByAge(60, 70));
+    assertEquals(Integer.valueOf(25), m_store.m_ageIndex.firstIndexValue());
+    assertEquals(Integer.valueOf(80), m_store.m_ageIndex.lastIndexValue());
+  }
+
+  @Test
+  public void testSnapshotIsImmutable() {
+    IndexedStoreSnapshot<Person> snapshot = m_store.snapshot();
+    long version = snapshot.getVersion();
+
+    m_store.remove(m_john);
+    Person frank = new Person(5, "frank", 40);
+    m_store.add(frank);
+
+    // old snapshot is unchanged
+    assertTrue(snapshot.contains(m_john));
+    assertFalse(snapshot.contains(frank));
+    assertSame(m_john, m_store.m_idIndex.get(snapshot, 1L));
+    assertEquals(CollectionUtility.arrayList(m_john, m_tom), m_store.m_nameIndex.get(snapshot, "john"));
+
+    // current snapshot reflects the modifications
+    assertEquals(version + 2, m_store.snapshot().getVersion());
+    assertNull(m_store.getById(1));
+    assertSame(frank, m_store.getById(5));
+    assertEquals(CollectionUtility.arrayList(m_tom), m_store.getByName("john"));
+    assertEquals(CollectionUtility.arrayList(frank, m_tom), m_store.getByAge(36, 50));
+  }
+
+  @Test
+  public void testBatchPublishesOneSnapshot() {
+    long version = m_store.snapshot().getVersion();
+    m_store.update(batch -> {
+      batch.remove(m_anna);
+      batch.remove(m_maria);
+      batch.add(new Person(6, "eve", 30));
+    });
+    assertEquals(version + 1, m_store.snapshot().getVersion());
+    assertEquals(3, m_store.size());
+
+    // no modification, no new snapshot
+    m_store.remove(m_anna);
+    assertEquals(version + 1, m_store.snapshot().getVersion());
+  }
+
+  @Test
+  public void testReAdd() {
+    m_john.m_name = "johnny";
+    m_store.add(m_john);
+    assertEquals(CollectionUtility.arrayList(m_tom), m_store.getByName("john"));
+    assertEquals(CollectionUtility.arrayList(m_john), m_store.getByName("johnny"));
+    assertEquals(CollectionUtility.arrayList(m_anna, m_maria, m_tom, m_john), m_store.values());
+  }
+
+  @Test
+  public void testClear() {
+    m_store.clear();
+    assertTrue(m_store.isEmpty());
+    assertNull(m_store.getById(1));
+    assertEquals(Collections.emptyList(), m_store.getByAge(null, null));
+  }
+
+  @Test
+  public void testRegisterIndexLater() {
+    AbstractConcurrentMultiValueIndex<Boolean, Person> retiredIndex = m_store.registerIndex(new AbstractConcurrentMultiValueIndex<Boolean, Person>() {
+      @Override
+      protected Boolean calculateIndexFor(Person person) {
+        return person.m_age >= 65;
+      }
+    });
+    assertEquals(CollectionUtility.arrayList(m_maria), retiredIndex.get(true));
+
+    m_store.unregisterIndex(retiredIndex);
+    assertSame(m_anna, m_store.getById(2));
+  }
+
+  @Test
+  public void testConcurrentReaders() throws InterruptedException {
+    Thread writer = new Thread(() -> {
+      for (int i = 100; i < 1100; i++) {
+        Person person = new Person(i, "p" + i, i % 100);
+        m_store.add(person);
+        m_store.remove(person);
+      }
+    });
+    writer.start();
+    while (writer.isAlive()) {
+      IndexedStoreSnapshot<Person> snapshot = m_store.snapshot();
+      for (Person person : snapshot) {
+        assertSame(person, m_store.m_idIndex.get(snapshot, person.m_id));
+      }
+    }
+    writer.join();
+    assertEquals(4, m_store.size());
+  }
+
+  private static class Person {
+    private final long m_id;
+    private String m_name;
+    private final int m_age;
+
+    Person(long id, String name, int age) {
+      m_id = id;
+      m_name = name;
+      m_age = age;
+    }
+
+    @Override
+    public String toString() {
+      return m_name;
+    }
+  }
+
+  private static class PersonStore extends ConcurrentIndexedStore<Person> {
+
+    private final PersonIdIndex m_idIndex = registerIndex(new PersonIdIndex());
+    private final PersonNameIndex m_nameIndex = registerIndex(new PersonNameIndex());
+    private final PersonAgeIndex m_ageIndex = registerIndex(new PersonAgeIndex());
+
+    Person getById(long id) {
+      return m_idIndex.get(id);
+    }
+
+    List<Person> getByName(String name) {
+      return m_nameIndex.get(name);
+    }
+
+    List<Person> getByAge(Integer from, Integer to) {
+      return m_ageIndex.getRange(from, to);
+    }
+
+    private static class PersonIdIndex extends AbstractConcurrentSingleValueIndex<Long, Person> {
+
+      @Override
+      protected Long calculateIndexFor(Person person) {
+        return person.m_id;
+      }
+    }
+
+    private static class PersonNameIndex extends AbstractConcurrentMultiValueIndex<String, Person> {
+
+      @Override
+      protected String calculateIndexFor(Person person) {
+        return person.m_name;
+      }
+    }
+
+    private static class PersonAgeIndex extends AbstractConcurrentSortedIndex<Integer, Person> {
+
+      @Override
+      protected Integer calculateIndexFor(Person person) {
+        return person.m_age;
+      }
+    }
+  }
+}
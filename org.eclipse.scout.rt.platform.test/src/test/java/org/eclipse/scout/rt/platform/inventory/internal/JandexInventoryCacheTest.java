@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JandexInventoryCacheTest {
+
+  private Path m_tempDir;
+  private JandexInventoryCache m_cache;
+
+  @Before
+  public void before() throws IOException {
+    m_tempDir = Files.createTempDirectory("jandexInventoryCacheTest");
+    m_cache = new JandexInventoryCache(m_tempDir.resolve("inventory.idx"));
+  }
+
+  @After
+  public void after() {
+    IOUtility.deleteDirectory(m_tempDir.toFile());
+  }
+
+  @Test
+  public void testStoreAndLoad() {
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING);
+    URI indexUri = builder.findIndexUri(getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH));
+    Index index = builder.scanModule(indexUri);
+
+    byte[] fingerprint = m_cache.fingerprint(Collections.singletonList(indexUri));
+    assertNotNull(fingerprint);
+    assertNull(m_cache.load(fingerprint));
+
+    m_cache.store(fingerprint, Collections.singletonList(index));
+    assertTrue(Files.isRegularFile(m_cache.getCacheFile()));
+
+    List<Index> cachedIndexes = m_cache.load(fingerprint);
+    assertNotNull(cachedIndexes);
+    assertEquals(1, cachedIndexes.size());
+    assertNotNull(cachedIndexes.get(0).getClassByName(DotName.createSimple(FixtureJandexInventoryObject.class.getName())));
+    assertEquals(index.getKnownClasses().size(), cachedIndexes.get(0).getKnownClasses().size());
+
+    // other fingerprint
+    byte[] otherFingerprint = fingerprint.clone();
+    otherFingerprint[0]++;
+    assertNull(m_cache.load(otherFingerprint));
+
+    m_cache.invalidate();
+    assertFalse(Files.exists(m_cache.getCacheFile()));
+  }
+
+  @Test
+  public void testFingerprintOfJar() throws Exception {
+    Path jar = m_tempDir.resolve("test.jar");
+    try (InputStream in = getClass().getResourceAsStream("test repository/test.jar_")) {
+      Files.copy(in, jar, StandardCopyOption.REPLACE_EXISTING);
+    }
+    URI indexUri = new URI("jar:" + jar.toUri() + "!/" + JandexInventoryBuilder.JANDEX_INDEX_PATH);
+
+    byte[] fingerprint = m_cache.fingerprint(Collections.singletonList(indexUri));
+    assertNotNull(fingerprint);
+    assertArrayEquals(fingerprint, m_cache.fingerprint(Collections.singletonList(indexUri)));
+
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 120000L));
+    assertFalse(Arrays.equals(fingerprint, m_cache.fingerprint(Collections.singletonList(indexUri))));
+  }
+
+  @Test
+  public void testFingerprintOfUnsupportedLocation() throws Exception {
+    assertNull(m_cache.fingerprint(Collections.singletonList(new URI("http://localhost/META-INF/jandex.idx"))));
+  }
+
+  @Test
+  public void testScanAllModulesUsesCache() {
+    P_CountingInventoryBuilder builder = new P_CountingInventoryBuilder(m_cache);
+    builder.scanAllModules();
+    assertTrue(builder.m_scanCount.get() > 0);
+    assertTrue(Files.isRegularFile(m_cache.getCacheFile()));
+    int indexCount = builder.getIndexList().size();
+
+    builder = new P_CountingInventoryBuilder(m_cache);
+    builder.scanAllModules();
+    assertEquals(0, builder.m_scanCount.get());
+    assertEquals(indexCount, builder.getIndexList().size());
+  }
+
+  private static class P_CountingInventoryBuilder extends JandexInventoryBuilder {
+    private final AtomicInteger m_scanCount = new AtomicInteger();
+
+    P_CountingInventoryBuilder(JandexInventoryCache cache) {
+      super(RebuildStrategy.IF_MISSING, cache);
+    }
+
+    @Override
+    public Index scanModule(URI indexUri) {
+      m_scanCount.incrementAndGet();
+      return super.scanModule(indexUri);
+    }
+  }
+}
@@ -42,9 +42,13 @@ import org.junit.runner.RunWith;
 @RunWith(PlatformTestRunner.class)
 public class ExecutionSemaphoreTest {
 
+  protected IExecutionSemaphore newExecutionSemaphore(int permits) {
+    return Jobs.newExecutionSemaphore(permits);
+  }
+
   @Test
   public void testZeroPermits() {
-    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(0);
+    IExecutionSemaphore semaphore = newExecutionSemaphore(0);
 
     final Set<String> protocol = Collections.synchronizedSet(new HashSet<>()); // synchronized because modified/read by different threads.
 
@@ -71,7 +75,7 @@ public class ExecutionSemaphoreTest {
   @Test
   @Times(500) // regression
   public void testThreePermits() throws InterruptedException {
-    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(3);
+    IExecutionSemaphore semaphore = newExecutionSemaphore(3);
 
     final Set<String> protocol = Collections.synchronizedSet(new HashSet<>()); // synchronized because modified/read by different threads.
 
@@ -197,7 +201,7 @@ public class ExecutionSemaphoreTest {
   @Test
   @Times(500) // regression
   public void testThreePermitsAndBlocking() throws InterruptedException {
-    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(3);
+    final IExecutionSemaphore semaphore = newExecutionSemaphore(3);
 
     final Set<String> protocol = Collections.synchronizedSet(new HashSet<>()); // synchronized because modified/read by different threads.
 
@@ -320,7 +324,7 @@ public class ExecutionSemaphoreTest {
 
   @Test(expected = AssertionException.class)
   public void testSealSemaphore() {
-    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1).seal();
+    IExecutionSemaphore semaphore = newExecutionSemaphore(1).seal();
     semaphore.withPermits(2);
   }
 
@@ -329,7 +333,7 @@ public class ExecutionSemaphoreTest {
    */
   @Test
   public void testChangePermits1() {
-    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    final IExecutionSemaphore semaphore = newExecutionSemaphore(1);
 
     final Set<String> protocol = Collections.synchronizedSet(new HashSet<>()); // synchronized because modified/read by different threads.
 
@@ -380,7 +384,7 @@ public class ExecutionSemaphoreTest {
    */
   @Test
   public void testChangePermits2() throws InterruptedException {
-    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(10);
+    IExecutionSemaphore semaphore = newExecutionSemaphore(10);
 
     final Set<String> protocol = Collections.synchronizedSet(new HashSet<>()); // synchronized because modified/read by different threads.
     final BlockingCountDownLatch latch = new BlockingCountDownLatch(1);
@@ -427,7 +431,7 @@ public class ExecutionSemaphoreTest {
    */
   @Test
   public void testChangePermits3() throws InterruptedException {
-    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(0);
+    IExecutionSemaphore semaphore = newExecutionSemaphore(0);
 
     final Set<String> protocol = Collections.synchronizedSet(new HashSet<>()); // synchronized because modified/read by different threads.
     final BlockingCountDownLatch finishLatch = new BlockingCountDownLatch(3);
@@ -476,7 +480,7 @@ public class ExecutionSemaphoreTest {
   @Test
   @Times(500) // regression
   public void testChangePermits4() throws InterruptedException {
-    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(3);
+    IExecutionSemaphore semaphore = newExecutionSemaphore(3);
 
     final Set<String> protocol = Collections.synchronizedSet(new HashSet<>()); // synchronized because modified/read by different threads.
     final BlockingCountDownLatch setupLatch = new BlockingCountDownLatch(3);
@@ -570,7 +574,7 @@ public class ExecutionSemaphoreTest {
   @Test
   @Times(1_000) // regression; do not remove
   public void testInternalDeadlock() {
-    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    final IExecutionSemaphore semaphore = newExecutionSemaphore(1);
 
     final IBlockingCondition condition = Jobs.newBlockingCondition(true);
 
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.junit.Test;
+
+/**
+ * Runs all tests of {@link ExecutionSemaphoreTest} against {@link LockFreeExecutionSemaphore}.
+ */
+public class LockFreeExecutionSemaphoreTest extends ExecutionSemaphoreTest {
+
+  @Override
+  protected IExecutionSemaphore newExecutionSemaphore(int permits) {
+    return BEANS.get(LockFreeExecutionSemaphore.class).withPermits(permits);
+  }
+
+  @Test
+  public void testSemaphoreType() {
+    assertTrue(newExecutionSemaphore(1) instanceof LockFreeExecutionSemaphore);
+    assertFalse(BEANS.get(ExecutionSemaphore.class) instanceof LockFreeExecutionSemaphore);
+  }
+}
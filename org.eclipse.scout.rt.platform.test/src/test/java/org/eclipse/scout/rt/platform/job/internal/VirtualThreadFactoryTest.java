@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.junit.Test;
+
+public class VirtualThreadFactoryTest {
+
+  @Test
+  public void testNewThread() throws InterruptedException {
+    assumeTrue(VirtualThreadFactory.isSupported());
+
+    final AtomicReference<ThreadInfo> threadInfo = new AtomicReference<>();
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    VirtualThreadFactory factory = new VirtualThreadFactory("virtual-test-thread");
+    Thread thread = factory.newThread(() -> {
+      threadInfo.set(ThreadInfo.CURRENT.get());
+      threadName.set(Thread.currentThread().getName());
+      latch.countDown();
+    });
+    assertSame(factory, thread.getUncaughtExceptionHandler());
+    thread.start();
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertNotNull(threadInfo.get());
+    assertEquals("virtual-test-thread-1", threadName.get());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testNotSupported() {
+    assumeTrue(!VirtualThreadFactory.isSupported());
+    new VirtualThreadFactory("virtual-test-thread");
+  }
+}
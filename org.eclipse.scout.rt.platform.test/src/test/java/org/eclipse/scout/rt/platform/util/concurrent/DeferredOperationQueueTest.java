@@ -382,6 +382,90 @@ public class DeferredOperationQueueTest {
         List.of("E", "F")), batches);
   }
 
+  @Test
+  public void testAdaptiveBatchSize() {
+    DeferredOperationQueue<String> queue = new DeferredOperationQueue<String>(QUEUE_TRANSACTION_MEMBER_ID, 2, 10, nop())
+        .withAdaptiveBatchSize(10, 100);
+    assertEquals(2, queue.getCurrentBatchSize());
+
+    // 1ms per element -> 10 elements meet the target latency of 10ms
+    queue.updateCurrentBatchSize(2, TimeUnit.MILLISECONDS.toNanos(2));
+    assertEquals(10, queue.getCurrentBatchSize());
+
+    // slower batch operation -> smaller batches
+    queue.updateCurrentBatchSize(10, TimeUnit.MILLISECONDS.toNanos(100));
+    assertTrue(queue.getCurrentBatchSize() < 10);
+    assertTrue(queue.getCurrentBatchSize() >= 1);
+
+    // batch size is bounded
+    DeferredOperationQueue<String> fastQueue = new DeferredOperationQueue<String>(QUEUE_TRANSACTION_MEMBER_ID, 2, 10, nop())
+        .withAdaptiveBatchSize(10, 100);
+    fastQueue.updateCurrentBatchSize(1, 1000);
+    assertEquals(100, fastQueue.getCurrentBatchSize());
+    fastQueue.updateCurrentBatchSize(1, TimeUnit.SECONDS.toNanos(10));
+    assertEquals(1, fastQueue.getCurrentBatchSize());
+  }
+
+  @Test
+  public void testFixedBatchSize() {
+    DeferredOperationQueue<String> queue = new DeferredOperationQueue<>(QUEUE_TRANSACTION_MEMBER_ID, 2, 10, nop());
+    queue.updateCurrentBatchSize(2, TimeUnit.MILLISECONDS.toNanos(2));
+    assertEquals(2, queue.getCurrentBatchSize());
+  }
+
+  @Test
+  public void testCapacityDrop() {
+    FixtureDeferredOperationQueue<String> queue = new FixtureDeferredOperationQueue<>(QUEUE_TRANSACTION_MEMBER_ID, 2, TimeUnit.HOURS.toMillis(10), nop());
+    queue.withCapacity(2, DeferredOperationQueue.OverflowPolicy.DROP);
+    RunContexts.empty().run(() -> queue.addAll(Stream.of("A", "B", "C")));
+    assertEquals(2, queue.size());
+    assertEquals(1, queue.getDroppedCount());
+
+    queue.flushDeferred(true);
+    assertEquals(List.of(List.of("A", "B")), queue.getExecutedBatches());
+  }
+
+  @Test
+  public void testCapacityCallerRuns() {
+    FixtureDeferredOperationQueue<String> queue = new FixtureDeferredOperationQueue<>(QUEUE_TRANSACTION_MEMBER_ID, 2, TimeUnit.HOURS.toMillis(10), nop());
+    queue.withCapacity(2, DeferredOperationQueue.OverflowPolicy.CALLER_RUNS);
+    RunContexts.empty().run(() -> queue.addAll(Stream.of("A", "B", "C", "D", "E")));
+    assertEquals(List.of(List.of("A", "B"), List.of("C", "D")), queue.getExecutedBatches());
+    assertEquals(1, queue.size());
+    assertEquals(0, queue.getDroppedCount());
+  }
+
+  @Test(timeout = 5000)
+  public void testCapacityBlock() throws Exception {
+    List<String> batch = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch flushedLatch = new CountDownLatch(5);
+    DeferredOperationQueue<String> queue = new DeferredOperationQueue<String>(QUEUE_TRANSACTION_MEMBER_ID, 1, 0, elements -> {
+      batch.addAll(elements);
+      elements.forEach(e -> flushedLatch.countDown());
+    }).withCapacity(1, DeferredOperationQueue.OverflowPolicy.BLOCK);
+
+    RunContexts.empty().run(() -> queue.addAll(Stream.of("A", "B", "C", "D", "E")));
+    assertTrue(flushedLatch.await(4, TimeUnit.SECONDS));
+    assertEquals(asList("A", "B", "C", "D", "E"), batch);
+  }
+
+  @Test
+  public void testCapacityMustBeSetBeforeAdding() {
+    FixtureDeferredOperationQueue<String> queue = new FixtureDeferredOperationQueue<>(QUEUE_TRANSACTION_MEMBER_ID, 2, TimeUnit.HOURS.toMillis(10), nop());
+    RunContexts.empty().run(() -> queue.add("A"));
+    Assert.assertThrows(AssertionException.class, () -> queue.withCapacity(2, DeferredOperationQueue.OverflowPolicy.DROP));
+  }
+
+  @Test
+  public void testWithMetrics() {
+    List<String> batch = new ArrayList<>();
+    FixtureDeferredOperationQueue<String> queue = new FixtureDeferredOperationQueue<>(QUEUE_TRANSACTION_MEMBER_ID, 2, TimeUnit.HOURS.toMillis(10), batch::addAll);
+    queue.withMetrics("test");
+    RunContexts.empty().run(() -> queue.addAll(Stream.of("A", "B")));
+    queue.flushDeferred(true);
+    assertEquals(asList("A", "B"), batch);
+  }
+
   protected P_FixtureTransactionMember getOrCreateTransactionMember(List<List<String>> batches) {
     var transaction = assertNotNull(ITransaction.CURRENT.get(), "Not running within a transaction");
     var transactionMember = (P_FixtureTransactionMember) transaction.getMember(P_FixtureTransactionMember.ID);
@@ -12,8 +12,10 @@ package org.eclipse.scout.rt.platform.util.concurrent;
 import static org.eclipse.scout.rt.platform.util.SleepUtil.sleepSafe;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -21,6 +23,7 @@ import static org.mockito.Mockito.verify;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -300,6 +303,62 @@ public class GroupedSynchronizerTest {
         .forEach(IFuture::awaitDoneAndGet);
   }
 
+  @Test
+  public void testStripedSharesLockPerStripe() {
+    GroupedSynchronizer<HashObj, Object> lck = GroupedSynchronizer.striped(4);
+    assertTrue(lck.isStriped());
+    assertEquals(4, lck.numStripes());
+    assertEquals(0, lck.numRootLocks());
+    AtomicInteger factoryCalls = new AtomicInteger();
+    Function<HashObj, Object> lockFactory = key -> {
+      factoryCalls.incrementAndGet();
+      return new Object();
+    };
+
+    Object lock1 = lck.applyInGroupLock(new HashObj(1), Function.identity(), lockFactory);
+    Object lock5 = lck.applyInGroupLock(new HashObj(5), Function.identity(), lockFactory);
+    Object lock2 = lck.applyInGroupLock(new HashObj(2), Function.identity(), lockFactory);
+    assertSame(lock1, lock5); // same stripe
+    assertNotSame(lock1, lock2);
+    assertEquals(2, factoryCalls.get());
+
+    // stripes are never removed
+    assertNull(lck.remove(new HashObj(1)));
+    assertEquals(0, lck.size());
+    assertTrue(lck.toMap().isEmpty());
+    assertSame(lock1, lck.applyInGroupLock(new HashObj(1), Function.identity(), lockFactory));
+  }
+
+  @Test
+  public void testStripedSameKeyIsBlocked() throws InterruptedException {
+    GroupedSynchronizer<String, Object> lck = GroupedSynchronizer.striped(16);
+    CountDownLatch task1Started = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+
+    IFuture<Void> task1 = Jobs.schedule(() -> lck.runInGroupLock("group", () -> signalFirstAwaitSecond(task1Started, finish), key -> new Object()), Jobs.newInput());
+    task1Started.await(1, TimeUnit.MINUTES);
+
+    IFuture<String> task2 = Jobs.schedule(() -> lck.applyInGroupLock("group", obj -> "finish", key -> new Object()), Jobs.newInput());
+    try {
+      task2.awaitDone(1, TimeUnit.SECONDS);
+      fail("Task2 completed while Task1 is running");
+    }
+    catch (TimedOutError e) {
+      assertNotNull(e);
+    }
+    finish.countDown();
+    task1.awaitDone(1, TimeUnit.MINUTES);
+    assertEquals("finish", task2.awaitDoneAndGet(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testWithMetrics() {
+    GroupedSynchronizer<String, String> lck = new GroupedSynchronizer<String, String>().withMetrics("test");
+    assertEquals("ret", lck.applyInGroupLock("key", lock -> "ret", Function.identity()));
+    GroupedSynchronizer<String, Object> striped = GroupedSynchronizer.<String, Object> striped(2).withMetrics("test");
+    assertEquals("ret", striped.applyInGroupLock("key", lock -> "ret", key -> new Object()));
+  }
+
   protected void signalFirstAwaitSecond(CountDownLatch first, CountDownLatch second) {
     first.countDown();
     try {
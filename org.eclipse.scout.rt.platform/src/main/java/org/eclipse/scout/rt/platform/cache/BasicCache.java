@@ -46,6 +46,7 @@ public class BasicCache<K, V> implements ICache<K, V> {
   protected final Map<K, V> m_cacheMap;
 
   protected final AbstractTransactionalMap<K, ?> m_transactionalMap; // is null if not transactional cache
+  protected final CacheStatistics m_statistics;
 
   /**
    * @deprecated Use constructor including label supplier as second argument. Label supplier can be retrieved via
@@ -82,12 +83,31 @@ public class BasicCache<K, V> implements ICache<K, V> {
   }
 
   public BasicCache(String cacheId, Supplier<String> labelSupplier, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, AbstractTransactionalMap<K, ?> transactionalMap) {
+    this(cacheId, labelSupplier, resolver, cacheMap, transactionalMap, new CacheStatistics());
+  }
+
+  /**
+   * @param statistics
+   *          counters updated by this cache; shared with the cache map in order to count evictions
+   * @since 24.2
+   */
+  public BasicCache(String cacheId, Supplier<String> labelSupplier, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, AbstractTransactionalMap<K, ?> transactionalMap, CacheStatistics statistics) {
     m_cacheId = Assertions.assertNotNullOrEmpty(cacheId);
     m_labelSupplier = labelSupplier;
     m_resolver = Assertions.assertNotNull(resolver);
     m_cacheMap = Assertions.assertNotNull(cacheMap);
 
     m_transactionalMap = transactionalMap;
+    m_statistics = Assertions.assertNotNull(statistics);
+  }
+
+  /**
+   * Like {@link #BasicCache(String, Supplier, ICacheValueResolver, Map)} with custom statistics.
+   *
+   * @since 24.2
+   */
+  public BasicCache(String cacheId, Supplier<String> labelSupplier, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, CacheStatistics statistics) {
+    this(cacheId, labelSupplier, resolver, cacheMap, findTransactionalMap(cacheMap), statistics);
   }
 
   @Override
@@ -122,15 +142,25 @@ public class BasicCache<K, V> implements ICache<K, V> {
     }
     V value = m_cacheMap.get(key);
     if (value == null) {
+      m_statistics.recordMisses(1);
       if (m_transactionalMap != null) {
         m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
       }
-      value = m_resolver.resolve(key);
+      long start = System.nanoTime();
+      try {
+        value = m_resolver.resolve(key);
+      }
+      finally {
+        m_statistics.recordLoad(System.nanoTime() - start);
+      }
       if (value != null) {
         V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
         value = alreadySetValue != null ? alreadySetValue : value;
       }
     }
+    else {
+      m_statistics.recordHits(1);
+    }
     return value;
   }
 
@@ -149,15 +179,24 @@ public class BasicCache<K, V> implements ICache<K, V> {
         iterator.remove();
       }
     }
+    m_statistics.recordHits(result.size());
     if (keys.isEmpty()) {
       // all keys could be resolved with cache
       return result;
     }
 
+    m_statistics.recordMisses(keys.size());
     if (m_transactionalMap != null) {
       m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
     }
-    Map<K, V> resolvedValues = m_resolver.resolveAll(keys);
+    Map<K, V> resolvedValues;
+    long start = System.nanoTime();
+    try {
+      resolvedValues = m_resolver.resolveAll(keys);
+    }
+    finally {
+      m_statistics.recordLoad(System.nanoTime() - start);
+    }
     for (Iterator<Entry<K, V>> iterator = resolvedValues.entrySet().iterator(); iterator.hasNext();) {
       Entry<K, V> entry = iterator.next();
       // remove any null values from the resolved values map
@@ -199,6 +238,9 @@ public class BasicCache<K, V> implements ICache<K, V> {
 
   @Override
   public <T> T getAdapter(Class<T> clazz) {
+    if (clazz == CacheStatistics.class) {
+      return clazz.cast(m_statistics);
+    }
     return null;
   }
 }
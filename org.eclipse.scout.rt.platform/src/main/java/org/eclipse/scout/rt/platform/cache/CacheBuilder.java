@@ -48,6 +48,10 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private Long m_maxWeight;
+  private ICacheWeigher<K, V> m_weigher;
+  private boolean m_frequencyAwareEviction;
+  private CacheStatistics m_statistics;
   private Integer m_maxConcurrentResolve;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
@@ -65,6 +69,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     if (getCacheId() == null) {
       throw new IllegalStateException("cacheId is null");
     }
+    m_statistics = createCacheStatistics();
     Map<K, V> cacheMap = createCacheMap();
     ICache<K, V> cache = createBasicCache(cacheMap);
     cache = addBeforeCustomWrappers(cache);
@@ -93,15 +98,40 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     BEANS.get(ICacheRegistryService.class).register(cache);
   }
 
+  protected CacheStatistics createCacheStatistics() {
+    return new CacheStatistics();
+  }
+
+  /**
+   * @return statistics of the cache currently being built
+   */
+  protected CacheStatistics getStatistics() {
+    return m_statistics;
+  }
+
   protected Map<K, V> createCacheMap() {
-    if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
+    if (isCreateTinyLfuMap()) {
+      if (isTransactional() || getTimeToLive() != null) {
+        throw new IllegalStateException("Frequency-aware eviction and weight bound are not supported for transactional caches or caches with a time to live");
+      }
+      return createTinyLfuMap();
+    }
+    else if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
     else if (isCreateExpiringMap()) {
       boolean touchOnGet = isTouchOnGet() || getSizeBound() != null;
       long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
       int targetSize = NumberUtility.nvl(getSizeBound(), -1);
-      return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize);
+      CacheStatistics statistics = getStatistics();
+      return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize) {
+        @Override
+        protected void execEntryEvicted(K key, V value) {
+          if (statistics != null) {
+            statistics.recordEviction();
+          }
+        }
+      };
     }
     else if (isThreadSafe() || isTransactional()) {
       return createConcurrentMap();
@@ -118,12 +148,33 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     }
   }
 
+  protected Map<K, V> createTinyLfuMap() {
+    long maxWeight = getMaxWeight() != null ? getMaxWeight() : getSizeBound();
+    CacheStatistics statistics = getStatistics();
+    return new TinyLfuCacheMap<>(maxWeight, getWeigher()) {
+      @Override
+      protected void execEntryEvicted(K key, V value) {
+        if (statistics != null) {
+          statistics.recordEviction();
+        }
+      }
+    };
+  }
+
+  protected boolean isCreateTinyLfuMap() {
+    return getMaxWeight() != null || (isFrequencyAwareEviction() && getSizeBound() != null);
+  }
+
   protected boolean isCreateExpiringMap() {
     return getTimeToLive() != null || getSizeBound() != null;
   }
 
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    return new BasicCache<>(getCacheId(), getLabelSupplier(), getValueResolver(), cacheMap);
+    CacheStatistics statistics = getStatistics();
+    if (statistics == null) {
+      return new BasicCache<>(getCacheId(), getLabelSupplier(), getValueResolver(), cacheMap);
+    }
+    return new BasicCache<>(getCacheId(), getLabelSupplier(), getValueResolver(), cacheMap, statistics);
   }
 
   protected ICache<K, V> addBeforeCustomWrappers(ICache<K, V> cache) {
@@ -313,6 +364,39 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withMaxWeight(Long maxWeight) {
+    if (maxWeight != null && maxWeight <= 0L) {
+      throw new IllegalArgumentException("maxWeight must be greater than zero");
+    }
+    m_maxWeight = maxWeight;
+    return this;
+  }
+
+  public Long getMaxWeight() {
+    return m_maxWeight;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withWeigher(ICacheWeigher<K, V> weigher) {
+    m_weigher = weigher;
+    return this;
+  }
+
+  public ICacheWeigher<K, V> getWeigher() {
+    return m_weigher;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withFrequencyAwareEviction(boolean frequencyAwareEviction) {
+    m_frequencyAwareEviction = frequencyAwareEviction;
+    return this;
+  }
+
+  public boolean isFrequencyAwareEviction() {
+    return m_frequencyAwareEviction;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe access counters of a cache. Use {@link ICacheRegistryService#getStatistics(String)} or
+ * <code>cache.getAdapter(CacheStatistics.class)</code> to access the statistics of a cache.
+ *
+ * @since 24.2
+ */
+public class CacheStatistics {
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final LongAdder m_loadCount = new LongAdder();
+  private final LongAdder m_totalLoadTimeNanos = new LongAdder();
+
+  public void recordHits(int count) {
+    m_hitCount.add(count);
+  }
+
+  public void recordMisses(int count) {
+    m_missCount.add(count);
+  }
+
+  public void recordEviction() {
+    m_evictionCount.increment();
+  }
+
+  /**
+   * @param loadTimeNanos
+   *          time spent in {@link ICacheValueResolver} in nanoseconds
+   */
+  public void recordLoad(long loadTimeNanos) {
+    m_loadCount.increment();
+    m_totalLoadTimeNanos.add(loadTimeNanos);
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return number of entries removed by the size, weight or time to live bound of the cache (excludes explicit
+   *         invalidations)
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  /**
+   * @return number of calls to the value resolver
+   */
+  public long getLoadCount() {
+    return m_loadCount.sum();
+  }
+
+  public long getTotalLoadTime(TimeUnit unit) {
+    return unit.convert(m_totalLoadTimeNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return ratio of hits to all requests, or 1.0 if there were no requests yet
+   */
+  public double getHitRate() {
+    long hits = getHitCount();
+    long requests = hits + getMissCount();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  public void reset() {
+    m_hitCount.reset();
+    m_missCount.reset();
+    m_evictionCount.reset();
+    m_loadCount.reset();
+    m_totalLoadTimeNanos.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics [hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount()
+        + ", loads=" + getLoadCount() + ", loadTimeMillis=" + getTotalLoadTime(TimeUnit.MILLISECONDS) + "]";
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Probabilistic frequency estimator (count-min sketch with 4-bit counters) used as admission filter by
+ * {@link TinyLfuCacheMap}.
+ * <p>
+ * Each element is counted in four counters selected by independent hash functions; the estimated frequency is the
+ * minimum of these counters. Once the number of increments reaches ten times the configured capacity, all counters are
+ * halved so that the sketch ages and adapts to changing access patterns.
+ * <p>
+ * This class is <em>not</em> thread-safe.
+ *
+ * @since 24.2
+ */
+public class FrequencySketch {
+  private static final long[] SEED = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK = 0x1111111111111111L;
+  private static final int MAX_TABLE_SIZE = 1 << 26;
+
+  private long[] m_table;
+  private int m_tableMask;
+  private int m_sampleSize;
+  private int m_size;
+
+  public FrequencySketch(long capacity) {
+    m_table = new long[0];
+    ensureCapacity(capacity);
+  }
+
+  /**
+   * Grows the sketch so that it can estimate the frequency of the given number of distinct elements. Growing resets all
+   * counters. The sketch never shrinks.
+   */
+  public void ensureCapacity(long capacity) {
+    int maximum = (int) Math.min(Math.max(capacity, 1L), MAX_TABLE_SIZE);
+    if (m_table.length >= maximum) {
+      return;
+    }
+    m_table = new long[Math.max(Integer.highestOneBit(maximum - 1) << 1, 8)];
+    m_tableMask = m_table.length - 1;
+    m_sampleSize = 10 * maximum;
+    m_size = 0;
+  }
+
+  /**
+   * @return estimated number of occurrences of the given element, at most 15
+   */
+  public int frequency(Object e) {
+    int hash = spread(e.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((m_table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Increments the estimated frequency of the given element unless it is already at its maximum.
+   */
+  public void increment(Object e) {
+    int hash = spread(e.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && ++m_size == m_sampleSize) {
+      reset();
+    }
+  }
+
+  protected boolean incrementAt(int i, int j) {
+    int offset = j << 2;
+    long mask = 0xfL << offset;
+    if ((m_table[i] & mask) != mask) {
+      m_table[i] += 1L << offset;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Halves all counters.
+   */
+  protected void reset() {
+    int count = 0;
+    for (int i = 0; i < m_table.length; i++) {
+      count += Long.bitCount(m_table[i] & ONE_MASK);
+      m_table[i] = (m_table[i] >>> 1) & RESET_MASK;
+    }
+    m_size = (m_size - (count >>> 2)) >>> 1;
+  }
+
+  protected int indexOf(int item, int i) {
+    long hash = (item + SEED[i]) * SEED[i];
+    hash += hash >>> 32;
+    return ((int) hash) & m_tableMask;
+  }
+
+  /**
+   * Applies a supplemental hash function to defend against poor quality hash codes.
+   */
+  protected static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
@@ -173,7 +173,8 @@ public interface ICacheBuilder<K, V> {
    * If set to a non-null value, the maximum number of cached values is bounded. The provided size bound is <em>not</em>
    * enforced and is just a guidance value.
    * <p>
-   * The current policy that is used to evict elements is least recently used (LRU).
+   * The current policy that is used to evict elements is least recently used (LRU). Use
+   * {@link #withFrequencyAwareEviction(boolean)} to evict elements using the W-TinyLFU policy instead.
    *
    * @param sizeBound
    *          the target size that map should have approximately.
@@ -181,6 +182,43 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * If set to a non-null value, the total weight of all cached values is bounded. The weight of each entry is computed
+   * by the {@link #withWeigher(ICacheWeigher) weigher}; without a weigher each entry has weight 1. The bound is enforced
+   * strictly after each write using the W-TinyLFU policy (see {@link TinyLfuCacheMap}).
+   * <p>
+   * <b>Note:</b> A weight bound cannot be combined with {@link #withTimeToLive(Long, TimeUnit, boolean)} or
+   * {@link #withTransactional(boolean)}.
+   *
+   * @param maxWeight
+   *          maximum total weight of all entries
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maxWeight is not greater than zero
+   * @since 24.2
+   */
+  ICacheBuilder<K, V> withMaxWeight(Long maxWeight);
+
+  /**
+   * @param weigher
+   *          computes the weight of cache entries which is bounded by {@link #withMaxWeight(Long)}. If null, each entry
+   *          has weight 1. (Default null)
+   * @return this builder
+   * @since 24.2
+   */
+  ICacheBuilder<K, V> withWeigher(ICacheWeigher<K, V> weigher);
+
+  /**
+   * @param frequencyAwareEviction
+   *          if true, a cache bounded by {@link #withSizeBound(Integer)} uses the W-TinyLFU policy which only admits new
+   *          entries if they are accessed more frequently than the entries they would replace. This keeps frequently
+   *          used entries in the cache under scan-like workloads. The size bound is then enforced strictly. Caches
+   *          bounded by {@link #withMaxWeight(Long)} always use this policy. (Default false)
+   * @return this builder
+   * @since 24.2
+   */
+  ICacheBuilder<K, V> withFrequencyAwareEviction(boolean frequencyAwareEviction);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
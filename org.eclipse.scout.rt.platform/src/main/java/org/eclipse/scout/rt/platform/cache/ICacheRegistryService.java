@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.Map;
+
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 
@@ -59,4 +61,22 @@ public interface ICacheRegistryService {
    */
   <K, V> ICache<K, V> opt(String cacheId);
 
+  /**
+   * @return hit, miss, eviction and load time counters of a previously registered cache or <code>null</code> if the
+   *         cache is not found or does not provide statistics.
+   * @since 24.2
+   */
+  default CacheStatistics getStatistics(String cacheId) {
+    ICache<Object, Object> cache = opt(cacheId);
+    return cache == null ? null : cache.getAdapter(CacheStatistics.class);
+  }
+
+  /**
+   * @return statistics of all registered caches providing statistics, mapped by cache id
+   * @since 24.2
+   */
+  default Map<String, CacheStatistics> getAllStatistics() {
+    throw new UnsupportedOperationException();
+  }
+
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Computes the relative weight of a cache entry. The total weight of all entries of a cache is bounded by
+ * {@link ICacheBuilder#withMaxWeight(Long)}.
+ *
+ * @param <K>
+ *          the type of keys maintained by the cache
+ * @param <V>
+ *          the type of mapped values
+ * @since 24.2
+ */
+@FunctionalInterface
+public interface ICacheWeigher<K, V> {
+
+  /**
+   * @return weight of the given entry, must not be negative. The weight of an entry is computed once when the entry is
+   *         put into the cache and not updated afterwards.
+   */
+  int weigh(K key, V value);
+}
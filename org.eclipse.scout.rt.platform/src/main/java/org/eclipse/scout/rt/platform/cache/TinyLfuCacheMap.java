@@ -0,0 +1,586 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * A thread-safe concurrent map bounded by a maximum total weight using the W-TinyLFU eviction policy.
+ * <p>
+ * New entries are added to a small LRU <em>window</em> (1% of the maximum weight). Entries leaving the window compete
+ * with the least recently used entry of the <em>main</em> space for admission: the entry with the higher estimated
+ * access frequency (see {@link FrequencySketch}) is kept. The main space is a segmented LRU consisting of a
+ * <em>probation</em> and a <em>protected</em> (80% of the main space) segment; entries accessed while in probation are
+ * promoted to the protected segment. This keeps frequently used entries in the map under scan-like workloads where a
+ * plain LRU policy would evict them.
+ * <p>
+ * The weight of each entry is computed by an {@link ICacheWeigher} when it is put into the map. Without a weigher each
+ * entry has weight 1, so the maximum weight is the maximum number of entries.
+ * <p>
+ * Read operations do not block: the access is recorded in the policy only if the policy lock is free, under contention
+ * some accesses are not recorded. Write operations are serialized. The maximum weight is enforced strictly after each
+ * write operation.
+ * <p>
+ * Every time an entry in the map is evicted, {@link #execEntryEvicted(Object, Object)} is called.
+ * <p>
+ * This class does <em>not</em> allow <tt>null</tt> keys or values.
+ *
+ * @param <K>
+ *          the type of keys maintained by this map
+ * @param <V>
+ *          the type of mapped values
+ * @since 24.2
+ */
+@SuppressWarnings("squid:S2160")
+public class TinyLfuCacheMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  private static final int WINDOW = 0;
+  private static final int PROBATION = 1;
+  private static final int PROTECTED = 2;
+
+  private final ConcurrentMap<K, Node<K, V>> m_data = new ConcurrentHashMap<>();
+  private final ReentrantLock m_policyLock = new ReentrantLock();
+  private final ICacheWeigher<? super K, ? super V> m_weigher;
+  private final long m_maxWeight;
+  private final long m_maxWindowWeight;
+  private final long m_maxProtectedWeight;
+
+  // guarded by m_policyLock
+  private final AccessOrderDeque<K, V> m_window = new AccessOrderDeque<>();
+  private final AccessOrderDeque<K, V> m_probation = new AccessOrderDeque<>();
+  private final AccessOrderDeque<K, V> m_protected = new AccessOrderDeque<>();
+  private final FrequencySketch m_sketch;
+  private long m_windowWeight;
+  private long m_protectedWeight;
+  private long m_totalWeight;
+
+  /**
+   * Creates a map bounded by the number of entries.
+   *
+   * @param maxSize
+   *          maximum number of entries, must be greater than zero
+   */
+  public TinyLfuCacheMap(long maxSize) {
+    this(maxSize, null);
+  }
+
+  /**
+   * @param maxWeight
+   *          maximum total weight of all entries, must be greater than zero
+   * @param weigher
+   *          computes the weight of an entry, if null each entry has weight 1
+   */
+  public TinyLfuCacheMap(long maxWeight, ICacheWeigher<? super K, ? super V> weigher) {
+    Assertions.assertTrue(maxWeight > 0, "maxWeight must be greater than zero");
+    m_weigher = weigher;
+    m_maxWeight = maxWeight;
+    m_maxWindowWeight = Math.max(1L, maxWeight / 100);
+    m_maxProtectedWeight = (long) ((maxWeight - m_maxWindowWeight) * 0.8);
+    m_sketch = new FrequencySketch(Math.min(maxWeight, 1024L));
+  }
+
+  public long getMaxWeight() {
+    return m_maxWeight;
+  }
+
+  /**
+   * @return current total weight of all entries
+   */
+  public long getWeight() {
+    m_policyLock.lock();
+    try {
+      return m_totalWeight;
+    }
+    finally {
+      m_policyLock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    return m_data.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return m_data.isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return m_data.containsKey(key);
+  }
+
+  @Override
+  public V get(Object key) {
+    Node<K, V> node = m_data.get(key);
+    if (node == null) {
+      return null;
+    }
+    V value = node.m_value;
+    // best effort: under contention the access is not recorded
+    if (m_policyLock.tryLock()) { // NOSONAR
+      try {
+        onAccess(node);
+      }
+      finally {
+        m_policyLock.unlock();
+      }
+    }
+    return value;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    return put(key, value, false);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    return put(key, value, true);
+  }
+
+  protected V put(K key, V value, boolean onlyIfAbsent) {
+    Assertions.assertNotNull(key);
+    Assertions.assertNotNull(value);
+    int weight = weigh(key, value);
+    m_policyLock.lock();
+    try {
+      Node<K, V> node = m_data.get(key);
+      if (node != null) {
+        V oldValue = node.m_value;
+        if (onlyIfAbsent) {
+          onAccess(node);
+          return oldValue;
+        }
+        updateNode(node, value, weight);
+        onAccess(node);
+        evict();
+        return oldValue;
+      }
+      node = new Node<>(key, value, weight);
+      m_data.put(key, node);
+      m_sketch.ensureCapacity(m_data.size());
+      m_sketch.increment(key);
+      m_window.addLast(node);
+      m_windowWeight += weight;
+      m_totalWeight += weight;
+      evict();
+      return null;
+    }
+    finally {
+      m_policyLock.unlock();
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    m_policyLock.lock();
+    try {
+      Node<K, V> node = m_data.remove(key);
+      if (node == null) {
+        return null;
+      }
+      unlink(node);
+      return node.m_value;
+    }
+    finally {
+      m_policyLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    m_policyLock.lock();
+    try {
+      Node<K, V> node = m_data.get(key);
+      if (node == null || !node.m_value.equals(value)) {
+        return false;
+      }
+      m_data.remove(key);
+      unlink(node);
+      return true;
+    }
+    finally {
+      m_policyLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Assertions.assertNotNull(newValue);
+    int weight = weigh(key, newValue);
+    m_policyLock.lock();
+    try {
+      Node<K, V> node = m_data.get(key);
+      if (node == null || !node.m_value.equals(oldValue)) {
+        return false;
+      }
+      updateNode(node, newValue, weight);
+      onAccess(node);
+      evict();
+      return true;
+    }
+    finally {
+      m_policyLock.unlock();
+    }
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    Assertions.assertNotNull(value);
+    int weight = weigh(key, value);
+    m_policyLock.lock();
+    try {
+      Node<K, V> node = m_data.get(key);
+      if (node == null) {
+        return null;
+      }
+      V oldValue = node.m_value;
+      updateNode(node, value, weight);
+      onAccess(node);
+      evict();
+      return oldValue;
+    }
+    finally {
+      m_policyLock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    m_policyLock.lock();
+    try {
+      m_data.clear();
+      m_window.clear();
+      m_probation.clear();
+      m_protected.clear();
+      m_windowWeight = 0;
+      m_protectedWeight = 0;
+      m_totalWeight = 0;
+    }
+    finally {
+      m_policyLock.unlock();
+    }
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  protected int weigh(K key, V value) {
+    if (m_weigher == null) {
+      return 1;
+    }
+    int weight = m_weigher.weigh(key, value);
+    Assertions.assertTrue(weight >= 0, "weight must not be negative [key={}, weight={}]", key, weight);
+    return weight;
+  }
+
+  /**
+   * Called when the map evicted an entry because the maximum weight was exceeded.
+   */
+  protected void execEntryEvicted(K key, V value) {
+    // hook method for subclasses
+  }
+
+  private void updateNode(Node<K, V> node, V value, int weight) {
+    int delta = weight - node.m_weight;
+    node.m_value = value;
+    node.m_weight = weight;
+    m_totalWeight += delta;
+    if (node.m_queueType == WINDOW) {
+      m_windowWeight += delta;
+    }
+    else if (node.m_queueType == PROTECTED) {
+      m_protectedWeight += delta;
+    }
+  }
+
+  private void unlink(Node<K, V> node) {
+    m_totalWeight -= node.m_weight;
+    switch (node.m_queueType) {
+      case WINDOW:
+        m_window.remove(node);
+        m_windowWeight -= node.m_weight;
+        break;
+      case PROBATION:
+        m_probation.remove(node);
+        break;
+      default:
+        m_protected.remove(node);
+        m_protectedWeight -= node.m_weight;
+        break;
+    }
+  }
+
+  /**
+   * Records an access of the node: increments its frequency and reorders the segments.
+   */
+  private void onAccess(Node<K, V> node) {
+    if (!node.m_linked) {
+      // concurrently removed
+      return;
+    }
+    m_sketch.increment(node.m_key);
+    switch (node.m_queueType) {
+      case WINDOW:
+        m_window.moveToLast(node);
+        break;
+      case PROBATION:
+        m_probation.remove(node);
+        node.m_queueType = PROTECTED;
+        m_protected.addLast(node);
+        m_protectedWeight += node.m_weight;
+        demoteFromProtected();
+        break;
+      default:
+        m_protected.moveToLast(node);
+        break;
+    }
+  }
+
+  private void demoteFromProtected() {
+    while (m_protectedWeight > m_maxProtectedWeight) {
+      Node<K, V> demoted = m_protected.pollFirst();
+      if (demoted == null) {
+        break;
+      }
+      m_protectedWeight -= demoted.m_weight;
+      demoted.m_queueType = PROBATION;
+      m_probation.addLast(demoted);
+    }
+  }
+
+  /**
+   * Moves entries exceeding the window to the probation segment and evicts entries until the maximum weight is
+   * satisfied. Entries leaving the window (candidates) are only admitted if they are accessed more frequently than the
+   * least recently used entry of the probation segment (victim).
+   */
+  private void evict() {
+    Node<K, V> candidate = null;
+    while (m_windowWeight > m_maxWindowWeight) {
+      Node<K, V> node = m_window.pollFirst();
+      if (node == null) {
+        break;
+      }
+      m_windowWeight -= node.m_weight;
+      node.m_queueType = PROBATION;
+      m_probation.addLast(node);
+      if (candidate == null) {
+        candidate = node;
+      }
+    }
+
+    while (m_totalWeight > m_maxWeight) {
+      Node<K, V> victim = m_probation.peekFirst();
+      if (victim == null) {
+        victim = m_protected.peekFirst();
+      }
+      if (victim == null) {
+        victim = m_window.peekFirst();
+      }
+      if (victim == null) {
+        break;
+      }
+      if (candidate == null || victim.m_queueType != PROBATION) {
+        evictNode(victim);
+      }
+      else if (victim == candidate) {
+        candidate = candidate.m_next;
+        evictNode(victim);
+      }
+      else if (candidate.m_weight > m_maxWeight || m_sketch.frequency(candidate.m_key) <= m_sketch.frequency(victim.m_key)) {
+        Node<K, V> next = candidate.m_next;
+        evictNode(candidate);
+        candidate = next;
+      }
+      else {
+        evictNode(victim);
+      }
+    }
+  }
+
+  private void evictNode(Node<K, V> node) {
+    if (m_data.remove(node.m_key, node)) {
+      unlink(node);
+      execEntryEvicted(node.m_key, node.m_value);
+    }
+    else {
+      // must not happen as all modifications are guarded by the policy lock
+      unlink(node);
+    }
+  }
+
+  private static final class Node<K, V> {
+    private final K m_key;
+    private volatile V m_value;
+    private int m_weight;
+    private int m_queueType;
+    private boolean m_linked;
+    private Node<K, V> m_prev;
+    private Node<K, V> m_next;
+
+    Node(K key, V value, int weight) {
+      m_key = key;
+      m_value = value;
+      m_weight = weight;
+      m_queueType = WINDOW;
+    }
+  }
+
+  /**
+   * Intrusive doubly linked list of nodes in access order (least recently used first).
+   */
+  private static final class AccessOrderDeque<K, V> {
+    private Node<K, V> m_first;
+    private Node<K, V> m_last;
+
+    Node<K, V> peekFirst() {
+      return m_first;
+    }
+
+    Node<K, V> pollFirst() {
+      Node<K, V> node = m_first;
+      if (node != null) {
+        remove(node);
+      }
+      return node;
+    }
+
+    void addLast(Node<K, V> node) {
+      node.m_prev = m_last;
+      node.m_next = null;
+      if (m_last == null) {
+        m_first = node;
+      }
+      else {
+        m_last.m_next = node;
+      }
+      m_last = node;
+      node.m_linked = true;
+    }
+
+    void remove(Node<K, V> node) {
+      if (node.m_prev == null) {
+        m_first = node.m_next;
+      }
+      else {
+        node.m_prev.m_next = node.m_next;
+      }
+      if (node.m_next == null) {
+        m_last = node.m_prev;
+      }
+      else {
+        node.m_next.m_prev = node.m_prev;
+      }
+      node.m_prev = null;
+      node.m_next = null;
+      node.m_linked = false;
+    }
+
+    void moveToLast(Node<K, V> node) {
+      if (node != m_last) {
+        remove(node);
+        addLast(node);
+      }
+    }
+
+    void clear() {
+      Node<K, V> node = m_first;
+      while (node != null) {
+        Node<K, V> next = node.m_next;
+        node.m_prev = null;
+        node.m_next = null;
+        node.m_linked = false;
+        node = next;
+      }
+      m_first = null;
+      m_last = null;
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      Node<K, V> node = m_data.get(e.getKey());
+      return node != null && node.m_value.equals(e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      return TinyLfuCacheMap.this.remove(e.getKey(), e.getValue());
+    }
+
+    @Override
+    public int size() {
+      return TinyLfuCacheMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      TinyLfuCacheMap.this.clear();
+    }
+  }
+
+  /**
+   * Iterates over a weakly consistent view of the entries. Iterating does not count as access to the entries.
+   */
+  private final class EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<Node<K, V>> m_nodeIterator = m_data.values().iterator();
+    private Node<K, V> m_lastReturned;
+
+    @Override
+    public boolean hasNext() {
+      return m_nodeIterator.hasNext();
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      m_lastReturned = m_nodeIterator.next();
+      return new SimpleImmutableEntry<>(m_lastReturned.m_key, m_lastReturned.m_value);
+    }
+
+    @Override
+    public void remove() {
+      if (m_lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      TinyLfuCacheMap.this.remove(m_lastReturned.m_key);
+      m_lastReturned = null;
+    }
+  }
+}
@@ -58,6 +58,44 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class BeanManagerLookupSnapshotProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.beanManager.lookupSnapshot";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether the bean manager caches the results of bean queries once the platform is started. "
+          + "Cached queries do not require any lock, the cache is invalidated whenever a bean is registered or unregistered. The default value is true.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.TRUE;
+    }
+  }
+
+  public static class PlatformParallelStartupProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.platform.parallelStartup";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether the beans are registered in parallel and the @CreateImmediately beans are instantiated concurrently during the platform startup. "
+          + "If enabled, @CreateImmediately beans must not rely on being created in a specific order. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class PlatformVersionProperty extends AbstractStringConfigProperty {
 
     @Override
@@ -145,6 +183,21 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JandexInventoryCacheProperty extends AbstractStringConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jandex.inventoryCache";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Path to a file caching the Jandex indexes of all modules. If set, the indexes are read from this file on startup as long as the classpath "
+          + "(paths, sizes and modification times of all modules) has not changed. Useful for environments with a fixed classpath like containers. "
+          + "The cache is not used if '%s' is true. The default value is null which means no cache is used.", new JandexRebuildProperty().getKey());
+    }
+  }
+
   public static class JobManagerCorePoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -240,6 +293,27 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether jobs should be executed in virtual threads instead of pooled platform threads. Virtual threads are cheap to create and to block, "
+          + "which is beneficial for jobs mostly waiting for I/O. If enabled, the properties '%s', '%s' and '%s' have no effect. "
+          + "Requires a Java runtime supporting virtual threads, otherwise platform threads are used. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(), BEANS.get(JobManagerKeepAliveTimeProperty.class).getKey(), BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
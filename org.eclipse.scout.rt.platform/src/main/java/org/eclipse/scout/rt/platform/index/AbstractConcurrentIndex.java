@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.index;
+
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Base class of indices of a {@link ConcurrentIndexedStore}.
+ * <p>
+ * An index consists of a mutable part, which is only accessed by the store while holding its write lock, and an
+ * immutable state, which is published as part of an {@link IndexedStoreSnapshot}. Lookups never access the mutable
+ * part and therefore do not require any lock.
+ * <p>
+ * Use one of the subclasses {@link AbstractConcurrentSingleValueIndex}, {@link AbstractConcurrentMultiValueIndex} or
+ * {@link AbstractConcurrentSortedIndex} to define an index.
+ *
+ * @since 24.2
+ */
+public abstract class AbstractConcurrentIndex<INDEX, ELEMENT> {
+
+  private volatile ConcurrentIndexedStore<ELEMENT> m_store;
+  private boolean m_modified; // guarded by the write lock of the store
+
+  AbstractConcurrentIndex() {
+  }
+
+  /**
+   * @return the index values of the elements contained in the current snapshot of the store.
+   */
+  public Set<INDEX> indexValues() {
+    return indexValues(snapshot());
+  }
+
+  /**
+   * @return the index values of the elements contained in the given snapshot.
+   */
+  public abstract Set<INDEX> indexValues(IndexedStoreSnapshot<ELEMENT> snapshot);
+
+  /**
+   * @return the current snapshot of the store this index is registered in.
+   */
+  protected IndexedStoreSnapshot<ELEMENT> snapshot() {
+    final ConcurrentIndexedStore<ELEMENT> store = m_store;
+    Assertions.assertNotNull(store, "Index is not registered in a store [index={}]", this);
+    return store.snapshot();
+  }
+
+  /**
+   * @return the published state of this index in the given snapshot.
+   */
+  protected Object getState(final IndexedStoreSnapshot<ELEMENT> snapshot) {
+    final Object state = snapshot.getIndexState(this);
+    Assertions.assertNotNull(state, "Index is not part of the given snapshot [index={}, snapshot={}]", this, snapshot);
+    return state;
+  }
+
+  // === methods invoked by the store while holding its write lock ===
+
+  void attach(final ConcurrentIndexedStore<ELEMENT> store) {
+    Assertions.assertNull(m_store, "Index is already registered in a store [index={}]", this);
+    m_store = store;
+  }
+
+  void detach() {
+    m_store = null;
+    clearIndex();
+  }
+
+  boolean isModified() {
+    return m_modified;
+  }
+
+  void setModified(final boolean modified) {
+    m_modified = modified;
+  }
+
+  /**
+   * Adds the given element to the mutable part of this index. If already contained, calculated indices are first
+   * removed.
+   */
+  abstract boolean addToIndex(ELEMENT element);
+
+  /**
+   * Removes the given element from the mutable part of this index.
+   */
+  abstract boolean removeFromIndex(ELEMENT element);
+
+  /**
+   * Removes all elements from the mutable part of this index.
+   */
+  abstract void clearIndex();
+
+  /**
+   * @return an immutable copy of the mutable part of this index, which is published as part of the next snapshot.
+   */
+  abstract Object createState();
+}
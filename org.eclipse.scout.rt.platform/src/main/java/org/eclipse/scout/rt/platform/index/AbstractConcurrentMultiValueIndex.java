@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of a {@link ConcurrentIndexedStore} for which multiple elements can result in the very same index value.
+ * <p>
+ * The element lists of the index values are immutable and only copied if modified, so that publishing a snapshot only
+ * copies the map of this index but not the element lists.
+ *
+ * @since 24.2
+ * @see AbstractMultiValueIndex
+ */
+public abstract class AbstractConcurrentMultiValueIndex<INDEX, ELEMENT> extends AbstractConcurrentIndex<INDEX, ELEMENT> {
+
+  private final Map<INDEX, List<ELEMENT>> m_mapByIndex = createIndexMap();
+  private final Map<ELEMENT, INDEX> m_mapByElement = new HashMap<>();
+
+  /**
+   * Returns the elements for the given index value in the current snapshot of the store. The returned list is
+   * unmodifiable.
+   */
+  public List<ELEMENT> get(final INDEX index) {
+    return get(snapshot(), index);
+  }
+
+  /**
+   * Returns the elements for the given index value in the given snapshot. The returned list is unmodifiable.
+   */
+  public List<ELEMENT> get(final IndexedStoreSnapshot<ELEMENT> snapshot, final INDEX index) {
+    final List<ELEMENT> elements = getMap(snapshot).get(index);
+    return elements != null ? elements : Collections.emptyList();
+  }
+
+  @Override
+  public Set<INDEX> indexValues(final IndexedStoreSnapshot<ELEMENT> snapshot) {
+    return new HashSet<>(getMap(snapshot).keySet());
+  }
+
+  @SuppressWarnings("unchecked")
+  protected Map<INDEX, List<ELEMENT>> getMap(final IndexedStoreSnapshot<ELEMENT> snapshot) {
+    return (Map<INDEX, List<ELEMENT>>) getState(snapshot);
+  }
+
+  /**
+   * Method invoked to calculate the index value for the given element.
+   *
+   * @param element
+   *          the element to calculate its index value.
+   * @return the index value, or <code>null</code> to not add the element to this index.
+   */
+  protected abstract INDEX calculateIndexFor(ELEMENT element);
+
+  /**
+   * Creates the mutable map holding the element lists by index value.
+   */
+  Map<INDEX, List<ELEMENT>> createIndexMap() {
+    return new HashMap<>();
+  }
+
+  /**
+   * Creates an immutable copy of the given map to be published.
+   */
+  Map<INDEX, List<ELEMENT>> copyIndexMap(final Map<INDEX, List<ELEMENT>> map) {
+    return Collections.unmodifiableMap(new HashMap<>(map));
+  }
+
+  @Override
+  boolean addToIndex(final ELEMENT element) {
+    if (m_mapByElement.containsKey(element)) {
+      removeFromIndex(element);
+    }
+
+    final INDEX index = calculateIndexFor(element);
+    if (index == null) {
+      return false;
+    }
+
+    final List<ELEMENT> oldElements = m_mapByIndex.get(index);
+    final List<ELEMENT> newElements = new ArrayList<>(oldElements != null ? oldElements.size() + 1 : 1);
+    if (oldElements != null) {
+      newElements.addAll(oldElements);
+    }
+    newElements.add(element);
+    m_mapByIndex.put(index, Collections.unmodifiableList(newElements));
+    m_mapByElement.put(element, index);
+    return true;
+  }
+
+  @Override
+  boolean removeFromIndex(final ELEMENT element) {
+    final INDEX index = m_mapByElement.remove(element);
+    if (index == null) {
+      return false;
+    }
+
+    final List<ELEMENT> newElements = new ArrayList<>(m_mapByIndex.get(index));
+    newElements.remove(element);
+    if (newElements.isEmpty()) {
+      m_mapByIndex.remove(index);
+    }
+    else {
+      m_mapByIndex.put(index, Collections.unmodifiableList(newElements));
+    }
+    return true;
+  }
+
+  @Override
+  void clearIndex() {
+    m_mapByIndex.clear();
+    m_mapByElement.clear();
+  }
+
+  @Override
+  Object createState() {
+    return copyIndexMap(m_mapByIndex);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.index;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of a {@link ConcurrentIndexedStore} that is unique among all elements, e.g. an element's primary key.
+ *
+ * @since 24.2
+ * @see AbstractSingleValueIndex
+ */
+public abstract class AbstractConcurrentSingleValueIndex<INDEX, ELEMENT> extends AbstractConcurrentIndex<INDEX, ELEMENT> {
+
+  private final Map<INDEX, ELEMENT> m_mapByIndex = new HashMap<>();
+  private final Map<ELEMENT, INDEX> m_mapByElement = new HashMap<>();
+
+  /**
+   * Returns the element for the given index value in the current snapshot of the store, or <code>null</code> if not
+   * found.
+   */
+  public ELEMENT get(final INDEX index) {
+    return get(snapshot(), index);
+  }
+
+  /**
+   * Returns the element for the given index value in the given snapshot, or <code>null</code> if not found.
+   */
+  public ELEMENT get(final IndexedStoreSnapshot<ELEMENT> snapshot, final INDEX index) {
+    return getMap(snapshot).get(index);
+  }
+
+  @Override
+  public Set<INDEX> indexValues(final IndexedStoreSnapshot<ELEMENT> snapshot) {
+    return new HashSet<>(getMap(snapshot).keySet());
+  }
+
+  @SuppressWarnings("unchecked")
+  protected Map<INDEX, ELEMENT> getMap(final IndexedStoreSnapshot<ELEMENT> snapshot) {
+    return (Map<INDEX, ELEMENT>) getState(snapshot);
+  }
+
+  /**
+   * Method invoked to calculate the index value for the given element.
+   *
+   * @param element
+   *          the element to calculate its index value.
+   * @return the index value, or <code>null</code> to not add to the index.
+   */
+  protected abstract INDEX calculateIndexFor(ELEMENT element);
+
+  @Override
+  boolean addToIndex(final ELEMENT element) {
+    if (m_mapByElement.containsKey(element)) {
+      removeFromIndex(element);
+    }
+
+    final INDEX index = calculateIndexFor(element);
+    if (index == null) {
+      return false;
+    }
+
+    m_mapByIndex.put(index, element);
+    m_mapByElement.put(element, index);
+    return true;
+  }
+
+  @Override
+  boolean removeFromIndex(final ELEMENT element) {
+    final INDEX index = m_mapByElement.remove(element);
+    if (index == null) {
+      return false;
+    }
+
+    m_mapByIndex.remove(index);
+    return true;
+  }
+
+  @Override
+  void clearIndex() {
+    m_mapByIndex.clear();
+    m_mapByElement.clear();
+  }
+
+  @Override
+  Object createState() {
+    return Collections.unmodifiableMap(new HashMap<>(m_mapByIndex));
+  }
+}
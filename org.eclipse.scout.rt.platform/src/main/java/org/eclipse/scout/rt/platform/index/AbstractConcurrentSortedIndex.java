@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Index of a {@link ConcurrentIndexedStore} that keeps its index values sorted, so that all elements with an index
+ * value within a given range can be looked up in <code>O(log n + k)</code> (e.g. all entries created between two
+ * timestamps).
+ * <p>
+ * By default, the index values are sorted by their natural order. Override {@link #getComparator()} to use another
+ * order.
+ *
+ * @since 24.2
+ */
+public abstract class AbstractConcurrentSortedIndex<INDEX, ELEMENT> extends AbstractConcurrentMultiValueIndex<INDEX, ELEMENT> {
+
+  /**
+   * Returns the elements with an index value between <code>from</code> and <code>to</code> (both inclusive) in the
+   * current snapshot of the store, ordered by index value.
+   *
+   * @param from
+   *          the lower bound, or <code>null</code> for no lower bound.
+   * @param to
+   *          the upper bound, or <code>null</code> for no upper bound.
+   */
+  public List<ELEMENT> getRange(final INDEX from, final INDEX to) {
+    return getRange(snapshot(), from, true, to, true);
+  }
+
+  /**
+   * Returns the elements with an index value between <code>from</code> and <code>to</code> in the given snapshot,
+   * ordered by index value.
+   *
+   * @param from
+   *          the lower bound, or <code>null</code> for no lower bound.
+   * @param fromInclusive
+   *          <code>true</code> if the lower bound is to be included.
+   * @param to
+   *          the upper bound, or <code>null</code> for no upper bound.
+   * @param toInclusive
+   *          <code>true</code> if the upper bound is to be included.
+   */
+  public List<ELEMENT> getRange(final IndexedStoreSnapshot<ELEMENT> snapshot, final INDEX from, final boolean fromInclusive, final INDEX to, final boolean toInclusive) {
+    NavigableMap<INDEX, List<ELEMENT>> map = getMap(snapshot);
+    if (from != null) {
+      map = map.tailMap(from, fromInclusive);
+    }
+    if (to != null) {
+      map = map.headMap(to, toInclusive);
+    }
+
+    final List<ELEMENT> result = new ArrayList<>();
+    for (final List<ELEMENT> elements : map.values()) {
+      result.addAll(elements);
+    }
+    return result;
+  }
+
+  /**
+   * @return the smallest index value in the current snapshot of the store, or <code>null</code> if empty.
+   */
+  public INDEX firstIndexValue() {
+    final NavigableMap<INDEX, List<ELEMENT>> map = getMap(snapshot());
+    return map.isEmpty() ? null : map.firstKey();
+  }
+
+  /**
+   * @return the largest index value in the current snapshot of the store, or <code>null</code> if empty.
+   */
+  public INDEX lastIndexValue() {
+    final NavigableMap<INDEX, List<ELEMENT>> map = getMap(snapshot());
+    return map.isEmpty() ? null : map.lastKey();
+  }
+
+  @Override
+  protected NavigableMap<INDEX, List<ELEMENT>> getMap(final IndexedStoreSnapshot<ELEMENT> snapshot) {
+    return (NavigableMap<INDEX, List<ELEMENT>>) super.getMap(snapshot);
+  }
+
+  /**
+   * @return the comparator to sort the index values, or <code>null</code> to use their natural order. This method is
+   *         invoked during construction and must therefore not access any fields of the subclass.
+   */
+  protected Comparator<? super INDEX> getComparator() {
+    return null;
+  }
+
+  @Override
+  Map<INDEX, List<ELEMENT>> createIndexMap() {
+    return new TreeMap<>(getComparator());
+  }
+
+  @Override
+  Map<INDEX, List<ELEMENT>> copyIndexMap(final Map<INDEX, List<ELEMENT>> map) {
+    // copying a sorted map takes linear time
+    return Collections.unmodifiableNavigableMap(new TreeMap<>((SortedMap<INDEX, List<ELEMENT>>) map));
+  }
+}
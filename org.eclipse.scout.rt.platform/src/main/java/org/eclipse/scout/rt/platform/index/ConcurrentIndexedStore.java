@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe variant of {@link IndexedStore} for read-mostly in-memory registries.
+ * <p>
+ * Readers work on immutable, versioned {@link IndexedStoreSnapshot}s and never acquire a lock. Writers are serialized
+ * and publish a new snapshot after every modification. Publishing a snapshot copies the modified indices, so
+ * modifications should be batched using {@link #update(Consumer)}, {@link #addAll(Collection)} or
+ * {@link #remove(Collection)}.
+ * <p>
+ * Definition and usage:
+ *
+ * <pre>
+ * public class PersonStore extends ConcurrentIndexedStore&lt;Person&gt; {
+ *
+ *   private final P_PersonIdIndex m_idxId = registerIndex(new P_PersonIdIndex());
+ *   private final P_PersonBirthdayIndex m_idxBirthday = registerIndex(new P_PersonBirthdayIndex());
+ *
+ *   public Person getById(long id) {
+ *     return m_idxId.get(id);
+ *   }
+ *
+ *   public List&lt;Person&gt; getBornBetween(Date from, Date to) {
+ *     return m_idxBirthday.getRange(from, to);
+ *   }
+ *
+ *   private class P_PersonIdIndex extends AbstractConcurrentSingleValueIndex&lt;Long, Person&gt; {
+ *
+ *     &#064;Override
+ *     protected Long calculateIndexFor(Person person) {
+ *       return person.getId();
+ *     }
+ *   }
+ *
+ *   private class P_PersonBirthdayIndex extends AbstractConcurrentSortedIndex&lt;Date, Person&gt; {
+ *
+ *     &#064;Override
+ *     protected Date calculateIndexFor(Person person) {
+ *       return person.getBirthday();
+ *     }
+ *   }
+ * }
+ *
+ * // Consistent lookups over multiple indices are done on the same snapshot.
+ * IndexedStoreSnapshot&lt;Person&gt; snapshot = store.snapshot();
+ * </pre>
+ *
+ * @since 24.2
+ */
+public class ConcurrentIndexedStore<ELEMENT> implements Iterable<ELEMENT> {
+
+  private final ReentrantLock m_writeLock = new ReentrantLock();
+  private final List<AbstractConcurrentIndex<?, ELEMENT>> m_indices = new ArrayList<>(); // guarded by m_writeLock
+  private final Set<ELEMENT> m_elements = new LinkedHashSet<>(); // guarded by m_writeLock; LinkedHashSet to preserve insertion-order
+  private final IBatch<ELEMENT> m_batch = new P_Batch();
+  private boolean m_elementsModified; // guarded by m_writeLock
+
+  private volatile IndexedStoreSnapshot<ELEMENT> m_snapshot;
+
+  public ConcurrentIndexedStore() {
+    m_snapshot = new IndexedStoreSnapshot<>(0, Collections.emptySet(), Collections.emptyMap());
+  }
+
+  /**
+   * Returns the current snapshot of this store. The snapshot is immutable and not affected by subsequent
+   * modifications.
+   */
+  public IndexedStoreSnapshot<ELEMENT> snapshot() {
+    return m_snapshot;
+  }
+
+  /**
+   * Applies the modifications of the given consumer and publishes them as a single new snapshot. Concurrent readers
+   * either see none or all of the modifications.
+   * <p>
+   * If the consumer throws an exception, the modifications applied so far are published nevertheless.
+   */
+  public void update(final Consumer<IBatch<ELEMENT>> modifications) {
+    m_writeLock.lock();
+    try {
+      modifications.accept(m_batch);
+    }
+    finally {
+      try {
+        publish();
+      }
+      finally {
+        m_writeLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Adds the given element to this store and registers it within all indices. If already contained, old index values
+   * for this element are first removed.
+   */
+  public void add(final ELEMENT element) {
+    update(batch -> batch.add(element));
+  }
+
+  /**
+   * Adds the given elements to this store and publishes them as a single new snapshot.
+   */
+  public void addAll(final Collection<ELEMENT> elements) {
+    update(batch -> elements.forEach(batch::add));
+  }
+
+  /**
+   * Removes the given element from this store and all associated indices.
+   */
+  public void remove(final ELEMENT element) {
+    update(batch -> batch.remove(element));
+  }
+
+  /**
+   * Removes the given elements from this store and publishes the removal as a single new snapshot.
+   */
+  public void remove(final Collection<ELEMENT> elements) {
+    update(batch -> elements.forEach(batch::remove));
+  }
+
+  /**
+   * Removes all elements from this store and discards all calculated indices.
+   */
+  public void clear() {
+    update(IBatch::clear);
+  }
+
+  /**
+   * Returns all elements contained in the current snapshot in the order as inserted.
+   */
+  public List<ELEMENT> values() {
+    return snapshot().values();
+  }
+
+  /**
+   * Returns whether the element is contained in the current snapshot.
+   */
+  public boolean contains(final ELEMENT element) {
+    return snapshot().contains(element);
+  }
+
+  /**
+   * Returns the number of elements contained in the current snapshot.
+   */
+  public int size() {
+    return snapshot().size();
+  }
+
+  /**
+   * Returns <code>true</code> if no elements are contained in the current snapshot, or <code>false</code> otherwise.
+   */
+  public boolean isEmpty() {
+    return snapshot().isEmpty();
+  }
+
+  /**
+   * Adds the given index to index the elements of this store. If the store already contains some elements, those are
+   * indexed as well.
+   *
+   * @param index
+   *          the index to be registered to index elements.
+   * @return the index as given to this method.
+   */
+  public <INDEX extends AbstractConcurrentIndex<?, ELEMENT>> INDEX registerIndex(final INDEX index) {
+    m_writeLock.lock();
+    try {
+      index.attach(this);
+      m_indices.add(index);
+      for (final ELEMENT element : m_elements) {
+        index.addToIndex(element);
+      }
+      index.setModified(true);
+      publish();
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+    return index;
+  }
+
+  /**
+   * Removes the given index and clears the index.
+   *
+   * @param index
+   *          the index to be unregistered.
+   * @return the index as given to this method.
+   */
+  public <INDEX extends AbstractConcurrentIndex<?, ELEMENT>> INDEX unregisterIndex(final INDEX index) {
+    m_writeLock.lock();
+    try {
+      if (m_indices.remove(index)) {
+        index.detach();
+        publish();
+      }
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+    return index;
+  }
+
+  /**
+   * Returns an iterator to iterate over all elements of the current snapshot.
+   */
+  @Override
+  public Iterator<ELEMENT> iterator() {
+    return snapshot().iterator();
+  }
+
+  /**
+   * Publishes a new snapshot if this store was modified since the last snapshot. The state of unmodified indices is
+   * taken over from the previous snapshot. Must be invoked while holding the write lock.
+   */
+  protected void publish() {
+    final IndexedStoreSnapshot<ELEMENT> previous = m_snapshot;
+    boolean modified = m_elementsModified || m_indices.size() != previous.indexStates().size();
+
+    final Map<AbstractConcurrentIndex<?, ELEMENT>, Object> indexStates = new IdentityHashMap<>(m_indices.size());
+    for (final AbstractConcurrentIndex<?, ELEMENT> index : m_indices) {
+      if (index.isModified() || previous.getIndexState(index) == null) {
+        indexStates.put(index, index.createState());
+        index.setModified(false);
+        modified = true;
+      }
+      else {
+        indexStates.put(index, previous.getIndexState(index));
+      }
+    }
+    if (!modified) {
+      return;
+    }
+
+    final Set<ELEMENT> elements = m_elementsModified ? new LinkedHashSet<>(m_elements) : previous.elements();
+    m_elementsModified = false;
+    m_snapshot = new IndexedStoreSnapshot<>(previous.getVersion() + 1, elements, indexStates);
+  }
+
+  /**
+   * Modifications applied to a {@link ConcurrentIndexedStore} within {@link ConcurrentIndexedStore#update(Consumer)}.
+   * A batch must not be used outside of that method.
+   */
+  public interface IBatch<ELEMENT> {
+
+    /**
+     * Adds the given element. If already contained, old index values for this element are first removed.
+     */
+    void add(ELEMENT element);
+
+    /**
+     * Removes the given element.
+     */
+    void remove(ELEMENT element);
+
+    /**
+     * Removes all elements.
+     */
+    void clear();
+  }
+
+  private class P_Batch implements IBatch<ELEMENT> {
+
+    @Override
+    public void add(final ELEMENT element) {
+      m_elements.remove(element); // re-added elements are moved to the end like in IndexedStore
+      m_elements.add(element);
+      m_elementsModified = true;
+      for (final AbstractConcurrentIndex<?, ELEMENT> index : m_indices) {
+        index.addToIndex(element);
+        index.setModified(true);
+      }
+    }
+
+    @Override
+    public void remove(final ELEMENT element) {
+      if (!m_elements.remove(element)) {
+        return;
+      }
+      m_elementsModified = true;
+      for (final AbstractConcurrentIndex<?, ELEMENT> index : m_indices) {
+        index.removeFromIndex(element);
+        index.setModified(true);
+      }
+    }
+
+    @Override
+    public void clear() {
+      if (m_elements.isEmpty()) {
+        return;
+      }
+      m_elements.clear();
+      m_elementsModified = true;
+      for (final AbstractConcurrentIndex<?, ELEMENT> index : m_indices) {
+        index.clearIndex();
+        index.setModified(true);
+      }
+    }
+  }
+}
@@ -20,7 +20,8 @@ import java.util.List;
  * If an element is added to this store, that element is indexed within all registered indices. On the other hand, if an
  * element is removed, that element is removed from all indices.
  * <p>
- * This class is not thread-safe, meaning that the caller is responsible for proper synchronization.
+ * This class is not thread-safe, meaning that the caller is responsible for proper synchronization. Use
+ * {@link ConcurrentIndexedStore} for a store which is accessed concurrently.
  * <p>
  * Definition and usage:
  *
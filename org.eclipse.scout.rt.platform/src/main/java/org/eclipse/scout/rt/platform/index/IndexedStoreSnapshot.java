@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.index;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+
+/**
+ * Immutable state of a {@link ConcurrentIndexedStore} and all its indices at a given point in time.
+ * <p>
+ * A snapshot is never modified once published. Therefore, multiple index lookups on the same snapshot are consistent
+ * with each other, even if the store is modified concurrently.
+ *
+ * @since 24.2
+ * @see ConcurrentIndexedStore#snapshot()
+ */
+public final class IndexedStoreSnapshot<ELEMENT> implements Iterable<ELEMENT> {
+
+  private final long m_version;
+  private final Set<ELEMENT> m_elements;
+  private final Map<AbstractConcurrentIndex<?, ELEMENT>, Object> m_indexStates;
+
+  IndexedStoreSnapshot(final long version, final Set<ELEMENT> elements, final Map<AbstractConcurrentIndex<?, ELEMENT>, Object> indexStates) {
+    m_version = version;
+    m_elements = Collections.unmodifiableSet(elements);
+    m_indexStates = Collections.unmodifiableMap(indexStates);
+  }
+
+  /**
+   * @return the version of this snapshot. The version is incremented whenever the store publishes a modification.
+   */
+  public long getVersion() {
+    return m_version;
+  }
+
+  /**
+   * Returns all elements contained in this snapshot in the order as inserted.
+   */
+  public List<ELEMENT> values() {
+    return CollectionUtility.arrayList(m_elements);
+  }
+
+  /**
+   * Returns whether the element is contained in this snapshot.
+   */
+  public boolean contains(final ELEMENT element) {
+    return m_elements.contains(element);
+  }
+
+  /**
+   * Returns the number of elements contained in this snapshot.
+   */
+  public int size() {
+    return m_elements.size();
+  }
+
+  /**
+   * Returns <code>true</code> if no elements are contained in this snapshot, or <code>false</code> otherwise.
+   */
+  public boolean isEmpty() {
+    return m_elements.isEmpty();
+  }
+
+  /**
+   * Returns an iterator to iterate over all contained elements in the order as inserted.
+   */
+  @Override
+  public Iterator<ELEMENT> iterator() {
+    return m_elements.iterator();
+  }
+
+  Set<ELEMENT> elements() {
+    return m_elements;
+  }
+
+  Object getIndexState(final AbstractConcurrentIndex<?, ELEMENT> index) {
+    return m_indexStates.get(index);
+  }
+
+  Map<AbstractConcurrentIndex<?, ELEMENT>, Object> indexStates() {
+    return m_indexStates;
+  }
+
+  @Override
+  public String toString() {
+    return IndexedStoreSnapshot.class.getSimpleName() + "[version=" + m_version + ", size=" + m_elements.size() + "]";
+  }
+}
@@ -19,7 +19,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BeanMetaData;
@@ -45,6 +51,12 @@ public class BeanManagerImplementor implements IBeanManager {
    * BeanHierarchies are only accessed when we have acquired {@link #m_lock}.
    */
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
+  /**
+   * Cached query results, <code>null</code> if disabled. Entries are only added while holding the read lock of
+   * {@link #m_lock}, the snapshot is only replaced while holding the write lock. Therefore, a snapshot never contains a
+   * result computed before the last registration or unregistration of a bean.
+   */
+  private volatile LookupSnapshot m_lookupSnapshot;
   private IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
@@ -65,19 +77,61 @@ public class BeanManagerImplementor implements IBeanManager {
     //subclasses may limit access
   }
 
+  /**
+   * Enables or disables the lookup snapshot.
+   * <p>
+   * If enabled, the results of {@link #getBean(Class)}, {@link #optBean(Class)}, {@link #uniqueBean(Class)} and
+   * {@link #getBeans(Class)} are cached per queried class, so that repeated queries neither acquire a lock nor
+   * allocate. The snapshot is discarded whenever a bean is registered or unregistered. Results which are decorated by
+   * the {@link IBeanDecorationFactory} are never cached, because a new decorated bean is created for every query.
+   * <p>
+   * The platform enables the snapshot as soon as it is started, see
+   * {@link org.eclipse.scout.rt.platform.config.PlatformConfigProperties.BeanManagerLookupSnapshotProperty}.
+   */
+  public void setLookupSnapshotEnabled(boolean enabled) {
+    m_lock.writeLock().lock();
+    try {
+      m_lookupSnapshot = enabled ? new LookupSnapshot() : null;
+    }
+    finally {
+      m_lock.writeLock().unlock();
+    }
+  }
+
+  public boolean isLookupSnapshotEnabled() {
+    return m_lookupSnapshot != null;
+  }
+
+  /**
+   * Discards all cached query results. Must be called while holding the write lock.
+   */
+  protected void invalidateLookupSnapshot() {
+    if (m_lookupSnapshot != null) {
+      m_lookupSnapshot = new LookupSnapshot();
+    }
+  }
+
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
     checkAccess();
+    LookupSnapshot snapshot = m_lookupSnapshot;
+    if (snapshot != null) {
+      List<IBean<T>> cached = snapshot.getSingle(beanClazz);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
     m_lock.readLock().lock();
     try {
       @SuppressWarnings("unchecked")
       BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
+      List<IBean<T>> singleBean = h == null ? Collections.emptyList() : h.querySingle();
+      List<IBean<T>> result = h == null ? singleBean : getDecoratedBeans(singleBean, beanClazz);
+      snapshot = m_lookupSnapshot; // re-read, may have been replaced before the read lock was acquired
+      if (snapshot != null && isUndecorated(singleBean, result)) {
+        snapshot.putSingle(beanClazz, singleBean);
       }
+      return result;
     }
     finally {
       m_lock.readLock().unlock();
@@ -85,22 +139,50 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
+    checkAccess();
+    LookupSnapshot snapshot = m_lookupSnapshot;
+    if (snapshot != null) {
+      List<IBean<T>> cached = snapshot.getAll(beanClazz);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
     m_lock.readLock().lock();
     try {
-      checkAccess();
       @SuppressWarnings("unchecked")
       BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
+      List<IBean<T>> allBeans = h == null ? Collections.emptyList() : h.queryAll();
+      List<IBean<T>> result = h == null ? allBeans : getDecoratedBeans(allBeans, beanClazz);
+      snapshot = m_lookupSnapshot; // re-read, may have been replaced before the read lock was acquired
+      if (snapshot != null && isUndecorated(allBeans, result)) {
+        snapshot.putAll(beanClazz, allBeans);
       }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
+      return result;
     }
     finally {
       m_lock.readLock().unlock();
     }
   }
 
+  /**
+   * @return <code>true</code> if the decorated beans are the very same as the given beans, i.e. no bean was decorated.
+   */
+  protected static <T> boolean isUndecorated(List<IBean<T>> beans, List<IBean<T>> decoratedBeans) {
+    if (beans == decoratedBeans) {
+      return true;
+    }
+    if (beans.size() != decoratedBeans.size()) {
+      return false;
+    }
+    for (int i = 0; i < beans.size(); i++) {
+      if (beans.get(i) != decoratedBeans.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
     //interfaces
     Set<Class<?>> set = new LinkedHashSet<>(BeanUtility.getInterfacesHierarchy(bean.getBeanClazz(), Object.class));
@@ -145,6 +227,48 @@ public class BeanManagerImplementor implements IBeanManager {
     return registerBean(new BeanMetaData(beanClazz));
   }
 
+  /**
+   * Registers all given classes as beans. Compared to {@link #registerClass(Class)} the write lock is acquired only once
+   * for all beans.
+   *
+   * @param parallel
+   *          <code>true</code> if the bean meta data and the implemented types of the beans should be computed in
+   *          parallel. The beans are registered in the iteration order of the given classes in both cases.
+   * @return the registered beans in the iteration order of the given classes
+   * @since 24.2
+   */
+  public List<IBean<?>> registerClasses(Collection<Class<?>> beanClasses, boolean parallel) {
+    Stream<Class<?>> stream = parallel ? beanClasses.parallelStream() : beanClasses.stream();
+    List<P_PreparedBean> preparedBeans = stream
+        .map(beanClazz -> {
+          IBean<?> bean = createBeanImplementor(new BeanMetaData(beanClazz));
+          return new P_PreparedBean(bean, listImplementedTypes(bean));
+        })
+        .collect(Collectors.toList());
+
+    List<IBean<?>> result = new ArrayList<>(preparedBeans.size());
+    m_lock.writeLock().lock();
+    try {
+      for (P_PreparedBean preparedBean : preparedBeans) {
+        addBean(preparedBean.m_bean, preparedBean.m_types);
+        result.add(preparedBean.m_bean);
+      }
+      invalidateLookupSnapshot();
+    }
+    finally {
+      m_lock.writeLock().unlock();
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void addBean(IBean<?> bean, Collection<Class<?>> types) {
+    for (Class<?> type : types) {
+      BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
+      h.addBean(bean);
+    }
+  }
+
   @Override
   public <T> void unregisterClass(Class<T> beanClazz) {
     for (IBean<T> bean : getRegisteredBeans(beanClazz)) {
@@ -160,10 +284,8 @@ public class BeanManagerImplementor implements IBeanManager {
     m_lock.writeLock().lock();
     try {
       IBean<T> bean = createBeanImplementor(beanData);
-      for (Class<?> type : listImplementedTypes(bean)) {
-        BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
-        h.addBean(bean);
-      }
+      addBean(bean, listImplementedTypes(bean));
+      invalidateLookupSnapshot();
       return bean;
     }
     finally {
@@ -183,6 +305,7 @@ public class BeanManagerImplementor implements IBeanManager {
           h.removeBean(bean);
         }
       }
+      invalidateLookupSnapshot();
     }
     finally {
       m_lock.writeLock().unlock();
@@ -322,7 +445,14 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   protected void setBeanDecorationFactory(IBeanDecorationFactory f) {
-    m_beanDecorationFactory = f;
+    m_lock.writeLock().lock();
+    try {
+      m_beanDecorationFactory = f;
+      invalidateLookupSnapshot();
+    }
+    finally {
+      m_lock.writeLock().unlock();
+    }
   }
 
   protected IBeanDecorationFactory getBeanDecorationFactory() {
@@ -337,10 +467,65 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   public void startCreateImmediatelyBeans() {
-    for (IBean bean : getBeans(Object.class)) {
+    for (IBean<?> bean : getCreateImmediatelyBeans()) {
+      bean.getInstance();
+    }
+  }
+
+  /**
+   * Same as {@link #startCreateImmediatelyBeans()} but the beans are instantiated concurrently using the given executor.
+   * The beans are therefore expected to be independent of each other, a bean depending on another
+   * {@link CreateImmediately} bean waits until the other bean is created. This method returns as soon as all beans are
+   * created, the failure of the first bean (in bean order) is rethrown.
+   *
+   * @since 24.2
+   */
+  public void startCreateImmediatelyBeans(Executor executor) {
+    List<CompletableFuture<?>> futures = new ArrayList<>();
+    for (IBean<?> bean : getCreateImmediatelyBeans()) {
+      futures.add(CompletableFuture.runAsync(bean::getInstance, executor));
+    }
+    RuntimeException failure = null;
+    for (CompletableFuture<?> future : futures) {
+      try {
+        future.join();
+      }
+      catch (CompletionException e) {
+        if (failure == null) {
+          failure = unwrap(e);
+        }
+        else {
+          LOG.error("Error creating bean", e.getCause());
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  protected static RuntimeException unwrap(CompletionException e) {
+    Throwable cause = e.getCause();
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return e;
+  }
+
+  /**
+   * @return all {@link CreateImmediately} beans
+   * @throws InitializationException
+   *           if a {@link CreateImmediately} bean is not application scoped
+   */
+  protected List<IBean<?>> getCreateImmediatelyBeans() {
+    List<IBean<?>> result = new ArrayList<>();
+    for (IBean<?> bean : getBeans(Object.class)) {
       if (isCreateImmediately(bean)) {
         if (isApplicationScoped(bean)) {
-          bean.getInstance();
+          result.add(bean);
         }
         else {
           throw new InitializationException(String.format(
@@ -351,6 +536,7 @@ public class BeanManagerImplementor implements IBeanManager {
         }
       }
     }
+    return result;
   }
 
   public static boolean isCreateImmediately(IBean<?> bean) {
@@ -360,4 +546,40 @@ public class BeanManagerImplementor implements IBeanManager {
   public static boolean isApplicationScoped(IBean<?> bean) {
     return bean.hasAnnotation(ApplicationScoped.class);
   }
+
+  private static final class P_PreparedBean {
+    private final IBean<?> m_bean;
+    private final Collection<Class<?>> m_types;
+
+    private P_PreparedBean(IBean<?> bean, Collection<Class<?>> types) {
+      m_bean = bean;
+      m_types = types;
+    }
+  }
+
+  /**
+   * Immutable query results per queried class. The cached lists are the unmodifiable lists of {@link BeanHierarchy}.
+   */
+  protected static final class LookupSnapshot {
+    private final Map<Class<?>, List<?>> m_single = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<?>> m_all = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <T> List<IBean<T>> getSingle(Class<T> beanClazz) {
+      return (List<IBean<T>>) m_single.get(beanClazz);
+    }
+
+    <T> void putSingle(Class<T> beanClazz, List<IBean<T>> beans) {
+      m_single.put(beanClazz, beans);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> List<IBean<T>> getAll(Class<T> beanClazz) {
+      return (List<IBean<T>>) m_all.get(beanClazz);
+    }
+
+    <T> void putAll(Class<T> beanClazz, List<IBean<T>> beans) {
+      m_all.put(beanClazz, beans);
+    }
+  }
 }
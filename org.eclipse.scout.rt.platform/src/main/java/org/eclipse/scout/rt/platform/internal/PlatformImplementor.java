@@ -16,6 +16,10 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -30,7 +34,9 @@ import org.eclipse.scout.rt.platform.SimpleBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.IConfigurationValidator;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.BeanManagerLookupSnapshotProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformParallelStartupProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.inventory.ClassInventory;
 import org.eclipse.scout.rt.platform.inventory.IClassInventory;
@@ -58,6 +64,7 @@ public class PlatformImplementor implements IPlatform {
   private final AtomicReference<State> m_state; // may be read at any time by any thread
   private BeanManagerImplementor m_beanManager;
   private volatile boolean m_initializedSuccessfully;
+  private Boolean m_parallelStartup;
 
   public PlatformImplementor() {
     m_state = new AtomicReference<>(State.PlatformStopped);
@@ -70,7 +77,8 @@ public class PlatformImplementor implements IPlatform {
 
   @Override
   public IBeanManager getBeanManager() {
-    if (m_initializedSuccessfully) {
+    if (m_initializedSuccessfully || Thread.currentThread() instanceof PlatformStartupThread) {
+      // startup threads create beans on behalf of the thread holding the write lock
       return m_beanManager;
     }
     // use lock to ensure the caller waits until the platform has been started completely
@@ -135,16 +143,23 @@ public class PlatformImplementor implements IPlatform {
         }
 
         try {
+          long t0 = System.nanoTime();
           validateHeadless();
           m_beanManager = createBeanManager();
           //now all IPlatformListener are registered and can receive platform events
           changeState(State.BeanManagerPrepared, true);
+          long t1 = logStartupPhase(State.BeanManagerPrepared.name(), t0);
 
           validateConfiguration();
           initBeanDecorationFactory();
+          long t2 = logStartupPhase("Configuration", t1);
 
           changeState(State.BeanManagerValid, true);
+          long t3 = logStartupPhase(State.BeanManagerValid.name(), t2);
+
           startCreateImmediatelyBeans();
+          initBeanLookupSnapshot();
+          logStartupPhase("CreateImmediately", t3);
         }
         catch (RuntimeException | Error e) {
           LOG.error("Error during platform startup", e);
@@ -157,14 +172,39 @@ public class PlatformImplementor implements IPlatform {
         //lock has to be released after the State.BeanManagerValid change to make sure everything is initialized correctly, before beans can be accessed.
         m_platformLock.writeLock().unlock();
       }
+      long t4 = System.nanoTime();
       changeState(State.PlatformStarted, true);
       m_initializedSuccessfully = true;
+      logStartupPhase(State.PlatformStarted.name(), t4);
     }
     finally {
       notifyPlatformStarted();
     }
   }
 
+  /**
+   * Logs the duration of a startup phase.
+   *
+   * @return the end time of the phase in nanoseconds, i.e. the start time of the next phase
+   */
+  protected long logStartupPhase(String phase, long startNanos) {
+    long endNanos = System.nanoTime();
+    LOG.info("Platform startup phase {} took {} ms", phase, StringUtility.formatNanos(endNanos - startNanos));
+    return endNanos;
+  }
+
+  /**
+   * @return <code>true</code> if the beans are registered in parallel and the {@code CreateImmediately} beans are
+   *         instantiated concurrently.
+   */
+  protected boolean isParallelStartup() {
+    if (m_parallelStartup == null) {
+      // do not use the CONFIG class here because the platform is not ready yet
+      m_parallelStartup = BooleanUtility.nvl(new PlatformParallelStartupProperty().getValue());
+    }
+    return m_parallelStartup;
+  }
+
   protected void validateHeadless() {
     final boolean scoutHeadless = ConfigUtility.getPropertyBoolean(SCOUT_HEADLESS_PROPERTY, true);
     String awtHeadlessStr = System.getProperty(AWT_HEADLESS_PROPERTY);
@@ -217,18 +257,20 @@ public class PlatformImplementor implements IPlatform {
     return new BeanManagerImplementor();
   }
 
+  @SuppressWarnings("unchecked")
   protected BeanManagerImplementor createBeanManager() {
     BeanManagerImplementor beanManager = newBeanManagerImplementor();
-    IClassInventory inv = ClassInventory.get();
     long t0 = System.nanoTime();
-    Set<Class> allBeans = new BeanFilter().collect(inv);
+    IClassInventory inv = ClassInventory.get();
     long t1 = System.nanoTime();
-    LOG.info("Collected {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t1 - t0));
-    for (Class<?> bean : allBeans) {
-      beanManager.registerClass(bean);
-    }
+    LOG.info("Loaded class inventory in {} ms", StringUtility.formatNanos(t1 - t0));
+    Set<Class> allBeans = new BeanFilter().collect(inv);
     long t2 = System.nanoTime();
-    LOG.info("Registered {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t2 - t1));
+    LOG.info("Collected {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t2 - t1));
+    boolean parallel = isParallelStartup();
+    beanManager.registerClasses((Set) allBeans, parallel);
+    long t3 = System.nanoTime();
+    LOG.info("Registered {} beans in {} ms{}", allBeans.size(), StringUtility.formatNanos(t3 - t2), parallel ? " (parallel)" : "");
     return beanManager;
   }
 
@@ -246,7 +288,25 @@ public class PlatformImplementor implements IPlatform {
   }
 
   protected void startCreateImmediatelyBeans() {
-    m_beanManager.startCreateImmediatelyBeans();
+    if (!isParallelStartup()) {
+      m_beanManager.startCreateImmediatelyBeans();
+      return;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new P_StartupThreadFactory());
+    try {
+      m_beanManager.startCreateImmediatelyBeans(executor);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Bean registrations are frequent during the startup but rare afterwards. Therefore, bean query results are only
+   * cached from now on.
+   */
+  protected void initBeanLookupSnapshot() {
+    m_beanManager.setLookupSnapshotEnabled(BooleanUtility.nvl(CONFIG.getPropertyValue(BeanManagerLookupSnapshotProperty.class)));
   }
 
   @Override
@@ -269,6 +329,7 @@ public class PlatformImplementor implements IPlatform {
 
   protected void destroyBeanManager() {
     m_beanManager = null;
+    m_parallelStartup = null;
   }
 
   protected void changeState(State newState, boolean throwOnIllegalStateChange) {
@@ -351,4 +412,26 @@ public class PlatformImplementor implements IPlatform {
   public boolean inDevelopmentMode() {
     return IN_DEVELOPMENT_MODE.get(); // cannot be null
   }
+
+  /**
+   * Thread instantiating {@code CreateImmediately} beans during a parallel startup. Such threads may access the bean
+   * manager while the platform is still starting.
+   */
+  protected static class PlatformStartupThread extends Thread {
+
+    public PlatformStartupThread(Runnable r, String name) {
+      super(r, name);
+    }
+  }
+
+  private static class P_StartupThreadFactory implements ThreadFactory {
+    private final AtomicInteger m_threadNumber = new AtomicInteger(1);
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread t = new PlatformStartupThread(r, "scout-platform-startup-" + m_threadNumber.getAndIncrement());
+      t.setDaemon(true);
+      return t;
+    }
+  }
 }
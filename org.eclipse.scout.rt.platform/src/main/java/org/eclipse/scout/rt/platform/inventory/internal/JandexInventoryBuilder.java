@@ -19,13 +19,17 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexInventoryCacheProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexRebuildProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
@@ -68,33 +72,84 @@ public class JandexInventoryBuilder {
   }
 
   private final RebuildStrategy m_rebuildStrategy;
+  private final JandexInventoryCache m_inventoryCache;
 
   private final List<IndexView> m_indexList;
 
   public JandexInventoryBuilder() {
     // do not use the CONFIG class here because the platform is not ready yet
-    this(new JandexRebuildProperty().getValue());
+    this(new JandexRebuildProperty().getValue(), createInventoryCache(new JandexInventoryCacheProperty().getValue()));
   }
 
   public JandexInventoryBuilder(RebuildStrategy rebuildStrategy) {
+    this(rebuildStrategy, null);
+  }
+
+  /**
+   * @param inventoryCache
+   *          the cache to read all indexes from and to write them to, or <code>null</code> to scan all modules on every
+   *          start.
+   * @since 24.2
+   */
+  public JandexInventoryBuilder(RebuildStrategy rebuildStrategy, JandexInventoryCache inventoryCache) {
     m_rebuildStrategy = rebuildStrategy;
+    m_inventoryCache = inventoryCache;
     m_indexList = new ArrayList<>();
   }
 
+  protected static JandexInventoryCache createInventoryCache(String cacheFile) {
+    if (cacheFile == null) {
+      return null;
+    }
+    return new JandexInventoryCache(Paths.get(cacheFile));
+  }
+
   public RebuildStrategy getRebuildStrategy() {
     return m_rebuildStrategy;
   }
 
+  /**
+   * @return the inventory cache or <code>null</code> if no cache is used.
+   * @since 24.2
+   */
+  public JandexInventoryCache getInventoryCache() {
+    return m_inventoryCache;
+  }
+
   public void scanAllModules() {
+    List<URI> indexUris;
     try {
-      Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH))
-          .parallelStream()
+      indexUris = Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH))
+          .stream()
           .map(this::findIndexUri)
-          .forEach(this::scanModule);
+          .collect(Collectors.toList());
     }
     catch (IOException ex) {
       throw new PlatformException("Error while reading resources '{}'", SCOUT_XML_PATH, ex);
     }
+
+    JandexInventoryCache cache = m_rebuildStrategy == RebuildStrategy.ALWAYS ? null : m_inventoryCache;
+    if (cache != null) {
+      List<Index> cachedIndexes = cache.load(cache.fingerprint(indexUris));
+      if (cachedIndexes != null) {
+        LOG.info("Using {} cached indexes of '{}'", cachedIndexes.size(), cache.getCacheFile());
+        synchronized (m_indexList) {
+          m_indexList.addAll(cachedIndexes);
+        }
+        return;
+      }
+    }
+
+    List<Index> indexes = indexUris
+        .parallelStream()
+        .map(this::scanModule)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+
+    if (cache != null) {
+      // compute the fingerprint after scanning because folder indexes may have been rewritten
+      cache.store(cache.fingerprint(indexUris), indexes);
+    }
   }
 
   public Index scanModule(URI indexUri) {
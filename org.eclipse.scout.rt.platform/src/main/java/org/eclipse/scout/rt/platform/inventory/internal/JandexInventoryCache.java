@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache holding the Jandex indexes of all Scout modules in a single file.
+ * <p>
+ * The cache is keyed by a fingerprint of all module locations: path, size and modification time of jar files, and the
+ * number, total size and newest modification time of the class files in class folders. If the fingerprint of the
+ * current classpath matches the one stored in the cache file, all indexes are read from the memory-mapped file at
+ * once, and no module has to be scanned. Otherwise, the modules are scanned as usual and the cache file is rewritten.
+ * <p>
+ * File format: magic number, format version, fingerprint length and bytes, number of indexes, and for every index its
+ * length and the index as written by {@link IndexWriter}.
+ *
+ * @since 24.2
+ */
+public class JandexInventoryCache {
+  private static final Logger LOG = LoggerFactory.getLogger(JandexInventoryCache.class);
+
+  private static final int MAGIC = 0x53434a49; // SCJI
+  private static final int FORMAT_VERSION = 1;
+
+  private final Path m_cacheFile;
+
+  public JandexInventoryCache(Path cacheFile) {
+    m_cacheFile = cacheFile;
+  }
+
+  public Path getCacheFile() {
+    return m_cacheFile;
+  }
+
+  /**
+   * Computes the fingerprint of the modules with the given <code>jandex.idx</code> URIs.
+   *
+   * @return the fingerprint, or <code>null</code> if a module location is not supported (neither a jar file nor a
+   *         folder), in which case the cache cannot be used.
+   */
+  public byte[] fingerprint(Collection<URI> indexUris) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      List<URI> sortedUris = new ArrayList<>(indexUris);
+      sortedUris.sort(null);
+      for (URI indexUri : sortedUris) {
+        String entry = fingerprintEntry(indexUri);
+        if (entry == null) {
+          LOG.debug("Location '{}' does not support the jandex inventory cache", indexUri);
+          return null;
+        }
+        digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+      }
+      return digest.digest();
+    }
+    catch (NoSuchAlgorithmException | IOException | URISyntaxException e) {
+      LOG.warn("Cannot compute fingerprint of the jandex inventory", e);
+      return null;
+    }
+  }
+
+  protected String fingerprintEntry(URI indexUri) throws IOException, URISyntaxException {
+    if ("jar".equals(indexUri.getScheme())) {
+      String s = indexUri.getRawSchemeSpecificPart();
+      Path jarFile = Paths.get(new URI(s.substring(0, s.lastIndexOf('!'))));
+      return jarFile + "|" + Files.size(jarFile) + "|" + Files.getLastModifiedTime(jarFile).toMillis();
+    }
+    if ("file".equals(indexUri.getScheme())) {
+      Path classesFolder = Paths.get(indexUri).getParent().getParent();
+      AtomicInteger fileCount = new AtomicInteger();
+      AtomicLong totalSize = new AtomicLong();
+      AtomicLong lastModified = new AtomicLong();
+      JandexFiles.walkFileTree(classesFolder, (path, attrs) -> {
+        fileCount.incrementAndGet();
+        totalSize.addAndGet(attrs.size());
+        lastModified.accumulateAndGet(attrs.lastModifiedTime().toMillis(), Math::max);
+      });
+      return classesFolder + "|" + fileCount.get() + "|" + totalSize.get() + "|" + lastModified.get();
+    }
+    return null;
+  }
+
+  /**
+   * @return the cached indexes, or <code>null</code> if there is no cache file, if it was written for another
+   *         fingerprint, or if it cannot be read.
+   */
+  public List<Index> load(byte[] fingerprint) {
+    if (fingerprint == null || !Files.isRegularFile(m_cacheFile)) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(m_cacheFile, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+        LOG.info("Ignore jandex inventory cache '{}' with unknown format", m_cacheFile);
+        return null;
+      }
+      byte[] storedFingerprint = new byte[buffer.getInt()];
+      buffer.get(storedFingerprint);
+      if (!Arrays.equals(fingerprint, storedFingerprint)) {
+        LOG.info("Ignore outdated jandex inventory cache '{}'. The classpath has changed.", m_cacheFile);
+        return null;
+      }
+
+      int indexCount = buffer.getInt();
+      List<Index> indexes = new ArrayList<>(indexCount);
+      for (int i = 0; i < indexCount; i++) {
+        int length = buffer.getInt();
+        ByteBuffer slice = buffer.slice();
+        slice.limit(length);
+        buffer.position(buffer.position() + length);
+        indexes.add(new IndexReader(new ByteBufferInputStream(slice)).read());
+      }
+      return indexes;
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.warn("Cannot read jandex inventory cache '{}'", m_cacheFile, e);
+      return null;
+    }
+  }
+
+  /**
+   * Writes the given indexes to the cache file. The file is written to a temporary file first and then moved, so that
+   * concurrently starting platforms never read a partially written cache.
+   */
+  public void store(byte[] fingerprint, Collection<Index> indexes) {
+    if (fingerprint == null) {
+      return;
+    }
+    Path tmp = null;
+    try {
+      Path dir = m_cacheFile.toAbsolutePath().getParent();
+      Files.createDirectories(dir);
+      tmp = Files.createTempFile(dir, m_cacheFile.getFileName().toString(), ".tmp");
+      try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(fingerprint.length);
+        out.write(fingerprint);
+        out.writeInt(indexes.size());
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        for (Index index : indexes) {
+          indexBytes.reset();
+          new IndexWriter(indexBytes).write(index);
+          out.writeInt(indexBytes.size());
+          indexBytes.writeTo(out);
+        }
+      }
+      Files.move(tmp, m_cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      tmp = null;
+      LOG.info("Wrote jandex inventory cache '{}' with {} indexes", m_cacheFile, indexes.size());
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.warn("Cannot write jandex inventory cache '{}'", m_cacheFile, e);
+    }
+    finally {
+      if (tmp != null) {
+        try {
+          Files.deleteIfExists(tmp);
+        }
+        catch (IOException e) {
+          LOG.debug("Cannot delete temporary file '{}'", tmp, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Deletes the cache file.
+   */
+  public void invalidate() {
+    try {
+      Files.deleteIfExists(m_cacheFile);
+    }
+    catch (IOException e) {
+      throw new PlatformException("Cannot delete jandex inventory cache '{}'", m_cacheFile, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + m_cacheFile + "]";
+  }
+
+  /**
+   * {@link InputStream} reading the remaining bytes of a {@link ByteBuffer}.
+   */
+  protected static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer m_buffer;
+
+    protected ByteBufferInputStream(ByteBuffer buffer) {
+      m_buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return m_buffer.hasRemaining() ? m_buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!m_buffer.hasRemaining()) {
+        return -1;
+      }
+      int n = Math.min(len, m_buffer.remaining());
+      m_buffer.get(b, off, n);
+      return n;
+    }
+
+    @Override
+    public int available() {
+      return m_buffer.remaining();
+    }
+  }
+}
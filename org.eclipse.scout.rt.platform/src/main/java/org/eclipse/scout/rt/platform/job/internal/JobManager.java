@@ -33,6 +33,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -60,7 +61,8 @@ import org.slf4j.LoggerFactory;
  * Default implementation of {@link IJobManager}.
  * <p>
  * This job manager is based on {@link ThreadPoolExecutor}, {@link DelayedExecutor} and Quartz {@link Trigger} to
- * compute firing times.
+ * compute firing times. Jobs are executed in pooled platform threads or, if enabled by
+ * {@link JobManagerVirtualThreadsProperty}, in virtual threads.
  * <p>
  * Jobs which run immediately and exactly one time are executed directly via {@link ExecutorService}. For all other
  * jobs, they are first queued via {@link DelayedExecutor}, and will commence execution once the trigger's first fire
@@ -251,14 +253,48 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      if (VirtualThreadFactory.isSupported()) {
+        return createVirtualThreadExecutor();
+      }
+      LOG.warn("Virtual threads are not supported by this Java runtime, using platform threads instead. [property={}]", BEANS.get(JobManagerVirtualThreadsProperty.class).getKey());
+    }
+    return createPlatformThreadExecutor();
+  }
+
+  /**
+   * Creates the executor which runs jobs in pooled platform threads.
+   */
+  protected ExecutorService createPlatformThreadExecutor() {
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
     final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
     final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
-    // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), createRejectedExecutionHandler());
+    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
+    if (prestartCoreThreads) {
+      executor.prestartAllCoreThreads();
+    }
+
+    return executor;
+  }
+
+  /**
+   * Creates the executor which runs every job in a new virtual thread. Idle threads are not kept, so the executor is
+   * effectively thread-per-task. The number of concurrently running jobs is still bounded by
+   * {@link JobManagerMaximumPoolSizeProperty}.
+   * <p>
+   * Requires {@link VirtualThreadFactory#isSupported()}.
+   */
+  protected ExecutorService createVirtualThreadExecutor() {
+    final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
+    return new ThreadPoolExecutor(0, maximumPoolSize, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), new VirtualThreadFactory("scout-vthread"), createRejectedExecutionHandler());
+  }
+
+  protected RejectedExecutionHandler createRejectedExecutionHandler() {
+    return (runnable, executor) -> {
       if (isShutdown()) {
         LOG.debug("Job rejected because the job manager is shutdown.");
       }
@@ -271,14 +307,6 @@ public class JobManager implements IJobManager {
         ((IRejectableRunnable) runnable).reject();
       }
     };
-
-    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
-    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
-    if (prestartCoreThreads) {
-      executor.prestartAllCoreThreads();
-    }
-
-    return executor;
   }
 
   /**
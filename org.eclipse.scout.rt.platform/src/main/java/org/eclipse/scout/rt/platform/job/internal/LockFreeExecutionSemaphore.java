@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.platform.Replace;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * {@link ExecutionSemaphore} with a lock-free fast path.
+ * <p>
+ * The number of permit owners and the number of queued tasks are kept in a single atomic state word. As long as no task
+ * is queued, acquiring a free permit and releasing a permit are a single compare-and-set operation on this word and
+ * never take a lock. The lock is only taken if a task has to be queued, if a permit has to be passed to a queued task,
+ * or if the number of permits is changed. Because the queue length is part of the state word, a task can only acquire
+ * a permit through the fast path if no other task is waiting; this preserves the fairness and the queue ordering
+ * ({@link QueuePosition#HEAD}/{@link QueuePosition#TAIL}) of {@link ExecutionSemaphore}.
+ * <p>
+ * To use this implementation for all semaphores created by {@link Jobs#newExecutionSemaphore(int)}, replace
+ * {@link ExecutionSemaphore} with a subclass of this class annotated with {@link Replace}.
+ *
+ * @since 24.2
+ */
+public class LockFreeExecutionSemaphore extends ExecutionSemaphore {
+
+  private static final long OWNER_MASK = 0xFFFFFFFFL;
+
+  /**
+   * Upper 32 bits: number of queued tasks, lower 32 bits: number of permit owners.
+   */
+  private final AtomicLong m_state;
+  private final Set<IFuture<?>> m_permitOwners;
+  private final ReentrantLock m_queueLock;
+  private final Deque<AcquisitionTask> m_queue; // guarded by m_queueLock
+
+  private volatile int m_permits;
+  private volatile boolean m_sealed;
+
+  public LockFreeExecutionSemaphore() {
+    m_state = new AtomicLong();
+    m_permitOwners = ConcurrentHashMap.newKeySet();
+    m_queueLock = new ReentrantLock();
+    m_queue = new ArrayDeque<>();
+    m_permits = Integer.MAX_VALUE; // unbounded according to JavaDoc
+  }
+
+  @Override
+  public int getPermits() {
+    return m_permits;
+  }
+
+  @Override
+  public LockFreeExecutionSemaphore withPermits(final int permits) {
+    Assertions.assertFalse(m_sealed, "The number of permits cannot be changed because the semaphore is sealed [semaphore={}]", this);
+    Assertions.assertGreaterOrEqual(permits, 0, "Number of semaphore permits must be '>= 0'");
+    m_permits = permits;
+
+    // Assign all free permits to competing tasks.
+    for (AcquisitionTask acquisitionTask = assignOnePermit(); acquisitionTask != null; acquisitionTask = assignOnePermit()) {
+      acquisitionTask.notifyPermitAcquired();
+    }
+
+    return this;
+  }
+
+  @Override
+  public LockFreeExecutionSemaphore seal() {
+    m_sealed = true;
+    return this;
+  }
+
+  @Override
+  public int getCompetitorCount() {
+    final long state = m_state.get();
+    return queued(state) + owners(state);
+  }
+
+  @Override
+  public boolean isPermitOwner(final IFuture<?> task) {
+    return m_permitOwners.contains(task);
+  }
+
+  @Override
+  protected boolean compete(final IFuture<?> task, final QueuePosition queuePosition, final IPermitAcquiredCallback permitAcquiredCallback) {
+    assertSameSemaphore(task);
+    Assertions.assertNotNull(queuePosition, "illegal queue position");
+
+    // Fast path: free permit and no queued task.
+    if (tryAcquireFast(task)) {
+      permitAcquiredCallback.onPermitAcquired();
+      return true;
+    }
+
+    final AcquisitionTask acquisitionTask = new AcquisitionTask(task, permitAcquiredCallback);
+    boolean permitFree = false;
+    m_queueLock.lock();
+    try {
+      while (true) {
+        final long state = m_state.get();
+        final int queued = queued(state);
+        final int owners = owners(state);
+        if (queued == 0 && owners < m_permits) {
+          if (m_state.compareAndSet(state, state(0, owners + 1))) {
+            m_permitOwners.add(task);
+            permitFree = true;
+            break;
+          }
+        }
+        else if (m_state.compareAndSet(state, state(queued + 1, owners))) {
+          if (queuePosition == QueuePosition.HEAD) {
+            m_queue.offerFirst(acquisitionTask);
+          }
+          else {
+            m_queue.offerLast(acquisitionTask);
+          }
+          break;
+        }
+      }
+    }
+    finally {
+      m_queueLock.unlock();
+    }
+
+    // Notify the new permit owner about its permit acquisition.
+    if (permitFree) {
+      permitAcquiredCallback.onPermitAcquired();
+    }
+    return permitFree;
+  }
+
+  @Override
+  protected void release(final IFuture<?> permitOwner) {
+    assertSameSemaphore(permitOwner);
+    assertPermitOwner(permitOwner);
+
+    m_permitOwners.remove(permitOwner);
+
+    // Fast path: no queued task.
+    while (true) {
+      final long state = m_state.get();
+      if (queued(state) > 0) {
+        break;
+      }
+      if (m_state.compareAndSet(state, state - 1)) {
+        return;
+      }
+    }
+
+    // Pass the permit to the next competing task.
+    AcquisitionTask acquisitionTask = null;
+    m_queueLock.lock();
+    try {
+      while (true) {
+        final long state = m_state.get();
+        final int queued = queued(state);
+        final int owners = owners(state);
+        if (queued > 0 && owners - 1 < m_permits) {
+          // permit is passed on, the number of owners does not change
+          if (m_state.compareAndSet(state, state(queued - 1, owners))) {
+            acquisitionTask = m_queue.poll();
+            m_permitOwners.add(acquisitionTask.getCompetingTask());
+            break;
+          }
+        }
+        else if (m_state.compareAndSet(state, state(queued, owners - 1))) {
+          break;
+        }
+      }
+    }
+    finally {
+      m_queueLock.unlock();
+    }
+
+    // Notify outside of the lock.
+    if (acquisitionTask != null) {
+      acquisitionTask.notifyPermitAcquired();
+    }
+  }
+
+  @Override
+  protected AcquisitionTask assignOnePermit() {
+    m_queueLock.lock();
+    try {
+      while (true) {
+        final long state = m_state.get();
+        final int queued = queued(state);
+        final int owners = owners(state);
+        // Check total concurrency level and for queued task.
+        if (owners >= m_permits || queued == 0) {
+          return null;
+        }
+        if (m_state.compareAndSet(state, state(queued - 1, owners + 1))) {
+          final AcquisitionTask acquisitionTask = m_queue.poll();
+          m_permitOwners.add(acquisitionTask.getCompetingTask());
+          return acquisitionTask;
+        }
+      }
+    }
+    finally {
+      m_queueLock.unlock();
+    }
+  }
+
+  protected boolean tryAcquireFast(final IFuture<?> task) {
+    while (true) {
+      final long state = m_state.get();
+      if (queued(state) > 0 || owners(state) >= m_permits) {
+        return false;
+      }
+      if (m_state.compareAndSet(state, state + 1)) {
+        m_permitOwners.add(task);
+        return true;
+      }
+    }
+  }
+
+  private static int queued(final long state) {
+    return (int) (state >>> 32);
+  }
+
+  private static int owners(final long state) {
+    return (int) (state & OWNER_MASK);
+  }
+
+  private static long state(final int queued, final int owners) {
+    return ((long) queued << 32) | owners;
+  }
+
+  @Override
+  public String toString() {
+    m_queueLock.lock();
+    try {
+      final ToStringBuilder builder = new ToStringBuilder(this);
+      builder.attr("permitOwners", m_permitOwners);
+      builder.attr("queue", m_queue);
+      return builder.toString();
+    }
+    finally {
+      m_queueLock.unlock();
+    }
+  }
+}
@@ -66,7 +66,7 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
         }
       }
     };
-    threadInfoRef.set(new ThreadInfo(thread, m_threadName, m_sequence.incrementAndGet()));
+    threadInfoRef.set(new ThreadInfo(thread, m_threadName, nextSequence()));
 
     thread.setDaemon(false);
     thread.setPriority(Thread.NORM_PRIORITY);
@@ -75,6 +75,17 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
     return thread;
   }
 
+  protected String getThreadName() {
+    return m_threadName;
+  }
+
+  /**
+   * @return the sequence number for the next thread created by this factory
+   */
+  protected long nextSequence() {
+    return m_sequence.incrementAndGet();
+  }
+
   // === UncaughtExceptionHandler ===
 
   @Override
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Thread factory for named virtual threads and to handle uncaught exceptions.
+ * <p>
+ * Virtual threads are available since Java 21. The platform is compiled against an older Java release, which is why
+ * the virtual thread builder is accessed reflectively. Use {@link #isSupported()} to check whether the running Java
+ * runtime supports virtual threads.
+ *
+ * @since 24.2
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadFactory.class);
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+    if (!isSupported()) {
+      throw new UnsupportedOperationException("Virtual threads are not supported by this Java runtime");
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the Java runtime supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable) {
+    final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
+    final Thread thread = VIRTUAL_THREAD_FACTORY.newThread(() -> {
+      // virtual threads do not inherit the MDC, but the carrier thread's MDC might be visible depending on the MDC adapter
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    threadInfoRef.set(new ThreadInfo(thread, getThreadName(), nextSequence()));
+
+    // virtual threads are always daemon threads and have a fixed priority
+    thread.setUncaughtExceptionHandler(this);
+
+    return thread;
+  }
+
+  private static ThreadFactory createVirtualThreadFactory() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) { // NOSONAR
+      LOG.debug("Virtual threads are not supported by this Java runtime", e);
+      return null;
+    }
+  }
+}
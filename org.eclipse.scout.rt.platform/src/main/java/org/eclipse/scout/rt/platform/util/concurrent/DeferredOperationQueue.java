@@ -19,12 +19,14 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.PlatformError;
@@ -36,24 +38,48 @@ import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.api.common.Attributes;
+
 /**
  * Queue for elements for which a particular operation is performed once either enough items have been added or a time
  * delay has been reached (based on the arrival of the first of the currently pending elements).
+ * <p>
+ * Optionally, the queue may
+ * <ul>
+ * <li>adapt the batch size to the measured duration of the batch operation, see
+ * {@link #withAdaptiveBatchSize(long, int)}</li>
+ * <li>be bounded, see {@link #withCapacity(int, OverflowPolicy)}</li>
+ * <li>record metrics, see {@link #withMetrics(String)}</li>
+ * </ul>
+ * These options must be configured before the first element is added.
  */
 public class DeferredOperationQueue<E> {
 
   private static final Logger LOG = LoggerFactory.getLogger(DeferredOperationQueue.class);
+  /**
+   * Weight of the most recent measurement when estimating the duration of the batch operation per element.
+   */
+  private static final double ADAPTIVE_SMOOTHING = 0.3;
 
   private final String m_transactionMemberId;
   private final int m_batchSize;
   private final long m_maxDelayMillis;
   private final Consumer<List<E>> m_batchOperation;
   private final Supplier<RunContext> m_runContextSupplier;
-  private final BlockingQueue<E> m_queue;
+  private BlockingQueue<E> m_queue;
   private final AtomicBoolean m_flushJobScheduled;
   private final ReadWriteLock m_lock;
   private volatile IFuture<?> m_flushJobFuture;
 
+  private OverflowPolicy m_overflowPolicy;
+  private long m_targetFlushLatencyNanos;
+  private int m_maxBatchSize;
+  private volatile int m_currentBatchSize;
+  private volatile double m_nanosPerElement;
+  private final AtomicLong m_droppedCount;
+  private DeferredOperationQueueMetricProvider m_metricProvider;
+  private Attributes m_metricAttributes;
+
   public DeferredOperationQueue(String transactionMemberId, int batchSize, long maxDelayMillis, Consumer<List<E>> batchOperation) {
     this(transactionMemberId, batchSize, maxDelayMillis, batchOperation, null);
   }
@@ -69,6 +95,64 @@ public class DeferredOperationQueue<E> {
     m_queue = new LinkedBlockingQueue<>();
     m_flushJobScheduled = new AtomicBoolean();
     m_lock = new ReentrantReadWriteLock();
+    m_overflowPolicy = OverflowPolicy.BLOCK;
+    m_maxBatchSize = batchSize;
+    m_currentBatchSize = batchSize;
+    m_droppedCount = new AtomicLong();
+  }
+
+  /**
+   * Adapts the batch size so that a batch operation takes about the given latency. The duration of the batch operation
+   * per element is estimated from the previous batch operations. The batch size given in the constructor is used until
+   * the first batch operation completed.
+   *
+   * @param targetFlushLatencyMillis
+   *          desired duration of a single batch operation
+   * @param maxBatchSize
+   *          upper bound of the batch size
+   * @return this queue
+   * @since 24.2
+   */
+  public DeferredOperationQueue<E> withAdaptiveBatchSize(long targetFlushLatencyMillis, int maxBatchSize) {
+    assertTrue(targetFlushLatencyMillis > 0, "targetFlushLatencyMillis must be greater than 0 [given value:{}]", targetFlushLatencyMillis);
+    assertTrue(maxBatchSize >= m_batchSize, "maxBatchSize must not be less than batchSize [given value:{}]", maxBatchSize);
+    m_targetFlushLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetFlushLatencyMillis);
+    m_maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /**
+   * Limits the number of elements waiting to be processed.
+   *
+   * @param capacity
+   *          maximum number of queued elements
+   * @param overflowPolicy
+   *          how to add an element to a full queue
+   * @return this queue
+   * @since 24.2
+   */
+  public DeferredOperationQueue<E> withCapacity(int capacity, OverflowPolicy overflowPolicy) {
+    assertTrue(capacity > 0, "capacity must be greater than 0 [given value:{}]", capacity);
+    assertTrue(m_queue.isEmpty() && !m_flushJobScheduled.get(), "capacity must be set before elements are added");
+    m_queue = new LinkedBlockingQueue<>(capacity);
+    m_overflowPolicy = assertNotNull(overflowPolicy, "overflowPolicy is required");
+    return this;
+  }
+
+  /**
+   * Enables recording the queue size, the duration of the batch operations and the number of dropped elements, see
+   * {@link DeferredOperationQueueMetricProvider}.
+   *
+   * @param name
+   *          name of this queue used as metric attribute
+   * @return this queue
+   * @since 24.2
+   */
+  public DeferredOperationQueue<E> withMetrics(String name) {
+    assertNotNull(name, "name is required");
+    m_metricProvider = BEANS.get(DeferredOperationQueueMetricProvider.class);
+    m_metricAttributes = m_metricProvider.createAttributes(name);
+    return this;
   }
 
   public void add(E element) {
@@ -84,13 +168,62 @@ public class DeferredOperationQueue<E> {
 
   protected void addAllInternal(Stream<E> stream) {
     assertNotNull(stream, "stream must not be null");
+    // elements are added outside the lock so that a blocking add does not block the flush job from completing.
+    // this is safe because the flush job is ensured afterwards.
+    stream.filter(Objects::nonNull).forEach(this::offer);
+    ensureFlushJobScheduled();
+  }
+
+  protected void offer(E element) {
+    if (m_queue.offer(element)) {
+      addQueueSizeMetric(1);
+      return;
+    }
+    switch (m_overflowPolicy) {
+      case BLOCK:
+        // the elements already added must be processed to free up space
+        ensureFlushJobScheduled();
+        try {
+          m_queue.put(element);
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new ThreadInterruptedError("Interrupted while adding element to queue", e);
+        }
+        addQueueSizeMetric(1);
+        break;
+      case DROP:
+        long dropped = m_droppedCount.incrementAndGet();
+        if (dropped == 1) {
+          LOG.warn("Queue is full, dropping elements [transactionMemberId={}]", m_transactionMemberId);
+        }
+        else {
+          LOG.debug("Queue is full, dropping element {} [transactionMemberId={}, droppedCount={}]", element, m_transactionMemberId, dropped);
+        }
+        if (m_metricProvider != null) {
+          m_metricProvider.recordDropped(m_metricAttributes);
+        }
+        break;
+      case CALLER_RUNS:
+        // process the oldest elements in the calling thread until there is space for the new one
+        while (!m_queue.offer(element)) {
+          List<E> batch = new ArrayList<>(getCurrentBatchSize());
+          m_queue.drainTo(batch, getCurrentBatchSize());
+          if (!batch.isEmpty()) {
+            addQueueSizeMetric(-batch.size());
+            executeBatch(batch);
+          }
+        }
+        addQueueSizeMetric(1);
+        break;
+      default:
+        throw new PlatformException("Could not add element {}", element);
+    }
+  }
+
+  protected void ensureFlushJobScheduled() {
     m_lock.readLock().lock();
     try {
-      stream.filter(Objects::nonNull).forEach(element -> {
-        if (!m_queue.offer(element)) {
-          throw new PlatformException("Could not add element {}", element);
-        }
-      });
       if (m_flushJobScheduled.compareAndSet(false, true)) {
         try {
           scheduleFlushJob();
@@ -111,6 +244,28 @@ public class DeferredOperationQueue<E> {
     return m_batchSize;
   }
 
+  /**
+   * @return the batch size used for the next batch operation. Same as {@link #getBatchSize()} unless an adaptive batch
+   *         size is configured.
+   */
+  protected int getCurrentBatchSize() {
+    return m_currentBatchSize;
+  }
+
+  /**
+   * @return the number of elements dropped because the queue was full
+   */
+  public long getDroppedCount() {
+    return m_droppedCount.get();
+  }
+
+  /**
+   * @return the number of elements waiting to be processed
+   */
+  public int size() {
+    return m_queue.size();
+  }
+
   protected long getMaxDelayMillis() {
     return m_maxDelayMillis;
   }
@@ -138,9 +293,9 @@ public class DeferredOperationQueue<E> {
    *          method completes. Otherwise, another round is performed if the batch of the current one was not empty.
    */
   protected void flushDeferred(boolean singleRun) {
-    final int batchSize = getBatchSize();
     boolean interrupted = false;
     do {
+      final int batchSize = getCurrentBatchSize();
       List<E> nextBatch = new ArrayList<>(batchSize);
       // get at most batchSize elements at once
       m_queue.drainTo(nextBatch, batchSize);
@@ -171,17 +326,8 @@ public class DeferredOperationQueue<E> {
         }
       }
 
-      // Use a new run context for each execution. Consider e.g. transactional ClientNotifications sent after each
-      // batch. If there is only one run context for all batches the notifications will not be sent until the queue is
-      // completely empty (which may never be the case).
-      getRunContextSupplier().get().run(() -> {
-        try {
-          getBatchOperation().accept(nextBatch);
-        }
-        catch (RuntimeException e) {
-          LOG.error("Exception occurred while execution batch operation", e);
-        }
-      });
+      addQueueSizeMetric(-nextBatch.size());
+      executeBatch(nextBatch);
     }
     while (!interrupted && !singleRun);
 
@@ -207,6 +353,48 @@ public class DeferredOperationQueue<E> {
     }
   }
 
+  protected void executeBatch(List<E> batch) {
+    final long start = System.nanoTime();
+    // Use a new run context for each execution. Consider e.g. transactional ClientNotifications sent after each
+    // batch. If there is only one run context for all batches the notifications will not be sent until the queue is
+    // completely empty (which may never be the case).
+    getRunContextSupplier().get().run(() -> {
+      try {
+        getBatchOperation().accept(batch);
+      }
+      catch (RuntimeException e) {
+        LOG.error("Exception occurred while execution batch operation", e);
+      }
+    });
+    final long duration = System.nanoTime() - start;
+    if (m_metricProvider != null) {
+      m_metricProvider.recordFlushDuration(duration, m_metricAttributes);
+    }
+    updateCurrentBatchSize(batch.size(), duration);
+  }
+
+  /**
+   * Estimates the duration of the batch operation per element and derives the batch size meeting the target flush
+   * latency. Does nothing unless an adaptive batch size is configured.
+   */
+  protected void updateCurrentBatchSize(int elementCount, long durationNanos) {
+    if (m_targetFlushLatencyNanos <= 0 || elementCount == 0) {
+      return;
+    }
+    final double sample = (double) durationNanos / elementCount;
+    final double previous = m_nanosPerElement;
+    final double estimate = previous <= 0 ? sample : previous + ADAPTIVE_SMOOTHING * (sample - previous);
+    m_nanosPerElement = estimate;
+    final double batchSize = m_targetFlushLatencyNanos / Math.max(estimate, 1d);
+    m_currentBatchSize = (int) Math.max(1, Math.min(m_maxBatchSize, batchSize));
+  }
+
+  protected void addQueueSizeMetric(long delta) {
+    if (m_metricProvider != null) {
+      m_metricProvider.addQueueSize(delta, m_metricAttributes);
+    }
+  }
+
   /**
    * Flushes collected elements synchronously.
    */
@@ -223,6 +411,7 @@ public class DeferredOperationQueue<E> {
     }
     List<E> batch = new LinkedList<>();
     m_queue.drainTo(batch);
+    addQueueSizeMetric(-batch.size());
     if (!batch.isEmpty()) {
       getBatchOperation().accept(batch);
     }
@@ -240,6 +429,26 @@ public class DeferredOperationQueue<E> {
     return transactionMember;
   }
 
+  /**
+   * Defines how an element is added to a full queue.
+   *
+   * @since 24.2
+   */
+  public enum OverflowPolicy {
+    /**
+     * The adding thread waits until there is space in the queue.
+     */
+    BLOCK,
+    /**
+     * The element is dropped, see {@link DeferredOperationQueue#getDroppedCount()}.
+     */
+    DROP,
+    /**
+     * The adding thread runs the batch operation for the oldest elements until there is space in the queue.
+     */
+    CALLER_RUNS
+  }
+
   protected class P_DeferredOperationQueueTransactionMember extends AbstractTransactionMember {
     private final List<E> m_elements = new ArrayList<>();
 
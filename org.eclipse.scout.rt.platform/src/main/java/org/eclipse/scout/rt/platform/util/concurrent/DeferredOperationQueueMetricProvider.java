@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.concurrent;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * {@link IMetricProvider} for {@link DeferredOperationQueue} instances having metrics enabled (see
+ * {@link DeferredOperationQueue#withMetrics(String)}): the number of queued elements, the duration of the batch
+ * operations and the number of elements dropped because of a full queue. The values are recorded per queue name.
+ * <p>
+ * As long as this provider is not registered, recorded values are discarded.
+ *
+ * @since 24.2
+ */
+public class DeferredOperationQueueMetricProvider implements IMetricProvider {
+
+  public static final String OTEL_METRIC_QUEUE_SIZE = "scout.deferred_queue.size";
+  public static final String OTEL_METRIC_FLUSH_DURATION = "scout.deferred_queue.flush_duration";
+  public static final String OTEL_METRIC_DROPPED = "scout.deferred_queue.dropped";
+  protected static final AttributeKey<String> QUEUE_NAME = AttributeKey.stringKey("queue.name");
+
+  private volatile LongUpDownCounter m_queueSize;
+  private volatile DoubleHistogram m_flushDuration;
+  private volatile LongCounter m_dropped;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter("scout.DeferredOperationQueue");
+    m_queueSize = meter.upDownCounterBuilder(OTEL_METRIC_QUEUE_SIZE)
+        .setUnit("{element}")
+        .setDescription("The number of elements waiting to be processed by a batch operation.")
+        .build();
+    m_flushDuration = meter.histogramBuilder(OTEL_METRIC_FLUSH_DURATION)
+        .setUnit("ms")
+        .setDescription("The duration of a batch operation.")
+        .build();
+    m_dropped = meter.counterBuilder(OTEL_METRIC_DROPPED)
+        .setUnit("{element}")
+        .setDescription("The number of elements dropped because the queue was full.")
+        .build();
+  }
+
+  @Override
+  public void close() {
+    m_queueSize = null;
+    m_flushDuration = null;
+    m_dropped = null;
+  }
+
+  /**
+   * @return the attributes to record the values of the queue with the given name
+   */
+  public Attributes createAttributes(String queueName) {
+    return Attributes.of(QUEUE_NAME, queueName);
+  }
+
+  public void addQueueSize(long delta, Attributes attributes) {
+    LongUpDownCounter queueSize = m_queueSize;
+    if (queueSize != null && delta != 0) {
+      queueSize.add(delta, attributes);
+    }
+  }
+
+  public void recordFlushDuration(long nanos, Attributes attributes) {
+    DoubleHistogram flushDuration = m_flushDuration;
+    if (flushDuration != null) {
+      flushDuration.record(nanos / 1_000_000d, attributes);
+    }
+  }
+
+  public void recordDropped(Attributes attributes) {
+    LongCounter dropped = m_dropped;
+    if (dropped != null) {
+      dropped.add(1, attributes);
+    }
+  }
+
+  /**
+   * Custom histogram buckets for <code>scout.deferred_queue.flush_duration</code> (time unit: milliseconds).
+   */
+  public static class FlushDurationHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_FLUSH_DURATION;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 5d, 10d, 25d, 50d, 100d, 250d, 500d, 1_000d, 5_000d);
+    }
+  }
+}
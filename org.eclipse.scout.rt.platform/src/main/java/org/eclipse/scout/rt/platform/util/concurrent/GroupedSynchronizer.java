@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
@@ -24,9 +25,12 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.api.common.Attributes;
+
 /**
  * Class implementing a dynamic list of synchronizer groups.
  * <p>
@@ -37,6 +41,11 @@ import org.slf4j.LoggerFactory;
  * No entries are removed automatically. It is important to remove a group as soon as it is no longer required to
  * prevent memory leaks.
  * <p>
+ * Alternatively, a synchronizer may be created in striped mode (see {@link #striped(int)}). Then a fixed number of
+ * lock objects is shared by all keys, which bounds the memory used independent of the number of keys.
+ * <p>
+ * Wait and hold times of the group locks may be recorded as metrics, see {@link #withMetrics(String)}.
+ * <p>
  * This class is thread safe.
  *
  * @since 9.0
@@ -46,8 +55,16 @@ public final class GroupedSynchronizer<K, V> {
   public static final int DEFAULT_ROOT_LOCKS = 32;
   private static final Logger LOG = LoggerFactory.getLogger(GroupedSynchronizer.class);
 
+  /**
+   * Lock objects of the groups or {@code null} if in striped mode.
+   */
   private final ConcurrentMap<K, V> m_locks;
   private final ReentrantReadWriteLock[] m_rootLocks;
+  /**
+   * Lock objects of the stripes or {@code null} if not in striped mode.
+   */
+  private final AtomicReferenceArray<V> m_stripes;
+  private volatile P_Metrics m_metrics;
 
   /**
    * Creates a new instance with {@value #DEFAULT_ROOT_LOCKS} root locks.
@@ -91,6 +108,59 @@ public final class GroupedSynchronizer<K, V> {
     for (int i = 0; i < m_rootLocks.length; i++) {
       m_rootLocks[i] = new ReentrantReadWriteLock(fair);
     }
+    m_stripes = null;
+  }
+
+  private GroupedSynchronizer(AtomicReferenceArray<V> stripes) {
+    m_locks = null;
+    m_rootLocks = new ReentrantReadWriteLock[0];
+    m_stripes = stripes;
+  }
+
+  /**
+   * Creates a synchronizer in striped mode: each key is mapped to one of {@code numStripes} lock objects. Tasks of equal
+   * keys are never executed in parallel, tasks of different keys may run at the same time unless their keys are mapped
+   * to the same stripe.
+   * <p>
+   * The lock object of a stripe is created by the lock factory of the first task using the stripe and is shared by all
+   * keys mapped to this stripe. Therefore, the striped mode is only suitable if the lock objects do not hold any key
+   * specific state. No groups are ever added to the synchronizer, so {@link #remove(Object)} is a noop and
+   * {@link #toMap()} is always empty.
+   *
+   * @param numStripes
+   *          Number of lock stripes. A higher value uses more memory but reduces the contention of different keys. It is
+   *          recommended to use a power of 2.
+   * @since 24.2
+   */
+  public static <K, V> GroupedSynchronizer<K, V> striped(int numStripes) {
+    if (numStripes <= 0) {
+      throw new IllegalArgumentException("numStripes must be > 0");
+    }
+    return new GroupedSynchronizer<>(new AtomicReferenceArray<>(numStripes));
+  }
+
+  /**
+   * Enables the recording of the wait and hold times of the group locks, see
+   * {@link GroupedSynchronizerMetricProvider}.
+   *
+   * @param name
+   *          The name of this synchronizer used as metric attribute. Must not be {@code null}.
+   * @return this instance
+   * @since 24.2
+   */
+  public GroupedSynchronizer<K, V> withMetrics(String name) {
+    assertNotNull(name, "name may not be null");
+    GroupedSynchronizerMetricProvider provider = BEANS.get(GroupedSynchronizerMetricProvider.class);
+    m_metrics = new P_Metrics(provider, provider.createAttributes(name));
+    return this;
+  }
+
+  /**
+   * @return {@code true} if this synchronizer uses a fixed number of lock stripes, see {@link #striped(int)}.
+   * @since 24.2
+   */
+  public boolean isStriped() {
+    return m_stripes != null;
   }
 
   /**
@@ -175,12 +245,19 @@ public final class GroupedSynchronizer<K, V> {
     assertNotNull(task, "task may not be null");
     assertNotNull(lockFactory, "lockFactory may not be null");
 
+    final P_Metrics metrics = m_metrics;
+    final long waitStart = metrics != null ? System.nanoTime() : 0L;
+    if (isStriped()) {
+      final V stripe = computeStripeIfAbsent(groupKey, lockFactory);
+      return runTaskInGroupLock(stripe, task, null, metrics, waitStart);
+    }
+
     final ReentrantReadWriteLock rwl = lockFor(groupKey);
     final ReadLock rl = rwl.readLock();
     rl.lock();
     try {
       final V lockGroup = computeLockGroupIfAbsent(groupKey, lockFactory);
-      return runTaskInGroupLock(lockGroup, task, rl);
+      return runTaskInGroupLock(lockGroup, task, rl, metrics, waitStart);
     }
     finally {
       if (rwl.getReadHoldCount() > 0) {
@@ -193,12 +270,40 @@ public final class GroupedSynchronizer<K, V> {
     return m_locks.computeIfAbsent(groupKey, lockFactory);
   }
 
-  <R> R runTaskInGroupLock(V lockGroup, Function<? super V, ? extends R> task, ReadLock rootLock) {
+  V computeStripeIfAbsent(K groupKey, Function<? super K, ? extends V> lockFactory) {
+    final int index = stripeFor(groupKey);
+    final V stripe = m_stripes.get(index);
+    if (stripe != null) {
+      return stripe;
+    }
+    final V newStripe = assertNotNull(lockFactory.apply(groupKey), "lockFactory must not return null");
+    return m_stripes.compareAndSet(index, null, newStripe) ? newStripe : m_stripes.get(index);
+  }
+
+  int stripeFor(K key) {
+    int h = Objects.hashCode(key);
+    h ^= (h >>> 16); // spread higher bits as keys often differ in the higher bits only
+    return (h & Integer.MAX_VALUE) % m_stripes.length();
+  }
+
+  <R> R runTaskInGroupLock(V lockGroup, Function<? super V, ? extends R> task, ReadLock rootLock, P_Metrics metrics, long waitStart) {
     synchronized (lockGroup) {
       // release global lock. after that only the group lock is active which does not longer block other clients from acquiring group locks.
       // the task is executed in the group lock without affecting other clients but still blocking requests from equal clients.
-      rootLock.unlock();
-      return task.apply(lockGroup);
+      if (rootLock != null) {
+        rootLock.unlock();
+      }
+      if (metrics == null) {
+        return task.apply(lockGroup);
+      }
+      final long holdStart = System.nanoTime();
+      metrics.m_provider.recordWaitTime(holdStart - waitStart, metrics.m_attributes);
+      try {
+        return task.apply(lockGroup);
+      }
+      finally {
+        metrics.m_provider.recordHoldTime(System.nanoTime() - holdStart, metrics.m_attributes);
+      }
     }
   }
 
@@ -244,6 +349,9 @@ public final class GroupedSynchronizer<K, V> {
    */
   public V remove(K groupKey, Predicate<? super V> shouldRemove) {
     assertNotNull(groupKey, "key may not be null");
+    if (isStriped()) {
+      return null; // stripes are never removed
+    }
 
     final WriteLock rootLock = lockFor(groupKey).writeLock();
     rootLock.lock();
@@ -256,6 +364,9 @@ public final class GroupedSynchronizer<K, V> {
   }
 
   V removeEntry(K groupKey, Predicate<? super V> shouldRemove) {
+    if (isStriped()) {
+      return null;
+    }
     final V lockGroup = m_locks.get(groupKey);
     if (lockGroup == null) {
       return null;
@@ -288,6 +399,9 @@ public final class GroupedSynchronizer<K, V> {
    *         map value the corresponding group lock object.
    */
   public Map<K, V> toMap() {
+    if (isStriped()) {
+      return Collections.emptyMap();
+    }
     return Collections.unmodifiableMap(m_locks);
   }
 
@@ -302,7 +416,7 @@ public final class GroupedSynchronizer<K, V> {
   }
 
   /**
-   * @return The total number of root lock objects
+   * @return The total number of root lock objects. Always 0 in striped mode.
    */
   public int numRootLocks() {
     return m_rootLocks.length;
@@ -312,6 +426,24 @@ public final class GroupedSynchronizer<K, V> {
    * @return The number of groups in this synchronizer.
    */
   public int size() {
-    return m_locks.size();
+    return isStriped() ? 0 : m_locks.size();
+  }
+
+  /**
+   * @return The number of lock stripes or 0 if not in striped mode.
+   * @since 24.2
+   */
+  public int numStripes() {
+    return isStriped() ? m_stripes.length() : 0;
+  }
+
+  private static final class P_Metrics {
+    private final GroupedSynchronizerMetricProvider m_provider;
+    private final Attributes m_attributes;
+
+    private P_Metrics(GroupedSynchronizerMetricProvider provider, Attributes attributes) {
+      m_provider = provider;
+      m_attributes = attributes;
+    }
   }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.concurrent;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * {@link IMetricProvider} for the wait and hold times of {@link GroupedSynchronizer} instances having metrics enabled
+ * (see {@link GroupedSynchronizer#withMetrics(String)}). The times are recorded per synchronizer name.
+ * <p>
+ * As long as this provider is not registered, recorded times are discarded.
+ *
+ * @since 24.2
+ */
+public class GroupedSynchronizerMetricProvider implements IMetricProvider {
+
+  public static final String OTEL_METRIC_WAIT_TIME = "scout.synchronizer.wait_time";
+  public static final String OTEL_METRIC_HOLD_TIME = "scout.synchronizer.hold_time";
+  protected static final AttributeKey<String> SYNCHRONIZER_NAME = AttributeKey.stringKey("synchronizer.name");
+
+  private volatile DoubleHistogram m_waitTime;
+  private volatile DoubleHistogram m_holdTime;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter("scout.GroupedSynchronizer");
+    m_waitTime = meter.histogramBuilder(OTEL_METRIC_WAIT_TIME)
+        .setUnit("ms")
+        .setDescription("The time it took to acquire a group lock.")
+        .build();
+    m_holdTime = meter.histogramBuilder(OTEL_METRIC_HOLD_TIME)
+        .setUnit("ms")
+        .setDescription("The time a group lock was held, i.e. the execution time of the task.")
+        .build();
+  }
+
+  @Override
+  public void close() {
+    m_waitTime = null;
+    m_holdTime = null;
+  }
+
+  /**
+   * @return the attributes to record the times of the synchronizer with the given name
+   */
+  public Attributes createAttributes(String synchronizerName) {
+    return Attributes.of(SYNCHRONIZER_NAME, synchronizerName);
+  }
+
+  public void recordWaitTime(long nanos, Attributes attributes) {
+    record(m_waitTime, nanos, attributes);
+  }
+
+  public void recordHoldTime(long nanos, Attributes attributes) {
+    record(m_holdTime, nanos, attributes);
+  }
+
+  protected void record(DoubleHistogram histogram, long nanos, Attributes attributes) {
+    if (histogram != null) {
+      histogram.record(nanos / 1_000_000d, attributes);
+    }
+  }
+
+  /**
+   * Custom histogram buckets for <code>scout.synchronizer.wait_time</code> and <code>scout.synchronizer.hold_time</code>
+   * (time unit: milliseconds).
+   */
+  public static class SynchronizerHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return "scout.synchronizer.*_time";
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(0.01d, 0.1d, 1d, 5d, 10d, 50d, 100d, 500d, 1_000d, 5_000d);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.jackson.dataobject.JacksonSmileDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.rest.RestApplication;
+import org.eclipse.scout.rt.rest.RestApplication.IRestApplicationClassesContributor;
+import org.eclipse.scout.rt.rest.client.IGlobalRestClientConfigurator;
+
+/**
+ * {@link MessageBodyReader} and {@link MessageBodyWriter} for {@link IDataObject}s using the binary format of
+ * {@link JacksonSmileDataObjectMapper} (media type {@value JacksonSmileDataObjectMapper#MEDIA_TYPE}).
+ * <p>
+ * A REST resource supports both, JSON and the binary format, by declaring both media types, e.g.
+ * <code>&#64;Produces({MediaType.APPLICATION_JSON, JacksonSmileDataObjectMapper.MEDIA_TYPE})</code>. The format is
+ * then negotiated using the <code>Accept</code> and <code>Content-Type</code> headers of the request. Clients not
+ * aware of the binary format keep using JSON.
+ *
+ * @see RestApplication
+ * @since 24.2
+ */
+@Consumes(JacksonSmileDataObjectMapper.MEDIA_TYPE)
+@Produces(JacksonSmileDataObjectMapper.MEDIA_TYPE)
+public class BinaryDataObjectMessageBodyProvider implements MessageBodyReader<IDataObject>, MessageBodyWriter<IDataObject> {
+
+  public static final MediaType MEDIA_TYPE = MediaType.valueOf(JacksonSmileDataObjectMapper.MEDIA_TYPE);
+
+  @Override
+  public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return IDataObject.class.isAssignableFrom(type) && isBinaryMediaType(mediaType);
+  }
+
+  @Override
+  public IDataObject readFrom(Class<IDataObject> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream) {
+    return getDataObjectMapper().readValue(entityStream, type);
+  }
+
+  @Override
+  public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return IDataObject.class.isAssignableFrom(type) && isBinaryMediaType(mediaType);
+  }
+
+  @Override
+  public void writeTo(IDataObject dataObject, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) {
+    getDataObjectMapper().writeValue(entityStream, dataObject);
+  }
+
+  /**
+   * Wildcard media types are not accepted to never replace JSON as default format.
+   */
+  protected boolean isBinaryMediaType(MediaType mediaType) {
+    return mediaType != null
+        && !mediaType.isWildcardType()
+        && !mediaType.isWildcardSubtype()
+        && MEDIA_TYPE.isCompatible(mediaType);
+  }
+
+  protected IBinaryDataObjectMapper getDataObjectMapper() {
+    return BEANS.get(JacksonSmileDataObjectMapper.class);
+  }
+
+  /**
+   * {@link IRestApplicationClassesContributor} registering {@link BinaryDataObjectMessageBodyProvider} (server side).
+   */
+  public static class BinaryDataObjectMessageBodyProviderContributor implements IRestApplicationClassesContributor {
+
+    @Override
+    public Set<Class<?>> contribute() {
+      return Collections.singleton(BinaryDataObjectMessageBodyProvider.class);
+    }
+  }
+
+  /**
+   * {@link IGlobalRestClientConfigurator} implementation registering {@link BinaryDataObjectMessageBodyProvider}
+   * (client side).
+   */
+  public static class BinaryDataObjectClientConfigurator implements IGlobalRestClientConfigurator {
+
+    @Override
+    public void configure(ClientBuilder clientBuilder) {
+      clientBuilder.register(BinaryDataObjectMessageBodyProvider.class);
+    }
+  }
+}
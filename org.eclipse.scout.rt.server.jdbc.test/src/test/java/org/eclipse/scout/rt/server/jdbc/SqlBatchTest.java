@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#insertBatch(String, Stream, Object...)} and
+ * {@link ISqlService#updateBatch(String, Stream, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SqlBatchTest {
+
+  @Test
+  public void testInsertBatch() {
+    SqlServiceMock sql = new SqlServiceMock();
+    int count = sql.insertBatch("INSERT INTO my_table (n, s, a) VALUES (:name, :state, :active)",
+        Stream.of(
+            new Object[]{new NVPair("name", "lorem"), new NVPair("state", 3)},
+            new Object[]{new NVPair("name", "ipsum"), new NVPair("state", 6)}),
+        new NVPair("active", 1));
+
+    assertEquals(2, count);
+    assertEquals("Connection.prepareStatement(INSERT INTO my_table (n, s, a) VALUES (?, ?, ?))\n"
+        + "PreparedStatement.setObject(1, lorem, 12)\n"
+        + "PreparedStatement.setObject(2, 3, 4)\n"
+        + "PreparedStatement.setObject(3, 1, 4)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, ipsum, 12)\n"
+        + "PreparedStatement.setObject(2, 6, 4)\n"
+        + "PreparedStatement.setObject(3, 1, 4)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testUpdateBatchWithBatchSize() {
+    SqlServiceMock sql = new SqlServiceMock() {
+      @Override
+      protected int getConfiguredJdbcBatchSize() {
+        return 2;
+      }
+    };
+    int count = sql.updateBatch("UPDATE my_table SET s = :state", Stream.of(new NVPair("state", 1), new NVPair("state", 2), new NVPair("state", 3)));
+
+    assertEquals(3, count);
+    assertEquals("Connection.prepareStatement(UPDATE my_table SET s = ?)\n"
+        + "PreparedStatement.setObject(1, 1, 4)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 2, 4)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n"
+        + "PreparedStatement.setObject(1, 3, 4)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testBatchWithoutRows() {
+    SqlServiceMock sql = new SqlServiceMock();
+    assertEquals(0, sql.insertBatch("INSERT INTO my_table (s) VALUES (:state)", Stream.empty()));
+    assertEquals("", sql.getProtocol().toString());
+  }
+}
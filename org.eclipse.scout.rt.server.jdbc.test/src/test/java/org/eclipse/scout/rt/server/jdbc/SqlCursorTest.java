@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.holders.LongHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectCursor(String, Object...)} and
+ * {@link ISqlService#selectStream(String, Function, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SqlCursorTest {
+
+  private static SqlServiceMock createSqlService() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(new Object[][]{
+        {1L, "lorem"},
+        {2L, null},
+        {3L, "ipsum"},
+    });
+    return sql;
+  }
+
+  @Test
+  public void testSelectCursor() {
+    SqlServiceMock sql = createSqlService();
+    try (CloseableIterator<ISqlRow> cursor = sql.selectCursor("SELECT a, b FROM my_table WHERE c = :c", new NVPair("c", 1))) {
+      assertTrue(cursor.hasNext());
+      ISqlRow row = cursor.next();
+      assertEquals(2, row.getColumnCount());
+      assertEquals(0, row.getRowIndex());
+      assertEquals(1L, row.getLong(0));
+      assertFalse(row.wasNull());
+      assertEquals("lorem", row.getString(1));
+
+      assertSame(row, cursor.next());
+      assertEquals(1, row.getRowIndex());
+      assertEquals(Long.valueOf(2L), row.getValue(0, Long.class));
+      assertNull(row.getValue(1));
+      assertTrue(row.wasNull());
+
+      row = cursor.next();
+      assertArrayEquals(new Object[]{3L, "ipsum"}, row.toArray());
+      assertFalse(cursor.hasNext());
+      assertFalse(cursor.hasNext());
+    }
+    assertTrue(sql.getProtocol().toString().contains("PreparedStatement.setFetchSize(100)\n"));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void testNextAfterLastRow() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(new Object[0][]);
+    try (CloseableIterator<ISqlRow> cursor = sql.selectCursor("SELECT a FROM my_table")) {
+      assertFalse(cursor.hasNext());
+      cursor.next();
+    }
+  }
+
+  @Test
+  public void testRowInvalidAfterAdvance() {
+    SqlServiceMock sql = createSqlService();
+    try (CloseableIterator<ISqlRow> cursor = sql.selectCursor("SELECT a, b FROM my_table")) {
+      ISqlRow row = cursor.next();
+      assertTrue(cursor.hasNext());
+      assertThrows(IllegalStateException.class, () -> row.getLong(0));
+      cursor.close();
+      assertFalse(cursor.hasNext());
+      assertThrows(IllegalStateException.class, () -> row.getLong(0));
+    }
+  }
+
+  @Test
+  public void testSelectStream() {
+    SqlServiceMock sql = createSqlService();
+    try (Stream<String> stream = sql.selectStream("SELECT a, b FROM my_table", row -> row.getLong(0) + ":" + row.getString(1))) {
+      assertEquals(List.of("1:lorem", "2:null"), stream.limit(2).collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void testSelectCursorLimited() {
+    SqlServiceMock sql = new SqlServiceMock() {
+      @Override
+      public CloseableIterator<ISqlRow> selectCursor(String s, Object... bindBases) {
+        return createStatementProcessor(s, bindBases, 2).processSelectCursor(getTransaction());
+      }
+    };
+    sql.setResultData(createSqlService().getResultData());
+    assertEquals(2, sql.selectStream("SELECT a, b FROM my_table", ISqlRow::toArray).count());
+  }
+
+  @Test(expected = ProcessingException.class)
+  public void testSelectCursorWithIntoBind() {
+    SqlServiceMock sql = createSqlService();
+    sql.selectCursor("SELECT a FROM my_table INTO :a", new NVPair("a", new LongHolder()));
+  }
+}
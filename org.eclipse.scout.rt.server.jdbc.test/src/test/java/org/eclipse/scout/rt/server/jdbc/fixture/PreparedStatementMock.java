@@ -15,10 +15,13 @@ import java.lang.reflect.Proxy;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLWarning;
+import java.util.Arrays;
 
 public class PreparedStatementMock extends VerboseMock implements InvocationHandler/*, java.sql.PreparedStatement*/ {
   private final PreparedStatement m_ps;
   private final Object[][] m_resultData;
+  private int m_batchCount;
+  private int m_fetchSize;
 
   public PreparedStatementMock(StringBuffer protocol) {
     this(protocol, null);
@@ -37,7 +40,7 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     String mname = method.getName();
-    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
+    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || "addBatch".equals(mname) || "executeBatch".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
       log(PreparedStatement.class, mname, args);
     }
     //generic setter
@@ -74,6 +77,14 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
     return false;
   }
 
+  public int getFetchSize() {
+    return m_fetchSize;
+  }
+
+  public void setFetchSize(int rows) {
+    m_fetchSize = rows;
+  }
+
   public ResultSet executeQuery() {
     return new ResultSetMock(getProtocol(), m_resultData).getResultSet();
   }
@@ -81,4 +92,19 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   public int executeUpdate() {
     return 0;
   }
+
+  public void addBatch() {
+    m_batchCount++;
+  }
+
+  public int[] executeBatch() {
+    int[] result = new int[m_batchCount];
+    Arrays.fill(result, 1);
+    m_batchCount = 0;
+    return result;
+  }
+
+  public void clearBatch() {
+    m_batchCount = 0;
+  }
 }
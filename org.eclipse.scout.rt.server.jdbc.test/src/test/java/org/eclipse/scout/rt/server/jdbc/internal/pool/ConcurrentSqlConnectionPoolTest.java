@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ConcurrentSqlConnectionPoolTest {
+
+  private AbstractSqlService m_service;
+  private P_ConcurrentSqlConnectionPool m_pool;
+
+  @Before
+  public void before() {
+    m_service = mock(AbstractSqlService.class);
+    m_pool = new P_ConcurrentSqlConnectionPool();
+    m_pool.withSqlService(m_service);
+    m_pool.initialize("test", 1, TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(1));
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testLeaseAndRelease() throws Exception {
+    Connection conn = m_pool.leaseConnection(m_service);
+    assertTrue(m_pool.getInventory().contains("Busy: 1"));
+    m_pool.releaseConnection(conn);
+    assertTrue(m_pool.getInventory().contains("Idle: 1"));
+
+    assertSame(conn, m_pool.leaseConnection(m_service));
+    assertEquals(1, m_pool.m_createdConnections.size());
+  }
+
+  @Test
+  public void testHandOffToWaitingThread() throws Exception {
+    Connection conn = m_pool.leaseConnection(m_service);
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    JobTestUtil.waitForCondition(() -> m_pool.getInventory().contains("Waiting: 1"));
+
+    m_pool.releaseConnection(conn);
+    assertSame(conn, future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    assertTrue(m_pool.getInventory().contains("Waiting: 0"));
+  }
+
+  @Test
+  public void testHandOffToWaitingThreadFailingToCreateConnection() throws Exception {
+    m_pool.destroy();
+    m_pool = new P_ConcurrentSqlConnectionPool();
+    m_pool.withSqlService(m_service);
+    m_pool.initialize("test", 2, TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(1));
+
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    Connection conn2 = m_pool.leaseConnection(m_service);
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput()
+        .withExceptionHandling(null, false));
+    JobTestUtil.waitForCondition(() -> m_pool.getInventory().contains("Waiting: 1"));
+
+    // discarding conn2 frees a slot, the waiting thread starts creating a new connection
+    CountDownLatch createStarted = new CountDownLatch(1);
+    CountDownLatch createFailed = new CountDownLatch(1);
+    m_pool.m_createStarted = createStarted;
+    m_pool.m_createFailed = createFailed;
+    when(conn2.isClosed()).thenReturn(true);
+    m_pool.releaseConnection(conn2);
+    assertTrue(createStarted.await(10, TimeUnit.SECONDS));
+
+    // conn1 is handed off to the waiting thread before creating the connection fails
+    m_pool.releaseConnection(conn1);
+    createFailed.countDown();
+    assertThrows(SQLException.class, () -> future.awaitDoneAndGet(10, TimeUnit.SECONDS, DefaultExceptionTranslator.class));
+
+    // conn1 must not be lost
+    assertTrue(m_pool.getInventory().contains("Idle: 1"));
+    assertSame(conn1, m_pool.leaseConnection(m_service));
+    assertTrue(m_pool.getInventory().contains("Waiting: 0"));
+  }
+
+  @Test
+  public void testReleaseClosedConnection() throws Exception {
+    Connection conn = m_pool.leaseConnection(m_service);
+    when(conn.isClosed()).thenReturn(true);
+    m_pool.releaseConnection(conn);
+    verify(conn).close();
+
+    Connection newConn = m_pool.leaseConnection(m_service);
+    assertNotSame(conn, newConn);
+    assertEquals(2, m_pool.m_createdConnections.size());
+  }
+
+  @Test
+  public void testValidateIdleConnectionOnLease() throws Exception {
+    m_pool.m_validationBypassTime = -1;
+    Connection conn = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(conn);
+    doThrow(new SQLException("invalid")).when(m_service).callbackTestConnection(conn);
+
+    Connection newConn = m_pool.leaseConnection(m_service);
+    assertNotSame(conn, newConn);
+    verify(conn).close();
+  }
+
+  private static class P_ConcurrentSqlConnectionPool extends ConcurrentSqlConnectionPool {
+    private final List<Connection> m_createdConnections = new ArrayList<>();
+    private volatile long m_validationBypassTime = 500L;
+    private volatile CountDownLatch m_createStarted;
+    private volatile CountDownLatch m_createFailed;
+
+    @Override
+    protected Connection createConnection(AbstractSqlService service) throws SQLException {
+      CountDownLatch createFailed = m_createFailed;
+      if (createFailed != null) {
+        m_createFailed = null;
+        m_createStarted.countDown();
+        try {
+          createFailed.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        throw new SQLException("expected");
+      }
+      Connection conn = mock(Connection.class);
+      m_createdConnections.add(conn);
+      return conn;
+    }
+
+    @Override
+    protected long getValidationBypassTime() {
+      return m_validationBypassTime;
+    }
+  }
+}
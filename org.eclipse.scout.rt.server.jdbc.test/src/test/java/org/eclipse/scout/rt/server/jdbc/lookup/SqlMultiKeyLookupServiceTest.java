@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.lookup;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.server.jdbc.ISqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.services.lookup.BatchLookupService;
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link AbstractSqlLookupService} with {@link AbstractSqlLookupService#getConfiguredMultiKeyLookup()}
+ * enabled, resolved by a parallel {@link BatchLookupService} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlMultiKeyLookupServiceTest {
+
+  private static final String SQL_SELECT = "SELECT COLOR_NR, NAME FROM COLOR WHERE 1=1 <key>AND COLOR_NR = :key</key>";
+
+  private final BatchLookupService m_batchLookupService = new BatchLookupService() {
+    @Override
+    protected boolean isParallelBatchLookup() {
+      return true;
+    }
+  };
+
+  private SqlServiceMock m_sqlService;
+  private List<IBean<?>> m_beans;
+
+  @Before
+  public void before() {
+    m_sqlService = new SqlServiceMock();
+    m_sqlService.setResultData(new Object[][]{
+        {1L, "red"},
+        {2L, "green 1"},
+        {2L, "green 2"},
+        {2L, "green 3"},
+        {3L, "blue"},
+        {4L, "other"}});
+    m_beans = BeanTestingHelper.get().registerBeans(
+        new BeanMetaData(ISqlService.class).withInitialInstance(m_sqlService).withApplicationScoped(true),
+        new BeanMetaData(ColorSqlLookupService.class).withInitialInstance(new ColorSqlLookupService()).withApplicationScoped(true));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testGetBatchDataByKey() {
+    BatchLookupCall batch = new BatchLookupCall();
+    batch.addLookupCall(createCall(1L, 2));
+    batch.addLookupCall(createCall(2L, 2));
+    batch.addLookupCall(createCall(3L, 2));
+    batch.addLookupCall(createCall(2L, 1));
+    batch.addLookupCall(createCall(3L, 1));
+
+    List<List<ILookupRow<?>>> result = m_batchLookupService.getBatchDataByKey(batch);
+
+    // one statement per max. row count, the key bind is replaced by an IN-list of all keys
+    String protocol = m_sqlService.getProtocol().toString();
+    assertTrue(protocol, protocol.contains("Connection.prepareStatement(SELECT COLOR_NR, NAME FROM COLOR WHERE 1=1 AND ((COLOR_NR IN (1,2,3))))\n"));
+    assertTrue(protocol, protocol.contains("Connection.prepareStatement(SELECT COLOR_NR, NAME FROM COLOR WHERE 1=1 AND ((COLOR_NR IN (2,3))))\n"));
+    assertEquals(2, protocol.split("Connection.prepareStatement", -1).length - 1);
+
+    // rows are split by key, the max. row count of each call is applied
+    assertEquals(5, result.size());
+    assertTexts(result.get(0), "red");
+    assertTexts(result.get(1), "green 1", "green 2");
+    assertTexts(result.get(2), "blue");
+    assertTexts(result.get(3), "green 1");
+    assertTexts(result.get(4), "blue");
+  }
+
+  @Test
+  public void testFilterSqlByKeys() {
+    assertEquals("SELECT COLOR_NR, NAME FROM COLOR WHERE 1=1 AND COLOR_NR = :multiKeyLookupKeys", new ColorSqlLookupService().filterSqlByKeys(SQL_SELECT));
+  }
+
+  protected ColorLookupCall createCall(Long key, int maxRowCount) {
+    ColorLookupCall call = new ColorLookupCall();
+    call.setKey(key);
+    call.setMaxRowCount(maxRowCount);
+    return call;
+  }
+
+  protected void assertTexts(List<ILookupRow<?>> rows, String... expectedTexts) {
+    List<String> texts = new ArrayList<>();
+    for (ILookupRow<?> row : rows) {
+      texts.add(row.getText());
+    }
+    assertEquals(List.of(expectedTexts), texts);
+  }
+
+  public static class ColorLookupCall extends LookupCall<Long> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected Class<? extends ILookupService<Long>> getConfiguredService() {
+      return ColorSqlLookupService.class;
+    }
+  }
+
+  @IgnoreBean
+  public static class ColorSqlLookupService extends AbstractSqlLookupService<Long> {
+
+    @Override
+    protected String getConfiguredSqlSelect() {
+      return SQL_SELECT;
+    }
+
+    @Override
+    protected boolean getConfiguredMultiKeyLookup() {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ParsedStatementCache}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ParsedStatementCacheTest {
+
+  private static final String SQL = "SELECT NAME FROM PERSON WHERE PERSON_NR != :personNr INTO :name";
+
+  @Test
+  public void testHitAndMissCount() {
+    ParsedStatementCache cache = new ParsedStatementCache();
+    assertEquals(0d, cache.getHitRatio(), 0d);
+
+    cache.get(SQL);
+    cache.get(SQL);
+    cache.get("SELECT 1 FROM DUAL");
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(1d / 3, cache.getHitRatio(), 0.0001d);
+    assertEquals(2, cache.size());
+
+    cache.clear();
+    cache.get(SQL);
+    assertEquals(3, cache.getMissCount());
+  }
+
+  @Test
+  public void testParsedStatementsAreIndependent() {
+    ParsedStatementCache cache = new ParsedStatementCache();
+    ParsedStatement first = cache.get(SQL);
+    ValueInputToken input = (ValueInputToken) first.getBindModel().getIOTokens()[0];
+    input.setReplaceToken("?");
+    input.setParsedOp("NOT IN");
+    ValueOutputToken output = first.getIntoModel().getOutputTokens()[0];
+    output.setReplaceToken("");
+
+    ParsedStatement second = cache.get(SQL);
+    assertEquals(first.getIntoModel().getFilteredStatement(), second.getIntoModel().getFilteredStatement());
+    ValueInputToken secondInput = (ValueInputToken) second.getBindModel().getIOTokens()[0];
+    assertNotSame(input, secondInput);
+    assertEquals(":personNr", secondInput.getReplaceToken());
+    assertEquals("!=", secondInput.getParsedOp());
+    assertEquals("PERSON_NR", secondInput.getParsedAttribute());
+    assertEquals("personNr", secondInput.getName());
+    ValueOutputToken secondOutput = second.getIntoModel().getOutputTokens()[0];
+    assertNotSame(output, secondOutput);
+    assertEquals("name", secondOutput.getName());
+    assertTrue(secondOutput.isSelectInto());
+  }
+}
@@ -14,9 +14,16 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.annotation.PostConstruct;
 
@@ -40,13 +47,16 @@ import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConcurrentProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
@@ -61,6 +71,8 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlTransactionMember
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlUsernameProperty;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ConcurrentSqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
@@ -74,7 +86,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlService.class);
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
 
-  private volatile SqlConnectionPool m_pool;
+  private volatile ISqlConnectionPool m_pool;
   private final String m_transactionMemberId;
   private final boolean m_directJdbcConnection;
   private final String m_jndiName;
@@ -87,9 +99,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final boolean m_jdbcPoolConcurrent;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final int m_batchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -116,9 +130,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_batchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolConcurrent = getPropertyValue(SqlJdbcPoolConcurrentProperty.class, getConfiguredJdbcPoolConcurrent());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -247,12 +263,34 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * @return <code>true</code> to pool direct JDBC connections by a {@link ConcurrentSqlConnectionPool} instead of a
+   *         {@link SqlConnectionPool}
+   * @since 24.2
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(155)
+  protected boolean getConfiguredJdbcPoolConcurrent() {
+    return false;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
     return 25;
   }
 
+  /**
+   * @return maximum number of statements executed in one JDBC batch by {@link #insertBatch(String, Stream, Object...)},
+   *         {@link #updateBatch(String, Stream, Object...)} and {@link #deleteBatch(String, Stream, Object...)}
+   * @since 24.2
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(165)
+  protected int getConfiguredJdbcBatchSize() {
+    return 500;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -436,6 +474,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public int getJdbcBatchSize() {
+    return m_batchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -484,13 +526,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public boolean isJdbcPoolConcurrent() {
+    return m_jdbcPoolConcurrent;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
 
   @Override
   public String getInventory() {
-    final SqlConnectionPool pool = m_pool;
+    final ISqlConnectionPool pool = m_pool;
     if (pool != null) {
       return pool.getInventory();
     }
@@ -548,15 +594,26 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     }
   }
 
-  protected synchronized SqlConnectionPool getSqlConnectionPool() {
+  protected synchronized ISqlConnectionPool getSqlConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
+      m_pool = createSqlConnectionPool();
       m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
     }
     return m_pool;
   }
 
+  /**
+   * @return new uninitialized connection pool for direct JDBC connections
+   * @since 24.2
+   */
+  protected ISqlConnectionPool createSqlConnectionPool() {
+    if (isJdbcPoolConcurrent()) {
+      return BEANS.get(ConcurrentSqlConnectionPool.class).withSqlService(this);
+    }
+    return BEANS.get(SqlConnectionPool.class);
+  }
+
   /**
    * Destroys the current connection pool (created lazy upon releasing conneciton)
    */
@@ -634,6 +691,29 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
   }
 
+  @Override
+  public CloseableIterator<ISqlRow> selectCursor(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectCursor(getTransaction());
+  }
+
+  @Override
+  public <T> Stream<T> selectStream(String s, Function<? super ISqlRow, ? extends T> rowMapper, Object... bindBases) {
+    CloseableIterator<ISqlRow> cursor = selectCursor(s, bindBases);
+    Iterator<T> it = new Iterator<T>() {
+      @Override
+      public boolean hasNext() {
+        return cursor.hasNext();
+      }
+
+      @Override
+      public T next() {
+        return rowMapper.apply(cursor.next());
+      }
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+        .onClose(cursor::close);
+  }
+
   @Override
   public int insert(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
@@ -649,6 +729,44 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int insertBatch(String s, Stream<?> batchBindBases, Object... bindBases) {
+    return processModificationBatch(s, batchBindBases, bindBases);
+  }
+
+  @Override
+  public int updateBatch(String s, Stream<?> batchBindBases, Object... bindBases) {
+    return processModificationBatch(s, batchBindBases, bindBases);
+  }
+
+  @Override
+  public int deleteBatch(String s, Stream<?> batchBindBases, Object... bindBases) {
+    return processModificationBatch(s, batchBindBases, bindBases);
+  }
+
+  /**
+   * @since 24.2
+   */
+  protected int processModificationBatch(String s, Stream<?> batchBindBases, Object[] bindBases) {
+    Iterator<Object[]> it = batchBindBases
+        .map(batchBindBase -> toBatchBindBases(batchBindBase, bindBases))
+        .iterator();
+    if (!it.hasNext()) {
+      return 0;
+    }
+    return createStatementProcessor(s, it.next(), 0).processModificationBatch(getTransaction(), getStatementCache(), null, it, getJdbcBatchSize());
+  }
+
+  private static Object[] toBatchBindBases(Object batchBindBase, Object[] bindBases) {
+    Object[] rowBindBases = batchBindBase instanceof Object[] ? (Object[]) batchBindBase : new Object[]{batchBindBase};
+    if (bindBases == null || bindBases.length == 0) {
+      return rowBindBases;
+    }
+    Object[] result = Arrays.copyOf(rowBindBases, rowBindBases.length + bindBases.length);
+    System.arraycopy(bindBases, 0, result, rowBindBases.length, bindBases.length);
+    return result;
+  }
+
   @Override
   public boolean callStoredProcedure(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processStoredProcedure(getTransaction(), getStatementCache(), null);
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
+
+/**
+ * Current row of a cursor returned by {@link ISqlService#selectCursor(String, Object...)}.
+ * <p>
+ * A row is a view on the current position of the underlying {@link java.sql.ResultSet}: it is only valid until the
+ * cursor is advanced (by {@link CloseableIterator#hasNext()} or {@link CloseableIterator#next()}) or closed and must
+ * therefore not be retained. Use {@link #toArray()} to keep a copy of the values.
+ * </p>
+ * <p>
+ * Column indexes are zero based. {@link #getValue(int)} reads values using the
+ * {@link org.eclipse.scout.rt.server.jdbc.style.ISqlStyle} of the service, the same way
+ * {@link ISqlService#select(String, Object...)} does. The primitive accessors read the value directly from the result
+ * set without boxing it.
+ * </p>
+ *
+ * @see CloseableIterator
+ * @since 24.2
+ */
+public interface ISqlRow {
+
+  /**
+   * @return number of columns of the result
+   */
+  int getColumnCount();
+
+  /**
+   * @return zero based index of this row within the cursor
+   */
+  int getRowIndex();
+
+  /**
+   * @return value of the column as returned by {@link org.eclipse.scout.rt.server.jdbc.style.ISqlStyle#readBind}
+   */
+  Object getValue(int columnIndex);
+
+  /**
+   * @return value of the column converted to the given type using
+   *         {@link org.eclipse.scout.rt.platform.util.TypeCastUtility}
+   */
+  <T> T getValue(int columnIndex, Class<T> type);
+
+  String getString(int columnIndex);
+
+  /**
+   * @return value of the column or <code>0</code> if it is <code>null</code>, see {@link #wasNull()}
+   */
+  long getLong(int columnIndex);
+
+  /**
+   * @return value of the column or <code>0</code> if it is <code>null</code>, see {@link #wasNull()}
+   */
+  int getInt(int columnIndex);
+
+  /**
+   * @return value of the column or <code>0</code> if it is <code>null</code>, see {@link #wasNull()}
+   */
+  double getDouble(int columnIndex);
+
+  /**
+   * @return value of the column or <code>false</code> if it is <code>null</code>, see {@link #wasNull()}
+   */
+  boolean getBoolean(int columnIndex);
+
+  /**
+   * @return <code>true</code> if the column read last by one of the getters of this row was <code>null</code>
+   */
+  boolean wasNull();
+
+  /**
+   * @return copy of all column values of this row, equivalent to a row of {@link ISqlService#select(String, Object...)}
+   */
+  Object[] toArray();
+}
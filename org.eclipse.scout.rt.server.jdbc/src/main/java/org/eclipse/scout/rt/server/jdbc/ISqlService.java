@@ -10,11 +10,14 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
 import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.service.IService;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
 
@@ -237,6 +240,40 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * Returns a cursor over the rows of the select statement, the rows are read on demand while iterating.
+   * <p>
+   * The memory usage does not depend on the number of rows: the cursor returns the same {@link ISqlRow} instance for
+   * each row and the fetch size of the underlying result set is grown dynamically up to the limit given by
+   * {@link AbstractSqlService#getMaxFetchMemorySize()}. The statement must not contain <code>INTO</code> binds.
+   * </p>
+   * <p>
+   * The cursor must be consumed within the current transaction and closed afterwards, preferably using
+   * try-with-resources. It is closed automatically once all rows have been read.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @see #selectStream(String, Function, Object...)
+   * @since 24.2
+   */
+  CloseableIterator<ISqlRow> selectCursor(String s, Object... bindBases);
+
+  /**
+   * Returns a sequential stream of the rows of the select statement mapped by the given function, see
+   * {@link #selectCursor(String, Object...)}.
+   * <p>
+   * The stream must be closed, preferably using try-with-resources, unless it is consumed completely. The
+   * {@link ISqlRow} passed to the mapper is only valid during the call and must not be returned by the mapper.
+   * </p>
+   *
+   * @param rowMapper
+   *          maps the current row to an element of the stream
+   * @since 24.2
+   */
+  <T> Stream<T> selectStream(String s, Function<? super ISqlRow, ? extends T> rowMapper, Object... bindBases);
+
   /**
    * insert rows
    * <p>
@@ -247,6 +284,23 @@ public interface ISqlService extends IService {
    */
   int insert(String s, Object... bindBases);
 
+  /**
+   * insert rows using JDBC batches
+   * <p>
+   * The statement is executed once for each element of <code>batchBindBases</code>. An element is either a single bind
+   * base or an <code>Object[]</code> of bind bases, the <code>bindBases</code> are shared by all rows. The statement
+   * is parsed once and executed in batches of {@link AbstractSqlService#getJdbcBatchSize()} rows, all batches are
+   * executed before this method returns.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of inserted rows as far as reported by the JDBC driver
+   * @since 24.2
+   */
+  int insertBatch(String s, Stream<?> batchBindBases, Object... bindBases);
+
   /**
    * update rows
    * <p>
@@ -257,6 +311,23 @@ public interface ISqlService extends IService {
    */
   int update(String s, Object... bindBases);
 
+  /**
+   * update rows using JDBC batches
+   * <p>
+   * The statement is executed once for each element of <code>batchBindBases</code>. An element is either a single bind
+   * base or an <code>Object[]</code> of bind bases, the <code>bindBases</code> are shared by all rows. The statement
+   * is parsed once and executed in batches of {@link AbstractSqlService#getJdbcBatchSize()} rows, all batches are
+   * executed before this method returns.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of updated rows as far as reported by the JDBC driver
+   * @since 24.2
+   */
+  int updateBatch(String s, Stream<?> batchBindBases, Object... bindBases);
+
   /**
    * delete rows
    * <p>
@@ -267,6 +338,23 @@ public interface ISqlService extends IService {
    */
   int delete(String s, Object... bindBases);
 
+  /**
+   * delete rows using JDBC batches
+   * <p>
+   * The statement is executed once for each element of <code>batchBindBases</code>. An element is either a single bind
+   * base or an <code>Object[]</code> of bind bases, the <code>bindBases</code> are shared by all rows. The statement
+   * is parsed once and executed in batches of {@link AbstractSqlService#getJdbcBatchSize()} rows, all batches are
+   * executed before this method returns.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of deleted rows as far as reported by the JDBC driver
+   * @since 24.2
+   */
+  int deleteBatch(String s, Stream<?> batchBindBases, Object... bindBases);
+
   /**
    * call a stored procedure
    * <p>
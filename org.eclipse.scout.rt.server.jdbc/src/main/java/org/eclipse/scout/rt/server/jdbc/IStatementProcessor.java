@@ -10,6 +10,9 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.Iterator;
+
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 
 public interface IStatementProcessor {
 
@@ -19,8 +22,31 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * Executes the select statement lazily and returns a cursor over its rows.
+   * <p>
+   * The rows are read on demand and the fetch size of the result set is grown dynamically, so that the memory usage
+   * does not depend on the number of rows. The cursor is closed when it is exhausted and must be closed by the caller
+   * otherwise.
+   *
+   * @return cursor returning the same {@link ISqlRow} instance positioned on the current row
+   * @since 24.2
+   */
+  CloseableIterator<ISqlRow> processSelectCursor(Connection conn);
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Executes the modification statement for the bind bases of this processor and for each element of
+   * <code>nextBindBases</code> using JDBC batches of at most <code>batchSize</code> statements.
+   *
+   * @param nextBindBases
+   *          bind bases of the subsequent rows, each element replaces the bind bases this processor was created with
+   * @return total number of modified rows as far as reported by the JDBC driver
+   * @since 24.2
+   */
+  int processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, Iterator<Object[]> nextBindBases, int batchSize);
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
@@ -11,9 +11,12 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 
 /**
@@ -119,6 +122,22 @@ public final class SQL {
     service.selectIntoLimited(s, maxRowCount, bindBases);
   }
 
+  /**
+   * @see ISqlService#selectCursor(String, Object...)
+   */
+  public static CloseableIterator<ISqlRow> selectCursor(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectCursor(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectStream(String, Function, Object...)
+   */
+  public static <T> Stream<T> selectStream(String s, Function<? super ISqlRow, ? extends T> rowMapper, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectStream(s, rowMapper, bindBases);
+  }
+
   /**
    * @see ISqlService#insert(String, Object...)
    */
@@ -127,6 +146,14 @@ public final class SQL {
     return service.insert(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#insertBatch(String, Stream, Object...)
+   */
+  public static int insertBatch(String s, Stream<?> batchBindBases, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.insertBatch(s, batchBindBases, bindBases);
+  }
+
   /**
    * @see ISqlService#update(String, Object...)
    */
@@ -135,6 +162,14 @@ public final class SQL {
     return service.update(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#updateBatch(String, Stream, Object...)
+   */
+  public static int updateBatch(String s, Stream<?> batchBindBases, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.updateBatch(s, batchBindBases, bindBases);
+  }
+
   /**
    * @see ISqlService#delete(String, Object...)
    */
@@ -143,6 +178,14 @@ public final class SQL {
     return service.delete(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#deleteBatch(String, Stream, Object...)
+   */
+  public static int deleteBatch(String s, Stream<?> batchBindBases, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.deleteBatch(s, batchBindBases, bindBases);
+  }
+
   /**
    * @see ISqlService#callStoredProcedure(String, Object...)
    */
@@ -204,6 +204,37 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of statements executed in one JDBC batch by the batch operations of the SQL service. The default value is 500.";
+    }
+  }
+
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of parsed SQL statements kept in the global cache, shared by all SQL services. Statements are cached by their text, thus statements containing literal values should use binds instead. Set to 0 to disable the cache. The default value is 1000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -216,4 +247,17 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlJdbcPoolConcurrentProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.concurrent";
+    }
+
+    @Override
+    public String description() {
+      return "If true, direct JDBC connections are pooled by a lock-free pool which hands off released connections to waiting threads in FIFO order and validates idle connections in the background. The default value is false.";
+    }
+  }
 }
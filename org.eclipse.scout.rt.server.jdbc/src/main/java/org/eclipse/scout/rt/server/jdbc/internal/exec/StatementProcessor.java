@@ -21,9 +21,11 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
 
@@ -41,11 +43,14 @@ import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.CloseableIterator;
 import org.eclipse.scout.rt.platform.util.TriState;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 import org.eclipse.scout.rt.server.IServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlTransactionMember;
 import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
+import org.eclipse.scout.rt.server.jdbc.ISqlRow;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessor;
@@ -53,9 +58,9 @@ import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatement;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -71,6 +76,10 @@ import org.slf4j.LoggerFactory;
 public class StatementProcessor implements IStatementProcessor {
   private static final Logger LOG = LoggerFactory.getLogger(StatementProcessor.class);
   private static final Pattern REGEX_DOT = Pattern.compile("[.]");
+  /**
+   * Fetch size of cursor statements if the JDBC driver does not define a default fetch size.
+   */
+  private static final int CURSOR_INITIAL_FETCH_SIZE = 100;
 
   static {
     if (LOG.isDebugEnabled()) {
@@ -114,34 +123,15 @@ public class StatementProcessor implements IStatementProcessor {
       m_originalStm = stm;
       m_maxRowCount = maxRowCount;
       m_maxFetchMemorySize = maxFetchMemorySize;
-      // add session to binds if available
-      final IServerSession session = ServerSessionProvider.currentSession();
-      if (session != null) {
-        if (bindBases == null) {
-          m_bindBases = new Object[]{session};
-        }
-        else {
-          m_bindBases = new Object[bindBases.length + 1];
-          System.arraycopy(bindBases, 0, m_bindBases, 0, bindBases.length);
-          m_bindBases[m_bindBases.length - 1] = session;
-        }
-      }
-      else {
-        if (bindBases == null) {
-          m_bindBases = new Object[]{};
-        }
-        else {
-          m_bindBases = bindBases;
-        }
-      }
+      m_bindBases = addSessionBindBase(bindBases);
       //
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
+      ParsedStatement parsedStatement = BEANS.get(ParsedStatementCache.class).get(m_originalStm);
+      IntoModel intoModel = parsedStatement.getIntoModel();
       //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      m_bindModel = parsedStatement.getBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -192,6 +182,26 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * @return bind bases with the current session added if available
+   */
+  private static Object[] addSessionBindBase(Object[] bindBases) {
+    final IServerSession session = ServerSessionProvider.currentSession();
+    if (session != null) {
+      if (bindBases == null) {
+        return new Object[]{session};
+      }
+      Object[] result = new Object[bindBases.length + 1];
+      System.arraycopy(bindBases, 0, result, 0, bindBases.length);
+      result[result.length - 1] = session;
+      return result;
+    }
+    if (bindBases == null) {
+      return new Object[]{};
+    }
+    return bindBases;
+  }
+
   protected TreeMap<Integer, SqlBind> getCurrentInputBindMap() {
     return m_currentInputBindMap;
   }
@@ -225,21 +235,14 @@ public class StatementProcessor implements IStatementProcessor {
   }
 
   protected List<Object[]> processResultRows(ResultSet rs, int maxRowCount) throws SQLException {
-    boolean isDynamicPrefetch = false;
-    int rowCount = 0;
-    int initialFetchSize = 0;
-    int dynamicFetchSize = 0;
+    P_DynamicPrefetch prefetch = null;
     if (m_callerService.getSqlStyle() != null && m_callerService.getSqlStyle() instanceof OracleSqlStyle) {
-      // init prefetch params
-      isDynamicPrefetch = true;
-      initialFetchSize = rs.getFetchSize();
-      dynamicFetchSize = initialFetchSize;
+      prefetch = new P_DynamicPrefetch(rs);
     }
     List<Object[]> rows = new ArrayList<>();
     while (rs.next()) {
-      if (isDynamicPrefetch && ++rowCount % dynamicFetchSize == 0 && dynamicFetchSize < getMaxFetchSize(rs)) {
-        dynamicFetchSize = Math.min(Math.max(initialFetchSize, rowCount / 2), getMaxFetchSize(rs));
-        rs.setFetchSize(dynamicFetchSize);
+      if (prefetch != null) {
+        prefetch.rowFetched(rs);
       }
       Object[] row = processResultRow(rs);
       rows.add(row);
@@ -417,6 +420,15 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @Override
+  public CloseableIterator<ISqlRow> processSelectCursor(Connection conn) {
+    if (!m_outputList.isEmpty()) {
+      throw new ProcessingException("cursor statement must not contain output binds")
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    return new P_SqlCursor(conn);
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -456,6 +468,121 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * The statement is prepared once per distinct statement text (only differs between rows if plain binds are used) and
+   * all rows are added to its batch. Only the first statement of each JDBC batch is dumped.
+   */
+  @SuppressWarnings("resource")
+  @Override
+  public int processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, Iterator<Object[]> nextBindBases, int batchSize) {
+    if (!m_outputList.isEmpty()) {
+      throw new ProcessingException("batch statement must not contain output binds")
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int batchCount = 0;
+    int rowCount = 0;
+    try {
+      while (true) {
+        while (hasNextInputBatch()) {
+          nextInputBatch();
+          prepareInputStatementAndBinds();
+          if (ps != null && !m_currentInputStm.equals(batchStm)) {
+            // statement text changed, execute pending batch of previous statement
+            if (batchCount > 0) {
+              rowCount = rowCount + executeBatch(ps);
+              batchCount = 0;
+            }
+            cache.releasePreparedStatement(ps);
+            ps = null;
+          }
+          if (ps == null) {
+            dump();
+            ps = cache.getPreparedStatement(conn, m_currentInputStm);
+            batchStm = m_currentInputStm;
+          }
+          else if (batchCount == 0) {
+            dump();
+          }
+          bindBatch(ps);
+          ps.addBatch();
+          batchCount++;
+          if (batchCount >= batchSize) {
+            rowCount = rowCount + executeBatch(ps);
+            batchCount = 0;
+          }
+        }
+        if (!nextBindBases.hasNext()) {
+          break;
+        }
+        rebindInputs(nextBindBases.next());
+      }
+      if (batchCount > 0) {
+        rowCount = rowCount + executeBatch(ps);
+        batchCount = 0;
+      }
+      return rowCount;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      if (ps != null && batchCount > 0) {
+        // do not leave pending statements in a cached prepared statement
+        try {
+          ps.clearBatch();
+        }
+        catch (SQLException e) {
+          LOG.warn("could not clear batch", e);
+        }
+      }
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  /**
+   * @return number of modified rows, statements executed successfully without a row count are not counted
+   */
+  private int executeBatch(PreparedStatement ps) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      int rowCount = 0;
+      for (int count : ps.executeBatch()) {
+        if (count > 0) {
+          rowCount = rowCount + count;
+        }
+      }
+      return rowCount;
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
+  /**
+   * Replaces the inputs by inputs resolved from the given bind bases. The parsed statement is reused.
+   */
+  private void rebindInputs(Object[] bindBases) {
+    Object[] allBindBases = addSessionBindBase(bindBases);
+    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+    m_inputList.clear();
+    m_currentInputBatchIndex = -1;
+    m_currentInputBindMap = null;
+    int jdbcBindIndex = 1;
+    for (IToken t : m_ioTokens) {
+      if (t.isInput()) {
+        IBindInput in = createInput(t, allBindBases);
+        if (in.isJdbcBind(sqlStyle)) {
+          in.setJdbcBindIndex(jdbcBindIndex);
+          jdbcBindIndex++;
+        }
+        m_inputList.add(in);
+      }
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -916,7 +1043,7 @@ public class StatementProcessor implements IStatementProcessor {
       return result;
     }
     else if (bindToken instanceof FunctionInputToken) {
-      return new FunctionInput(m_callerService, m_bindBases, (FunctionInputToken) bindToken);
+      return new FunctionInput(m_callerService, bindBases, (FunctionInputToken) bindToken);
     }
     throw new ProcessingException("Cannot find input for {}", bindToken.getClass());
   }
@@ -1486,4 +1613,263 @@ public class StatementProcessor implements IStatementProcessor {
     }
     cache.releasePreparedStatement(ps);
   }
+
+  /**
+   * Grows the fetch size of a {@link ResultSet} while it is read, starting at its initial fetch size up to
+   * {@link #getMaxFetchSize(ResultSet)}.
+   */
+  private final class P_DynamicPrefetch {
+    private final int m_initialFetchSize;
+    private int m_fetchSize;
+    private int m_rowCount;
+
+    private P_DynamicPrefetch(ResultSet rs) throws SQLException {
+      m_initialFetchSize = Math.max(rs.getFetchSize(), 1);
+      m_fetchSize = m_initialFetchSize;
+    }
+
+    /**
+     * Must be called after each successful {@link ResultSet#next()}.
+     */
+    private void rowFetched(ResultSet rs) throws SQLException {
+      if (++m_rowCount % m_fetchSize == 0 && m_fetchSize < getMaxFetchSize(rs)) {
+        m_fetchSize = Math.min(Math.max(m_initialFetchSize, m_rowCount / 2), getMaxFetchSize(rs));
+        rs.setFetchSize(m_fetchSize);
+      }
+    }
+  }
+
+  /**
+   * Pull based cursor over the rows of all input batches.
+   * <p>
+   * The statements are not taken from the {@link IStatementCache}: statements executed while the cursor is open (e.g.
+   * by the consumer of the rows) could otherwise obtain the same cached statement and thereby close the open result
+   * set. Each statement is closed as soon as its result is consumed, the last one at the latest in {@link #close()}.
+   */
+  private final class P_SqlCursor implements CloseableIterator<ISqlRow>, ISqlRow {
+    private final Connection m_conn;
+    private final ISqlStyle m_sqlStyle;
+    private PreparedStatement m_ps;
+    private ResultSet m_rs;
+    private ResultSetMetaData m_meta;
+    private int[] m_columnTypes;
+    private P_DynamicPrefetch m_prefetch;
+    private int m_rowCount;
+    private boolean m_rowPending;
+    private boolean m_closed;
+    private boolean m_wasNull;
+
+    private P_SqlCursor(Connection conn) {
+      m_conn = conn;
+      m_sqlStyle = m_callerService.getSqlStyle();
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (m_rowPending) {
+        return true;
+      }
+      if (m_closed) {
+        return false;
+      }
+      try {
+        if (m_maxRowCount <= 0 || m_rowCount < m_maxRowCount) {
+          while (true) {
+            if (m_rs != null && m_rs.next()) {
+              m_prefetch.rowFetched(m_rs);
+              m_rowPending = true;
+              return true;
+            }
+            releaseStatement();
+            if (!hasNextInputBatch()) {
+              break;
+            }
+            executeNextInputBatch();
+          }
+          finishOutputBatch();
+        }
+        close();
+        return false;
+      }
+      catch (SQLException | RuntimeException e) {
+        throw translateAndClose(e);
+      }
+    }
+
+    @Override
+    public ISqlRow next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      m_rowPending = false;
+      m_rowCount++;
+      m_wasNull = false;
+      return this;
+    }
+
+    @Override
+    public void close() {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+      m_rowPending = false;
+      releaseStatement();
+    }
+
+    private void executeNextInputBatch() throws SQLException {
+      nextInputBatch();
+      prepareInputStatementAndBinds();
+      dump();
+      m_ps = m_conn.prepareStatement(m_currentInputStm);
+      if (m_ps.getFetchSize() <= 0) {
+        // drivers without a default fetch size would otherwise read the whole result at once
+        m_ps.setFetchSize(CURSOR_INITIAL_FETCH_SIZE);
+      }
+      bindBatch(m_ps);
+      registerActiveStatement(m_ps);
+      m_rs = m_ps.executeQuery();
+      m_meta = m_rs.getMetaData();
+      m_columnTypes = new int[m_meta.getColumnCount()];
+      for (int i = 0; i < m_columnTypes.length; i++) {
+        m_columnTypes[i] = m_meta.getColumnType(i + 1);
+      }
+      m_prefetch = new P_DynamicPrefetch(m_rs);
+    }
+
+    private void releaseStatement() {
+      if (m_ps == null) {
+        return;
+      }
+      unregisterActiveStatement(m_ps);
+      try {
+        m_rs.close();
+      }
+      catch (Exception e) {
+        LOG.warn("could not close ResultSet", e);
+      }
+      try {
+        m_ps.close();
+      }
+      catch (Exception e) {
+        LOG.warn("could not close PreparedStatement", e);
+      }
+      m_ps = null;
+      m_rs = null;
+      m_meta = null;
+    }
+
+    private RuntimeException translateAndClose(Exception e) {
+      close();
+      return BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+
+    private void assertCurrentRow() {
+      if (m_rowPending || m_rs == null) {
+        throw new IllegalStateException("row is not valid anymore, the cursor was advanced or closed");
+      }
+    }
+
+    @Override
+    public int getColumnCount() {
+      assertCurrentRow();
+      return m_columnTypes.length;
+    }
+
+    @Override
+    public int getRowIndex() {
+      assertCurrentRow();
+      return m_rowCount - 1;
+    }
+
+    @Override
+    public Object getValue(int columnIndex) {
+      assertCurrentRow();
+      try {
+        Object value = m_sqlStyle.readBind(m_rs, m_meta, m_columnTypes[columnIndex], columnIndex + 1);
+        m_wasNull = value == null;
+        return value;
+      }
+      catch (SQLException | RuntimeException e) {
+        throw translateAndClose(e);
+      }
+    }
+
+    @Override
+    public <T> T getValue(int columnIndex, Class<T> type) {
+      return TypeCastUtility.castValue(getValue(columnIndex), type);
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+      return getValue(columnIndex, String.class);
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+      assertCurrentRow();
+      try {
+        long value = m_rs.getLong(columnIndex + 1);
+        m_wasNull = m_rs.wasNull();
+        return value;
+      }
+      catch (SQLException | RuntimeException e) {
+        throw translateAndClose(e);
+      }
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+      assertCurrentRow();
+      try {
+        int value = m_rs.getInt(columnIndex + 1);
+        m_wasNull = m_rs.wasNull();
+        return value;
+      }
+      catch (SQLException | RuntimeException e) {
+        throw translateAndClose(e);
+      }
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+      assertCurrentRow();
+      try {
+        double value = m_rs.getDouble(columnIndex + 1);
+        m_wasNull = m_rs.wasNull();
+        return value;
+      }
+      catch (SQLException | RuntimeException e) {
+        throw translateAndClose(e);
+      }
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+      assertCurrentRow();
+      try {
+        boolean value = m_rs.getBoolean(columnIndex + 1);
+        m_wasNull = m_rs.wasNull();
+        return value;
+      }
+      catch (SQLException | RuntimeException e) {
+        throw translateAndClose(e);
+      }
+    }
+
+    @Override
+    public boolean wasNull() {
+      return m_wasNull;
+    }
+
+    @Override
+    public Object[] toArray() {
+      Object[] row = new Object[getColumnCount()];
+      for (int i = 0; i < row.length; i++) {
+        row[i] = getValue(i);
+      }
+      return row;
+    }
+  }
 }
@@ -0,0 +1,610 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.TimingUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Connection pool for direct JDBC connections which does not serialize leases and releases on a common monitor (see
+ * {@link SqlConnectionPool}):
+ * <ul>
+ * <li>Idle connections are kept in a lock-free stack, the most recently released connection is leased first.</li>
+ * <li>If no connection is available, leasing threads are queued and released connections are handed off directly to
+ * the longest waiting thread (FIFO). Only that thread is woken up.</li>
+ * <li>Connections are only tested on lease if they were idle for more than {@link #getValidationBypassTime()}
+ * milliseconds. Connections idle for a longer time are validated in the background, together with the eviction of
+ * expired and timed out connections.</li>
+ * <li>In addition to the instruments of {@link SqlConnectionPool}, the time a connection is held by its lessee
+ * (<code>db.client.connections.use_time</code>) and the number of waiting threads
+ * (<code>db.client.connections.pending_requests</code>) are recorded.</li>
+ * </ul>
+ * This class is thread-safe.
+ *
+ * @since 24.2
+ */
+@Bean
+@SuppressWarnings("squid:S1166")
+public class ConcurrentSqlConnectionPool implements ISqlConnectionPool {
+  private static final Logger LOG = LoggerFactory.getLogger(ConcurrentSqlConnectionPool.class);
+
+  private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
+  private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
+  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
+  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_USE_TIME = "db.client.connections.use_time";
+
+  /**
+   * Max. time a waiting thread is parked before it checks the pool again. Waiting threads are woken up when a
+   * connection is handed off to them, this is a safeguard only.
+   */
+  private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  /**
+   * Marks a {@link Waiter} which stopped waiting.
+   */
+  private static final PoolEntry CANCELLED = new PoolEntry();
+
+  private volatile boolean m_destroyed;
+  private final String m_identity = UUID.randomUUID().toString();
+
+  /*
+   * Instance
+   */
+  private final ConcurrentLinkedDeque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final Map<Connection, PoolEntry> m_busyEntries = new ConcurrentHashMap<>();
+  private final Queue<Waiter> m_waiters = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger m_connectionCount = new AtomicInteger();
+  private final AtomicInteger m_waiterCount = new AtomicInteger();
+  private volatile AbstractSqlService m_service;
+  private volatile String m_name;
+  private volatile int m_poolSize;
+  private volatile long m_connectionLifetime;
+  private volatile long m_connectionBusyTimeout;
+  private final AtomicBoolean m_initialized = new AtomicBoolean(false);
+  /*
+   * OpenTelemetry
+   */
+  private DoubleHistogram m_connectionWaitTime;
+  private DoubleHistogram m_connectionUseTime;
+  private Attributes m_defaultAttributes;
+
+  @Override
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
+    m_name = name;
+    m_poolSize = poolSize;
+    m_connectionLifetime = connectionLifetime;
+    m_connectionBusyTimeout = connectionBusyTimeout;
+    startManagePool();
+    initMetrics();
+  }
+
+  /**
+   * Sets the service used by the housekeeping job to validate idle connections. Must be called before
+   * {@link #initialize(String, int, long, long)}; idle connections are not validated if no service is set.
+   *
+   * @return this pool
+   */
+  public ConcurrentSqlConnectionPool withSqlService(AbstractSqlService service) {
+    m_service = service;
+    return this;
+  }
+
+  /**
+   * @return time in milliseconds a released connection is not tested again when it is leased.
+   */
+  protected long getValidationBypassTime() {
+    return 500L;
+  }
+
+  /**
+   * @return interval in seconds in which expired and timed out connections are closed and idle connections are
+   *         validated.
+   */
+  protected long getHousekeepingInterval() {
+    return 30L;
+  }
+
+  private void startManagePool() {
+    Jobs.schedule(this::managePool, Jobs.newInput()
+        .withName("Managing SQL connection pool for {}", m_name)
+        .withExecutionHint(m_identity)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(getHousekeepingInterval(), TimeUnit.SECONDS)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(getHousekeepingInterval(), TimeUnit.SECONDS))));
+  }
+
+  /**
+   * @see <a href=
+   *      "https://opentelemetry.io/docs/specs/otel/metrics/semantic_conventions/database-metrics/">OpenTelemetry:
+   *      Semantic Conventions for Database Metrics</a>
+   */
+  private void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.SqlConnectionPool");
+
+    ObservableLongMeasurement connectionsUsage = meter.upDownCounterBuilder("db.client.connections.usage")
+        .setDescription("The number of connections that are currently in state described by the state attribute.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement maxConnections = meter.upDownCounterBuilder("db.client.connections.max")
+        .setDescription("The maximum number of open connections allowed.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement pendingRequests = meter.upDownCounterBuilder("db.client.connections.pending_requests")
+        .setDescription("The number of pending requests for an open connection, cumulative for the entire pool.")
+        .setUnit("{request}")
+        .buildObserver();
+    m_connectionWaitTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME)
+        .setUnit("ms")
+        .setDescription("The time it took to obtain an open connection from the pool.")
+        .build();
+    m_connectionUseTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_USE_TIME)
+        .setUnit("ms")
+        .setDescription("The time between borrowing a connection and returning it to the pool.")
+        .build();
+
+    m_defaultAttributes = Attributes.of(POOL_NAME, m_name);
+    Attributes idleConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "idle").build();
+    Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
+    //noinspection resource
+    meter.batchCallback(() -> {
+      connectionsUsage.record(m_idleEntries.size(), idleConnectionsAttributes);
+      connectionsUsage.record(m_busyEntries.size(), usedConnectionsAttributes);
+      maxConnections.record(m_poolSize, m_defaultAttributes);
+      pendingRequests.record(m_waiterCount.get(), m_defaultAttributes);
+    },
+        connectionsUsage,
+        maxConnections,
+        pendingRequests);
+  }
+
+  @Override
+  public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    final long startTime = System.nanoTime();
+    while (true) {
+      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+      PoolEntry candidate = m_idleEntries.pollFirst();
+      if (candidate == null) {
+        candidate = createEntry(service);
+      }
+      if (candidate == null) {
+        candidate = awaitEntry(service);
+      }
+      if (isValid(candidate, service)) {
+        candidate.leaseBegin = System.currentTimeMillis();
+        candidate.leaseCount++;
+        m_busyEntries.put(candidate.conn, candidate);
+        LOG.debug("lease   {}", candidate.conn);
+        m_connectionWaitTime.record(TimingUtility.msElapsed(startTime), m_defaultAttributes);
+        return candidate.conn;
+      }
+    }
+  }
+
+  /**
+   * Creates a new connection if the pool size is not exceeded.
+   *
+   * @return new entry or <code>null</code> if the pool is exhausted
+   */
+  protected PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    int count;
+    do {
+      count = m_connectionCount.get();
+      if (count >= m_poolSize) {
+        return null;
+      }
+    }
+    while (!m_connectionCount.compareAndSet(count, count + 1));
+
+    boolean success = false;
+    try {
+      PoolEntry entry = new PoolEntry();
+      entry.conn = createConnection(service);
+      LOG.info("created jdbc connection {}", entry.conn);
+      service.callbackAfterConnectionCreated(entry.conn);
+      entry.createTime = System.currentTimeMillis();
+      entry.releaseTime = entry.createTime;
+      success = true;
+      return entry;
+    }
+    finally {
+      if (!success) {
+        m_connectionCount.decrementAndGet();
+        signalWaiter();
+      }
+    }
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  /**
+   * Blocks until a connection is handed off to the current thread, becomes idle or can be created.
+   */
+  protected PoolEntry awaitEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    Waiter waiter = new Waiter(Thread.currentThread());
+    m_waiters.add(waiter);
+    m_waiterCount.incrementAndGet();
+    try {
+      while (true) {
+        PoolEntry entry = waiter.getEntry();
+        if (entry != null) {
+          return entry;
+        }
+        // check again after being enqueued (an entry could have been released before)
+        entry = m_idleEntries.pollFirst();
+        if (entry == null) {
+          try {
+            entry = createEntry(service);
+          }
+          catch (ClassNotFoundException | SQLException | RuntimeException | Error e) {
+            // an entry might have been handed off in the meantime
+            if (!waiter.cancel()) {
+              handOff(waiter.getEntry());
+            }
+            throw e;
+          }
+        }
+        if (entry != null) {
+          return claim(waiter, entry);
+        }
+        Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+
+        LockSupport.parkNanos(this, MAX_PARK_NANOS);
+        if (Thread.interrupted()) {
+          if (!waiter.cancel()) {
+            handOff(waiter.getEntry());
+          }
+          Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by Thread.interrupted().
+          throw new ThreadInterruptedError("Interrupted while leasing database connection");
+        }
+      }
+    }
+    finally {
+      m_waiters.remove(waiter);
+      m_waiterCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Stops the given waiter and returns the given entry, unless another entry has been handed off to the waiter in the
+   * meantime. In that case, the handed off entry is returned and the given entry is handed off to the next waiter.
+   */
+  protected PoolEntry claim(Waiter waiter, PoolEntry entry) {
+    if (waiter.cancel()) {
+      return entry;
+    }
+    handOff(entry);
+    return waiter.getEntry();
+  }
+
+  /**
+   * Tests the given entry if it was idle for more than {@link #getValidationBypassTime()} milliseconds. Invalid
+   * entries are discarded.
+   */
+  protected boolean isValid(PoolEntry entry, AbstractSqlService service) {
+    if (System.currentTimeMillis() - entry.releaseTime < getValidationBypassTime()) {
+      return true;
+    }
+    try {
+      service.callbackTestConnection(entry.conn);
+      return true;
+    }
+    catch (Exception e) {
+      LOG.warn("closing dirty connection: {}", entry.conn, e);
+      discard(entry, null);
+      return false;
+    }
+  }
+
+  @Override
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+
+    PoolEntry candidate = m_busyEntries.remove(conn);
+    if (candidate == null) {
+      // unknown or timed out busy connection
+      LOG.warn("closing dirty connection: {}", conn);
+      closeConnection(conn);
+      return;
+    }
+    long now = System.currentTimeMillis();
+    m_connectionUseTime.record(now - candidate.leaseBegin, m_defaultAttributes);
+
+    if (!isReusable(candidate)) {
+      LOG.warn("closing dirty connection: {}", conn);
+      discard(candidate, null);
+      return;
+    }
+    if (now - candidate.createTime > m_connectionLifetime) {
+      discard(candidate, "expired connection");
+      return;
+    }
+    candidate.leaseBegin = 0;
+    candidate.releaseTime = now;
+    handOff(candidate);
+  }
+
+  /**
+   * @return <code>false</code> if the connection of the given entry is closed or its warnings cannot be cleared.
+   */
+  protected boolean isReusable(PoolEntry entry) {
+    try {
+      if (entry.conn.isClosed()) {
+        return false;
+      }
+      if (entry.conn.getWarnings() != null) {
+        // connection is normally valid again after clearing the warnings.
+        entry.conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Exception e) {
+      return false;
+    }
+  }
+
+  /**
+   * Hands off the given entry to the longest waiting thread, or puts it to the idle entries if no thread is waiting.
+   */
+  protected void handOff(PoolEntry entry) {
+    Waiter waiter;
+    while ((waiter = m_waiters.poll()) != null) {
+      if (waiter.offer(entry)) {
+        return;
+      }
+    }
+    m_idleEntries.offerFirst(entry);
+    // a thread might have been enqueued after polling the waiters
+    signalWaiter();
+  }
+
+  /**
+   * Wakes up the longest waiting thread to check the pool again (e.g. because a connection was discarded and a new
+   * one can be created).
+   */
+  protected void signalWaiter() {
+    Waiter waiter = m_waiters.peek();
+    if (waiter != null) {
+      LockSupport.unpark(waiter.m_thread);
+    }
+  }
+
+  /**
+   * Closes the connection of the given entry and frees its slot in the pool.
+   *
+   * @param reason
+   *          if not <code>null</code>, the connection is closed asynchronously
+   */
+  protected void discard(PoolEntry entry, String reason) {
+    m_connectionCount.decrementAndGet();
+    if (reason == null) {
+      closeConnection(entry.conn);
+    }
+    else {
+      closeConnectionAsync(entry.conn, reason);
+    }
+    signalWaiter();
+  }
+
+  @Override
+  public String getInventory() {
+    StringBuilder buf = new StringBuilder();
+    SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
+    List<PoolEntry> busyEntries = new ArrayList<>(m_busyEntries.values());
+    List<PoolEntry> idleEntries = new ArrayList<>(m_idleEntries);
+    buf.append("Total connections: ").append(m_connectionCount.get());
+    buf.append("\n");
+    buf.append("Waiting: ").append(m_waiterCount.get());
+    buf.append("\n");
+    buf.append("Busy: ").append(busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : busyEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin)));
+      buf.append("\n");
+    }
+    buf.append("Idle: ").append(idleEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : idleEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
+      buf.append("\n");
+    }
+    return buf.toString();
+  }
+
+  /**
+   * Closes expired idle and timed out busy connections and validates connections which are idle for more than one
+   * housekeeping interval.
+   */
+  protected void managePool() {
+    try {
+      if (isDestroyed()) {
+        return;
+      }
+      long now = System.currentTimeMillis();
+      long validationThreshold = TimeUnit.SECONDS.toMillis(getHousekeepingInterval());
+      AbstractSqlService service = m_service;
+      for (PoolEntry e : m_idleEntries) {
+        if (now - e.createTime > m_connectionLifetime) {
+          if (m_idleEntries.removeFirstOccurrence(e)) {
+            discard(e, "expired idle connection");
+          }
+        }
+        else if (service != null && now - e.releaseTime > validationThreshold && m_idleEntries.removeFirstOccurrence(e)) {
+          // entry is not available to other threads while being validated
+          try {
+            service.callbackTestConnection(e.conn);
+            e.releaseTime = System.currentTimeMillis();
+            handOff(e);
+          }
+          catch (Exception ex) {
+            LOG.warn("closing dirty connection: {}", e.conn, ex);
+            discard(e, "invalid idle connection");
+          }
+        }
+      }
+      for (PoolEntry e : m_busyEntries.values()) {
+        if (now - e.leaseBegin > m_connectionBusyTimeout && m_busyEntries.remove(e.conn, e)) {
+          discard(e, "timed out busy connection");
+        }
+      }
+    }
+    catch (Exception t) {
+      LOG.warn("Unexpected Problem while managing SQL connection pool", t);
+    }
+  }
+
+  @Override
+  public boolean isDestroyed() {
+    return m_destroyed;
+  }
+
+  @Override
+  public void destroy() {
+    if (isDestroyed()) {
+      return;
+    }
+    synchronized (this) {
+      if (isDestroyed()) {
+        return; // double-checked locking
+      }
+      m_destroyed = true;
+    }
+
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
+
+    PoolEntry idleEntry;
+    while ((idleEntry = m_idleEntries.pollFirst()) != null) {
+      closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
+    }
+    for (PoolEntry busyEntry : m_busyEntries.values()) {
+      closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
+    }
+    m_busyEntries.clear();
+    m_connectionCount.set(0);
+
+    // wake up waiting threads, they fail because the pool is destroyed
+    for (Waiter waiter : m_waiters) {
+      LockSupport.unpark(waiter.m_thread);
+    }
+  }
+
+  protected void closeConnection(Connection connection) {
+    try {
+      connection.close();
+    }
+    catch (SQLException e) {
+      // ignored
+    }
+  }
+
+  protected void closeConnectionAsync(final Connection connection, final String reason) {
+    Jobs.schedule(() -> {
+      LOG.info("Closing SQL connection {}", connection);
+      try {
+        connection.close();
+      }
+      catch (SQLException e) {
+        LOG.error("Failed to close SQL connection [connection={}]", connection, e);
+      }
+    }, Jobs.newInput()
+        .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
+        .withExecutionHint(m_identity));
+  }
+
+  /**
+   * Thread waiting for a connection. A connection is handed off by {@link #offer(PoolEntry)}, or the thread stops
+   * waiting by {@link #cancel()}, whichever happens first.
+   */
+  protected static final class Waiter {
+    private final Thread m_thread;
+    private final AtomicReference<PoolEntry> m_entry = new AtomicReference<>();
+
+    private Waiter(Thread thread) {
+      m_thread = thread;
+    }
+
+    private boolean offer(PoolEntry entry) {
+      if (m_entry.compareAndSet(null, entry)) {
+        LockSupport.unpark(m_thread);
+        return true;
+      }
+      return false;
+    }
+
+    private boolean cancel() {
+      return m_entry.compareAndSet(null, CANCELLED);
+    }
+
+    /**
+     * @return handed off entry or <code>null</code>
+     */
+    private PoolEntry getEntry() {
+      PoolEntry entry = m_entry.get();
+      return entry == CANCELLED ? null : entry;
+    }
+  }
+
+  /**
+   * Custom histogramm buckets for <code>db.client.connections.use_time</code> (time unit: milliseconds).
+   *
+   * @see #m_connectionUseTime
+   */
+  public static class UseTimeHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_DB_CLIENT_CONNECTIONS_USE_TIME;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 5d, 10d, 50d, 100d, 500d, 1_000d, 5_000d, 10_000d, 60_000d);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+
+/**
+ * Pool of direct JDBC connections used by {@link AbstractSqlService}. There is one pool for every
+ * {@link AbstractSqlService} sub class type. Implementations must be thread-safe.
+ *
+ * @see SqlConnectionPool
+ * @see ConcurrentSqlConnectionPool
+ * @since 24.2
+ */
+public interface ISqlConnectionPool {
+
+  /**
+   * Initializes this pool, must be called exactly once before the pool is used.
+   *
+   * @param name
+   *          name of the pool (used for logging and metrics)
+   * @param poolSize
+   *          maximum number of open connections
+   * @param connectionLifetime
+   *          time in milliseconds after which idle connections are closed
+   * @param connectionBusyTimeout
+   *          time in milliseconds after which leased connections are closed
+   */
+  void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout);
+
+  /**
+   * Leases a connection, blocks until a connection is available.
+   */
+  Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException;
+
+  /**
+   * Returns a connection leased by {@link #leaseConnection(AbstractSqlService)} to the pool.
+   */
+  void releaseConnection(Connection conn);
+
+  /**
+   * @return human-readable description of the connections in this pool
+   */
+  String getInventory();
+
+  /**
+   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
+   */
+  boolean isDestroyed();
+
+  /**
+   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
+   */
+  void destroy();
+}
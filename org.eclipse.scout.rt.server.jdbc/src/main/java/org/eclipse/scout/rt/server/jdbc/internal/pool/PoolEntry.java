@@ -17,4 +17,5 @@ class PoolEntry {
   public long createTime;
   public long leaseBegin;
   public int leaseCount;
+  public long releaseTime;
 }
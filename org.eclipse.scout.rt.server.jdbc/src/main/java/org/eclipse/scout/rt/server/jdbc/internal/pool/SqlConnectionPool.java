@@ -46,7 +46,7 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
  */
 @Bean
 @SuppressWarnings("squid:S1166")
-public class SqlConnectionPool {
+public class SqlConnectionPool implements ISqlConnectionPool {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
   private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
@@ -73,6 +73,7 @@ public class SqlConnectionPool {
   private DoubleHistogram m_connectionWaitTime;
   private Attributes m_defaultAttributes;
 
+  @Override
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
@@ -129,6 +130,7 @@ public class SqlConnectionPool {
         maxConnections);
   }
 
+  @Override
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
     managePool();
@@ -193,6 +195,7 @@ public class SqlConnectionPool {
     }
   }
 
+  @Override
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
     synchronized (m_poolLock) {
@@ -257,6 +260,7 @@ public class SqlConnectionPool {
     managePool();
   }
 
+  @Override
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
@@ -318,6 +322,7 @@ public class SqlConnectionPool {
   /**
    * Returns whether this SQL pool was destroyed, and cannot be used anymore.
    */
+  @Override
   public boolean isDestroyed() {
     return m_destroyed;
   }
@@ -325,6 +330,7 @@ public class SqlConnectionPool {
   /**
    * Destroys this connection pool. Upon return, this pool cannot be used anymore.
    */
+  @Override
   public void destroy() {
     if (isDestroyed()) {
       return;
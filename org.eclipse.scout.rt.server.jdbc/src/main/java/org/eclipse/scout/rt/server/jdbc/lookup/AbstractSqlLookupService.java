@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.server.jdbc.lookup;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -19,6 +20,7 @@ import org.eclipse.scout.rt.platform.annotations.ConfigOperation;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.TriState;
@@ -26,6 +28,8 @@ import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.SQL;
 import org.eclipse.scout.rt.server.services.lookup.AbstractLookupService;
+import org.eclipse.scout.rt.server.services.lookup.BatchLookupService;
+import org.eclipse.scout.rt.server.services.lookup.IMultiKeyLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
@@ -52,12 +56,18 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Valid bind names are: Object key, String text, String all, Object rec, {@link TriState} active<br>
  * Valid xml tags are: &lt;key&gt;, &lt;text&gt;, &lt;all&gt;, &lt;rec&gt;
+ * <p>
+ * If {@link #getConfiguredMultiKeyLookup()} is enabled, key lookups of a {@link BatchLookupService} batch are resolved
+ * by one statement binding all keys as an IN-list.
  */
-public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<T> {
+public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<T> implements IMultiKeyLookupService<T> {
 
   @SuppressWarnings("bsiRulesDefinition:htmlInString")
   private static final Pattern REFUSING_ALL_TAGS_REGEX = Pattern.compile("<all>\\s*and\\s*([0-9]+)\\s*=\\s*([0-9]+)\\s*</all>", Pattern.DOTALL);
 
+  private static final Pattern KEY_BIND_REGEX = Pattern.compile(":key\\b");
+  private static final String MULTI_KEY_BIND_NAME = "multiKeyLookupKeys";
+
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlLookupService.class);
 
   /**
@@ -78,6 +88,21 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return 1;
   }
 
+  /**
+   * If <code>true</code>, key lookup calls of a {@link BatchLookupService} batch which differ in their key only are
+   * resolved by one statement (see {@link #execLoadLookupRowsByKeys(String, String, ILookupCall, Collection)}).
+   * <p>
+   * The key must be bound as <code>= :key</code> within the &lt;key&gt; tag, the bind is replaced by an IN-list of all
+   * keys. Note that {@link #execLoadLookupRows(String, String, ILookupCall)} is not called for such lookups.
+   *
+   * @since 24.2
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(30)
+  protected boolean getConfiguredMultiKeyLookup() {
+    return false;
+  }
+
   /**
    * This method is called on server side to load lookup rows.
    */
@@ -85,6 +110,30 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
   @Order(10)
   protected List<ILookupRow<T>> execLoadLookupRows(String originalSql, String preprocessedSql, ILookupCall<T> call) {
     Object[][] data = SQL.selectLimited(preprocessedSql, call.getMaxRowCount(), call);
+    return createLookupRows(data, call);
+  }
+
+  /**
+   * This method is called on server side to load the lookup rows of several keys at once.
+   *
+   * @param preprocessedSql
+   *          statement filtered by key in which the key bind is replaced by the bind of the key collection
+   * @see #getConfiguredMultiKeyLookup()
+   * @since 24.2
+   */
+  @ConfigOperation
+  @Order(20)
+  protected List<ILookupRow<T>> execLoadLookupRowsByKeys(String originalSql, String preprocessedSql, ILookupCall<T> call, Collection<T> keys) {
+    Object[][] data = SQL.select(preprocessedSql, new NVPair(MULTI_KEY_BIND_NAME, keys), call);
+    return createLookupRows(data, call);
+  }
+
+  /**
+   * Sorts the data by {@link #getConfiguredSortColumn()} and creates the lookup rows.
+   *
+   * @since 24.2
+   */
+  protected List<ILookupRow<T>> createLookupRows(Object[][] data, ILookupCall<T> call) {
     if (getConfiguredSortColumn() >= 0) {
       sortData(data, getConfiguredSortColumn());
     }
@@ -114,6 +163,17 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return execLoadLookupRows(sql, filterSqlByKey(sql), call);
   }
 
+  @Override
+  public boolean isMultiKeyLookupEnabled() {
+    return getConfiguredMultiKeyLookup();
+  }
+
+  @Override
+  public List<ILookupRow<T>> getDataByKeys(ILookupCall<T> call, Collection<T> keys) {
+    String sql = getConfiguredSqlSelect();
+    return execLoadLookupRowsByKeys(sql, filterSqlByKeys(sql), call, keys);
+  }
+
   @Override
   public List<ILookupRow<T>> getDataByText(ILookupCall<T> call) {
     // change wildcards in text to db specific wildcards
@@ -151,6 +211,16 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return StringUtility.removeTagBounds(StringUtility.removeTags(sqlSelect, new String[]{"text", "all", "rec"}), "key");
   }
 
+  /**
+   * Process xml tags like {@link #filterSqlByKey(String)}.<br>
+   * Replace the key bind by the bind of the key collection.
+   *
+   * @since 24.2
+   */
+  protected String filterSqlByKeys(String sqlSelect) {
+    return KEY_BIND_REGEX.matcher(filterSqlByKey(sqlSelect)).replaceAll(":" + MULTI_KEY_BIND_NAME);
+  }
+
   /**
    * Process xml tags.<br>
    * Keep content of "text" tag.<br>
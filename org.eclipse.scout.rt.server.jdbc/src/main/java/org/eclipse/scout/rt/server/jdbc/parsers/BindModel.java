@@ -37,6 +37,18 @@ public class BindModel {
     m_ioTokens = ioList.toArray(new IToken[0]);
   }
 
+  /**
+   * @return model with copies of all tokens, thus the tokens of the copy can be modified independently of this model
+   * @since 24.2
+   */
+  public BindModel copy() {
+    IToken[] tokens = new IToken[m_allTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_allTokens[i].copy();
+    }
+    return new BindModel(tokens);
+  }
+
   public IToken[] getAllTokens() {
     return m_allTokens;
   }
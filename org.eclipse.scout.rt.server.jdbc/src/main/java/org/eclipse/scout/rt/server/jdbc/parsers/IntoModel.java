@@ -20,6 +20,18 @@ public class IntoModel {
     m_intoTokens = intoTokens;
   }
 
+  /**
+   * @return model with copies of all tokens, thus the tokens of the copy can be modified independently of this model
+   * @since 24.2
+   */
+  public IntoModel copy() {
+    ValueOutputToken[] tokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_intoTokens[i].copy();
+    }
+    return new IntoModel(m_filteredStatement, tokens);
+  }
+
   public ValueOutputToken[] getOutputTokens() {
     return m_intoTokens;
   }
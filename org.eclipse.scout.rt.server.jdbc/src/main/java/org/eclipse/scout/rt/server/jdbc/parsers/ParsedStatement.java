@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+/**
+ * Result of parsing a SQL statement by the {@link IntoParser} and the {@link BindParser}.
+ *
+ * @since 24.2
+ * @see ParsedStatementCache
+ */
+public class ParsedStatement {
+
+  private final IntoModel m_intoModel;
+  private final BindModel m_bindModel;
+
+  public ParsedStatement(IntoModel intoModel, BindModel bindModel) {
+    m_intoModel = intoModel;
+    m_bindModel = bindModel;
+  }
+
+  /**
+   * Parses the <code>INTO</code> binds and then the remaining binds of the given statement.
+   */
+  public static ParsedStatement parse(String statement) {
+    IntoModel intoModel = new IntoParser(statement).parse();
+    BindModel bindModel = new BindParser(intoModel.getFilteredStatement()).parse();
+    return new ParsedStatement(intoModel, bindModel);
+  }
+
+  public IntoModel getIntoModel() {
+    return m_intoModel;
+  }
+
+  public BindModel getBindModel() {
+    return m_bindModel;
+  }
+
+  /**
+   * @return parse result with copies of all tokens, thus the tokens of the copy can be modified independently
+   */
+  public ParsedStatement copy() {
+    return new ParsedStatement(m_intoModel.copy(), m_bindModel.copy());
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+
+/**
+ * Global cache of {@link ParsedStatement}s by their SQL statement, thus a {@link StatementProcessor} does not have to
+ * parse a statement again each time it is executed.
+ * <p>
+ * The cached parse results are never modified, {@link #get(String)} returns a copy which is bound to the values of a
+ * single execution. The size of the cache is bounded by {@link SqlParsedStatementCacheSizeProperty}, hits and misses
+ * are counted to size the cache (see {@link ParsedStatementCacheMetricProvider}).
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class ParsedStatementCache {
+
+  private final int m_targetSize;
+  private final ConcurrentExpiringMap<String, ParsedStatement> m_cache;
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+
+  public ParsedStatementCache() {
+    m_targetSize = CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class);
+    m_cache = new ConcurrentExpiringMap<>(new ConcurrentHashMap<>(), TimeUnit.HOURS.toMillis(1), true, m_targetSize);
+  }
+
+  /**
+   * @return parse result of the given statement which may be modified by the caller
+   */
+  public ParsedStatement get(String statement) {
+    if (m_targetSize <= 0) {
+      return ParsedStatement.parse(statement);
+    }
+    ParsedStatement template = m_cache.get(statement);
+    if (template != null) {
+      m_hitCount.increment();
+    }
+    else {
+      m_missCount.increment();
+      template = ParsedStatement.parse(statement);
+      m_cache.put(statement, template);
+    }
+    return template.copy();
+  }
+
+  /**
+   * @return number of statements which were found in the cache
+   */
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  /**
+   * @return number of statements which had to be parsed (not counted if the cache is disabled)
+   */
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return ratio of hits to all lookups or <code>0</code> if there was no lookup yet
+   */
+  public double getHitRatio() {
+    long hits = getHitCount();
+    long total = hits + getMissCount();
+    return total == 0 ? 0d : (double) hits / total;
+  }
+
+  /**
+   * @return approximate number of cached statements
+   */
+  public int size() {
+    return m_cache.size();
+  }
+
+  public void clear() {
+    m_cache.clear();
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongCounter;
+import io.opentelemetry.api.metrics.ObservableLongUpDownCounter;
+
+/**
+ * {@link IMetricProvider} for the {@link ParsedStatementCache}: the number of lookups by result (<code>hit</code> or
+ * <code>miss</code>) and the number of cached statements.
+ *
+ * @since 24.2
+ */
+public class ParsedStatementCacheMetricProvider implements IMetricProvider {
+
+  public static final String OTEL_METRIC_REQUESTS = "scout.sql.parsed_statement_cache.requests";
+  public static final String OTEL_METRIC_SIZE = "scout.sql.parsed_statement_cache.size";
+  protected static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+  private ObservableLongCounter m_requests;
+  private ObservableLongUpDownCounter m_size;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter("scout.ParsedStatementCache");
+    ParsedStatementCache cache = BEANS.get(ParsedStatementCache.class);
+    Attributes hitAttributes = Attributes.of(RESULT, "hit");
+    Attributes missAttributes = Attributes.of(RESULT, "miss");
+    m_requests = meter.counterBuilder(OTEL_METRIC_REQUESTS)
+        .setUnit("{request}")
+        .setDescription("The number of statements looked up in the parsed statement cache.")
+        .buildWithCallback(measurement -> {
+          measurement.record(cache.getHitCount(), hitAttributes);
+          measurement.record(cache.getMissCount(), missAttributes);
+        });
+    m_size = meter.upDownCounterBuilder(OTEL_METRIC_SIZE)
+        .setUnit("{statement}")
+        .setDescription("The number of statements in the parsed statement cache.")
+        .buildWithCallback(measurement -> measurement.record(cache.size()));
+  }
+
+  @Override
+  public void close() {
+    if (m_requests != null) {
+      m_requests.close();
+      m_requests = null;
+    }
+    if (m_size != null) {
+      m_size.close();
+      m_size = null;
+    }
+  }
+}
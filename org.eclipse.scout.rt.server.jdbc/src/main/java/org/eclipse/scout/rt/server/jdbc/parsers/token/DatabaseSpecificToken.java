@@ -21,6 +21,12 @@ public class DatabaseSpecificToken implements IToken {
     m_name = name;
   }
 
+  protected DatabaseSpecificToken(DatabaseSpecificToken token) {
+    m_parsedToken = token.m_parsedToken;
+    m_replaceToken = token.m_replaceToken;
+    m_name = token.m_name;
+  }
+
   @Override
   public boolean isInput() {
     return false;
@@ -55,4 +61,8 @@ public class DatabaseSpecificToken implements IToken {
     return m_name;
   }
 
+  @Override
+  public DatabaseSpecificToken copy() {
+    return new DatabaseSpecificToken(this);
+  }
 }
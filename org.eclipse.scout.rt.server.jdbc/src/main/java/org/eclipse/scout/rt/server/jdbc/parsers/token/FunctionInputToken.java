@@ -31,6 +31,16 @@ public class FunctionInputToken implements IToken {
     m_plainSql = plainSql;
   }
 
+  protected FunctionInputToken(FunctionInputToken token) {
+    m_parsedToken = token.m_parsedToken;
+    m_replaceToken = token.m_replaceToken;
+    m_plainValue = token.m_plainValue;
+    m_plainSql = token.m_plainSql;
+    m_plainToken = token.m_plainToken;
+    m_name = token.m_name;
+    m_args = token.m_args;
+  }
+
   @Override
   public boolean isInput() {
     return true;
@@ -92,4 +102,9 @@ public class FunctionInputToken implements IToken {
   public void setPlainSql(boolean b) {
     m_plainSql = b;
   }
+
+  @Override
+  public FunctionInputToken copy() {
+    return new FunctionInputToken(this);
+  }
 }
@@ -20,4 +20,10 @@ public interface IToken {
   boolean isInput();
 
   boolean isOutput();
+
+  /**
+   * @return token in the same state as this token which can be modified independently of this token
+   * @since 24.2
+   */
+  IToken copy();
 }
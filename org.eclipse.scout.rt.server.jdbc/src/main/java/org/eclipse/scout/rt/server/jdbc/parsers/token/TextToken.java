@@ -41,6 +41,12 @@ public class TextToken implements IToken {
     throw new IllegalArgumentException("Cannot replace content of a TextToken");
   }
 
+  @Override
+  public TextToken copy() {
+    // immutable
+    return this;
+  }
+
   @Override
   public String toString() {
     return "TextToken[" + m_parsedToken + "]";
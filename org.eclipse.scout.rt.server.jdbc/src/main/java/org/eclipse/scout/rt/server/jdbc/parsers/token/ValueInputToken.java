@@ -43,6 +43,17 @@ public class ValueInputToken implements IToken {
     }
   }
 
+  protected ValueInputToken(ValueInputToken token) {
+    m_parsedToken = token.m_parsedToken;
+    m_parsedOp = token.m_parsedOp;
+    m_parsedAttribute = token.m_parsedAttribute;
+    m_replaceToken = token.m_replaceToken;
+    m_name = token.m_name;
+    m_plainValue = token.m_plainValue;
+    m_plainSql = token.m_plainSql;
+    m_batch = token.m_batch;
+  }
+
   @Override
   public boolean isInput() {
     return true;
@@ -117,6 +128,11 @@ public class ValueInputToken implements IToken {
     m_batch = b;
   }
 
+  @Override
+  public ValueInputToken copy() {
+    return new ValueInputToken(this);
+  }
+
   @Override
   public String toString() {
     StringBuilder b = new StringBuilder();
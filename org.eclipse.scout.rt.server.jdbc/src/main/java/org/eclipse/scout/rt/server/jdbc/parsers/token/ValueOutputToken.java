@@ -29,6 +29,14 @@ public class ValueOutputToken implements IToken {
     }
   }
 
+  protected ValueOutputToken(ValueOutputToken token) {
+    m_parsedToken = token.m_parsedToken;
+    m_replaceToken = token.m_replaceToken;
+    m_name = token.m_name;
+    m_batch = token.m_batch;
+    m_selectInto = token.m_selectInto;
+  }
+
   @Override
   public boolean isInput() {
     return false;
@@ -75,6 +83,11 @@ public class ValueOutputToken implements IToken {
     m_batch = b;
   }
 
+  @Override
+  public ValueOutputToken copy() {
+    return new ValueOutputToken(this);
+  }
+
   @Override
   public String toString() {
     StringBuilder b = new StringBuilder();
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.scout.rt.server.ServerConfigProperties.BatchLookupParallelProperty;
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Test {@link BatchLookupService} with {@link BatchLookupParallelProperty} enabled.
+ */
+@RunWith(PlatformTestRunner.class)
+public class BatchLookupParallelTest {
+
+  @BeanMock
+  private IColorLookupService m_colorLookupService;
+  @BeanMock
+  private IShapeLookupService m_shapeLookupService;
+
+  private final BatchLookupService m_batchLookupService = new BatchLookupService() {
+    @Override
+    protected boolean isParallelBatchLookup() {
+      return true;
+    }
+  };
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    Mockito.when(m_colorLookupService.isMultiKeyLookupEnabled()).thenReturn(true);
+    Mockito.doAnswer((Answer<List<ILookupRow<Object>>>) invocation -> {
+      ILookupCall<Object> call = invocation.getArgument(0);
+      List<ILookupRow<Object>> rows = new ArrayList<>();
+      for (Object key : (Collection<Object>) invocation.getArgument(1)) {
+        rows.add(new LookupRow<>(key, "color " + key + " " + call.getMaster()));
+      }
+      return rows;
+    }).when(m_colorLookupService).getDataByKeys(Mockito.any(), Mockito.any());
+    Mockito.doAnswer((Answer<List<ILookupRow<Object>>>) invocation -> {
+      ILookupCall<Object> call = invocation.getArgument(0);
+      List<ILookupRow<Object>> rows = new ArrayList<>();
+      rows.add(new LookupRow<>(call.getKey(), "color " + call.getKey() + " " + call.getMaster()));
+      return rows;
+    }).when(m_colorLookupService).getDataByKey(Mockito.any());
+    Mockito.doAnswer((Answer<List<ILookupRow<Object>>>) invocation -> {
+      ILookupCall<Object> call = invocation.getArgument(0);
+      List<ILookupRow<Object>> rows = new ArrayList<>();
+      rows.add(new LookupRow<>(call.getKey(), "shape " + call.getKey()));
+      return rows;
+    }).when(m_shapeLookupService).getDataByKey(Mockito.any());
+  }
+
+  @Test
+  public void testGetBatchDataByKey() {
+    BatchLookupCall batch = new BatchLookupCall();
+    for (int i = 0; i < 20; i++) {
+      ColorLookupCall colorCall = new ColorLookupCall();
+      colorCall.setKey((long) (i % 5));
+      colorCall.setMaster(i < 10 ? "a" : "b");
+      batch.addLookupCall(colorCall);
+      ShapeLookupCall shapeCall = new ShapeLookupCall();
+      shapeCall.setKey((long) i);
+      batch.addLookupCall(shapeCall);
+    }
+    ColorLookupCall stringKeyCall = new ColorLookupCall();
+    stringKeyCall.setKey("red");
+    batch.addLookupCall(stringKeyCall);
+    batch.addLookupCall(new ColorLookupCall());
+
+    List<ILookupCall<?>> calls = batch.getCallBatch();
+    List<List<ILookupRow<?>>> result = m_batchLookupService.getBatchDataByKey(batch);
+
+    assertEquals(calls.size(), result.size());
+    for (int i = 0; i < 40; i++) {
+      ILookupCall<?> call = calls.get(i);
+      assertEquals(1, result.get(i).size());
+      assertEquals(call.getKey(), result.get(i).get(0).getKey());
+      String expectedText = call instanceof ColorLookupCall ? "color " + call.getKey() + " " + ((ColorLookupCall) call).getMaster() : "shape " + call.getKey();
+      assertEquals(expectedText, result.get(i).get(0).getText());
+    }
+    assertEquals("color red null", result.get(40).get(0).getText());
+    assertTrue(result.get(41).isEmpty());
+
+    // one call per master, single string key is resolved by key
+    Mockito.verify(m_colorLookupService, Mockito.times(2)).getDataByKeys(Mockito.any(), Mockito.any());
+    Mockito.verify(m_colorLookupService, Mockito.times(1)).getDataByKey(Mockito.any());
+    // shape lookup calls are not cacheable, each call is resolved individually
+    Mockito.verify(m_shapeLookupService, Mockito.times(20)).getDataByKey(Mockito.any());
+  }
+
+  @Test
+  public void testGetBatchDataByKeyMultiKeyDisabled() {
+    Mockito.when(m_colorLookupService.isMultiKeyLookupEnabled()).thenReturn(false);
+    BatchLookupCall batch = new BatchLookupCall();
+    for (int i = 0; i < 10; i++) {
+      ColorLookupCall colorCall = new ColorLookupCall();
+      colorCall.setKey((long) i);
+      batch.addLookupCall(colorCall);
+    }
+
+    List<List<ILookupRow<?>>> result = m_batchLookupService.getBatchDataByKey(batch);
+
+    assertEquals(10, result.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(Long.valueOf(i), result.get(i).get(0).getKey());
+    }
+    Mockito.verify(m_colorLookupService, Mockito.never()).getDataByKeys(Mockito.any(), Mockito.any());
+    Mockito.verify(m_colorLookupService, Mockito.times(10)).getDataByKey(Mockito.any());
+  }
+
+  public static class ColorLookupCall extends LookupCall<Object> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected Class<? extends ILookupService<Object>> getConfiguredService() {
+      return IColorLookupService.class;
+    }
+  }
+
+  public static class ShapeLookupCall extends LookupCall<Object> {
+    private static final long serialVersionUID = 1L;
+
+    private int m_shapeCount;
+
+    @Override
+    protected Class<? extends ILookupService<Object>> getConfiguredService() {
+      return IShapeLookupService.class;
+    }
+
+    public int getShapeCount() {
+      return m_shapeCount;
+    }
+
+    public void setShapeCount(int shapeCount) {
+      m_shapeCount = shapeCount;
+    }
+  }
+
+  public interface IColorLookupService extends IMultiKeyLookupService<Object> {
+  }
+
+  public interface IShapeLookupService extends ILookupService<Object> {
+  }
+}
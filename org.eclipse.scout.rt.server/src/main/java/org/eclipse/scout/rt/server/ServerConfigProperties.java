@@ -11,9 +11,13 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
+import org.eclipse.scout.rt.server.services.lookup.BatchLookupService;
+import org.eclipse.scout.rt.server.services.lookup.IMultiKeyLookupService;
 
 public final class ServerConfigProperties {
 
@@ -70,4 +74,49 @@ public final class ServerConfigProperties {
       return String.format("Absolute path to the root directory of the '%s'. The default value is null.", RemoteFileService.class.getSimpleName());
     }
   }
+
+  /**
+   * @since 24.2
+   */
+  public static class BatchLookupParallelProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.lookup.parallelBatchLookup";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies if the '%s' groups the calls of a batch by lookup service and key type and resolves the groups in parallel jobs. "
+          + "Key lookups of a group are resolved by a single call if the lookup service implements '%s'. The default value is false.",
+          BatchLookupService.class.getSimpleName(), IMultiKeyLookupService.class.getSimpleName());
+    }
+  }
+
+  /**
+   * @since 24.2
+   */
+  public static class BatchLookupMaxConcurrentJobsProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 8;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.lookup.batchLookupMaxConcurrentJobs";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum number of jobs per server resolving groups of batch lookup calls concurrently if '%s' is enabled. The default value is 8.",
+          new BatchLookupParallelProperty().getKey());
+    }
+  }
 }
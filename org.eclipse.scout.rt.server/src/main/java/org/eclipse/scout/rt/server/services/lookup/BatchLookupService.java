@@ -10,29 +10,61 @@
 package org.eclipse.scout.rt.server.services.lookup;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.server.ServerConfigProperties.BatchLookupMaxConcurrentJobsProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.BatchLookupParallelProperty;
+import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
 import org.eclipse.scout.rt.shared.services.lookup.IBatchLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
 import org.eclipse.scout.rt.shared.services.lookup.IServerBatchLookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
 
 /**
  * Implementation of {@link IBatchLookupService} that can be used in a server.<br>
  * It is not implemented for client-only application, bug 447592 is not relevant anymore.<br>
  * If you want to use {@link IBatchLookupService} in a client-only application, copy this service to your client code.
+ * <p>
+ * If {@link BatchLookupParallelProperty} is enabled, the calls of a batch are grouped by lookup service (and key type
+ * for key lookups) and the groups are resolved in parallel jobs, each in its own transaction. The number of concurrent
+ * jobs is bounded by {@link BatchLookupMaxConcurrentJobsProperty}. Key lookup calls of a group which differ in their key
+ * only are resolved by a single call to {@link IMultiKeyLookupService#getDataByKeys(ILookupCall, Collection)} if the
+ * lookup service supports it. The results are returned in the order of the calls in both modes.
  *
  * @since 4.3.0 (Mars-M5)
  */
 @Order(5100)
 public class BatchLookupService implements IServerBatchLookupService {
 
+  private final IExecutionSemaphore m_executionSemaphore = Jobs.newExecutionSemaphore(CONFIG.getPropertyValue(BatchLookupMaxConcurrentJobsProperty.class)).seal();
+
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByKey(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
+    if (isParallelBatchLookup()) {
+      return loadParallel(calls, true, BatchLookupResultCache::getDataByKey);
+    }
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
     for (ILookupCall<?> call : calls) {
@@ -44,6 +76,9 @@ public class BatchLookupService implements IServerBatchLookupService {
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByText(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
+    if (isParallelBatchLookup()) {
+      return loadParallel(calls, false, BatchLookupResultCache::getDataByText);
+    }
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
     for (ILookupCall<?> call : calls) {
@@ -55,6 +90,9 @@ public class BatchLookupService implements IServerBatchLookupService {
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByAll(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
+    if (isParallelBatchLookup()) {
+      return loadParallel(calls, false, BatchLookupResultCache::getDataByAll);
+    }
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
     for (ILookupCall<?> call : calls) {
@@ -66,6 +104,9 @@ public class BatchLookupService implements IServerBatchLookupService {
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByRec(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
+    if (isParallelBatchLookup()) {
+      return loadParallel(calls, false, BatchLookupResultCache::getDataByRec);
+    }
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
     for (ILookupCall<?> call : calls) {
@@ -74,4 +115,182 @@ public class BatchLookupService implements IServerBatchLookupService {
     return result;
   }
 
+  /**
+   * @return <code>true</code> if the calls of a batch are grouped and resolved in parallel jobs
+   * @since 24.2
+   */
+  protected boolean isParallelBatchLookup() {
+    return CONFIG.getPropertyValue(BatchLookupParallelProperty.class);
+  }
+
+  /**
+   * Resolves the calls grouped by lookup service (and key type if <code>byKey</code> is <code>true</code>), each group
+   * in its own job.
+   *
+   * @return results in the order of the calls
+   * @since 24.2
+   */
+  protected List<List<ILookupRow<?>>> loadParallel(List<ILookupCall<?>> calls, boolean byKey, BiFunction<BatchLookupResultCache, ILookupCall<?>, List<ILookupRow<?>>> loader) {
+    Map<P_GroupKey, List<Integer>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < calls.size(); i++) {
+      groups.computeIfAbsent(new P_GroupKey(calls.get(i), byKey), k -> new ArrayList<>()).add(i);
+    }
+
+    List<List<ILookupRow<?>>> result = new ArrayList<>(Collections.nCopies(calls.size(), null));
+    if (groups.size() <= 1) {
+      // nothing to parallelize
+      for (List<Integer> indexes : groups.values()) {
+        fillResult(result, indexes, loadGroup(getCalls(calls, indexes), byKey, loader));
+      }
+      return result;
+    }
+
+    List<List<Integer>> groupIndexes = new ArrayList<>(groups.values());
+    List<IFuture<List<List<ILookupRow<?>>>>> futures = new ArrayList<>(groupIndexes.size());
+    try {
+      for (List<Integer> indexes : groupIndexes) {
+        List<ILookupCall<?>> groupCalls = getCalls(calls, indexes);
+        futures.add(Jobs.schedule(() -> loadGroup(groupCalls, byKey, loader), Jobs.newInput()
+            .withName("Resolving batch lookup calls")
+            .withExecutionSemaphore(m_executionSemaphore)
+            .withRunContext(ServerRunContexts.copyCurrent(true)
+                .withTransactionScope(TransactionScope.REQUIRES_NEW))));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        fillResult(result, groupIndexes.get(i), futures.get(i).awaitDoneAndGet());
+      }
+    }
+    catch (RuntimeException e) {
+      for (IFuture<?> future : futures) {
+        future.cancel(true);
+      }
+      throw e;
+    }
+    return result;
+  }
+
+  private static List<ILookupCall<?>> getCalls(List<ILookupCall<?>> calls, List<Integer> indexes) {
+    List<ILookupCall<?>> result = new ArrayList<>(indexes.size());
+    for (Integer index : indexes) {
+      result.add(calls.get(index));
+    }
+    return result;
+  }
+
+  private static void fillResult(List<List<ILookupRow<?>>> result, List<Integer> indexes, List<List<ILookupRow<?>>> groupResult) {
+    for (int i = 0; i < indexes.size(); i++) {
+      result.set(indexes.get(i), groupResult.get(i));
+    }
+  }
+
+  /**
+   * Resolves the calls of one group sequentially, key lookups are combined if the lookup service implements
+   * {@link IMultiKeyLookupService}.
+   *
+   * @return results in the order of the calls
+   * @since 24.2
+   */
+  protected List<List<ILookupRow<?>>> loadGroup(List<ILookupCall<?>> calls, boolean byKey, BiFunction<BatchLookupResultCache, ILookupCall<?>, List<ILookupRow<?>>> loader) {
+    Map<ILookupCall<?>, List<ILookupRow<?>>> multiKeyResults = byKey ? loadMultiKey(calls) : Collections.emptyMap();
+    BatchLookupResultCache cache = new BatchLookupResultCache();
+    List<List<ILookupRow<?>>> result = new ArrayList<>(calls.size());
+    for (ILookupCall<?> call : calls) {
+      List<ILookupRow<?>> rows = multiKeyResults.get(call);
+      result.add(new ArrayList<>(rows != null ? rows : loader.apply(cache, call)));
+    }
+    return result;
+  }
+
+  /**
+   * Resolves key lookup calls which differ in their key only by a single
+   * {@link IMultiKeyLookupService#getDataByKeys(ILookupCall, Collection)} call. Only calls whose class defines a proper
+   * {@link Object#equals(Object)} (see {@link BatchLookupResultCache#isCacheable(Class)}) are combined.
+   *
+   * @param calls
+   *          key lookup calls of the same lookup service and key type
+   * @return results by call identity, calls which were not combined are not contained
+   * @since 24.2
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected Map<ILookupCall<?>, List<ILookupRow<?>>> loadMultiKey(List<ILookupCall<?>> calls) {
+    Map<ILookupCall<?>, List<ILookupRow<?>>> result = new IdentityHashMap<>();
+    IMultiKeyLookupService service = getMultiKeyLookupService(calls.get(0));
+    if (service == null || !service.isMultiKeyLookupEnabled()) {
+      return result;
+    }
+
+    // partition calls by their properties except the key
+    Map<ILookupCall, List<ILookupCall<?>>> partitions = new LinkedHashMap<>();
+    for (ILookupCall<?> call : calls) {
+      if (call.getKey() == null || !BatchLookupResultCache.isCacheable(call.getClass())) {
+        continue;
+      }
+      ILookupCall template = call.copy();
+      template.setKey(null);
+      partitions.computeIfAbsent(template, k -> new ArrayList<>()).add(call);
+    }
+
+    for (Entry<ILookupCall, List<ILookupCall<?>>> partition : partitions.entrySet()) {
+      Set<Object> keys = new LinkedHashSet<>();
+      for (ILookupCall<?> call : partition.getValue()) {
+        keys.add(call.getKey());
+      }
+      if (keys.size() < 2) {
+        continue;
+      }
+      Map<Object, List<ILookupRow<?>>> rowsByKey = new HashMap<>();
+      for (Object row : service.getDataByKeys(partition.getKey(), keys)) {
+        rowsByKey.computeIfAbsent(((ILookupRow<?>) row).getKey(), k -> new ArrayList<>()).add((ILookupRow<?>) row);
+      }
+      for (ILookupCall<?> call : partition.getValue()) {
+        List<ILookupRow<?>> rows = rowsByKey.getOrDefault(call.getKey(), Collections.emptyList());
+        if (call.getMaxRowCount() > 0 && rows.size() > call.getMaxRowCount()) {
+          rows = rows.subList(0, call.getMaxRowCount());
+        }
+        result.put(call, rows);
+      }
+    }
+    return result;
+  }
+
+  private static IMultiKeyLookupService<?> getMultiKeyLookupService(ILookupCall<?> call) {
+    ILookupService<?> service = getLookupService(call);
+    return service instanceof IMultiKeyLookupService ? (IMultiKeyLookupService<?>) service : null;
+  }
+
+  private static ILookupService<?> getLookupService(ILookupCall<?> call) {
+    return call instanceof LookupCall ? ((LookupCall<?>) call).getLookupService() : null;
+  }
+
+  /**
+   * Calls are grouped by lookup service, calls without lookup service (e.g. local lookup calls) by their class.
+   */
+  private static final class P_GroupKey {
+    private final ILookupService<?> m_service;
+    private final Class<?> m_callClass;
+    private final Class<?> m_keyClass;
+
+    private P_GroupKey(ILookupCall<?> call, boolean byKey) {
+      m_service = getLookupService(call);
+      m_callClass = m_service == null && call != null ? call.getClass() : null;
+      m_keyClass = byKey && call != null && call.getKey() != null ? call.getKey().getClass() : null;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(m_service), m_callClass, m_keyClass);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_GroupKey other = (P_GroupKey) obj;
+      return m_service == other.m_service && m_callClass == other.m_callClass && m_keyClass == other.m_keyClass;
+    }
+  }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.scout.rt.server.ServerConfigProperties.BatchLookupParallelProperty;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+
+/**
+ * Lookup service able to resolve the keys of several lookup calls with a single call.
+ * <p>
+ * Used by {@link BatchLookupService} (if {@link BatchLookupParallelProperty} is enabled) for key lookup calls of the
+ * same lookup service and key type that differ in their key only.
+ *
+ * @since 24.2
+ */
+public interface IMultiKeyLookupService<KEY_TYPE> extends ILookupService<KEY_TYPE> {
+
+  /**
+   * @return <code>true</code> if {@link #getDataByKeys(ILookupCall, Collection)} may be used by
+   *         {@link BatchLookupService}
+   */
+  boolean isMultiKeyLookupEnabled();
+
+  /**
+   * Lookup by several keys at once.
+   *
+   * @param call
+   *          lookup call providing all properties but the key, {@link ILookupCall#getKey()} is <code>null</code> and
+   *          {@link ILookupCall#getMaxRowCount()} is not applied
+   * @param keys
+   *          distinct keys, not <code>null</code>
+   * @return lookup rows of all keys, the key of a row is one of the given keys
+   */
+  List<? extends ILookupRow<KEY_TYPE>> getDataByKeys(ILookupCall<KEY_TYPE> call, Collection<KEY_TYPE> keys);
+}
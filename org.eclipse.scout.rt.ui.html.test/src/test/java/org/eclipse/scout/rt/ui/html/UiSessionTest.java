@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ import static org.junit.Assert.*;
 import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.HttpSessionBindingListener;
@@ -29,8 +30,10 @@ import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
 import org.eclipse.scout.rt.testing.platform.runner.JUnitExceptionHandler;
@@ -129,6 +132,40 @@ public class UiSessionTest {
     TestingUtility.assertGC(ref);
   }
 
+  @Test
+  public void testRegisterPushListener() {
+    UiSession uiSession = new UiSession();
+    AtomicInteger notifications = new AtomicInteger();
+    Runnable pushListener = notifications::incrementAndGet;
+
+    // signaled while no poll or push request was waiting
+    uiSession.signalPoller();
+    RunMonitor monitor = BEANS.get(RunMonitor.class);
+    IRegistrationHandle registration = uiSession.registerPushListener(pushListener, monitor);
+    assertEquals(1, notifications.get());
+    assertSame(pushListener, uiSession.pushListener());
+    assertSame(monitor, uiSession.pollerMonitor());
+
+    uiSession.signalPoller();
+    assertEquals(2, notifications.get());
+
+    // another push request takes over
+    Runnable otherPushListener = () -> {
+    };
+    RunMonitor otherMonitor = BEANS.get(RunMonitor.class);
+    IRegistrationHandle otherRegistration = uiSession.registerPushListener(otherPushListener, otherMonitor);
+    assertTrue(monitor.isCancelled());
+    registration.dispose();
+    assertSame(otherPushListener, uiSession.pushListener());
+    assertSame(otherMonitor, uiSession.pollerMonitor());
+
+    otherRegistration.dispose();
+    assertNull(uiSession.pushListener());
+    assertNull(uiSession.pollerMonitor());
+    assertFalse(otherMonitor.isCancelled());
+    assertEquals(2, notifications.get());
+  }
+
   @Test
   public void testLogoutWithOpenForm() throws Exception {
     doTestLogoutWithBlockingModelDisposal(CloseAction.DO_NOTHING, true, false);
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPushEnabledProperty;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest.RequestType;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class JsonPushRequestHandlerTest {
+
+  @Test
+  public void testPushDisabled() throws ServletException, IOException {
+    HttpServletRequest req = mockRequest("/push/abc", null);
+    HttpServletResponse resp = mock(HttpServletResponse.class);
+    assertFalse(new JsonPushRequestHandler().handle(req, resp));
+    verifyNoInteractions(resp);
+  }
+
+  @Test
+  public void testCreatePushJsonRequest() {
+    JsonPushRequestHandler handler = new JsonPushRequestHandler();
+
+    JsonRequest jsonRequest = handler.createPushJsonRequest(mockRequest("/push/abc", "42"), "abc");
+    assertEquals(RequestType.POLL_REQUEST, jsonRequest.getRequestType());
+    assertEquals("abc", jsonRequest.getUiSessionId());
+    assertEquals(Long.valueOf(42), jsonRequest.getAckSequenceNo());
+    assertNull(jsonRequest.getSequenceNo());
+
+    assertNull(handler.createPushJsonRequest(mockRequest("/push/abc", null), "abc").getAckSequenceNo());
+    assertNull(handler.createPushJsonRequest(mockRequest("/push/abc", "foo"), "abc").getAckSequenceNo());
+  }
+
+  @Test
+  public void testSessionTimeout() throws ServletException, IOException {
+    BeanTestingHelper testingHelper = BEANS.get(BeanTestingHelper.class);
+    IBean<?> pushEnabled = testingHelper.mockConfigProperty(BackgroundPushEnabledProperty.class, true);
+    try {
+      JsonPushRequestHandler handler = new JsonPushRequestHandler();
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      HttpServletResponse resp = mockResponse(out);
+
+      assertFalse(handler.handle(mockRequest("/json", null), resp));
+      assertFalse(handler.handle(mockRequest("/push/abc/def", null), resp));
+      assertEquals(0, out.size());
+
+      // no HTTP session -> UI session timeout
+      assertTrue(handler.handle(mockRequest("/push/abc", null), resp));
+      verify(resp).setContentType(JsonPushRequestHandler.CONTENT_TYPE_EVENT_STREAM);
+
+      String event = out.toString(StandardCharsets.UTF_8);
+      assertTrue(event, event.startsWith("data: "));
+      assertTrue(event, event.endsWith("\n\n"));
+      JSONObject json = new JSONObject(event.substring("data: ".length()).trim());
+      assertEquals(JsonResponse.ERR_SESSION_TIMEOUT, json.getJSONObject(JsonResponse.PROP_ERROR).getInt(JsonResponse.PROP_ERROR_CODE));
+    }
+    finally {
+      testingHelper.unregisterBean(pushEnabled);
+    }
+  }
+
+  @Test
+  public void testAsyncNotSupported() throws ServletException, IOException {
+    BeanTestingHelper testingHelper = BEANS.get(BeanTestingHelper.class);
+    IBean<?> pushEnabled = testingHelper.mockConfigProperty(BackgroundPushEnabledProperty.class, true);
+    try {
+      HttpServletRequest req = mockRequest("/push/abc", null);
+      when(req.isAsyncSupported()).thenReturn(false);
+      HttpServletResponse resp = mock(HttpServletResponse.class);
+      assertFalse(new JsonPushRequestHandler().handle(req, resp));
+      verifyNoInteractions(resp);
+    }
+    finally {
+      testingHelper.unregisterBean(pushEnabled);
+    }
+  }
+
+  @Test
+  public void testHandlePushCycle() throws Exception {
+    JsonRequest jsonRequest = new JsonPushRequestHandler().createPushJsonRequest(mockRequest("/push/abc", null), "abc");
+    HttpServletRequest req = mockRequest("/push/abc", null);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    HttpServletResponse resp = mockResponse(out);
+
+    JsonResponse currentResponse = new JsonResponse(5L);
+    JsonResponse errorResponse = new JsonResponse(6L);
+    errorResponse.markAsError(JsonResponse.ERR_UI_PROCESSING, "failed");
+    IUiSession uiSession = mock(IUiSession.class);
+    when(uiSession.uiSessionLock()).thenReturn(new ReentrantLock());
+    when(uiSession.currentJsonResponse()).thenReturn(currentResponse);
+    when(uiSession.processJsonRequest(req, resp, jsonRequest)).thenReturn(new JsonResponse(5L).toJson(), errorResponse.toJson());
+    JsonPushRequestHandler handler = new JsonPushRequestHandler();
+
+    // nothing to push
+    assertTrue(handler.handlePushCycle(uiSession, jsonRequest, req, resp));
+    verify(uiSession, never()).processJsonRequest(any(), any(), any());
+    assertEquals(0, out.size());
+
+    currentResponse.addActionEvent("1", "foo", new JSONObject());
+    assertTrue(handler.handlePushCycle(uiSession, jsonRequest, req, resp));
+    assertFalse(handler.handlePushCycle(uiSession, jsonRequest, req, resp)); // error closes the connection
+
+    // events are acknowledged by the browser, not when they are written
+    verify(uiSession, never()).confirmResponseProcessed(anyLong());
+    String events = out.toString(StandardCharsets.UTF_8);
+    assertTrue(events, events.startsWith("id: 5\n"));
+    assertTrue(events, events.contains("\n\nid: 6\n"));
+  }
+
+  @Test
+  public void testHandlePushCycleWhileRequestIsProcessed() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    IUiSession uiSession = mock(IUiSession.class);
+    ReentrantLock uiSessionLock = new ReentrantLock();
+    when(uiSession.uiSessionLock()).thenReturn(uiSessionLock);
+
+    // the lock is held by another thread processing a regular request
+    Jobs.schedule(uiSessionLock::lock, Jobs.newInput()).awaitDone();
+    assertTrue(new JsonPushRequestHandler().handlePushCycle(uiSession, mock(JsonRequest.class), mockRequest("/push/abc", null), mockResponse(out)));
+    verify(uiSession, never()).processJsonRequest(any(), any(), any());
+    assertEquals(0, out.size());
+  }
+
+  @Test
+  public void testWritePushEvent() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonResponse response = new JsonResponse(7L);
+    response.markAsError(JsonResponse.ERR_UI_PROCESSING, "line 1\nline 2");
+
+    assertTrue(BEANS.get(JsonRequestHelper.class).writePushEvent(mockResponse(out), response.toJson()));
+    String event = out.toString(StandardCharsets.UTF_8);
+    assertTrue(event, event.startsWith("id: 7\ndata: {"));
+    assertTrue(event, event.endsWith("}\n\n"));
+    assertEquals(4, event.split("\n", -1).length); // id, data, empty line, trailing empty string
+  }
+
+  protected HttpServletRequest mockRequest(String pathInfo, String lastEventId) {
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    when(req.getMethod()).thenReturn("GET");
+    when(req.isAsyncSupported()).thenReturn(true);
+    when(req.getPathInfo()).thenReturn(pathInfo);
+    when(req.getHeader(JsonPushRequestHandler.HEADER_LAST_EVENT_ID)).thenReturn(lastEventId);
+    return req;
+  }
+
+  protected HttpServletResponse mockResponse(ByteArrayOutputStream out) throws IOException {
+    HttpServletResponse resp = mock(HttpServletResponse.class);
+    when(resp.getOutputStream()).thenReturn(new ServletOutputStream() {
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {
+        // not used
+      }
+
+      @Override
+      public void write(int b) {
+        out.write(b);
+      }
+    });
+    return resp;
+  }
+}
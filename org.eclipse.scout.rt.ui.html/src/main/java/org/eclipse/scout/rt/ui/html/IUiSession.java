@@ -22,7 +22,9 @@ import jakarta.servlet.http.HttpSession;
 
 import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonMessageRequestHandler;
@@ -215,6 +217,19 @@ public interface IUiSession {
    */
   void waitForBackgroundJobs(JsonRequest jsonRequest, int pollWaitSeconds) throws InterruptedException;
 
+  /**
+   * Registers a listener which is notified whenever a request waiting in
+   * {@link #waitForBackgroundJobs(JsonRequest, int)} would be woken up. Unlike a poll request, a push connection does
+   * not hold a thread while waiting. The listener is called by the thread of the finished model job and must not block.
+   * <p>
+   * Same as for a waiting poll request, the given monitor is cancelled as soon as another poll or push request starts
+   * waiting for background jobs. If the UI session has already been signaled, the listener is notified immediately.
+   *
+   * @return handle to unregister the listener
+   * @since 24.2
+   */
+  IRegistrationHandle registerPushListener(Runnable listener, RunMonitor monitor);
+
   /**
    * Sends a "localeChanged" event to the UI. All locale-relevant data (number formats, texts map etc.) is sent along.
    */
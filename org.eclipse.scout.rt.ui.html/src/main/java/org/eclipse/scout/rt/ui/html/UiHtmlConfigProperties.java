@@ -23,6 +23,7 @@ import jakarta.servlet.MultipartConfigElement;
 
 import org.eclipse.scout.rt.api.data.ApiExposed;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
@@ -130,6 +131,29 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  @ApiExposed
+  public static class BackgroundPushEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies if the UI receives the results of background jobs over a push channel (Server-Sent Events on /push) instead of sending polling requests.\n"
+          + "A push connection stays open for the time specified by property '%s' and is then re-established by the browser. "
+          + "If the push channel cannot be established (e.g. because a proxy does not support streamed responses), the UI falls back to polling automatically.\n"
+          + "By default this property is set to false.", BEANS.get(BackgroundPollingIntervalProperty.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.backgroundPushEnabled";
+    }
+  }
+
   public static class UiModelJobsAwaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
@@ -152,6 +152,7 @@ public class UiSession implements IUiSession {
   private volatile IRegistrationHandle m_uiDataAvailableListener;
   private volatile long m_lastAccessedTime;
   private volatile RunMonitor m_pollerMonitor;
+  private volatile Runnable m_pushListener;
   private volatile boolean m_persistent;
 
   public UiSession() {
@@ -205,6 +206,10 @@ public class UiSession implements IUiSession {
     return m_pollerMonitor;
   }
 
+  protected final Runnable pushListener() {
+    return m_pushListener;
+  }
+
   @Override
   public void init(HttpServletRequest req, HttpServletResponse resp, JsonStartupRequest jsonStartupReq) {
     if (currentSubject() == null) {
@@ -1334,17 +1339,51 @@ public class UiSession implements IUiSession {
     LOG.trace("Background job terminated. Continue request processing...");
   }
 
+  @Override
+  public IRegistrationHandle registerPushListener(Runnable listener, RunMonitor monitor) {
+    // Same as for a poller: max. 1 poll or push request is waiting for background jobs at the same time
+    synchronized (m_pollerQueueLock) {
+      if (m_pollerMonitor != null) {
+        m_pollerMonitor.cancel(true);
+      }
+      m_pollerMonitor = monitor;
+      m_pushListener = listener;
+    }
+    if (m_pollerQueue.poll() != null || m_disposed) {
+      // Signaled while no poll or push request was waiting
+      listener.run();
+    }
+    return () -> {
+      synchronized (m_pollerQueueLock) {
+        if (m_pushListener == listener) {
+          m_pushListener = null;
+        }
+        if (m_pollerMonitor == monitor) {
+          m_pollerMonitor = null;
+        }
+      }
+    };
+  }
+
   /**
    * Signals the 'poll-request' to return to the UI. This method never blocks.
    * <p>
    * Internally, a notification token is put into the poller-queue. If a thread is waiting, it will wake up. If no
    * thread is waiting, the token remains in the queue, and the next thread that polls the queue will get the token
    * immediately. If the queue is full (i.e. there is already a token in the queue), this method does nothing.
+   * <p>
+   * If a push connection is open, its listener is notified as well (see
+   * {@link #registerPushListener(Runnable, RunMonitor)}). The token is put into the queue anyway, so that a signal is
+   * not lost if the push connection is closed concurrently.
    */
   @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   protected void signalPoller() {
     //noinspection ResultOfMethodCallIgnored
     m_pollerQueue.offer(m_notificationToken);
+    Runnable pushListener = m_pushListener;
+    if (pushListener != null) {
+      pushListener.run();
+    }
   }
 
   @Override
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.PlatformError;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPushEnabledProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
+import org.eclipse.scout.rt.ui.html.UiSession;
+import org.eclipse.scout.rt.ui.html.logging.IUiRunContextDiagnostics;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles "/push/<uiSessionId>" requests, the push alternative to the poll requests handled by
+ * {@link JsonMessageRequestHandler}. Instead of returning after the first background job has completed, the connection
+ * is kept open and every JSON response is sent to the UI as a Server-Sent Event (<code>text/event-stream</code>) as
+ * soon as it is available.
+ * <p>
+ * The request is processed asynchronously: the servlet container thread is released once the connection is open and no
+ * thread is held while the connection is idle. Whenever the UI session signals that UI data is possibly available, a
+ * short-lived job processes the UI data, writes it as event and terminates. A written event is not acknowledged before
+ * the browser confirms it, either by the <code>Last-Event-ID</code> header sent when it reconnects or by the next
+ * regular request.
+ * <p>
+ * A push connection stays open for at most {@link BackgroundPollingIntervalProperty} seconds (less if the max. idle
+ * time of the UI session elapses earlier), then the browser reconnects. If {@link BackgroundPushEnabledProperty} is
+ * not set or the servlet does not support asynchronous processing, the request is not handled and the UI falls back to
+ * polling.
+ * <p>
+ * Because the HTTP headers are committed when the connection is opened, model code running during a push cycle cannot
+ * modify them (e.g. set cookies).
+ *
+ * @see Session.ts
+ * @since 24.2
+ */
+@Order(4600)
+public class JsonPushRequestHandler extends AbstractUiServletRequestHandler {
+  private static final Logger LOG = LoggerFactory.getLogger(JsonPushRequestHandler.class);
+
+  public static final Pattern PUSH_PATH_PATTERN = Pattern.compile("^/push/([^/]+)$");
+  public static final String CONTENT_TYPE_EVENT_STREAM = "text/event-stream";
+  public static final String HEADER_LAST_EVENT_ID = "Last-Event-ID";
+
+  /**
+   * Time in milliseconds the browser waits before it re-establishes a closed push connection.
+   */
+  public static final int RECONNECT_DELAY = 500;
+
+  private final boolean m_pushEnabled = CONFIG.getPropertyValue(BackgroundPushEnabledProperty.class);
+  private final int m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class).intValue();
+  private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
+
+  private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final JsonRequestHelper m_jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+
+  @Override
+  protected boolean handleGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    if (!m_pushEnabled) {
+      return false;
+    }
+    String pathInfo = req.getPathInfo();
+    if (pathInfo == null) {
+      return false;
+    }
+    Matcher matcher = PUSH_PATH_PATTERN.matcher(pathInfo);
+    if (!matcher.matches()) {
+      return false;
+    }
+    if (!req.isAsyncSupported()) {
+      LOG.debug("Push request not handled because asynchronous processing is not supported by the servlet");
+      return false;
+    }
+
+    LOG.debug("Push request started");
+    try {
+      // disable caching
+      m_httpCacheControl.checkAndSetCacheHeaders(req, resp, null);
+      resp.setContentType(CONTENT_TYPE_EVENT_STREAM);
+      resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+      JsonRequest jsonRequest = createPushJsonRequest(req, matcher.group(1));
+      IUiSession uiSession = UiSession.get(req, jsonRequest);
+      if (!validateUiSession(uiSession, resp, jsonRequest)) {
+        return true;
+      }
+      uiSession.verifySubject(req);
+      startPushRequest(uiSession, jsonRequest, req, resp);
+    }
+    catch (Exception | PlatformError e) {
+      handlePushError(resp, e);
+    }
+    return true;
+  }
+
+  /**
+   * Creates the poll request used for each push cycle. The sequence number sent by the browser in the
+   * <code>Last-Event-ID</code> header is used as acknowledge sequence number.
+   */
+  protected JsonRequest createPushJsonRequest(HttpServletRequest req, String uiSessionId) {
+    JSONObject json = new JSONObject();
+    json.put(JsonRequest.PROP_UI_SESSION_ID, uiSessionId);
+    json.put(JsonRequest.PROP_POLL, true);
+    String lastEventId = req.getHeader(HEADER_LAST_EVENT_ID);
+    if (StringUtility.hasText(lastEventId)) {
+      try {
+        json.put(JsonRequest.PROP_ACK_SEQUENCE_NO, Long.parseLong(lastEventId.trim()));
+      }
+      catch (NumberFormatException e) {
+        LOG.info("Ignoring invalid header {}: {}", HEADER_LAST_EVENT_ID, lastEventId);
+      }
+    }
+    return new JsonRequest(json);
+  }
+
+  /**
+   * Opens the push connection and switches the request to asynchronous processing. The async context is completed when
+   * the push duration has elapsed (async timeout), when another poll or push request takes over or when the client
+   * closes the connection.
+   */
+  protected void startPushRequest(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    uiSession.confirmResponseProcessed(jsonRequest.getAckSequenceNo());
+
+    // Commit the headers so the browser considers the connection as open
+    writeReconnectDelay(resp);
+
+    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+    // Same as for poll requests: don't wait longer than the max. idle time, but at least 3 seconds.
+    int pushDuration = Math.max(Math.min(m_maxUserIdleTime - curIdle, m_pollingInterval), 3);
+    LOG.debug("Push connection open for {} seconds", pushDuration);
+
+    AsyncContext asyncContext = req.startAsync(req, resp);
+    asyncContext.setTimeout(pushDuration * 1000L);
+
+    RunContext runContext = RunContexts.copyCurrent()
+        .withRunMonitor(BEANS.get(RunMonitor.class))
+        .withThreadLocal(IUiSession.CURRENT, uiSession)
+        .withThreadLocal(JsonRequest.CURRENT, jsonRequest)
+        .withDiagnostics(BEANS.all(IUiRunContextDiagnostics.class));
+
+    P_PushConnection connection = new P_PushConnection(uiSession, jsonRequest, asyncContext, runContext);
+    asyncContext.addListener(connection);
+    connection.open();
+  }
+
+  /**
+   * Runs a single push cycle: processes the available UI data and writes it as event. Called by a job scheduled when
+   * the UI session signals that UI data is possibly available, not by the servlet container thread.
+   *
+   * @return <code>true</code> to keep the push connection open, <code>false</code> to close it
+   */
+  protected boolean handlePushCycle(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    // Only try to acquire the lock (see JsonMessageRequestHandler#handleJsonRequest): if a regular request is currently
+    // being processed, its response will contain the UI data.
+    final ReentrantLock uiSessionLock = uiSession.uiSessionLock();
+    if (!uiSessionLock.tryLock()) {
+      return true;
+    }
+    JSONObject jsonResp;
+    try {
+      if (uiSession.isDisposed()) {
+        handleUiSessionDisposed(resp, uiSession);
+        return false;
+      }
+      if (uiSession.currentJsonResponse().isEmpty()) {
+        LOG.trace("Background job terminated, but there is nothing to push");
+        return true;
+      }
+      jsonResp = uiSession.processJsonRequest(req, resp, jsonRequest);
+    }
+    finally {
+      uiSessionLock.unlock();
+    }
+    if (jsonResp == null) {
+      return false; // Interrupted or cancelled
+    }
+    if (!m_jsonRequestHelper.writePushEvent(resp, jsonResp)) {
+      return false; // Client closed the connection
+    }
+    return !jsonResp.has(JsonResponse.PROP_ERROR);
+  }
+
+  protected void handlePushError(HttpServletResponse resp, Throwable e) throws IOException {
+    if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
+      LOG.debug("Connection error detected: exception class={}, message={}.", e.getClass().getSimpleName(), e.getMessage(), e);
+    }
+    else {
+      LOG.error("Unexpected error while pushing JSON responses", e);
+      m_jsonRequestHelper.writePushEvent(resp, m_jsonRequestHelper.createUnrecoverableFailureResponse());
+    }
+  }
+
+  protected void completeAsync(AsyncContext asyncContext) {
+    try {
+      asyncContext.complete();
+    }
+    catch (IllegalStateException e) {
+      LOG.debug("Async context of push request already completed", e);
+    }
+  }
+
+  protected void writeReconnectDelay(HttpServletResponse resp) throws IOException {
+    Writer writer = new OutputStreamWriter(resp.getOutputStream(), StandardCharsets.UTF_8);
+    writer.write("retry: " + RECONNECT_DELAY + "\n\n");
+    writer.flush();
+    resp.flushBuffer();
+  }
+
+  /**
+   * @see JsonMessageRequestHandler#handleUiSessionDisposed(HttpServletResponse, IUiSession, JsonRequest)
+   */
+  protected void handleUiSessionDisposed(HttpServletResponse resp, IUiSession uiSession) throws IOException {
+    boolean platformValid = (Platform.get() != null && Platform.get().getState() == State.PlatformStarted);
+    if (platformValid) {
+      m_jsonRequestHelper.writePushEvent(resp, m_jsonRequestHelper.createSessionTerminatedResponse(uiSession.getLogoutRedirectUrl()));
+    }
+    else {
+      m_jsonRequestHelper.writePushEvent(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
+    }
+  }
+
+  protected boolean validateUiSession(IUiSession uiSession, HttpServletResponse resp, JsonRequest jsonRequest) throws IOException {
+    if (uiSession == null) {
+      LOG.info("Push request cannot be processed due to UI session timeout [id={}]", jsonRequest.getUiSessionId());
+      m_jsonRequestHelper.writePushEvent(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
+      return false;
+    }
+
+    int idleSeconds = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+    if (idleSeconds > m_maxUserIdleTime) {
+      LOG.info("Detected idle timeout for UI session {} after {} seconds (maxIdleSeconds={})", uiSession.getUiSessionId(), idleSeconds, m_maxUserIdleTime);
+      uiSession.uiSessionLock().lock();
+      try {
+        uiSession.dispose();
+      }
+      finally {
+        uiSession.uiSessionLock().unlock();
+      }
+      m_jsonRequestHelper.writePushEvent(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * An open push connection. It is registered as push listener on the UI session and schedules a push cycle (see
+   * {@link JsonPushRequestHandler#handlePushCycle(IUiSession, JsonRequest, HttpServletRequest, HttpServletResponse)})
+   * whenever UI data is possibly available. Between the cycles, only the parked async context remains.
+   * <p>
+   * The connection is closed once a push cycle fails, or when its run monitor is cancelled: by the UI session when
+   * another poll or push request takes over, or by the async context on timeout (the push duration has elapsed) or
+   * error (e.g. because the client closed the connection).
+   */
+  protected class P_PushConnection implements AsyncListener, ICancellable {
+    private final IUiSession m_uiSession;
+    private final JsonRequest m_jsonRequest;
+    private final AsyncContext m_asyncContext;
+    private final RunContext m_runContext;
+    private final RunMonitor m_runMonitor;
+    private final IExecutionSemaphore m_pushSemaphore = Jobs.newExecutionSemaphore(1);
+    private final AtomicBoolean m_cyclePending = new AtomicBoolean();
+    private final AtomicBoolean m_closed = new AtomicBoolean();
+    private final long m_startNanos = System.nanoTime();
+    private volatile IRegistrationHandle m_registration;
+
+    public P_PushConnection(IUiSession uiSession, JsonRequest jsonRequest, AsyncContext asyncContext, RunContext runContext) {
+      m_uiSession = uiSession;
+      m_jsonRequest = jsonRequest;
+      m_asyncContext = asyncContext;
+      m_runContext = runContext;
+      m_runMonitor = runContext.getRunMonitor();
+    }
+
+    public void open() {
+      m_runMonitor.registerCancellable(this);
+      m_registration = m_uiSession.registerPushListener(this::uiDataAvailable, m_runMonitor);
+      if (m_closed.get()) {
+        m_registration.dispose(); // closed while registering
+      }
+    }
+
+    /**
+     * Called by the thread of the finished model job, must not block.
+     */
+    protected void uiDataAvailable() {
+      if (m_closed.get() || !m_cyclePending.compareAndSet(false, true)) {
+        return; // a push cycle is already scheduled and will push the UI data of this job as well
+      }
+      Jobs.schedule(this::runPushCycle, Jobs.newInput()
+          .withName("Pushing JSON response [uiSessionId={}]", m_uiSession.getUiSessionId())
+          .withRunContext(m_runContext.copy())
+          .withExecutionSemaphore(m_pushSemaphore) // never write two events at the same time
+          .withExceptionHandling(null, false));
+    }
+
+    protected void runPushCycle() {
+      // UI data signaled from now on is pushed by a subsequent cycle
+      m_cyclePending.set(false);
+      if (m_closed.get()) {
+        return;
+      }
+      HttpServletResponse resp = (HttpServletResponse) m_asyncContext.getResponse();
+      try {
+        if (handlePushCycle(m_uiSession, m_jsonRequest, (HttpServletRequest) m_asyncContext.getRequest(), resp)) {
+          return;
+        }
+      }
+      catch (Exception | PlatformError e) {
+        if (m_closed.get()) {
+          LOG.debug("Push connection closed while pushing JSON response", e);
+        }
+        else {
+          try {
+            handlePushError(resp, e);
+          }
+          catch (IOException ioe) {
+            LOG.debug("Failed to write error event", ioe);
+          }
+        }
+      }
+      close();
+    }
+
+    protected void close() {
+      if (!m_closed.compareAndSet(false, true)) {
+        return;
+      }
+      IRegistrationHandle registration = m_registration;
+      if (registration != null) {
+        registration.dispose();
+      }
+      completeAsync(m_asyncContext);
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Push request completed in {} ms", StringUtility.formatNanos(System.nanoTime() - m_startNanos));
+      }
+    }
+
+    /**
+     * Called when the run monitor is cancelled. Also cancels a scheduled or running push cycle.
+     */
+    @Override
+    public boolean cancel(boolean interruptIfRunning) {
+      close();
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return m_closed.get();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      if (!m_closed.get()) {
+        m_runMonitor.cancel(true);
+      }
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      LOG.debug("Push duration elapsed, closing push connection");
+      m_runMonitor.cancel(true);
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      LOG.debug("Push request failed, closing push connection", event.getThrowable());
+      m_runMonitor.cancel(true);
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // nop
+    }
+  }
+}
@@ -10,9 +10,13 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import jakarta.servlet.ServletRequest;
@@ -41,6 +45,12 @@ public class JsonRequestHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(JsonRequestHelper.class);
 
+  /**
+   * Maximum number of bytes buffered by {@link #writeResponse(ServletResponse, JSONObject)} before the response is
+   * streamed without content length.
+   */
+  protected static final int RESPONSE_BUFFER_SIZE = 64 * 1024;
+
   /**
    * @return {@link JSONObject} to indicate that an unrecoverable failure occurred.
    */
@@ -144,11 +154,12 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON is encoded directly into the response (see {@link JSONObject#write(Writer)}) instead of building the whole
+   * JSON text in memory first. Responses up to {@link #RESPONSE_BUFFER_SIZE} bytes are buffered to set the content
+   * length, larger responses are streamed.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -158,7 +169,11 @@ public class JsonRequestHelper {
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
     try {
-      servletResponse.getOutputStream().write(data);
+      ResponseOutputStream out = new ResponseOutputStream(servletResponse);
+      Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+      jsonResponse.write(writer);
+      writer.flush();
+      out.finish();
     }
     catch (final Exception e) {
       if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
@@ -172,24 +187,72 @@ public class JsonRequestHelper {
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
     }
   }
 
+  /**
+   * Writes the given {@link JSONObject} as a single Server-Sent Event into the given {@link ServletResponse} and
+   * flushes the response. The sequence number of the JSON response (if any) is used as event id, so that the browser
+   * sends it back in the <code>Last-Event-ID</code> header when it reconnects.
+   * <p>
+   * The content type <code>text/event-stream</code> must have been set before.
+   *
+   * @return <code>false</code> if the client closed the connection, <code>true</code> otherwise.
+   */
+  public boolean writePushEvent(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
+    IRestorer interruption = ThreadInterruption.clear();
+    try {
+      Writer writer = new OutputStreamWriter(servletResponse.getOutputStream(), StandardCharsets.UTF_8);
+      Object sequenceNo = jsonResponse.opt(JsonResponse.PROP_SEQUENCE_NO);
+      if (sequenceNo != null) {
+        writer.write("id: ");
+        writer.write(sequenceNo.toString());
+        writer.write('\n');
+      }
+      // the JSON text contains no line breaks (they are escaped within strings), hence a single data line is sufficient
+      writer.write("data: ");
+      jsonResponse.write(writer);
+      writer.write("\n\n");
+      writer.flush();
+      servletResponse.flushBuffer();
+    }
+    catch (final Exception e) {
+      if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
+        LOG.debug("Connection Error: ", e);
+        return false;
+      }
+      throw e;
+    }
+    finally {
+      interruption.restore();
+    }
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("Pushed: {}", formatJsonForLogging(jsonResponse.toString()));
+    }
+    else if (LOG.isDebugEnabled()) {
+      LOG.debug("Pushed: {}", formatJsonResponseForLogging(jsonResponse));
+    }
+    return true;
+  }
+
   /**
    * Reads the content of {@link ServletRequest} into a {@link JSONObject}.
+   * <p>
+   * Unless trace logging is enabled, the JSON is parsed while reading (see {@link JSONObject#JSONObject(Reader)}).
    */
   public JSONObject readJsonRequest(final ServletRequest servletRequest) {
     try (Reader in = servletRequest.getReader()) {
-      final String jsonData = IOUtility.readString(in);
-      if (LOG.isTraceEnabled()) { // log before json parsing (in case parsing fails)
-        LOG.trace("Received: {}", formatJsonForLogging(jsonData));
+      if (LOG.isTraceEnabled()) {
+        final String jsonData = IOUtility.readString(in);
+        LOG.trace("Received: {}", formatJsonForLogging(jsonData)); // log before json parsing (in case parsing fails)
+        return jsonData == null ? new JSONObject() : new JSONObject(jsonData);
       }
-      JSONObject jsonRequest = (jsonData == null ? new JSONObject() : new JSONObject(jsonData));
-      if (LOG.isDebugEnabled() && !LOG.isTraceEnabled()) {
+      JSONObject jsonRequest = new JSONObject(in);
+      if (LOG.isDebugEnabled()) {
         LOG.debug("Received: {}", formatJsonRequestForLogging(jsonRequest));
       }
       return jsonRequest;
@@ -293,4 +356,57 @@ public class JsonRequestHelper {
     }
     return "[" + CollectionUtility.format(types) + "]";
   }
+
+  /**
+   * Output stream which buffers up to {@link #RESPONSE_BUFFER_SIZE} bytes. If the buffer is exceeded, the buffered
+   * bytes and all further bytes are written to the output stream of the servlet response. Otherwise, the content length
+   * is set and the buffer is written on {@link #finish()}.
+   */
+  protected static class ResponseOutputStream extends OutputStream {
+
+    private final ServletResponse m_servletResponse;
+    private byte[] m_buffer = new byte[8192];
+    private int m_count;
+    private OutputStream m_out;
+
+    public ResponseOutputStream(ServletResponse servletResponse) {
+      m_servletResponse = servletResponse;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (m_out == null) {
+        if (m_count + len <= RESPONSE_BUFFER_SIZE) {
+          if (m_count + len > m_buffer.length) {
+            m_buffer = Arrays.copyOf(m_buffer, Math.min(RESPONSE_BUFFER_SIZE, Math.max(m_buffer.length * 2, m_count + len)));
+          }
+          System.arraycopy(b, off, m_buffer, m_count, len);
+          m_count += len;
+          return;
+        }
+        // response too large to be buffered, stream it
+        m_out = m_servletResponse.getOutputStream();
+        m_out.write(m_buffer, 0, m_count);
+        m_buffer = null;
+      }
+      m_out.write(b, off, len);
+    }
+
+    /**
+     * Writes the buffered bytes (if the response was not streamed). The output stream of the servlet response is
+     * neither flushed nor closed.
+     */
+    public void finish() throws IOException {
+      if (m_out != null) {
+        return;
+      }
+      m_servletResponse.setContentLength(m_count);
+      m_servletResponse.getOutputStream().write(m_buffer, 0, m_count);
+    }
+  }
 }